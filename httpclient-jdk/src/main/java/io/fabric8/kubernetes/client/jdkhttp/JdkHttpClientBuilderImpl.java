@@ -72,6 +72,10 @@ class JdkHttpClientBuilderImpl
     }
     if (preferHttp11) {
       builder.version(Version.HTTP_1_1);
+    } else if (http2Multiplexing) {
+      // the JDK client multiplexes over a single connection per host, the stream window size can only be
+      // configured through the jdk.httpclient.windowsize system property
+      builder.version(Version.HTTP_2);
     }
     if (tlsVersions != null && tlsVersions.length > 0) {
       builder.sslParameters(new SSLParameters(null,
@@ -17,6 +17,7 @@ package io.fabric8.kubernetes.client.jdkhttp;
 
 import io.fabric8.kubernetes.client.http.BufferUtil;
 import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.http.WebSocketSendQueue;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,14 +30,13 @@ import java.nio.channels.WritableByteChannel;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 
 class JdkWebSocketImpl implements WebSocket, java.net.http.WebSocket.Listener {
 
   private static final Logger LOG = LoggerFactory.getLogger(JdkWebSocketImpl.class);
 
   private volatile java.net.http.WebSocket webSocket;
-  private final AtomicLong queueSize = new AtomicLong();
+  private final WebSocketSendQueue queueSize = new WebSocketSendQueue();
   private final Listener listener;
   private final StringBuilder stringBuilder = new StringBuilder();
   private final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
@@ -101,10 +101,10 @@ class JdkWebSocketImpl implements WebSocket, java.net.http.WebSocket.Listener {
   public boolean send(ByteBuffer buffer) {
     buffer = BufferUtil.copy(buffer);
     final int size = buffer.remaining();
-    queueSize.addAndGet(size);
+    queueSize.enqueued(size);
     CompletableFuture<java.net.http.WebSocket> cf = webSocket.sendBinary(buffer, true);
     if (cf.isDone()) {
-      queueSize.addAndGet(-size);
+      queueSize.written(size);
       return !cf.isCompletedExceptionally();
     }
     cf.whenComplete((b, t) -> {
@@ -112,7 +112,7 @@ class JdkWebSocketImpl implements WebSocket, java.net.http.WebSocket.Listener {
         LOG.warn("Queued write did not succeed", t);
         abort();
       }
-      queueSize.addAndGet(-size);
+      queueSize.written(size);
     });
     return true;
   }
@@ -148,7 +148,12 @@ class JdkWebSocketImpl implements WebSocket, java.net.http.WebSocket.Listener {
 
   @Override
   public long queueSize() {
-    return queueSize.get();
+    return queueSize.size();
+  }
+
+  @Override
+  public CompletableFuture<Void> whenQueueSizeAtMost(long size) {
+    return queueSize.whenSizeAtMost(size);
   }
 
   @Override
@@ -71,8 +71,12 @@ public class JettyHttpClientBuilder
     if (tlsVersions != null && tlsVersions.length > 0) {
       sslContextFactory.setIncludeProtocols(Stream.of(tlsVersions).map(TlsVersion::javaName).toArray(String[]::new));
     }
-    HttpClient sharedHttpClient = new HttpClient(newTransport(sslContextFactory, preferHttp11));
-    WebSocketClient sharedWebSocketClient = new WebSocketClient(new HttpClient(newTransport(sslContextFactory, preferHttp11)));
+    // HTTP/1.1 connections are not multiplexed, so preferring it turns the option off
+    final boolean multiplexing = http2Multiplexing && !preferHttp11;
+    final Integer streamWindowSize = multiplexing ? http2StreamWindowSize : null;
+    HttpClient sharedHttpClient = new HttpClient(newTransport(sslContextFactory, preferHttp11, streamWindowSize));
+    WebSocketClient sharedWebSocketClient = new WebSocketClient(
+        new HttpClient(newTransport(sslContextFactory, preferHttp11, streamWindowSize)));
     sharedWebSocketClient.setMaxBinaryMessageSize(MAX_WS_MESSAGE_SIZE);
     // the api-server does not seem to fragment messages, so the frames can be very large
     sharedWebSocketClient.setMaxFrameSize(MAX_WS_MESSAGE_SIZE);
@@ -84,8 +88,8 @@ public class JettyHttpClientBuilder
     }
     sharedHttpClient.setFollowRedirects(followRedirects);
     // long running http requests count against this and eventually exhaust
-    // the work that can be done
-    sharedHttpClient.setMaxConnectionsPerDestination(MAX_CONNECTIONS);
+    // the work that can be done - unless they are multiplexed over HTTP/2 connections
+    sharedHttpClient.setMaxConnectionsPerDestination(multiplexing ? http2MaxConnectionsPerHost : MAX_CONNECTIONS);
     sharedWebSocketClient.getHttpClient().setMaxConnectionsPerDestination(MAX_CONNECTIONS);
     if (proxyType != ProxyType.DIRECT && proxyAddress != null) {
       Origin.Address address = new Origin.Address(proxyAddress.getHostString(), proxyAddress.getPort());
@@ -122,14 +126,19 @@ public class JettyHttpClientBuilder
     return new JettyHttpClient(this, sharedHttpClient, sharedWebSocketClient);
   }
 
-  private static HttpClientTransport newTransport(SslContextFactory.Client sslContextFactory, boolean preferHttp11) {
+  private static HttpClientTransport newTransport(SslContextFactory.Client sslContextFactory, boolean preferHttp11,
+      Integer http2StreamWindowSize) {
     final var clientConnector = new ClientConnector();
     clientConnector.setSslContextFactory(sslContextFactory);
     final HttpClientTransport transport;
     if (preferHttp11) {
       transport = new HttpClientTransportOverHTTP(clientConnector);
     } else {
-      var http2 = new ClientConnectionFactoryOverHTTP2.HTTP2(new HTTP2Client(clientConnector));
+      final var http2Client = new HTTP2Client(clientConnector);
+      if (http2StreamWindowSize != null) {
+        http2Client.setInitialStreamRecvWindow(http2StreamWindowSize);
+      }
+      var http2 = new ClientConnectionFactoryOverHTTP2.HTTP2(http2Client);
       transport = new HttpClientTransportDynamic(clientConnector, http2, HttpClientConnectionFactory.HTTP11);
     }
     return transport;
@@ -19,6 +19,7 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.http.BufferUtil;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.http.WebSocketSendQueue;
 import io.fabric8.kubernetes.client.http.WebSocketResponse;
 import io.fabric8.kubernetes.client.http.WebSocketUpgradeResponse;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -37,7 +38,6 @@ import java.nio.channels.ClosedChannelException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -47,7 +47,7 @@ public class JettyWebSocket implements WebSocket, WebSocketListener {
   private static final Logger LOG = LoggerFactory.getLogger(JettyWebSocket.class);
 
   private final WebSocket.Listener listener;
-  private final AtomicLong sendQueue;
+  private final WebSocketSendQueue sendQueue;
   private final Lock lock;
   private final Condition backPressure;
   private final CompletableFuture<Void> terminated = new CompletableFuture<>();
@@ -57,7 +57,7 @@ public class JettyWebSocket implements WebSocket, WebSocketListener {
 
   public JettyWebSocket(WebSocket.Listener listener) {
     this.listener = listener;
-    sendQueue = new AtomicLong();
+    sendQueue = new WebSocketSendQueue();
     lock = new ReentrantLock();
     backPressure = lock.newCondition();
     moreMessages = true;
@@ -70,11 +70,11 @@ public class JettyWebSocket implements WebSocket, WebSocketListener {
     }
     buffer = BufferUtil.copy(buffer);
     final int size = buffer.remaining();
-    sendQueue.addAndGet(size);
+    sendQueue.enqueued(size);
     webSocketSession.getRemote().sendBytes(buffer, new WriteCallback() {
       @Override
       public void writeFailed(Throwable x) {
-        sendQueue.addAndGet(-size);
+        sendQueue.written(size);
         if (webSocketSession.isOpen()) {
           LOG.warn("Queued write did not succeed", x);
         }
@@ -83,7 +83,7 @@ public class JettyWebSocket implements WebSocket, WebSocketListener {
 
       @Override
       public void writeSuccess() {
-        sendQueue.addAndGet(-size);
+        sendQueue.written(size);
       }
     });
     return true;
@@ -112,7 +112,12 @@ public class JettyWebSocket implements WebSocket, WebSocketListener {
 
   @Override
   public long queueSize() {
-    return sendQueue.get();
+    return sendQueue.size();
+  }
+
+  @Override
+  public CompletableFuture<Void> whenQueueSizeAtMost(long size) {
+    return sendQueue.whenSizeAtMost(size);
   }
 
   @Override
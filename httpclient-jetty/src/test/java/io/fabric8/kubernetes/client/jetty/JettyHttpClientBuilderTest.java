@@ -156,4 +156,23 @@ class JettyHttpClientBuilderTest {
           .hasFieldOrPropertyWithValue("requestLine", "GET /http-1-1 HTTP/1.1");
     }
   }
+
+  @Test
+  @DisplayName("build, with http2Multiplexing, bounds the connections per destination of the HTTP client")
+  void http2MultiplexingBoundsConnections() {
+    try (var client = factory.newBuilder().http2Multiplexing(2, 65535).build()) {
+      assertThat(client)
+          .returns(2, c -> c.getJetty().getMaxConnectionsPerDestination())
+          .returns(Integer.MAX_VALUE, c -> c.getJettyWs().getHttpClient().getMaxConnectionsPerDestination());
+    }
+  }
+
+  @Test
+  @DisplayName("build, with http2Multiplexing and preferHttp11, does not bound the connections per destination")
+  void preferHttp11OverridesHttp2Multiplexing() {
+    try (var client = factory.newBuilder().http2Multiplexing(2, 65535).preferHttp11().build()) {
+      assertThat(client)
+          .returns(Integer.MAX_VALUE, c -> c.getJetty().getMaxConnectionsPerDestination());
+    }
+  }
 }
@@ -91,6 +91,8 @@ class OkHttpClientBuilderImpl
     if (preferHttp11) {
       builder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
     }
+    // with HTTP/2 OkHttp already multiplexes over a single connection per host and only opens another once the
+    // server's concurrent stream limit is reached, the stream window size is fixed by OkHttp
     return completeBuild(builder, false);
   }
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.okhttp;
+
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.fabric8.mockwebserver.http.MockResponse;
+import okhttp3.ConnectionPool;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OkHttpHttp2MultiplexingTest {
+
+  private static final int STREAMS = 32;
+
+  private MockWebServer server;
+  private ConnectionPool connectionPool;
+  private OkHttpClientBuilderImpl clientBuilder;
+
+  @BeforeEach
+  void setUp() {
+    server = new MockWebServer();
+    server.setProtocols(Collections.singletonList(io.fabric8.mockwebserver.vertx.Protocol.HTTP_2));
+    server.start();
+    final char[] chars = new char[65536];
+    Arrays.fill(chars, '1');
+    for (int i = 0; i < STREAMS; i++) {
+      server.enqueue(new MockResponse().setResponseCode(200).setChunkedBody(new String(chars), 1024));
+    }
+    connectionPool = new ConnectionPool(10, 100, TimeUnit.SECONDS);
+    clientBuilder = new OkHttpClientFactory().newBuilder().http2Multiplexing();
+    clientBuilder.getBuilder().connectionPool(connectionPool)
+        .protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.shutdown();
+    connectionPool.evictAll();
+  }
+
+  @Test
+  @DisplayName("http2Multiplexing, concurrent streaming responses share a single connection")
+  void concurrentStreamsShareConnection() throws Exception {
+    try (HttpClient httpClient = clientBuilder.build()) {
+      final List<HttpResponse<AsyncBody>> responses = new ArrayList<>();
+      for (int i = 0; i < STREAMS; i++) {
+        responses.add(httpClient.consumeBytes(
+            httpClient.newHttpRequestBuilder().uri(server.url("/stream-" + i).toString()).build(),
+            (value, asyncBody) -> asyncBody.consume())
+            .get(10L, TimeUnit.SECONDS));
+      }
+      // every response is still open, yet they're all served by the same connection
+      assertThat(connectionPool.connectionCount()).isEqualTo(1);
+      assertThat(server.getRequestCount()).isEqualTo(STREAMS);
+      for (HttpResponse<AsyncBody> response : responses) {
+        response.body().consume();
+        response.body().done().get(10L, TimeUnit.SECONDS);
+      }
+      assertThat(responses).extracting(HttpResponse::code).containsOnly(200);
+    }
+  }
+}
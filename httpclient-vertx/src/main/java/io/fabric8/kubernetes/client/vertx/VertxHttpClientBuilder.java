@@ -20,11 +20,13 @@ import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.StandardHttpClientBuilder;
 import io.fabric8.kubernetes.client.http.TlsVersion;
 import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.IdentityCipherSuiteFilter;
 import io.netty.handler.ssl.JdkSslContext;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.file.FileSystemOptions;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JdkSSLEngineOptions;
 import io.vertx.core.net.ProxyOptions;
@@ -112,6 +114,11 @@ public class VertxHttpClientBuilder<F extends HttpClient.Factory>
 
     if (this.preferHttp11) {
       options.setProtocolVersion(HttpVersion.HTTP_1_1);
+    } else if (this.http2Multiplexing) {
+      options.setProtocolVersion(HttpVersion.HTTP_2);
+      options.setUseAlpn(true);
+      options.setHttp2MaxPoolSize(http2MaxConnectionsPerHost);
+      options.setInitialSettings(new Http2Settings().setInitialWindowSize(http2StreamWindowSize));
     }
 
     if (this.sslContext != null) {
@@ -129,7 +136,7 @@ public class VertxHttpClientBuilder<F extends HttpClient.Factory>
               true,
               null,
               IdentityCipherSuiteFilter.INSTANCE,
-              ApplicationProtocolConfig.DISABLED,
+              applicationProtocolConfig(),
               io.netty.handler.ssl.ClientAuth.NONE,
               protocols,
               false);
@@ -144,6 +151,17 @@ public class VertxHttpClientBuilder<F extends HttpClient.Factory>
     return new VertxHttpClientBuilder<>(clientFactory, vertx, closeVertx);
   }
 
+  private ApplicationProtocolConfig applicationProtocolConfig() {
+    if (this.preferHttp11 || !this.http2Multiplexing) {
+      return ApplicationProtocolConfig.DISABLED;
+    }
+    return new ApplicationProtocolConfig(
+        ApplicationProtocolConfig.Protocol.ALPN,
+        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+        ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1);
+  }
+
   private ProxyType convertProxyType() {
     switch (proxyType) {
       case HTTP:
@@ -16,6 +16,7 @@
 package io.fabric8.kubernetes.client.vertx;
 
 import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.http.WebSocketSendQueue;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.websocketx.CorruptedWebSocketFrameException;
 import io.vertx.core.Future;
@@ -27,14 +28,14 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.net.ProtocolException;
 import java.nio.ByteBuffer;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
 
 class VertxWebSocket implements WebSocket {
 
   private static final Logger LOG = LoggerFactory.getLogger(VertxWebSocket.class);
 
   private final io.vertx.core.http.WebSocket ws;
-  private final AtomicInteger pending = new AtomicInteger();
+  private final WebSocketSendQueue pending = new WebSocketSendQueue();
   private final Listener listener;
 
   VertxWebSocket(io.vertx.core.http.WebSocket ws, Listener listener) {
@@ -75,17 +76,17 @@ class VertxWebSocket implements WebSocket {
   public boolean send(ByteBuffer buffer) {
     Buffer vertxBuffer = Buffer.buffer(Unpooled.copiedBuffer(buffer));
     int len = vertxBuffer.length();
-    pending.addAndGet(len);
+    pending.enqueued(len);
     Future<Void> res = ws.writeBinaryMessage(vertxBuffer);
     if (res.isComplete()) {
-      pending.addAndGet(-len);
+      pending.written(len);
       return res.succeeded();
     }
     res.onComplete(result -> {
       if (result.cause() != null) {
         LOG.error("Queued write did not succeed", result.cause());
       }
-      pending.addAndGet(-len);
+      pending.written(len);
     });
     return true;
   }
@@ -107,7 +108,12 @@ class VertxWebSocket implements WebSocket {
 
   @Override
   public long queueSize() {
-    return pending.get();
+    return pending.size();
+  }
+
+  @Override
+  public CompletableFuture<Void> whenQueueSizeAtMost(long size) {
+    return pending.whenSizeAtMost(size);
   }
 
   @Override
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.vertx;
+
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streaming requests that never complete, like watches, against an h2c server.
+ */
+class VertxHttp2MultiplexingTest {
+
+  private static final int REQUESTS = 10;
+
+  private Vertx vertx;
+  private HttpServer server;
+  private Set<Integer> connections;
+  private List<HttpVersion> versions;
+  private List<HttpServerResponse> responses;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    vertx = Vertx.vertx();
+    connections = ConcurrentHashMap.newKeySet();
+    versions = new CopyOnWriteArrayList<>();
+    responses = new CopyOnWriteArrayList<>();
+    server = vertx.createHttpServer(new HttpServerOptions().setHttp2ClearTextEnabled(true))
+        .requestHandler(request -> {
+          connections.add(request.connection().remoteAddress().port());
+          versions.add(request.version());
+          // keep the response open, as a watch would
+          final HttpServerResponse response = request.response().setChunked(true);
+          response.write("event\n");
+          responses.add(response);
+        })
+        .listen(0, "localhost")
+        .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    responses.forEach(HttpServerResponse::end);
+    server.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    vertx.close();
+  }
+
+  @Test
+  @DisplayName("http2Multiplexing, concurrent streaming requests share at most the configured connections")
+  void http2MultiplexingSharesConnections() throws Exception {
+    try (HttpClient client = new VertxHttpClientFactory(vertx).newBuilder().http2Multiplexing(2, 65535).build()) {
+      sendStreamingRequests(client);
+
+      assertThat(versions).hasSize(REQUESTS).containsOnly(HttpVersion.HTTP_2);
+      assertThat(connections).hasSizeBetween(1, 2);
+    }
+  }
+
+  @Test
+  @DisplayName("http2Multiplexing then preferHttp11, concurrent streaming requests each use a connection")
+  void preferHttp11OverridesHttp2Multiplexing() throws Exception {
+    try (HttpClient client = new VertxHttpClientFactory(vertx).newBuilder().http2Multiplexing(2, 65535)
+        .preferHttp11().build()) {
+      sendStreamingRequests(client);
+
+      assertThat(versions).hasSize(REQUESTS).containsOnly(HttpVersion.HTTP_1_1);
+      assertThat(connections).hasSize(REQUESTS);
+    }
+  }
+
+  private void sendStreamingRequests(HttpClient client) throws Exception {
+    List<CompletableFuture<HttpResponse<AsyncBody>>> inFlight = IntStream.range(0, REQUESTS)
+        .mapToObj(i -> client.consumeBytes(
+            client.newHttpRequestBuilder().uri("http://localhost:" + server.actualPort() + "/watch/" + i).build(),
+            (value, asyncBody) -> asyncBody.consume()))
+        .collect(Collectors.toList());
+    // every response has started and none has ended, so all of the requests are in flight at once
+    CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+    for (CompletableFuture<HttpResponse<AsyncBody>> response : inFlight) {
+      assertThat(response.get().code()).isEqualTo(200);
+      assertThat(response.get().body().done()).isNotDone();
+    }
+  }
+}
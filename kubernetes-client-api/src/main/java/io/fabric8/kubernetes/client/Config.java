@@ -43,6 +43,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -173,6 +174,8 @@ public class Config {
   private volatile String oauthToken;
   @JsonIgnore
   private volatile String autoOAuthToken;
+  @JsonIgnore
+  private volatile Instant autoOAuthTokenExpiry;
   private OAuthTokenProvider oauthTokenProvider;
   private Long websocketPingInterval;
   private Integer connectionTimeout;
@@ -224,6 +227,8 @@ public class Config {
 
   private Boolean onlyHttpWatches;
 
+  private Integer noOpApplyCacheSize;
+
   /**
    * custom headers
    */
@@ -903,7 +908,7 @@ public class Config {
     public String token;
     public String clientCertificateData;
     public String clientKeyData;
-    // TODO expirationTimestamp
+    public String expirationTimestamp;
   }
 
   private static boolean tryNamespaceFromPath(Config config) {
@@ -1530,6 +1535,19 @@ public class Config {
     this.autoOAuthToken = autoOAuthToken;
   }
 
+  /**
+   * @return the expiry of the auto OAuth token, if it was provided by the credential source - such as the
+   *         expirationTimestamp of an exec credential. May be null even if the token expires.
+   */
+  @JsonIgnore
+  public Instant getAutoOAuthTokenExpiry() {
+    return autoOAuthTokenExpiry;
+  }
+
+  public void setAutoOAuthTokenExpiry(Instant autoOAuthTokenExpiry) {
+    this.autoOAuthTokenExpiry = autoOAuthTokenExpiry;
+  }
+
   public boolean isOnlyHttpWatches() {
     return Optional.ofNullable(onlyHttpWatches).orElse(false);
   }
@@ -1538,4 +1556,19 @@ public class Config {
     this.onlyHttpWatches = onlyHttpWatches;
   }
 
+  /**
+   * @return the number of resources for which the client remembers the last server side apply or merge patch body.
+   *         Re-applying the same body within 10 minutes is then answered from the cache rather than sent again, unless
+   *         the resource was written or deleted through the client in the meantime. Changes made by other clients are
+   *         not detected. Null or 0, the default, disables the cache.
+   */
+  @JsonProperty("noOpApplyCacheSize")
+  public Integer getNoOpApplyCacheSize() {
+    return noOpApplyCacheSize;
+  }
+
+  public void setNoOpApplyCacheSize(Integer noOpApplyCacheSize) {
+    this.noOpApplyCacheSize = noOpApplyCacheSize;
+  }
+
 }
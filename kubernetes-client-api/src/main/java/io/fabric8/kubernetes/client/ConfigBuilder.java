@@ -59,6 +59,8 @@ public class ConfigBuilder extends ConfigFluent<ConfigBuilder> implements Visita
         fluent.getCurrentContext(), fluent.getContexts(),
         Optional.ofNullable(fluent.getAutoConfigure()).orElse(!disableAutoConfig()), true);
     buildable.setAuthProvider(fluent.getAuthProvider());
+    buildable.setAutoOAuthTokenExpiry(fluent.getAutoOAuthTokenExpiry());
+    buildable.setNoOpApplyCacheSize(fluent.getNoOpApplyCacheSize());
     return buildable;
   }
 }
@@ -44,6 +44,8 @@ public class ConfigFluent<A extends ConfigFluent<A>> extends SundrioConfigFluent
       this.withPassword(instance.getPassword());
       this.withOauthToken(instance.getOauthToken());
       this.withAutoOAuthToken(instance.getAutoOAuthToken());
+      this.withAutoOAuthTokenExpiry(instance.getAutoOAuthTokenExpiry());
+      this.withNoOpApplyCacheSize(instance.getNoOpApplyCacheSize());
       this.withWatchReconnectInterval(instance.getWatchReconnectInterval());
       this.withWatchReconnectLimit(instance.getWatchReconnectLimit());
       this.withConnectionTimeout(instance.getConnectionTimeout());
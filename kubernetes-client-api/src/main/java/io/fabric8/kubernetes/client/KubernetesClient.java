@@ -94,6 +94,7 @@ import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 
 import java.io.InputStream;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * Main interface for Kubernetes client library.
@@ -335,6 +336,24 @@ public interface KubernetesClient extends Client {
   NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> resourceList(
       Collection<? extends HasMetadata> items);
 
+  /**
+   * KubernetesResourceList operations
+   * <p>
+   * The stream is consumed, and closed, before this method returns. Its items are collected into a list, so all of
+   * the resources are held in memory at once, just as with {@link #load(InputStream)}.
+   * <p>
+   * Combined with {@code getKubernetesSerialization().unmarshalStream(is, HasMetadata.class)} each resource is parsed
+   * directly from the input. {@link #load(InputStream)} first parses each YAML document into generic maps, which is
+   * what lets it resolve YAML aliases. For inputs without aliases this only saves those intermediate maps, not the
+   * memory held by the resources themselves.
+   *
+   * @param items a stream of HasMetadata values
+   * @return operations object for Kubernetes list
+   * @see KubernetesSerialization#unmarshalStream(InputStream, Class)
+   */
+  NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> resourceList(
+      Stream<? extends HasMetadata> items);
+
   /**
    * KubernetesResource operations. You can pass any Kubernetes resource as a HasMetadata object and do
    * all operations
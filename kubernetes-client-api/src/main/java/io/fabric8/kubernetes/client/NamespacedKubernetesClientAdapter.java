@@ -96,6 +96,7 @@ import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 
 import java.io.InputStream;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 public class NamespacedKubernetesClientAdapter<N extends NamespacedKubernetesClient>
     extends ClientAdapter<NamespacedKubernetesClientAdapter<N>> implements NamespacedKubernetesClient {
@@ -280,6 +281,12 @@ public class NamespacedKubernetesClientAdapter<N extends NamespacedKubernetesCli
     return getClient().resourceList(items);
   }
 
+  @Override
+  public NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> resourceList(
+      Stream<? extends HasMetadata> items) {
+    return getClient().resourceList(items);
+  }
+
   @Override
   public <T extends HasMetadata> NamespaceableResource<T> resource(T is) {
     return getClient().resource(is);
@@ -40,6 +40,33 @@ public interface CopyOrReadable {
 
   boolean copy(Path destination);
 
+  /**
+   * Transfer directories and files gzip compressed. The container must provide tar and gzip with support for -z.
+   * <p>
+   * Compressed uploads are extracted as they are streamed, and the gzip checksum is verified by the extraction in the
+   * same exec, rather than staging a temporary tar and checking its size with further execs.
+   */
+  CopyOrReadable withCompression();
+
+  /**
+   * Split directory transfers into up to the given number of concurrent exec streams. Uploads are only split when
+   * {@link #withCompression()} is also set.
+   * <p>
+   * A split copy lists the directory with find, and only directories and regular files are copied, symbolic links and
+   * other special files are left out.
+   *
+   * @param streams the maximum number of concurrent streams
+   */
+  CopyOrReadable withParallelism(int streams);
+
+  /**
+   * When copying a directory, skip the files that already exist at the destination with the same size and modification
+   * time, and keep the modification time of the copied files so that repeated copies only transfer what changed.
+   * The container must provide find and stat. As with {@link #withParallelism(int)}, only directories and regular files
+   * are copied.
+   */
+  CopyOrReadable withIncrementalCopy();
+
   /**
    * How long to wait for a ready or terminal pod before performing the copy or read operation.
    *
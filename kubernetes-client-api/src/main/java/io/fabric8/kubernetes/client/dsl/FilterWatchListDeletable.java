@@ -37,4 +37,15 @@ public interface FilterWatchListDeletable<T, L, R>
    */
   Stream<R> resources();
 
+  /**
+   * Perform the deletes that span several requests on up to the given number of requests concurrently.
+   * <p>
+   * This applies to a delete without a namespace, which deletes each namespace holding matching items, and to the
+   * item by item delete used when the server does not support deleting a collection.
+   *
+   * @param parallelism the maximum number of concurrent requests, the default of 1 sends them in order
+   * @return the filtered resources
+   */
+  FilterWatchListDeletable<T, L, R> withParallelism(int parallelism);
+
 }
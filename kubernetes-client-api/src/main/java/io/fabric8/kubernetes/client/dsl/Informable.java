@@ -133,4 +133,22 @@ public interface Informable<T> {
    */
   CompletableFuture<List<T>> informOnCondition(Predicate<List<T>> condition);
 
+  /**
+   * Return a {@link Future} when every item at this context satisfies the given {@link Predicate}, or when
+   * the predicate accepts null if there are no items.
+   * <p>
+   * Unlike {@link #informOnCondition(Predicate)} the predicate is only tested against the item that changed,
+   * with a running count of the items that don't yet match, so each event is constant work regardless of the
+   * number of items.
+   * The returned future should be cancelled by the caller if not waiting for completion to close the underlying informer
+   * <p>
+   * The processing of events will be in the IO thread, blocking operations should be avoided.
+   *
+   * @param condition the {@link Predicate} to test against each item
+   * @return a {@link CompletableFuture} of the list of items after the condition is met
+   */
+  default CompletableFuture<List<T>> informOnAllMatch(Predicate<T> condition) {
+    return informOnCondition(l -> l.isEmpty() ? condition.test(null) : l.stream().allMatch(condition));
+  }
+
 }
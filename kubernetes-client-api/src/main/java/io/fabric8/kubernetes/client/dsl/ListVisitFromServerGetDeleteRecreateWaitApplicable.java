@@ -35,4 +35,15 @@ public interface ListVisitFromServerGetDeleteRecreateWaitApplicable<T>
    */
   Stream<? extends Resource<T>> resources();
 
+  /**
+   * Perform the write operations on up to the given number of items concurrently.
+   * <p>
+   * Namespaces and CustomResourceDefinitions are written before, and deleted after, the other items.
+   * The failures of all items are reported together rather than stopping at the first one.
+   *
+   * @param parallelism the maximum number of concurrent requests, the default of 1 processes the items in order
+   * @return the list context
+   */
+  ListVisitFromServerGetDeleteRecreateWaitApplicable<T> withParallelism(int parallelism);
+
 }
@@ -71,6 +71,20 @@ public interface Loggable {
    */
   LogWatch watchLog(OutputStream out);
 
+  /**
+   * Watch the logs of all of the containers of all of the pods of the resource, including pods and containers that
+   * start after the watch, merged into the OutputStream.
+   * <br>
+   * Each line is prefixed with [pod/container] and its timestamp, and lines are written whole in the order they are
+   * received. For resources with a single log this is the same as {@link #watchLog(OutputStream)}.
+   *
+   * @param out {@link OutputStream} for storing logs
+   * @return returns a Closeable interface for log watch
+   */
+  default LogWatch watchAllLogs(OutputStream out) {
+    return watchLog(out);
+  }
+
   /**
    * While waiting for Pod logs, how long shall we wait until a Pod
    * becomes ready and starts producing logs
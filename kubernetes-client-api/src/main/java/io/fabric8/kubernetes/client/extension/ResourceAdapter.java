@@ -250,6 +250,11 @@ public class ResourceAdapter<T> implements Resource<T> {
     return resource.informOnCondition(condition);
   }
 
+  @Override
+  public CompletableFuture<List<T>> informOnAllMatch(Predicate<T> condition) {
+    return resource.informOnAllMatch(condition);
+  }
+
   @Override
   public T replace() {
     return resource.replace();
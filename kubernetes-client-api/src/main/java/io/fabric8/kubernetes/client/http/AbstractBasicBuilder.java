@@ -27,10 +27,12 @@ public abstract class AbstractBasicBuilder<T extends BasicBuilder> implements Ba
 
   private URI uri;
   private final Map<String, List<String>> headers = new HashMap<>();
+  private int modifications;
 
   @Override
   public T uri(URI uri) {
     this.uri = uri;
+    modified();
     return (T) this;
   }
 
@@ -43,15 +45,31 @@ public abstract class AbstractBasicBuilder<T extends BasicBuilder> implements Ba
       v.add(value);
       return v;
     });
+    modified();
     return (T) this;
   }
 
   @Override
   public T setHeader(String name, String value) {
     headers.put(name, new ArrayList<>(Collections.singletonList(value)));
+    modified();
     return (T) this;
   }
 
+  /**
+   * Should be called by any mutator so that callers can tell if a build is needed
+   */
+  final void modified() {
+    modifications++;
+  }
+
+  /**
+   * @return the number of modifications made to this builder, used to avoid rebuilding an unchanged request
+   */
+  final int getModifications() {
+    return modifications;
+  }
+
   protected final URI getUri() {
     return uri;
   }
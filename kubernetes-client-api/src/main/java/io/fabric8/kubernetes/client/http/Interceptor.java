@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.http;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * A collection of callback methods invoked through the various stages of the HTTP request lifecycle.
@@ -34,6 +35,17 @@ public interface Interceptor {
 
   }
 
+  /**
+   * Called with the task executor of the client using the http client, for interceptors that perform work in the
+   * background.
+   * <p>
+   * Interceptors that also implement {@link AutoCloseable} are closed along with the http client they were added to.
+   *
+   * @param executor the executor to run the background work on
+   */
+  default void setTaskExecutor(Executor executor) {
+  }
+
   /**
    * Called before a request to allow for the manipulation of the request
    *
@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
@@ -95,9 +96,14 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
   private CompletableFuture<HttpResponse<AsyncBody>> consumeBytesOnce(StandardHttpRequest standardHttpRequest,
       Consumer<List<ByteBuffer>> consumer) {
     StandardHttpRequest.Builder copy = standardHttpRequest.newBuilder();
+    int modifications = copy.getModifications();
     for (Interceptor interceptor : builder.getInterceptors().values()) {
       interceptor.before(copy, standardHttpRequest, this);
-      standardHttpRequest = copy.build();
+      // only rebuild if the interceptor changed something - most requests only pick up a few headers
+      if (copy.getModifications() != modifications) {
+        modifications = copy.getModifications();
+        standardHttpRequest = copy.build();
+      }
     }
     final StandardHttpRequest effectiveRequest = standardHttpRequest;
 
@@ -294,13 +300,43 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     return type.cast(builder.tags.get(type));
   }
 
+  /**
+   * Run the background work of the interceptors, such as the proactive token refresh, on the given executor.
+   *
+   * @param executor the task executor of the client using this http client
+   */
+  public void setTaskExecutor(Executor executor) {
+    builder.getInterceptors().values().forEach(interceptor -> interceptor.setTaskExecutor(executor));
+  }
+
   @Override
   final public void close() {
     if (closed.compareAndSet(false, true)) {
+      for (Interceptor interceptor : builder.getInterceptors().values()) {
+        if (interceptor instanceof AutoCloseable && ownsInterceptor(interceptor)) {
+          try {
+            ((AutoCloseable) interceptor).close();
+          } catch (Exception e) {
+            LOG.warn("Error closing interceptor", e);
+          }
+        }
+      }
       doClose();
     }
   }
 
+  /**
+   * Interceptors inherited from the client this one was derived from belong to that client, unless both are closed
+   * together because they share the underlying client.
+   */
+  private boolean ownsInterceptor(Interceptor interceptor) {
+    if (!(builder.client instanceof StandardHttpClient)) {
+      return true;
+    }
+    final StandardHttpClient<?, ?, ?> parent = (StandardHttpClient<?, ?, ?>) builder.client;
+    return parent.closed == closed || !parent.builder.getInterceptors().containsValue(interceptor);
+  }
+
   protected abstract void doClose();
 
   @Override
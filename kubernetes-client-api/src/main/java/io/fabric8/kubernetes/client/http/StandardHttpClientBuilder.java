@@ -35,6 +35,10 @@ import javax.net.ssl.TrustManager;
 public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends HttpClient.Factory, T extends StandardHttpClientBuilder<C, F, ?>>
     implements HttpClient.Builder {
 
+  public static final int DEFAULT_HTTP2_MAX_CONNECTIONS_PER_HOST = 4;
+  // large enough to keep a busy watch stream flowing, small enough to bound the memory held by many idle ones
+  public static final int DEFAULT_HTTP2_STREAM_WINDOW_SIZE = 1024 * 1024;
+
   protected LinkedHashMap<String, Interceptor> interceptors = new LinkedHashMap<>();
   protected Duration connectTimeout;
   protected SSLContext sslContext;
@@ -50,6 +54,9 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
   protected KeyManager[] keyManagers;
   protected LinkedHashMap<Class<?>, Object> tags = new LinkedHashMap<>();
   protected ProxyType proxyType = ProxyType.HTTP; // for backwards compatibility if the builder is manually configured
+  protected boolean http2Multiplexing;
+  protected int http2MaxConnectionsPerHost = DEFAULT_HTTP2_MAX_CONNECTIONS_PER_HOST;
+  protected int http2StreamWindowSize = DEFAULT_HTTP2_STREAM_WINDOW_SIZE;
 
   protected StandardHttpClientBuilder(F clientFactory) {
     this.clientFactory = clientFactory;
@@ -125,6 +132,49 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
     return (T) this;
   }
 
+  /**
+   * Multiplex requests, in particular long-running streaming requests such as http watches, over a
+   * bounded pool of HTTP/2 connections per host using the default limits.
+   *
+   * @see #http2Multiplexing(int, int)
+   * @return this Builder instance.
+   */
+  public T http2Multiplexing() {
+    return http2Multiplexing(DEFAULT_HTTP2_MAX_CONNECTIONS_PER_HOST, DEFAULT_HTTP2_STREAM_WINDOW_SIZE);
+  }
+
+  /**
+   * Multiplex requests, in particular long-running streaming requests such as http watches, over a
+   * bounded pool of HTTP/2 connections per host.
+   * <p>
+   * Multiplexing requires HTTP/2 so this overrides {@link #preferHttp11()}. WebSocket upgrades are always performed
+   * over HTTP/1.1, use {@link io.fabric8.kubernetes.client.Config#setOnlyHttpWatches(boolean)} for watches to
+   * take advantage of the shared connections.
+   * <p>
+   * Only enable this against servers known to support HTTP/2, if a connection falls back to HTTP/1.1 the connection
+   * limit bounds the number of concurrent requests instead.
+   * <p>
+   * Implementations apply the limits on a best effort basis, the JDK and OkHttp clients already
+   * share a single connection per host and only honor the stream window size through their own configuration.
+   *
+   * @param maxConnectionsPerHost the maximum number of HTTP/2 connections to open to a single host
+   * @param streamWindowSize the initial flow-control window, in bytes, of each stream
+   * @return this Builder instance.
+   */
+  public T http2Multiplexing(int maxConnectionsPerHost, int streamWindowSize) {
+    if (maxConnectionsPerHost < 1) {
+      throw new IllegalArgumentException("maxConnectionsPerHost must be greater than 0");
+    }
+    if (streamWindowSize < 1) {
+      throw new IllegalArgumentException("streamWindowSize must be greater than 0");
+    }
+    this.http2Multiplexing = true;
+    this.http2MaxConnectionsPerHost = maxConnectionsPerHost;
+    this.http2StreamWindowSize = streamWindowSize;
+    this.preferHttp11 = false;
+    return (T) this;
+  }
+
   public T clientFactory(F clientFactory) {
     this.clientFactory = clientFactory;
     return (T) this;
@@ -156,6 +206,9 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
     copy.client = client;
     copy.tags = new LinkedHashMap<>(this.tags);
     copy.proxyType = this.proxyType;
+    copy.http2Multiplexing = this.http2Multiplexing;
+    copy.http2MaxConnectionsPerHost = this.http2MaxConnectionsPerHost;
+    copy.http2StreamWindowSize = this.http2StreamWindowSize;
     return copy;
   }
 
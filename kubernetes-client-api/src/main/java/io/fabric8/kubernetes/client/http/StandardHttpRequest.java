@@ -207,12 +207,14 @@ public class StandardHttpRequest extends StandardHttpHeaders implements HttpRequ
     @Override
     public HttpRequest.Builder timeout(long timeout, TimeUnit unit) {
       this.timeout = Duration.ofNanos(unit.toNanos(timeout));
+      modified();
       return this;
     }
 
     @Override
     public HttpRequest.Builder forStreaming() {
       this.forStreaming = true;
+      modified();
       return this;
     }
 
@@ -235,6 +237,7 @@ public class StandardHttpRequest extends StandardHttpHeaders implements HttpRequ
       method = METHOD_POST;
       this.contentType = contentType;
       body = new ByteArrayBodyContent(writeValueAsBytes);
+      modified();
       return this;
     }
 
@@ -246,6 +249,7 @@ public class StandardHttpRequest extends StandardHttpHeaders implements HttpRequ
       if (body != null) {
         this.body = new StringBodyContent(body);
       }
+      modified();
       return this;
     }
 
@@ -254,12 +258,14 @@ public class StandardHttpRequest extends StandardHttpHeaders implements HttpRequ
       this.method = method;
       this.contentType = contentType;
       this.body = new InputStreamBodyContent(stream, length);
+      modified();
       return this;
     }
 
     @Override
     public HttpRequest.Builder expectContinue() {
       expectContinue = true;
+      modified();
       return this;
     }
   }
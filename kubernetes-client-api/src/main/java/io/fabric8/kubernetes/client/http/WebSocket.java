@@ -15,6 +15,8 @@
  */
 package io.fabric8.kubernetes.client.http;
 
+import io.fabric8.kubernetes.client.utils.Utils;
+
 import java.io.IOException;
 import java.net.ProtocolException;
 import java.net.URI;
@@ -136,6 +138,30 @@ public interface WebSocket {
    */
   long queueSize();
 
+  /**
+   * Returns a future that completes once {@link #queueSize()} is at or below the given size, so that writers can wait
+   * for the queue to drain without polling.
+   * <p>
+   * Implementations that are notified of each completed write should override this. The default, which OkHttp uses,
+   * checks the queue size every 50ms.
+   *
+   * @param size the queue size in bytes to wait for
+   * @return a future completed when the queue size is at most the given size
+   */
+  default CompletableFuture<Void> whenQueueSizeAtMost(long size) {
+    if (queueSize() <= size) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    CompletableFuture<?> poll = Utils.scheduleAtFixedRate(Runnable::run, () -> {
+      if (queueSize() <= size) {
+        result.complete(null);
+      }
+    }, 50, 50, TimeUnit.MILLISECONDS);
+    result.whenComplete((v, t) -> poll.cancel(true));
+    return result;
+  }
+
   /**
    * Used to receive more onMessage or {@link Listener#onClose(WebSocket, int, String)} events after the initial message is
    * received
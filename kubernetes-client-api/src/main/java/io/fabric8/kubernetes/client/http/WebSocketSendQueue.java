@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tracks the bytes enqueued by a {@link WebSocket} implementation and signals waiters once enough of them have been
+ * written, see {@link WebSocket#whenQueueSizeAtMost(long)}.
+ */
+public class WebSocketSendQueue {
+
+  private static final class Waiter {
+    private final long size;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    private Waiter(long size) {
+      this.size = size;
+    }
+  }
+
+  private long queueSize;
+  private final List<Waiter> waiters = new ArrayList<>();
+
+  public synchronized void enqueued(long bytes) {
+    queueSize += bytes;
+  }
+
+  /**
+   * Called from the completion of a write, whether or not it succeeded.
+   */
+  public void written(long bytes) {
+    List<Waiter> ready = null;
+    synchronized (this) {
+      queueSize -= bytes;
+      for (Iterator<Waiter> iter = waiters.iterator(); iter.hasNext();) {
+        Waiter waiter = iter.next();
+        if (waiter.future.isDone() || queueSize <= waiter.size) {
+          iter.remove();
+          if (ready == null) {
+            ready = new ArrayList<>();
+          }
+          ready.add(waiter);
+        }
+      }
+    }
+    // complete outside of the lock as dependents run inline
+    if (ready != null) {
+      ready.forEach(w -> w.future.complete(null));
+    }
+  }
+
+  public synchronized long size() {
+    return queueSize;
+  }
+
+  public synchronized CompletableFuture<Void> whenSizeAtMost(long size) {
+    if (queueSize <= size) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Waiter waiter = new Waiter(size);
+    waiters.add(waiter);
+    return waiter.future;
+  }
+
+}
@@ -20,6 +20,7 @@ import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.fabric8.kubernetes.client.informers.cache.StringInterner;
 
 import java.util.List;
 import java.util.Map;
@@ -176,6 +177,22 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
 
   SharedIndexInformer<T> itemStore(ItemStore<T> itemStore);
 
+  /**
+   * Sets the {@link StringInterner} used to deduplicate the strings of the items before they're added to the store.
+   * The same interner may be shared by several informers.
+   * <br>
+   * Can only be called before the informer is running
+   * <br>
+   * Interning is an optimization, so implementations that don't support it may ignore the interner and store the
+   * items as they are, which is what this default does.
+   *
+   * @param stringInterner the interner, or null to store the items as they are
+   * @return this informer
+   */
+  default SharedIndexInformer<T> stringInterner(StringInterner stringInterner) {
+    return this;
+  }
+
   /**
    * A non-blocking alternative to run. Starts the shared informer, which will normally be stopped when {@link #stop()} is
    * called.
@@ -15,12 +15,14 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.CompactGenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -118,10 +120,41 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
     if (value == null) {
       return null;
     }
+    // a compact resource reads each value from its content, so nothing of the item is shared with the store
+    if (value instanceof CompactGenericKubernetesResource
+        && ((CompactGenericKubernetesResource) value).getContent() != null) {
+      return storeCompact((CompactGenericKubernetesResource) value);
+    }
     Map<String, Object> raw = serialization.convertValue(value, Map.class);
     return fields.stream().map(f -> GenericKubernetesResource.get(raw, (Object[]) f)).toArray();
   }
 
+  /**
+   * Only the metadata is converted, the other fields are read from the content without building the
+   * additionalProperties.
+   */
+  private Object[] storeCompact(CompactGenericKubernetesResource value) {
+    Map<String, Object> metadata = null;
+    Object[] result = new Object[fields.size()];
+    for (int i = 0; i < result.length; i++) {
+      String[] path = fields.get(i);
+      if (path[0].equals(METADATA)) {
+        if (metadata == null) {
+          metadata = value.getMetadata() == null ? Collections.emptyMap()
+              : serialization.convertValue(value.getMetadata(), Map.class);
+        }
+        result[i] = GenericKubernetesResource.get(metadata, (Object[]) Arrays.copyOfRange(path, 1, path.length));
+      } else if (path.length == 1 && path[0].equals("apiVersion")) {
+        result[i] = value.getApiVersion();
+      } else if (path.length == 1 && path[0].equals("kind")) {
+        result[i] = value.getKind();
+      } else {
+        result[i] = value.get((Object[]) path);
+      }
+    }
+    return result;
+  }
+
   V restore(String key, Object[] values) {
     if (values == null) {
       return null;
@@ -0,0 +1,331 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replaces the strings of the configured fields of cached items with a canonical instance, so that
+ * the label keys and values, namespaces, owner references, etc. repeated across the items of an
+ * informer cache are only held once in memory.
+ * <p>
+ * Field paths are simple names separated by '.', lists are traversed transparently. When a path ends at a map
+ * both its keys and string values are interned, for example "metadata.labels". Strings longer than
+ * {@value #MAX_LENGTH} characters are left as they are since they are rarely repeated.
+ * <p>
+ * The intern table only holds its strings weakly, a string is dropped once no item refers to it anymore, so values
+ * that churn don't accumulate. Values that are mostly unique, such as uids or annotation values, aren't worth
+ * interning and are not part of the default field paths. A single instance may be shared by several informers, see
+ * {@link SharedIndexInformer#stringInterner(StringInterner)}.
+ */
+public class StringInterner {
+
+  public static final int MAX_LENGTH = 256;
+
+  public static final List<String> DEFAULT_FIELD_PATHS = Collections.unmodifiableList(Arrays.asList(
+      "apiVersion",
+      "kind",
+      "metadata.namespace",
+      "metadata.labels",
+      "metadata.ownerReferences.apiVersion",
+      "metadata.ownerReferences.kind",
+      "spec.containers.image",
+      "spec.initContainers.image"));
+
+  private static final Map<Class<?>, Map<String, Property>> PROPERTIES = new ConcurrentHashMap<>();
+
+  private final Map<String, WeakReference<String>> table = new WeakHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final List<String[]> fieldPaths = new ArrayList<>();
+
+  /**
+   * Create an interner for the {@link #DEFAULT_FIELD_PATHS}
+   */
+  public StringInterner() {
+    this(DEFAULT_FIELD_PATHS.toArray(new String[0]));
+  }
+
+  /**
+   * @param fieldPaths the paths of the fields to intern
+   */
+  public StringInterner(String... fieldPaths) {
+    for (String fieldPath : fieldPaths) {
+      this.fieldPaths.add(fieldPath.split("\\."));
+    }
+  }
+
+  /**
+   * Intern the configured fields of the item in place.
+   *
+   * @param item the item
+   * @return the same item
+   */
+  public <T> T internFields(T item) {
+    if (item != null) {
+      for (String[] fieldPath : fieldPaths) {
+        internPath(item, fieldPath, 0);
+      }
+    }
+    return item;
+  }
+
+  /**
+   * @return the canonical instance of the string, which is the string itself if it wasn't part of the table
+   */
+  public String intern(String value) {
+    if (value == null || value.length() > MAX_LENGTH) {
+      return value;
+    }
+    synchronized (table) {
+      final WeakReference<String> reference = table.get(value);
+      final String existing = reference != null ? reference.get() : null;
+      if (existing != null) {
+        hits.increment();
+        return existing;
+      }
+      misses.increment();
+      table.put(value, new WeakReference<>(value));
+      return value;
+    }
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the ratio of strings that were replaced by a canonical instance, or 0 if nothing was interned yet
+   */
+  public double getHitRate() {
+    long hitCount = getHitCount();
+    long total = hitCount + getMissCount();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  /**
+   * @return the number of strings in the intern table
+   */
+  public int size() {
+    synchronized (table) {
+      return table.size();
+    }
+  }
+
+  private void internPath(Object target, String[] path, int index) {
+    if (target instanceof Collection) {
+      for (Object element : (Collection<?>) target) {
+        internPath(element, path, index);
+      }
+      return;
+    }
+    if (target == null || target instanceof String) {
+      return;
+    }
+    final String name = path[index];
+    final Object value = get(target, name);
+    if (value == null) {
+      return;
+    }
+    if (index < path.length - 1) {
+      internPath(value, path, index + 1);
+      return;
+    }
+    final Object interned = internValue(value);
+    if (interned != value) {
+      set(target, name, interned);
+    }
+  }
+
+  private Object internValue(Object value) {
+    if (value instanceof String) {
+      return intern((String) value);
+    }
+    if (value instanceof List) {
+      for (ListIterator<Object> it = ((List<Object>) value).listIterator(); it.hasNext();) {
+        Object element = it.next();
+        if (element instanceof String) {
+          String interned = intern((String) element);
+          if (interned != element) {
+            it.set(interned);
+          }
+        }
+      }
+      return value;
+    }
+    if (value instanceof Map) {
+      return internMap((Map<Object, Object>) value);
+    }
+    return value;
+  }
+
+  private Map<Object, Object> internMap(Map<Object, Object> map) {
+    final Object[] keys = new Object[map.size()];
+    boolean keysInterned = true;
+    int i = 0;
+    for (Map.Entry<Object, Object> entry : map.entrySet()) {
+      if (entry.getValue() instanceof String) {
+        String interned = intern((String) entry.getValue());
+        if (interned != entry.getValue()) {
+          entry.setValue(interned);
+        }
+      }
+      final Object key = entry.getKey();
+      keys[i] = key instanceof String ? intern((String) key) : key;
+      keysInterned &= keys[i++] == key;
+    }
+    if (keysInterned) {
+      return map;
+    }
+    // keys can't be replaced in place, the map is copied preserving its order
+    Map<Object, Object> result = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+    i = 0;
+    for (Object value : map.values()) {
+      result.put(keys[i++], value);
+    }
+    return result;
+  }
+
+  private static Object get(Object target, String name) {
+    if (target instanceof Map) {
+      return ((Map<?, ?>) target).get(name);
+    }
+    final Property property = properties(target.getClass()).get(name);
+    if (property != null) {
+      return property.getter != null ? invoke(property.getter, target) : null;
+    }
+    final Object additionalProperties = anyGetter(target);
+    return additionalProperties instanceof Map ? ((Map<?, ?>) additionalProperties).get(name) : null;
+  }
+
+  private static void set(Object target, String name, Object value) {
+    if (target instanceof Map) {
+      ((Map<String, Object>) target).put(name, value);
+      return;
+    }
+    final Property property = properties(target.getClass()).get(name);
+    if (property != null) {
+      if (property.setter != null) {
+        invoke(property.setter, target, value);
+      }
+      return;
+    }
+    final Object additionalProperties = anyGetter(target);
+    if (additionalProperties instanceof Map) {
+      ((Map<String, Object>) additionalProperties).put(name, value);
+    }
+  }
+
+  private static Object anyGetter(Object target) {
+    final Property property = properties(target.getClass()).get(Property.ANY_GETTER);
+    return property != null ? invoke(property.getter, target) : null;
+  }
+
+  private static Object invoke(Method method, Object target, Object... args) {
+    try {
+      return method.invoke(target, args);
+    } catch (ReflectiveOperationException | IllegalArgumentException e) {
+      // interning is best effort, the field is left as it is
+      return null;
+    }
+  }
+
+  private static Map<String, Property> properties(Class<?> type) {
+    return PROPERTIES.computeIfAbsent(type, StringInterner::introspect);
+  }
+
+  /**
+   * The model types expose their fields with {@link JsonProperty} annotated accessors and unknown fields with a
+   * {@link JsonAnyGetter}.
+   */
+  private static Map<String, Property> introspect(Class<?> type) {
+    final Map<String, Property> result = new HashMap<>();
+    if (!Modifier.isPublic(type.getModifiers())) {
+      return result;
+    }
+    for (Method method : type.getMethods()) {
+      if (method.isAnnotationPresent(JsonAnyGetter.class) && method.getParameterCount() == 0) {
+        result.computeIfAbsent(Property.ANY_GETTER, k -> new Property()).getter = method;
+      }
+      final JsonProperty jsonProperty = method.getAnnotation(JsonProperty.class);
+      if (jsonProperty == null || jsonProperty.value().isEmpty()) {
+        continue;
+      }
+      if (method.getParameterCount() == 0 && method.getReturnType() != void.class) {
+        result.computeIfAbsent(jsonProperty.value(), k -> new Property()).getter = method;
+      } else if (method.getParameterCount() == 1) {
+        result.computeIfAbsent(jsonProperty.value(), k -> new Property()).setter = method;
+      }
+    }
+    // properties annotated on the fields with bean accessors, e.g. generated by lombok
+    for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        final JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+        if (jsonProperty == null || jsonProperty.value().isEmpty()) {
+          continue;
+        }
+        final String suffix = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+        final Property property = result.computeIfAbsent(jsonProperty.value(), k -> new Property());
+        if (property.getter == null) {
+          property.getter = findMethod(type, "get" + suffix);
+        }
+        if (property.setter == null) {
+          property.setter = findMethod(type, "set" + suffix, field.getType());
+        }
+      }
+    }
+    return result;
+  }
+
+  private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+    try {
+      return type.getMethod(name, parameterTypes);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static final class Property {
+    private static final String ANY_GETTER = "";
+
+    private Method getter;
+    private Method setter;
+  }
+
+}
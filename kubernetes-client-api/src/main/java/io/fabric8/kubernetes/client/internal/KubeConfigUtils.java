@@ -34,6 +34,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -320,6 +323,7 @@ public class KubeConfigUtils {
       if (ec != null && ec.status != null) {
         if (ec.status.token != null) {
           config.setAutoOAuthToken(ec.status.token);
+          config.setAutoOAuthTokenExpiry(parseExpirationTimestamp(ec.status.expirationTimestamp));
         } else if (Utils.isNotNullOrEmpty(ec.status.clientCertificateData)
             && Utils.isNotNullOrEmpty(ec.status.clientKeyData)) {
           config.setClientCertData(ec.status.clientCertificateData);
@@ -331,6 +335,18 @@ public class KubeConfigUtils {
     }
   }
 
+  static Instant parseExpirationTimestamp(String expirationTimestamp) {
+    if (Utils.isNullOrEmpty(expirationTimestamp)) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(expirationTimestamp).toInstant();
+    } catch (DateTimeParseException e) {
+      logger.warn("Could not parse the ExecCredential expirationTimestamp {}", expirationTimestamp);
+      return null;
+    }
+  }
+
   protected static io.fabric8.kubernetes.client.Config.ExecCredential getExecCredentialFromExecConfig(ExecConfig exec,
       File configFile) {
     String apiVersion = exec.getApiVersion();
@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timer wheel for the many short, frequently cancelled delays used by watches and informers - reconnect
+ * backoffs, watch timeouts and resync checks.
+ * <br>
+ * Scheduling and cancellation are O(1) and do not contend on a shared priority queue. The precision is bounded by
+ * the tick duration.
+ * <br>
+ * Like the {@link CachedSingleThreadScheduler} it uses a single daemon thread, which will terminate when nothing has
+ * been pending for the ttl. It is not intended for long-running tasks, which should be handed off to an executor.
+ */
+public class HashedWheelScheduler implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(HashedWheelScheduler.class);
+
+  public static final long DEFAULT_TICK_MILLIS = 10;
+  public static final int DEFAULT_WHEEL_SIZE = 512;
+
+  private final long tickNanos;
+  private final int mask;
+  private final long ttlNanos;
+  private final List<Set<Timeout>> wheel;
+  private final Queue<Timeout> additions = new ConcurrentLinkedQueue<>();
+
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicLong scheduled = new AtomicLong();
+  private final AtomicLong expired = new AtomicLong();
+  private final AtomicLong cancelled = new AtomicLong();
+
+  private Thread worker;
+  private boolean closed;
+
+  public HashedWheelScheduler() {
+    this(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE, CachedSingleThreadScheduler.DEFAULT_TTL_MILLIS);
+  }
+
+  /**
+   * @param tickDuration the duration between ticks, the precision of the scheduler
+   * @param unit the unit of the tickDuration
+   * @param wheelSize the number of buckets, will be rounded up to a power of 2
+   * @param ttlMillis how long the worker thread should be kept when nothing is pending
+   */
+  public HashedWheelScheduler(long tickDuration, TimeUnit unit, int wheelSize, long ttlMillis) {
+    if (tickDuration <= 0) {
+      throw new IllegalArgumentException("tickDuration must be greater than 0");
+    }
+    if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+      throw new IllegalArgumentException("wheelSize must be between 1 and 2^30");
+    }
+    this.tickNanos = unit.toNanos(tickDuration);
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    int size = Integer.highestOneBit(wheelSize);
+    if (size < wheelSize) {
+      size <<= 1;
+    }
+    this.mask = size - 1;
+    this.wheel = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      wheel.add(ConcurrentHashMap.newKeySet());
+    }
+  }
+
+  /**
+   * Schedule the command to run on the wheel thread after the given delay.
+   *
+   * @return a {@link Future} that can be used to cancel the command, it will complete once the command has run.
+   *         If the scheduler has been closed the Future will already be cancelled.
+   */
+  public Future<Void> schedule(Runnable command, long delay, TimeUnit unit) {
+    Timeout timeout = new Timeout(command, System.nanoTime() + Math.max(0, unit.toNanos(delay)));
+    scheduled.incrementAndGet();
+    pending.incrementAndGet();
+    additions.add(timeout);
+    if (!startWorker()) {
+      additions.remove(timeout);
+      timeout.cancel(true);
+    }
+    return timeout;
+  }
+
+  private synchronized boolean startWorker() {
+    if (closed) {
+      return false;
+    }
+    if (worker == null) {
+      worker = Utils.daemonThreadFactory(this).newThread(this::run);
+      worker.start();
+    }
+    return true;
+  }
+
+  /**
+   * Stop the worker thread, cancelling everything that is pending
+   */
+  @Override
+  public void close() {
+    Thread toInterrupt;
+    synchronized (this) {
+      closed = true;
+      toInterrupt = worker;
+    }
+    if (toInterrupt != null) {
+      toInterrupt.interrupt();
+    }
+  }
+
+  private void run() {
+    final long start = System.nanoTime();
+    long tick = 0;
+    long idleSince = start;
+    while (true) {
+      long deadline = start + (tick + 1) * tickNanos;
+      long sleep;
+      while ((sleep = deadline - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+        LockSupport.parkNanos(this, sleep);
+      }
+      if (Thread.interrupted() && shutdownCheck()) {
+        return;
+      }
+      transferAdditions(start, tick);
+      expire(wheel.get((int) (tick & mask)));
+      tick++;
+      if (pending.get() > 0) {
+        idleSince = System.nanoTime();
+      } else if (System.nanoTime() - idleSince >= ttlNanos && shutdownCheck()) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * since we're locked and new additions are enqueued before the worker is checked, nothing can be
+   * missed if we find the additions empty
+   */
+  private synchronized boolean shutdownCheck() {
+    if (closed) {
+      worker = null;
+      List<Timeout> remaining = new ArrayList<>(additions);
+      additions.clear();
+      wheel.forEach(remaining::addAll);
+      remaining.forEach(t -> t.cancel(true));
+      return true;
+    }
+    if (additions.isEmpty() && pending.get() == 0) {
+      worker = null;
+      return true;
+    }
+    return false;
+  }
+
+  private void transferAdditions(long start, long tick) {
+    Timeout timeout;
+    while ((timeout = additions.poll()) != null) {
+      if (timeout.isDone()) {
+        continue;
+      }
+      long ticks = Math.max(tick, (timeout.deadline - start) / tickNanos);
+      timeout.remainingRounds = (ticks - tick) / wheel.size();
+      timeout.bucket = wheel.get((int) (ticks & mask));
+      timeout.bucket.add(timeout);
+      if (timeout.isDone()) {
+        // cancelled concurrently
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  private void expire(Set<Timeout> bucket) {
+    for (Timeout timeout : bucket) {
+      if (timeout.isDone()) {
+        bucket.remove(timeout);
+      } else if (timeout.remainingRounds <= 0) {
+        bucket.remove(timeout);
+        timeout.expire();
+      } else {
+        timeout.remainingRounds--;
+      }
+    }
+  }
+
+  /**
+   * @return the number of commands that have been scheduled, but have not yet run or been cancelled
+   */
+  public long getPendingCount() {
+    return pending.get();
+  }
+
+  /**
+   * @return the total number of commands that have been scheduled
+   */
+  public long getScheduledCount() {
+    return scheduled.get();
+  }
+
+  /**
+   * @return the total number of commands that have run
+   */
+  public long getExpiredCount() {
+    return expired.get();
+  }
+
+  /**
+   * @return the total number of commands that were cancelled before they could run
+   */
+  public long getCancelledCount() {
+    return cancelled.get();
+  }
+
+  synchronized boolean hasWorker() {
+    return worker != null;
+  }
+
+  @Override
+  public String toString() {
+    return "HashedWheelScheduler [pending=" + getPendingCount() + ", scheduled=" + getScheduledCount() + ", expired="
+        + getExpiredCount() + ", cancelled=" + getCancelledCount() + "]";
+  }
+
+  private final class Timeout extends CompletableFuture<Void> {
+
+    private final Runnable command;
+    private final long deadline;
+    private final AtomicBoolean settled = new AtomicBoolean();
+    // only accessed by the worker thread
+    private long remainingRounds;
+    private volatile Set<Timeout> bucket;
+
+    private Timeout(Runnable command, long deadline) {
+      this.command = command;
+      this.deadline = deadline;
+    }
+
+    private void expire() {
+      if (!settled.compareAndSet(false, true)) {
+        return;
+      }
+      pending.decrementAndGet();
+      expired.incrementAndGet();
+      try {
+        command.run();
+        complete(null);
+      } catch (Throwable t) {
+        logger.warn("Scheduled task failed", t);
+        completeExceptionally(t);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean result = super.cancel(mayInterruptIfRunning);
+      if (result && settled.compareAndSet(false, true)) {
+        pending.decrementAndGet();
+        cancelled.incrementAndGet();
+        Set<Timeout> current = bucket;
+        if (current != null) {
+          current.remove(this);
+        }
+      }
+      return result;
+    }
+
+  }
+
+}
@@ -17,7 +17,10 @@ package io.fabric8.kubernetes.client.utils;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -26,6 +29,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.KeyDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
@@ -33,18 +37,22 @@ import com.fasterxml.jackson.databind.cfg.MapperConfig;
 import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.jackson.CodecModule;
 import io.fabric8.kubernetes.model.jackson.GoCompatibilityModule;
 import io.fabric8.kubernetes.model.jackson.UnmatchedFieldTypeModule;
 import org.snakeyaml.engine.v2.api.Dump;
 import org.snakeyaml.engine.v2.api.DumpSettings;
 import org.snakeyaml.engine.v2.api.Load;
 import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.api.StreamDataWriter;
 import org.snakeyaml.engine.v2.common.FlowStyle;
 import org.snakeyaml.engine.v2.common.ScalarStyle;
 import org.snakeyaml.engine.v2.nodes.NodeTuple;
@@ -56,20 +64,49 @@ import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class KubernetesSerialization {
 
+  /**
+   * Whether the class is DeepCopyable and declares its own deepCopy(), subclasses inheriting it would lose their type.
+   */
+  private static final ClassValue<Boolean> DECLARES_DEEP_COPY = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      if (!DeepCopyable.class.isAssignableFrom(type)) {
+        return false;
+      }
+      try {
+        return type.getMethod("deepCopy").getDeclaringClass() == type;
+      } catch (NoSuchMethodException e) {
+        return false;
+      }
+    }
+  };
+
   private final ObjectMapper mapper;
   private final UnmatchedFieldTypeModule unmatchedFieldTypeModule = new UnmatchedFieldTypeModule();
   private KubernetesDeserializer kubernetesDeserializer;
   private final boolean searchClassloaders;
   private final YamlDumpSettings yamlDumpSettings;
+  private final YAMLFactory yamlFactory = new YAMLFactory();
 
   /**
    * Creates a new instance with a fresh ObjectMapper
@@ -106,6 +143,10 @@ public class KubernetesSerialization {
 
   protected void configureMapper(ObjectMapper mapper) {
     mapper.registerModules(new JavaTimeModule(), new GoCompatibilityModule(), unmatchedFieldTypeModule);
+    if (searchClassloaders) {
+      // the model modules may be generated with codecs replacing the reflective bean (de)serializers
+      mapper.registerModules(CodecModule.findModules(KubernetesSerialization.class.getClassLoader()));
+    }
     mapper.disable(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE);
     mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     mapper.disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
@@ -190,6 +231,46 @@ public class KubernetesSerialization {
     }
   }
 
+  /**
+   * Writes a JSON representation of the given object to the {@link OutputStream} as UTF-8, without holding the
+   * whole document in memory.
+   * <p>
+   * The stream is flushed but not closed.
+   *
+   * @param object the object to serialize.
+   * @param out the target stream.
+   * @param <T> the type of the object being serialized.
+   * @see #asJson(Object)
+   */
+  public <T> void asJson(T object, OutputStream out) {
+    try (JsonGenerator generator = mapper.getFactory().createGenerator(out)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      mapper.writeValue(generator, object);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  /**
+   * Writes a JSON representation of the given object to the {@link Writer}, without holding the whole document in
+   * memory.
+   * <p>
+   * The writer is flushed but not closed.
+   *
+   * @param object the object to serialize.
+   * @param writer the target writer.
+   * @param <T> the type of the object being serialized.
+   * @see #asJson(Object)
+   */
+  public <T> void asJson(T object, Writer writer) {
+    try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      mapper.writeValue(generator, object);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
   /**
    * Returns a YAML representation of the given object.
    *
@@ -203,9 +284,66 @@ public class KubernetesSerialization {
    * @return a String containing a JSON representation of the provided object.
    */
   public <T> String asYaml(T object) {
+    return yamlDump().dumpToString(mapper.convertValue(object, Object.class));
+  }
+
+  /**
+   * Writes a YAML representation of the given object to the {@link OutputStream} as UTF-8.
+   * <p>
+   * The stream is flushed but not closed.
+   *
+   * @param object the object to serialize.
+   * @param out the target stream.
+   * @param <T> the type of the object being serialized.
+   * @see #asYaml(Object, Writer)
+   */
+  public <T> void asYaml(T object, OutputStream out) {
+    asYaml(object, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Writes a YAML representation of the given object to the {@link Writer}.
+   * <p>
+   * The text is emitted as it's produced instead of being collected into a String, the object is still
+   * converted into a tree of Maps and Lists first.
+   * <p>
+   * The writer is flushed but not closed.
+   *
+   * @param object the object to serialize.
+   * @param writer the target writer.
+   * @param <T> the type of the object being serialized.
+   * @see #asYaml(Object)
+   */
+  public <T> void asYaml(T object, Writer writer) {
+    final Object value = mapper.convertValue(object, Object.class);
+    try {
+      yamlDump().dump(value, new StreamDataWriter() {
+        @Override
+        public void write(String str) {
+          write(str, 0, str.length());
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+          try {
+            writer.write(str, off, len);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+      });
+      writer.flush();
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    } catch (UncheckedIOException e) {
+      throw KubernetesClientException.launderThrowable(e.getCause());
+    }
+  }
+
+  private Dump yamlDump() {
     DumpSettings settings = DumpSettings.builder()
         .setExplicitStart(true).setDefaultFlowStyle(FlowStyle.BLOCK).build();
-    final Dump yaml = new Dump(settings, new StandardRepresenter(settings) {
+    return new Dump(settings, new StandardRepresenter(settings) {
       private boolean quote = true;
 
       @Override
@@ -234,7 +372,6 @@ public class KubernetesSerialization {
         return new ScalarNode(tag, value, style);
       }
     });
-    return yaml.dumpToString(mapper.convertValue(object, Object.class));
   }
 
   /**
@@ -258,15 +395,8 @@ public class KubernetesSerialization {
 
   public <T> T unmarshal(InputStream is, TypeReference<T> type) {
     try (BufferedInputStream bis = new BufferedInputStream(is)) {
-      bis.mark(-1);
-      int intch;
-      do {
-        intch = bis.read();
-      } while (intch > -1 && Character.isWhitespace(intch));
-      bis.reset();
-
       final T result;
-      if (intch != '{' && intch != '[') {
+      if (!isJson(bis)) {
         result = parseYaml(bis, type);
       } else {
         result = mapper.readerFor(type).readValue(bis);
@@ -277,6 +407,149 @@ public class KubernetesSerialization {
     }
   }
 
+  /**
+   * Unmarshals a stream one resource at a time.
+   * <p>
+   * The type is assumed to be {@link KubernetesResource}
+   *
+   * @param is The {@link InputStream}.
+   * @param <T> The target type.
+   *
+   * @return a stream of the de-serialized objects, which must be closed
+   * @see #unmarshalStream(InputStream, Class)
+   */
+  public <T> Stream<T> unmarshalStream(InputStream is) {
+    return (Stream<T>) unmarshalStream(is, KubernetesResource.class);
+  }
+
+  /**
+   * Unmarshals a stream one resource at a time.
+   * <p>
+   * Each YAML document, JSON value or element of a top level JSON array is only read when the
+   * returned stream advances to it and is parsed directly into the target type. Null documents are skipped,
+   * the items of a {@link KubernetesResourceList} are returned in its place unless the type is a list.
+   * A document, or list item, that is not of the target type fails the stream with an {@link IllegalArgumentException}
+   * when it is reached, scalar documents are {@link RawExtension}s.
+   * <p>
+   * Unlike {@link #unmarshal(InputStream, TypeReference)}, which is what {@code KubernetesClient.load} uses, YAML aliases
+   * are not supported.
+   * <p>
+   * Closing the stream closes the {@link InputStream}.
+   *
+   * @param is The {@link InputStream}.
+   * @param type The target type.
+   * @param <T> The target type.
+   *
+   * @return a stream of the de-serialized objects, which must be closed
+   */
+  public <T> Stream<T> unmarshalStream(InputStream is, Class<T> type) {
+    final BufferedInputStream bis = new BufferedInputStream(is);
+    final JsonParser parser;
+    try {
+      parser = isJson(bis) ? mapper.getFactory().createParser(bis) : yamlFactory.createParser(bis);
+      // custom deserializers read trees through the codec of the parser
+      parser.setCodec(mapper);
+    } catch (IOException e) {
+      Utils.closeQuietly(bis);
+      throw KubernetesClientException.launderThrowable(e);
+    }
+    return StreamSupport.stream(new DocumentSpliterator<>(parser, type), false).onClose(() -> {
+      try {
+        parser.close();
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    });
+  }
+
+  /**
+   * Peek at the first non-whitespace character to tell JSON from YAML.
+   */
+  private static boolean isJson(BufferedInputStream bis) throws IOException {
+    bis.mark(-1);
+    int intch;
+    do {
+      intch = bis.read();
+    } while (intch > -1 && Character.isWhitespace(intch));
+    bis.reset();
+    return intch == '{' || intch == '[';
+  }
+
+  /**
+   * Reads the values at the root of the parser, or in a root array, one at a time.
+   */
+  private final class DocumentSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final JsonParser parser;
+    private final Class<T> type;
+    private final ObjectReader reader;
+    private Iterator<?> items = Collections.emptyIterator();
+
+    private DocumentSpliterator(JsonParser parser, Class<T> type) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.parser = parser;
+      this.type = type;
+      // interfaces such as HasMetadata are resolved by kind, which also lets lists through to be flattened
+      this.reader = mapper.readerFor(type.isInterface() && KubernetesResource.class.isAssignableFrom(type)
+          ? KubernetesResource.class
+          : type);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      try {
+        while (true) {
+          if (items.hasNext()) {
+            final Object item = items.next();
+            if (item != null) {
+              action.accept(checked(item));
+              return true;
+            }
+            continue;
+          }
+          final JsonToken token = parser.nextToken();
+          if (token == null) {
+            return false;
+          }
+          final Object value = read(token);
+          if (value instanceof KubernetesResourceList && !KubernetesResourceList.class.isAssignableFrom(type)) {
+            items = ((KubernetesResourceList<?>) value).getItems().iterator();
+          } else if (value != null) {
+            action.accept(checked(value));
+            return true;
+          }
+        }
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    }
+
+    /**
+     * Fail on the document that does not match, rather than after the stream has been consumed.
+     */
+    private T checked(Object value) {
+      if (!type.isInstance(value)) {
+        throw new IllegalArgumentException(
+            "Could not convert item to " + type.getName() + ": " + value.getClass().getName());
+      }
+      return type.cast(value);
+    }
+
+    private Object read(JsonToken token) throws IOException {
+      switch (token) {
+        case START_OBJECT:
+          return reader.readValue(parser);
+        case START_ARRAY:
+        case END_ARRAY:
+        case VALUE_NULL:
+          // the elements of a root array are read as they come
+          return null;
+        default:
+          return new RawExtension(mapper.readValue(parser, Object.class));
+      }
+    }
+  }
+
   /**
    * If multiple docs exist, only non-null resources will be kept. Results spanning multiple docs
    * will be returned as a List of KubernetesResource
@@ -366,14 +639,24 @@ public class KubernetesSerialization {
   }
 
   /**
-   * Create a copy of the resource via serialization.
+   * Create a copy of the resource.
+   * <p>
+   * Resources that are {@link DeepCopyable} are copied directly, anything else, or anything holding values that can't
+   * be deep copied, is copied via serialization.
    *
    * @return a deep clone of the resource
    * @throws IllegalStateException if the cloning cannot be performed
    */
+  @SuppressWarnings("unchecked")
   public <T> T clone(T resource) {
-    // if full serialization seems too expensive, there is also
-    //return (T) JSON_MAPPER.convertValue(resource, resource.getClass());
+    if (resource != null && DECLARES_DEEP_COPY.get(resource.getClass())) {
+      try {
+        return (T) ((DeepCopyable<?>) resource).deepCopy();
+      } catch (UnsupportedOperationException e) {
+        // a value set by the user, e.g. an additional property, is not DeepCopyable, or an additional property
+        // shadows a declared one, which only the serialization round trip handles
+      }
+    }
     try {
       return (T) mapper.readValue(
           mapper.writeValueAsString(resource), resource.getClass());
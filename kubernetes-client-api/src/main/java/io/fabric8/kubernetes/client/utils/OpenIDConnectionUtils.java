@@ -269,25 +269,39 @@ public class OpenIDConnectionUtils {
   public static boolean idTokenExpired(Config config) {
     if (config.getAuthProvider() != null && config.getAuthProvider().getConfig() != null) {
       Map<String, String> authProviderConfig = config.getAuthProvider().getConfig();
-      String accessToken = authProviderConfig.get(ID_TOKEN_KUBECONFIG);
-      if (isValidJwt(accessToken)) {
-        try {
-          String[] jwtParts = accessToken.split(JWT_PARTS_DELIMITER_REGEX);
-          String jwtPayload = jwtParts[1];
-          String jwtPayloadDecoded = new String(Base64.getDecoder().decode(jwtPayload));
-          Map<String, Object> jwtPayloadMap = Serialization.unmarshal(jwtPayloadDecoded, Map.class);
-          int expiryTimestampInSeconds = (Integer) jwtPayloadMap.get(JWT_TOKEN_EXPIRY_TIMESTAMP_KEY);
-          return Instant.ofEpochSecond(expiryTimestampInSeconds)
-              .minusSeconds(TOKEN_EXPIRY_DELTA)
-              .isBefore(Instant.now());
-        } catch (Exception e) {
-          return true;
-        }
+      Instant expiry = getJwtExpiry(authProviderConfig.get(ID_TOKEN_KUBECONFIG));
+      if (expiry != null) {
+        return expiry.minusSeconds(TOKEN_EXPIRY_DELTA).isBefore(Instant.now());
       }
     }
     return true;
   }
 
+  /**
+   * @param token the possible JWT
+   * @return the expiry from the exp claim, or null if the token is not a JWT or has no exp claim
+   */
+  public static Instant getJwtExpiry(String token) {
+    if (isValidJwt(token)) {
+      try {
+        String[] jwtParts = token.split(JWT_PARTS_DELIMITER_REGEX);
+        String jwtPayload = jwtParts[1];
+        // JWTs are base64url encoded, but tolerate the basic alphabet
+        String jwtPayloadDecoded = new String(jwtPayload.indexOf('+') >= 0 || jwtPayload.indexOf('/') >= 0
+            ? Base64.getDecoder().decode(jwtPayload)
+            : Base64.getUrlDecoder().decode(jwtPayload));
+        Map<String, Object> jwtPayloadMap = Serialization.unmarshal(jwtPayloadDecoded, Map.class);
+        Object expiryTimestampInSeconds = jwtPayloadMap.get(JWT_TOKEN_EXPIRY_TIMESTAMP_KEY);
+        if (expiryTimestampInSeconds instanceof Number) {
+          return Instant.ofEpochSecond(((Number) expiryTimestampInSeconds).longValue());
+        }
+      } catch (Exception e) {
+        // not a parsable JWT
+      }
+    }
+    return null;
+  }
+
   private static boolean isValidJwt(String token) {
     if (token != null && !token.isEmpty()) {
       String[] jwtParts = token.split(JWT_PARTS_DELIMITER_REGEX);
@@ -22,29 +22,56 @@ import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.http.Interceptor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.net.HttpURLConnection;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
  * Interceptor for handling kube authentication. It will either be basic auth, or token based. This class takes responsibility
  * for refreshing expired OIDC tokens.
+ * <p>
+ * When the expiry of an automatically configured token is known - from the exec credential expirationTimestamp or the
+ * JWT exp claim - a refresh is scheduled ahead of the expiry so that requests do not have to fail with a 401 first.
+ * Concurrent refreshes are coalesced into a single refresh.
+ * <p>
+ * The proactive refresh runs on the executor of the client, see {@link #setTaskExecutor(Executor)}, and is cancelled when the
+ * interceptor is closed. Without an executor only the refresh upon failure is performed.
  */
-public class TokenRefreshInterceptor implements Interceptor {
+public class TokenRefreshInterceptor implements Interceptor, AutoCloseable {
 
   public static final String AUTHORIZATION = "Authorization";
 
   public static final String NAME = "TOKEN";
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(TokenRefreshInterceptor.class);
+
   protected final Config config;
   private final Function<Config, CompletableFuture<String>> remoteRefresh;
 
   private static final int REFRESH_INTERVAL_MINUTE = 1;
+  private static final Duration MIN_REFRESH_AHEAD = Duration.ofSeconds(30);
 
   private volatile Instant latestRefreshTimestamp;
 
+  private final AtomicReference<CompletableFuture<String>> inFlightRefresh = new AtomicReference<>();
+  // the token the proactive refresh has been scheduled for
+  private volatile String scheduledForToken;
+  private Future<?> scheduledRefresh;
+  private volatile boolean usedSinceRefresh;
+  private volatile Executor executor;
+  private boolean closed;
+
   public TokenRefreshInterceptor(Config config, HttpClient.Factory factory, Instant latestRefreshTimestamp) {
     this(config, latestRefreshTimestamp,
         newestConfig -> OpenIDConnectionUtils.resolveOIDCTokenFromAuthConfig(config, newestConfig.getAuthProvider().getConfig(),
@@ -58,6 +85,26 @@ public class TokenRefreshInterceptor implements Interceptor {
     this.latestRefreshTimestamp = latestRefreshTimestamp;
   }
 
+  /**
+   * Set the executor to run the proactive refresh on, which may block on reading the kubeconfig or running an exec
+   * plugin. It should be the task executor of the client.
+   *
+   * @param executor the executor, or null to only refresh upon failure
+   */
+  @Override
+  public void setTaskExecutor(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Cancel the scheduled proactive refresh and don't schedule any more.
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    cancelScheduledRefresh();
+  }
+
   @Override
   public void before(BasicBuilder headerBuilder, HttpRequest request, RequestTags tags) {
     if (useBasicAuth()) {
@@ -69,6 +116,7 @@ public class TokenRefreshInterceptor implements Interceptor {
 
     if (Utils.isNotNullOrEmpty(token)) {
       headerBuilder.header(AUTHORIZATION, "Bearer " + token);
+      scheduleProactiveRefresh(token);
     } else if (useRemoteRefresh(config)) {
       // trigger a 401, rather than attempting an unauthenticated request
       headerBuilder.header(AUTHORIZATION, "Bearer invalid");
@@ -120,14 +168,107 @@ public class TokenRefreshInterceptor implements Interceptor {
     if (config.getOauthToken() != null) {
       return CompletableFuture.completedFuture(false);
     }
-    Config newestConfig = config.refresh();
-    final CompletableFuture<String> newAccessToken = extractNewAccessTokenFrom(newestConfig);
+    return refreshAutoOAuthToken(false).thenApply(token -> overrideNewAccessTokenToConfig(token, headerBuilder));
+  }
 
-    return newAccessToken.thenApply(token -> overrideNewAccessTokenToConfig(token, headerBuilder));
+  /**
+   * Refresh the auto token from the newest config. Concurrent callers will share the same in-flight refresh.
+   *
+   * @param proactive if the OIDC token should be refreshed even though it has not yet expired
+   */
+  private CompletableFuture<String> refreshAutoOAuthToken(boolean proactive) {
+    while (true) {
+      CompletableFuture<String> current = inFlightRefresh.get();
+      if (current != null) {
+        return current;
+      }
+      CompletableFuture<String> refresh = new CompletableFuture<>();
+      if (inFlightRefresh.compareAndSet(null, refresh)) {
+        try {
+          Config newestConfig = config.refresh();
+          extractNewAccessTokenFrom(newestConfig, proactive).whenComplete((token, t) -> {
+            if (t == null && Utils.isNotNullOrEmpty(token)) {
+              config.setAutoOAuthTokenExpiry(newestConfig.getAutoOAuthTokenExpiry());
+            }
+            inFlightRefresh.set(null);
+            if (t != null) {
+              refresh.completeExceptionally(t);
+            } else {
+              refresh.complete(token);
+            }
+          });
+        } catch (RuntimeException e) {
+          inFlightRefresh.set(null);
+          refresh.completeExceptionally(e);
+        }
+        return refresh;
+      }
+    }
+  }
+
+  private void scheduleProactiveRefresh(String token) {
+    usedSinceRefresh = true;
+    if (token.equals(scheduledForToken) || executor == null) {
+      return;
+    }
+    synchronized (this) {
+      if (!closed && !token.equals(scheduledForToken) && config.getOauthTokenProvider() == null
+          && config.getOauthToken() == null) {
+        scheduleRefreshAhead(token);
+      }
+    }
+  }
+
+  private void cancelScheduledRefresh() {
+    if (scheduledRefresh != null) {
+      scheduledRefresh.cancel(true);
+      scheduledRefresh = null;
+    }
+  }
+
+  private void scheduleRefreshAhead(String token) {
+    scheduledForToken = token;
+    Instant expiry = Optional.ofNullable(config.getAutoOAuthTokenExpiry())
+        .orElseGet(() -> OpenIDConnectionUtils.getJwtExpiry(token));
+    cancelScheduledRefresh();
+    if (expiry == null) {
+      return;
+    }
+    Duration lifetime = Duration.between(Instant.now(), expiry);
+    // refresh the later of 10% of the lifetime or 30 seconds ahead of expiry
+    Duration ahead = lifetime.dividedBy(10);
+    if (ahead.compareTo(MIN_REFRESH_AHEAD) < 0) {
+      ahead = MIN_REFRESH_AHEAD;
+    }
+    long delay = Math.max(0, lifetime.minus(ahead).toMillis());
+    scheduledRefresh = Utils.schedule(executor, this::proactiveRefresh, delay, TimeUnit.MILLISECONDS);
+  }
+
+  private void proactiveRefresh() {
+    synchronized (this) {
+      scheduledRefresh = null;
+      if (closed) {
+        return;
+      }
+      if (!usedSinceRefresh) {
+        // don't refresh for an idle client - the next request will schedule the refresh again
+        scheduledForToken = null;
+        return;
+      }
+      usedSinceRefresh = false;
+    }
+    refreshAutoOAuthToken(true).whenComplete((token, t) -> {
+      if (t != null) {
+        LOGGER.debug("Proactive token refresh failed, will refresh upon failure", t);
+      } else if (Utils.isNotNullOrEmpty(token)) {
+        config.setAutoOAuthToken(token);
+        updateLatestRefreshTimestamp();
+      }
+    });
   }
 
-  private CompletableFuture<String> extractNewAccessTokenFrom(Config newestConfig) {
-    if (useRemoteRefresh(newestConfig)) {
+  private CompletableFuture<String> extractNewAccessTokenFrom(Config newestConfig, boolean proactive) {
+    if (useRemoteRefresh(newestConfig) || (proactive && isAuthProviderOidc(newestConfig))) {
       // TODO: determine the appropriate fall-back behavior.  If the result here is null, do we use the non-remote token
       return remoteRefresh.apply(newestConfig);
     }
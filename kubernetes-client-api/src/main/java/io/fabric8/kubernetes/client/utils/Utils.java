@@ -27,6 +27,7 @@ import java.io.Flushable;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
@@ -46,9 +47,9 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -462,14 +463,91 @@ public class Utils {
     };
   }
 
+  /**
+   * Check if the running JVM supports virtual threads (Java 21+).
+   *
+   * @return true if {@link #virtualThreadPerTaskExecutor(Object)} can be used
+   */
+  public static boolean isVirtualThreadSupported() {
+    return VirtualThreads.NEW_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * Create an {@link ExecutorService} that starts a new virtual thread for each task.
+   * <p>
+   * The client targets Java 11, so the virtual thread API is accessed reflectively.
+   *
+   * @param forObject the object used to name the threads
+   * @return the ExecutorService, or null if virtual threads are not supported
+   */
+  public static ExecutorService virtualThreadPerTaskExecutor(Object forObject) {
+    if (!isVirtualThreadSupported()) {
+      return null;
+    }
+    String name = forObject.getClass().getSimpleName() + "-" + System.identityHashCode(forObject) + "-virtual-";
+    try {
+      Object builder = VirtualThreads.OF_VIRTUAL.invoke(null);
+      builder = VirtualThreads.NAME.invoke(builder, name, 0L);
+      ThreadFactory threadFactory = (ThreadFactory) VirtualThreads.FACTORY.invoke(builder);
+      return (ExecutorService) VirtualThreads.NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+    } catch (ReflectiveOperationException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  private static final class VirtualThreads {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+      Method ofVirtual = null;
+      Method name = null;
+      Method factory = null;
+      Method newThreadPerTaskExecutor = null;
+      // on 19 and 20 the api exists, but is only usable as a preview feature
+      if (Runtime.version().feature() >= 21) {
+        try {
+          ofVirtual = Thread.class.getMethod("ofVirtual");
+          Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+          name = builderClass.getMethod("name", String.class, long.class);
+          factory = builderClass.getMethod("factory");
+          newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ReflectiveOperationException e) {
+          newThreadPerTaskExecutor = null;
+        }
+      }
+      OF_VIRTUAL = ofVirtual;
+      NAME = name;
+      FACTORY = factory;
+      NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+  }
+
   /**
    * Schedule a task to run in the given {@link Executor} - which should run the task in a different thread as to not
    * hold the scheduling thread
    */
   public static CompletableFuture<Void> schedule(Executor executor, Runnable command, long delay, TimeUnit unit) {
+    return schedule(null, executor, command, delay, unit);
+  }
+
+  /**
+   * Schedule a task to run in the given {@link Executor} - which should run the task in a different thread as to not
+   * hold the scheduling thread
+   *
+   * @param scheduler the scheduler to use, or null to use the shared scheduler
+   */
+  public static CompletableFuture<Void> schedule(HashedWheelScheduler scheduler, Executor executor, Runnable command,
+      long delay, TimeUnit unit) {
     // to be replaced in java 9+ with CompletableFuture.runAsync(command, CompletableFuture.delayedExecutor(delay, unit, executor));
     CompletableFuture<Void> result = new CompletableFuture<>();
-    ScheduledFuture<?> scheduledFuture = SHARED_SCHEDULER.schedule(() -> {
+    Future<?> scheduledFuture = delay(scheduler, () -> {
       try {
         executor.execute(command);
         result.complete(null);
@@ -477,6 +555,10 @@ public class Utils {
         result.completeExceptionally(t);
       }
     }, delay, unit);
+    if (scheduledFuture.isCancelled()) {
+      // the scheduler has been closed
+      result.cancel(true);
+    }
     result.whenComplete((v, t) -> {
       scheduledFuture.cancel(true);
     });
@@ -491,8 +573,21 @@ public class Utils {
    */
   public static CompletableFuture<?> scheduleAtFixedRate(Executor executor, Runnable command, long initialDelay, long delay,
       TimeUnit unit) {
+    return scheduleAtFixedRate(null, executor, command, initialDelay, delay, unit);
+  }
+
+  /**
+   * Schedule a repeated task to run in the given {@link Executor} - which should run the task in a different thread as to not
+   * hold the scheduling thread.
+   * <p>
+   * Has the same general contract as {@link ScheduledThreadPoolExecutor#scheduleAtFixedRate(Runnable, long, long, TimeUnit)}
+   *
+   * @param scheduler the scheduler to use, or null to use the shared scheduler
+   */
+  public static CompletableFuture<?> scheduleAtFixedRate(HashedWheelScheduler scheduler, Executor executor, Runnable command,
+      long initialDelay, long delay, TimeUnit unit) {
     CompletableFuture<Void> completion = new CompletableFuture<>();
-    scheduleWithVariableRate(completion, executor, command, initialDelay, () -> delay, unit);
+    scheduleWithVariableRate(scheduler, completion, executor, command, initialDelay, () -> delay, unit);
     return completion;
   }
 
@@ -507,18 +602,32 @@ public class Utils {
   public static void scheduleWithVariableRate(CompletableFuture<?> completion, Executor executor, Runnable command,
       long initialDelay,
       LongSupplier nextDelay, TimeUnit unit) {
-    AtomicReference<ScheduledFuture<?>> currentScheduledFuture = new AtomicReference<>();
+    scheduleWithVariableRate(null, completion, executor, command, initialDelay, nextDelay, unit);
+  }
+
+  /**
+   * Schedule a repeated task to run in the given {@link Executor} - which should run the task in a different thread as to not
+   * hold the scheduling thread.
+   * <p>
+   *
+   * @param scheduler the scheduler to use, or null to use the shared scheduler
+   * @param nextDelay provides the relative next delay - that is the values are applied cumulatively to the initial start
+   *        time. Supplying a fixed value produces a fixed rate.
+   */
+  public static void scheduleWithVariableRate(HashedWheelScheduler scheduler, CompletableFuture<?> completion,
+      Executor executor, Runnable command, long initialDelay, LongSupplier nextDelay, TimeUnit unit) {
+    AtomicReference<Future<?>> currentScheduledFuture = new AtomicReference<>();
     AtomicLong next = new AtomicLong(unit.convert(System.nanoTime(), TimeUnit.NANOSECONDS) + Math.max(0, initialDelay));
-    schedule(() -> CompletableFuture.runAsync(command, executor), initialDelay, unit, completion, nextDelay, next,
+    schedule(scheduler, () -> CompletableFuture.runAsync(command, executor), initialDelay, unit, completion, nextDelay, next,
         currentScheduledFuture);
     // remove on cancel is true, so this may proactively clean up
     completion.whenComplete((v, t) -> Optional.ofNullable(currentScheduledFuture.get()).ifPresent(s -> s.cancel(true)));
   }
 
-  private static void schedule(Supplier<CompletableFuture<?>> runner, long delay, TimeUnit unit,
-      CompletableFuture<?> completion, LongSupplier nextDelay, AtomicLong next,
-      AtomicReference<ScheduledFuture<?>> currentScheduledFuture) {
-    currentScheduledFuture.set(SHARED_SCHEDULER.schedule(() -> {
+  private static void schedule(HashedWheelScheduler scheduler, Supplier<CompletableFuture<?>> runner, long delay,
+      TimeUnit unit, CompletableFuture<?> completion, LongSupplier nextDelay, AtomicLong next,
+      AtomicReference<Future<?>> currentScheduledFuture) {
+    Future<?> scheduledFuture = delay(scheduler, () -> {
       if (completion.isDone()) {
         return;
       }
@@ -527,10 +636,23 @@ public class Utils {
         if (t != null) {
           completion.completeExceptionally(t);
         } else if (!completion.isDone()) {
-          schedule(runner, next.addAndGet(nextDelay.getAsLong()) - unit.convert(System.nanoTime(), TimeUnit.NANOSECONDS),
+          schedule(scheduler, runner,
+              next.addAndGet(nextDelay.getAsLong()) - unit.convert(System.nanoTime(), TimeUnit.NANOSECONDS),
               unit, completion, nextDelay, next, currentScheduledFuture);
         }
       });
-    }, delay, unit));
+    }, delay, unit);
+    currentScheduledFuture.set(scheduledFuture);
+    if (scheduledFuture.isCancelled()) {
+      // the scheduler has been closed
+      completion.cancel(true);
+    }
+  }
+
+  private static Future<?> delay(HashedWheelScheduler scheduler, Runnable command, long delay, TimeUnit unit) {
+    if (scheduler == null) {
+      return SHARED_SCHEDULER.schedule(command, delay, unit);
+    }
+    return scheduler.schedule(command, delay, unit);
   }
 }
@@ -30,6 +30,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -38,8 +39,10 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -301,6 +304,103 @@ class StandardHttpClientTest {
     assertTrue(client.isClosed());
   }
 
+  @Test
+  void consumeBytesWithUnmodifyingInterceptorsDoesNotRebuildRequest() {
+    client = client.newBuilder().addOrReplaceInterceptor("noop", new Interceptor() {
+    }).build();
+    client.expect(".*", 200);
+    final StandardHttpRequest request = (StandardHttpRequest) client.newHttpRequestBuilder().uri("http://localhost")
+        .build();
+
+    client.consumeBytes(request, (value, asyncBody) -> {
+    });
+
+    assertThat(client.getRecordedConsumeBytesDirects())
+        .singleElement()
+        .extracting(TestStandardHttpClient.RecordedConsumeBytesDirect::getRequest)
+        .isSameAs(request);
+  }
+
+  @Test
+  void consumeBytesWithModifyingInterceptorsSeesPreviousModifications() {
+    final List<HttpRequest> seen = new ArrayList<>();
+    client = client.newBuilder()
+        .addOrReplaceInterceptor("first", new Interceptor() {
+          @Override
+          public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+            builder.header("h1", "v1");
+          }
+        })
+        .addOrReplaceInterceptor("second", new Interceptor() {
+          @Override
+          public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+            seen.add(request);
+          }
+        }).build();
+    client.expect(".*", 200);
+
+    client.consumeBytes(client.newHttpRequestBuilder().uri("http://localhost").build(), (value, asyncBody) -> {
+    });
+
+    assertThat(seen).singleElement().returns("v1", r -> r.header("h1"));
+    assertThat(client.getRecordedConsumeBytesDirects())
+        .singleElement()
+        .extracting(TestStandardHttpClient.RecordedConsumeBytesDirect::getRequest)
+        .isSameAs(seen.get(0));
+  }
+
+  @Test
+  void closeClosesInterceptors() throws Exception {
+    // Given
+    final CloseableInterceptor interceptor = mock(CloseableInterceptor.class);
+    client = new TestStandardHttpClientFactory().newBuilder().addOrReplaceInterceptor("closeable", interceptor).build();
+    final HttpClient derived = client.newBuilder().build();
+
+    // When
+    derived.close();
+    client.close();
+
+    // Then
+    Mockito.verify(interceptor, Mockito.times(1)).close();
+  }
+
+  @Test
+  void closeOfDerivedClientWithItsOwnLifecycleLeavesInheritedInterceptorsOpen() throws Exception {
+    // Given
+    final CloseableInterceptor inherited = mock(CloseableInterceptor.class);
+    final CloseableInterceptor own = mock(CloseableInterceptor.class);
+    client = new TestStandardHttpClientFactory().newBuilder().addOrReplaceInterceptor("inherited", inherited).build();
+    final TestStandardHttpClientBuilder derivedBuilder = (TestStandardHttpClientBuilder) client.newBuilder()
+        .addOrReplaceInterceptor("own", own);
+    final HttpClient derived = new TestStandardHttpClient(derivedBuilder, new AtomicBoolean());
+
+    // When
+    derived.close();
+
+    // Then
+    Mockito.verify(own).close();
+    Mockito.verify(inherited, Mockito.never()).close();
+    client.close();
+    Mockito.verify(inherited).close();
+  }
+
+  @Test
+  void setTaskExecutorIsPassedToInterceptors() {
+    // Given
+    final Interceptor interceptor = mock(Interceptor.class);
+    client = new TestStandardHttpClientFactory().newBuilder().addOrReplaceInterceptor("interceptor", interceptor).build();
+    final Executor executor = Runnable::run;
+
+    // When
+    client.setTaskExecutor(executor);
+
+    // Then
+    Mockito.verify(interceptor).setTaskExecutor(executor);
+  }
+
+  interface CloseableInterceptor extends Interceptor, AutoCloseable {
+  }
+
   @Test
   void shouldUnwrapCompletionException() {
     // Given
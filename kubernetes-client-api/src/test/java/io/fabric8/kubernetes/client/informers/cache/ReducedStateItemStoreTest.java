@@ -15,14 +15,21 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.CompactGenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ReducedStateItemStoreTest {
 
@@ -55,4 +62,65 @@ class ReducedStateItemStoreTest {
     assertNotNull(store.remove("x"));
   }
 
+  @Test
+  void testStoreCompactGenericResource() {
+    KubernetesSerialization serialization = new KubernetesSerialization();
+    ReducedStateItemStore<GenericKubernetesResource> store = new ReducedStateItemStore<>(
+        ReducedStateItemStore.NAME_KEY_STATE, GenericKubernetesResource.class, serialization, "metadata.labels", "kind",
+        "spec.replicas");
+
+    CompactGenericKubernetesResource resource = serialization.unmarshal("{\"apiVersion\":\"example.com/v1\","
+        + "\"kind\":\"Widget\",\"metadata\":{\"name\":\"y\",\"namespace\":\"ns\",\"resourceVersion\":\"2\","
+        + "\"labels\":{\"one\":\"1\"}},\"spec\":{\"replicas\":3,\"template\":{}}}",
+        CompactGenericKubernetesResource.class);
+
+    Object[] values = store.store(resource);
+
+    assertEquals("2", values[0]);
+    assertEquals(Collections.singletonMap("one", "1"), values[1]);
+    assertEquals("Widget", values[2]);
+    assertEquals(3, values[3]);
+    // the spec was read without materializing the additionalProperties
+    assertNotNull(resource.getContent());
+
+    GenericKubernetesResource restored = store.restore("ns/y", values);
+
+    assertEquals("y", restored.getMetadata().getName());
+    assertEquals("ns", restored.getMetadata().getNamespace());
+    assertEquals(3, (int) restored.get("spec", "replicas"));
+    assertTrue(restored.getAdditionalProperties().containsKey("spec"));
+  }
+
+  @Test
+  void testStoreGenericResourceDoesNotShareValues() {
+    KubernetesSerialization serialization = new KubernetesSerialization();
+    ReducedStateItemStore<GenericKubernetesResource> store = new ReducedStateItemStore<>(
+        ReducedStateItemStore.NAME_KEY_STATE, GenericKubernetesResource.class, serialization, "spec.template");
+
+    GenericKubernetesResource resource = serialization.unmarshal("{\"apiVersion\":\"example.com/v1\","
+        + "\"kind\":\"Widget\",\"metadata\":{\"name\":\"y\",\"namespace\":\"ns\",\"resourceVersion\":\"2\"},"
+        + "\"spec\":{\"template\":{\"size\":1}}}", GenericKubernetesResource.class);
+
+    Object[] values = store.store(resource);
+    resource.<Map<String, Object>> get("spec", "template").put("size", 2);
+
+    assertEquals(Collections.singletonMap("size", 1), values[1]);
+  }
+
+  @Test
+  void testStoreUnknownKindsReadAsCompact() {
+    KubernetesSerialization serialization = new KubernetesSerialization(
+        new ObjectMapper().registerModule(new CompactGenericKubernetesResource.Module()), true);
+    ReducedStateItemStore<GenericKubernetesResource> store = new ReducedStateItemStore<>(
+        ReducedStateItemStore.NAME_KEY_STATE, GenericKubernetesResource.class, serialization, "spec.replicas");
+
+    GenericKubernetesResource resource = serialization.unmarshal("{\"apiVersion\":\"example.com/v1\","
+        + "\"kind\":\"Widget\",\"metadata\":{\"name\":\"y\",\"namespace\":\"ns\",\"resourceVersion\":\"2\"},"
+        + "\"spec\":{\"replicas\":3}}");
+
+    assertTrue(resource instanceof CompactGenericKubernetesResource);
+    assertEquals(3, store.store(resource)[1]);
+    assertNotNull(((CompactGenericKubernetesResource) resource).getContent());
+  }
+
 }
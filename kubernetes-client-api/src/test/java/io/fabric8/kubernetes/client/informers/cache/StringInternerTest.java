@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StringInternerTest {
+
+  private static final String POD = "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"%s\",\"namespace\":\"ns\","
+      + "\"labels\":{\"app\":\"web\"},\"ownerReferences\":[{\"apiVersion\":\"apps/v1\",\"kind\":\"ReplicaSet\","
+      + "\"name\":\"web-1\",\"uid\":\"1234\"}]},\"spec\":{\"containers\":[{\"name\":\"main\",\"image\":\"nginx\"}]}}";
+
+  private final KubernetesSerialization serialization = new KubernetesSerialization();
+
+  @Test
+  void testInternFields() {
+    StringInterner interner = new StringInterner();
+    Pod first = interner.internFields(serialization.unmarshal(String.format(POD, "a"), Pod.class));
+    Pod second = interner.internFields(serialization.unmarshal(String.format(POD, "b"), Pod.class));
+
+    assertSame(first.getMetadata().getNamespace(), second.getMetadata().getNamespace());
+    assertSame(first.getApiVersion(), second.getApiVersion());
+    Map.Entry<String, String> firstLabel = first.getMetadata().getLabels().entrySet().iterator().next();
+    Map.Entry<String, String> secondLabel = second.getMetadata().getLabels().entrySet().iterator().next();
+    assertSame(firstLabel.getKey(), secondLabel.getKey());
+    assertSame(firstLabel.getValue(), secondLabel.getValue());
+    assertSame(first.getSpec().getContainers().get(0).getImage(), second.getSpec().getContainers().get(0).getImage());
+    // not configured
+    assertNotSame(first.getMetadata().getOwnerReferences().get(0).getUid(),
+        second.getMetadata().getOwnerReferences().get(0).getUid());
+    assertEquals("web", second.getMetadata().getLabels().get("app"));
+    assertEquals(8, interner.getHitCount());
+    assertEquals(8, interner.getMissCount());
+    assertEquals(0.5, interner.getHitRate());
+  }
+
+  @Test
+  void testInternGenericFields() {
+    StringInterner interner = new StringInterner("metadata.labels", "spec.containers.image");
+    GenericKubernetesResource first = interner
+        .internFields(serialization.unmarshal(String.format(POD, "a"), GenericKubernetesResource.class));
+    GenericKubernetesResource second = interner
+        .internFields(serialization.unmarshal(String.format(POD, "b"), GenericKubernetesResource.class));
+
+    assertSame(first.get("spec", "containers", 0, "image"), second.get("spec", "containers", 0, "image"));
+    assertSame(first.getMetadata().getLabels().get("app"), second.getMetadata().getLabels().get("app"));
+    assertEquals(3, interner.size());
+  }
+
+  @Test
+  void testUnreferencedStringsAreDropped() throws InterruptedException {
+    StringInterner interner = new StringInterner();
+    String first = interner.intern(new String("a"));
+    interner.intern(new String("b"));
+
+    assertSame(first, interner.intern(new String("a")));
+    assertEquals(1, interner.getHitCount());
+    assertEquals(2, interner.getMissCount());
+    for (int i = 0; i < 50 && interner.size() > 1; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertEquals(1, interner.size());
+    assertSame(first, interner.intern(new String("a")));
+  }
+
+}
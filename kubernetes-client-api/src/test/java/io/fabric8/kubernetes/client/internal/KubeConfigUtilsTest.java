@@ -30,6 +30,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -249,6 +250,16 @@ class KubeConfigUtilsTest {
     assertPlatformPrefixes(processBuilderArgs);
   }
 
+  @Test
+  void parseExpirationTimestamp() {
+    assertThat(KubeConfigUtils.parseExpirationTimestamp("2024-01-02T03:04:05Z"))
+        .isEqualTo(Instant.parse("2024-01-02T03:04:05Z"));
+    assertThat(KubeConfigUtils.parseExpirationTimestamp("2024-01-02T04:04:05+01:00"))
+        .isEqualTo(Instant.parse("2024-01-02T03:04:05Z"));
+    assertThat(KubeConfigUtils.parseExpirationTimestamp("not a timestamp")).isNull();
+    assertThat(KubeConfigUtils.parseExpirationTimestamp(null)).isNull();
+  }
+
   private void assertPlatformPrefixes(List<String> processBuilderArgs) {
     List<String> platformArgsExpected = Utils.getCommandPlatformPrefix();
     assertThat(processBuilderArgs)
@@ -70,6 +70,8 @@ import io.fabric8.kubernetes.client.utils.Utils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import java.io.File;
 import java.util.Collections;
@@ -77,6 +79,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -354,4 +357,25 @@ class UtilsTest {
         .satisfies(uuid -> assertThat(uuid.getLeastSignificantBits()).isPositive())
         .satisfies(uuid -> assertThat(uuid.getMostSignificantBits()).isZero());
   }
+
+  @Test
+  @EnabledForJreRange(max = JRE.JAVA_20)
+  void virtualThreadPerTaskExecutorNotSupported() {
+    assertThat(Utils.isVirtualThreadSupported()).isFalse();
+    assertThat(Utils.virtualThreadPerTaskExecutor(this)).isNull();
+  }
+
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_21)
+  void virtualThreadPerTaskExecutorRunsOnVirtualThreads() throws Exception {
+    assertThat(Utils.isVirtualThreadSupported()).isTrue();
+    final ExecutorService executor = Utils.virtualThreadPerTaskExecutor(this);
+    try {
+      final Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(1, TimeUnit.SECONDS);
+      assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+      assertThat(thread.getName()).startsWith("UtilsTest-");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
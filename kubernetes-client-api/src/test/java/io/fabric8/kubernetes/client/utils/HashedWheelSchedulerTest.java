@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class HashedWheelSchedulerTest {
+
+  @Test
+  void testScheduleRunsAfterDelay() throws Exception {
+    try (HashedWheelScheduler scheduler = new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, 8, 1000)) {
+      CountDownLatch latch = new CountDownLatch(1);
+      long start = System.nanoTime();
+      Future<Void> future = scheduler.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+      future.get(1, TimeUnit.SECONDS);
+      assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(49));
+      assertThat(scheduler.getExpiredCount()).isEqualTo(1);
+      assertThat(scheduler.getPendingCount()).isZero();
+    }
+  }
+
+  @Test
+  void testDelayLongerThanOneRotation() throws Exception {
+    // 3 is rounded up to 4 buckets of 5ms - a 100ms delay needs several rotations
+    try (HashedWheelScheduler scheduler = new HashedWheelScheduler(5, TimeUnit.MILLISECONDS, 3, 1000)) {
+      long start = System.nanoTime();
+      scheduler.schedule(() -> {
+      }, 100, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+      assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(95));
+    }
+  }
+
+  @Test
+  void testCancel() {
+    try (HashedWheelScheduler scheduler = new HashedWheelScheduler()) {
+      Future<Void> future = scheduler.schedule(() -> {
+      }, 1, TimeUnit.HOURS);
+      assertThat(scheduler.getPendingCount()).isEqualTo(1);
+      assertThat(future.cancel(true)).isTrue();
+      future.cancel(true);
+      assertThat(scheduler.getPendingCount()).isZero();
+      assertThat(scheduler.getCancelledCount()).isEqualTo(1);
+      assertThat(scheduler.getScheduledCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void testAutoShutdown() throws Exception {
+    HashedWheelScheduler scheduler = new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, 8, 50);
+    assertThat(scheduler.hasWorker()).isFalse();
+    scheduler.schedule(() -> {
+    }, 10, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+    await().atMost(1, TimeUnit.SECONDS).until(() -> !scheduler.hasWorker());
+    // should start again
+    scheduler.schedule(() -> {
+    }, 10, TimeUnit.MILLISECONDS);
+    assertThat(scheduler.hasWorker()).isTrue();
+    scheduler.close();
+  }
+
+  @Test
+  void testCloseCancelsPending() {
+    HashedWheelScheduler scheduler = new HashedWheelScheduler();
+    Future<Void> future = scheduler.schedule(() -> {
+    }, 1, TimeUnit.HOURS);
+    scheduler.close();
+    await().atMost(1, TimeUnit.SECONDS).until(future::isCancelled);
+    assertThat(scheduler.hasWorker()).isFalse();
+    assertThat(scheduler.schedule(() -> {
+    }, 1, TimeUnit.MILLISECONDS).isCancelled()).isTrue();
+    assertThat(scheduler.getPendingCount()).isZero();
+  }
+}
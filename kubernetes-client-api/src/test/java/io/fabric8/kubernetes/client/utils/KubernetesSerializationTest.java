@@ -19,10 +19,20 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.api.model.CompactGenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition;
+import io.fabric8.kubernetes.api.model.runtime.RawExtension;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,10 +44,21 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
 
 class KubernetesSerializationTest {
 
@@ -125,6 +146,276 @@ class KubernetesSerializationTest {
 
   }
 
+  @Nested
+  class WriteTo {
+
+    private final io.fabric8.kubernetes.api.model.Pod pod = new io.fabric8.kubernetes.api.model.PodBuilder()
+        .withNewMetadata().withName("a").addToLabels("n", "y").endMetadata().build();
+
+    @BeforeEach
+    void setUp() {
+      kubernetesSerialization = new KubernetesSerialization();
+    }
+
+    @Test
+    void asJsonToOutputStreamMatchesAsJson() {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      kubernetesSerialization.asJson(pod, out);
+      assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(kubernetesSerialization.asJson(pod));
+    }
+
+    @Test
+    void asYamlToWriterMatchesAsYaml() {
+      final StringWriter writer = new StringWriter();
+      kubernetesSerialization.asYaml(pod, writer);
+      assertThat(writer).hasToString(kubernetesSerialization.asYaml(pod));
+    }
+
+    @Test
+    void writesDoNotCloseTheStream() {
+      final AtomicBoolean closed = new AtomicBoolean();
+      final ByteArrayOutputStream out = new ByteArrayOutputStream() {
+        @Override
+        public void close() {
+          closed.set(true);
+        }
+      };
+      kubernetesSerialization.asYaml(pod, out);
+      kubernetesSerialization.asJson(pod, out);
+      assertThat(closed).isFalse();
+      assertThat(out.toString(StandardCharsets.UTF_8))
+          .isEqualTo(kubernetesSerialization.asYaml(pod) + kubernetesSerialization.asJson(pod));
+    }
+  }
+
+  @Nested
+  class Clone {
+
+    @BeforeEach
+    void setUp() {
+      kubernetesSerialization = new KubernetesSerialization();
+    }
+
+    @Test
+    void deepCopyableResourceIsCopiedWithoutSharingNestedValues() {
+      final GenericKubernetesResource resource = new GenericKubernetesResource();
+      resource.setKind("Custom");
+      resource.setAdditionalProperty("spec", new LinkedHashMap<>(Map.of("replicas", 1)));
+      final GenericKubernetesResource copy = kubernetesSerialization.clone(resource);
+      assertThat(copy).isEqualTo(resource).isNotSameAs(resource);
+      copy.<Map<String, Object>> get("spec").put("replicas", 2);
+      assertThat(resource.<Object> get("spec", "replicas")).isEqualTo(1);
+    }
+
+    @Test
+    void resourceWithMetadataIsCopiedWithoutSharingNestedValues() {
+      final GenericKubernetesResource resource = new GenericKubernetesResource();
+      resource.setKind("Custom");
+      resource.setMetadata(new ObjectMetaBuilder().withName("name").addToLabels("app", "test")
+          .addNewOwnerReference().withName("owner").withUid("uid").endOwnerReference()
+          .addNewManagedField().withManager("test").withNewFieldsV1()
+          .addToAdditionalProperties("f:metadata", new LinkedHashMap<>(Map.of("f:labels", Map.of()))).endFieldsV1()
+          .endManagedField()
+          .build());
+      // serializing this value would fail, so it's only copied through deepCopy
+      resource.setAdditionalProperty("status", new NotSerializable("ready"));
+      final GenericKubernetesResource copy = kubernetesSerialization.clone(resource);
+      assertThat(copy).isEqualTo(resource).isNotSameAs(resource);
+      assertThat(copy.getMetadata()).isNotSameAs(resource.getMetadata());
+      assertThat(copy.<Object> get("status")).isNotSameAs(resource.get("status"));
+      copy.getMetadata().getLabels().put("app", "changed");
+      copy.getMetadata().getOwnerReferences().get(0).setName("changed");
+      copy.getMetadata().getManagedFields().get(0).getFieldsV1().getAdditionalProperties().put("f:spec", Map.of());
+      assertThat(resource.getMetadata().getLabels()).containsEntry("app", "test");
+      assertThat(resource.getMetadata().getOwnerReferences().get(0).getName()).isEqualTo("owner");
+      assertThat(resource.getMetadata().getManagedFields().get(0).getFieldsV1().getAdditionalProperties())
+          .containsOnlyKeys("f:metadata");
+    }
+
+    @Test
+    void generatedModelIsCopiedWithoutSharingNestedValues() {
+      final io.fabric8.kubernetes.api.model.Pod pod = new PodBuilder().withNewMetadata().withName("pod").addToLabels("app", "test").endMetadata()
+          .withNewSpec().addNewContainer().withName("main").withImage("busybox").withNewResources()
+          .addToLimits("cpu", new Quantity("1")).endResources().endContainer().endSpec()
+          .build();
+      final io.fabric8.kubernetes.api.model.Pod copy = kubernetesSerialization.clone(pod);
+      assertThat(copy).isEqualTo(pod).isNotSameAs(pod);
+      copy.getMetadata().getLabels().put("app", "changed");
+      copy.getSpec().getContainers().get(0).getResources().getLimits().get("cpu").setAmount("2");
+      assertThat(pod.getMetadata().getLabels()).containsEntry("app", "test");
+      assertThat(pod.getSpec().getContainers().get(0).getResources().getLimits()).containsEntry("cpu", new Quantity("1"));
+    }
+
+    @Test
+    void valuesThatAreNotDeepCopyableFallBackToSerialization() {
+      final GenericKubernetesResource resource = new GenericKubernetesResource();
+      resource.setKind("Custom");
+      resource.setAdditionalProperty("spec", new NotDeepCopyable());
+      final GenericKubernetesResource copy = kubernetesSerialization.clone(resource);
+      assertThat(copy.getKind()).isEqualTo("Custom");
+      assertThat(copy.<Object> get("spec")).isEqualTo(Map.of("value", "value"));
+    }
+
+    @Test
+    void subclassesKeepTheirType() {
+      final SubclassedGenericKubernetesResource resource = new SubclassedGenericKubernetesResource();
+      resource.setKind("Custom");
+      assertThat(kubernetesSerialization.clone(resource))
+          .isInstanceOf(SubclassedGenericKubernetesResource.class)
+          .isEqualTo(resource);
+    }
+  }
+
+  public static class SubclassedGenericKubernetesResource extends GenericKubernetesResource {
+  }
+
+  public static class NotDeepCopyable {
+    public String value = "value";
+  }
+
+  public static final class NotSerializable implements DeepCopyable<NotSerializable> {
+    private final String value;
+
+    NotSerializable(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      throw new UnsupportedOperationException("not serializable");
+    }
+
+    @Override
+    public NotSerializable deepCopy() {
+      return new NotSerializable(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof NotSerializable && ((NotSerializable) o).value.equals(value);
+    }
+
+    @Override
+    public int hashCode() {
+      return value.hashCode();
+    }
+  }
+
+  @Nested
+  class CompactGenericResources {
+
+    @BeforeEach
+    void setUp() {
+      kubernetesSerialization = new KubernetesSerialization(
+          new ObjectMapper().registerModule(new CompactGenericKubernetesResource.Module()), true);
+    }
+
+    @Test
+    void unknownKindIsCompact() {
+      final KubernetesResource result = kubernetesSerialization
+          .unmarshal("{\"apiVersion\":\"example.com/v1\",\"kind\":\"Widget\",\"spec\":{\"size\":1}}");
+      assertThat(result).isInstanceOf(CompactGenericKubernetesResource.class)
+          .extracting(r -> ((CompactGenericKubernetesResource) r).get("spec", "size")).isEqualTo(1);
+    }
+
+    @Test
+    void listItemsOfUnknownKindAreCompact() {
+      final KubernetesList result = kubernetesSerialization.unmarshal("{\"apiVersion\":\"v1\",\"kind\":\"List\","
+          + "\"items\":[{\"apiVersion\":\"example.com/v1\",\"kind\":\"Widget\",\"metadata\":{\"name\":\"a\"}},"
+          + "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"b\"}}]}", KubernetesList.class);
+      assertThat(result.getItems())
+          .hasExactlyElementsOfTypes(CompactGenericKubernetesResource.class, io.fabric8.kubernetes.api.model.Pod.class);
+    }
+
+    @Test
+    void genericListItemsAreCompact() {
+      final GenericKubernetesResourceList result = kubernetesSerialization.unmarshal("{\"apiVersion\":\"example.com/v1\","
+          + "\"kind\":\"WidgetList\",\"items\":[{\"apiVersion\":\"example.com/v1\",\"kind\":\"Widget\","
+          + "\"metadata\":{\"name\":\"a\"},\"spec\":{\"size\":1}}]}", GenericKubernetesResourceList.class);
+      assertThat(result.getItems()).singleElement().isInstanceOf(CompactGenericKubernetesResource.class)
+          .extracting(r -> r.get("spec", "size")).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class UnmarshalStream {
+
+    @BeforeEach
+    void setUp() {
+      kubernetesSerialization = new KubernetesSerialization();
+    }
+
+    @Test
+    void multipleYamlDocumentsSkipsNullDocumentsAndFlattensLists() {
+      final String yaml = "apiVersion: v1\nkind: Pod\nmetadata:\n  name: a\n---\n---\n"
+          + "apiVersion: v1\nkind: List\nitems:\n- apiVersion: v1\n  kind: Service\n  metadata:\n    name: b\n"
+          + "- apiVersion: v1\n  kind: ConfigMap\n  metadata:\n    name: c\n";
+      try (Stream<HasMetadata> stream = kubernetesSerialization.unmarshalStream(inputStream(yaml))) {
+        assertThat(stream)
+            .extracting(HasMetadata::getKind, r -> r.getMetadata().getName())
+            .containsExactly(tuple("Pod", "a"), tuple("Service", "b"), tuple("ConfigMap", "c"));
+      }
+    }
+
+    @Test
+    void jsonArrayReadsEachElement() {
+      final String json = "[{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"a\"}},"
+          + "{\"apiVersion\":\"v1\",\"kind\":\"Namespace\",\"metadata\":{\"name\":\"b\"}}]";
+      try (Stream<HasMetadata> stream = kubernetesSerialization.unmarshalStream(inputStream(json))) {
+        assertThat(stream)
+            .hasExactlyElementsOfTypes(io.fabric8.kubernetes.api.model.Pod.class,
+                io.fabric8.kubernetes.api.model.Namespace.class);
+      }
+    }
+
+    @Test
+    void listTypeIsNotFlattened() {
+      final String yaml = "apiVersion: v1\nkind: PodList\nitems:\n- metadata:\n    name: a\n";
+      try (Stream<PodList> stream = kubernetesSerialization.unmarshalStream(inputStream(yaml), PodList.class)) {
+        assertThat(stream).singleElement()
+            .extracting(l -> l.getItems().get(0).getMetadata().getName()).isEqualTo("a");
+      }
+    }
+
+    @Test
+    void documentsAreReadOnDemand() {
+      final String yaml = "apiVersion: v1\nkind: Pod\nmetadata:\n  name: a\n---\nkind: [invalid\n";
+      try (Stream<HasMetadata> stream = kubernetesSerialization.unmarshalStream(inputStream(yaml))) {
+        assertThat(stream.findFirst()).get().extracting(r -> r.getMetadata().getName()).isEqualTo("a");
+      }
+    }
+
+    @Test
+    void hasMetadataTypeFlattensLists() {
+      final String yaml = "apiVersion: v1\nkind: List\nitems:\n- apiVersion: v1\n  kind: Pod\n  metadata:\n    name: a\n";
+      try (Stream<HasMetadata> stream = kubernetesSerialization.unmarshalStream(inputStream(yaml), HasMetadata.class)) {
+        assertThat(stream).singleElement().isInstanceOf(io.fabric8.kubernetes.api.model.Pod.class);
+      }
+    }
+
+    @Test
+    void documentNotOfTheTypeFailsWhenReached() {
+      final String yaml = "apiVersion: v1\nkind: Pod\nmetadata:\n  name: a\n---\njust a string\n";
+      try (Stream<HasMetadata> stream = kubernetesSerialization.unmarshalStream(inputStream(yaml), HasMetadata.class)) {
+        final Iterator<HasMetadata> it = stream.iterator();
+        assertThat(it.next().getMetadata().getName()).isEqualTo("a");
+        assertThatIllegalArgumentException()
+            .isThrownBy(it::next)
+            .withMessageContaining(HasMetadata.class.getName());
+      }
+    }
+
+    @Test
+    void scalarDocumentIsRawExtension() {
+      try (Stream<KubernetesResource> stream = kubernetesSerialization.unmarshalStream(inputStream("just a string\n"))) {
+        assertThat(stream).singleElement().isEqualTo(new RawExtension("just a string"));
+      }
+    }
+
+    private InputStream inputStream(String value) {
+      return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
   @Version("v1")
   @Group("custom.core.kubernetes.io")
   @JsonDeserialize(using = JsonDeserializer.None.class)
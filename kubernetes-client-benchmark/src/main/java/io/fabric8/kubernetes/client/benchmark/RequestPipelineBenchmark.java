@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.StandardHttpClient;
+import io.fabric8.kubernetes.client.http.StandardHttpClientBuilder;
+import io.fabric8.kubernetes.client.http.StandardHttpHeaders;
+import io.fabric8.kubernetes.client.http.StandardHttpRequest;
+import io.fabric8.kubernetes.client.http.StandardWebSocketBuilder;
+import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.http.WebSocketResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends requests through the interceptors that the client configures from its {@link Config}, to a transport that
+ * completes immediately, so that only the client side of the request pipeline is measured.
+ * <p>
+ * Run with {@code -prof gc} to get the allocation per request.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class RequestPipelineBenchmark {
+
+  /**
+   * Whether the interceptors add headers, a token and impersonation, or leave the request untouched.
+   */
+  @Param({ "true", "false" })
+  public boolean headers;
+
+  private HttpClient client;
+  private HttpRequest request;
+
+  @Setup
+  public void setup() {
+    final ConfigBuilder config = new ConfigBuilder(Config.empty())
+        .withMasterUrl("https://localhost:6443/")
+        .withUserAgent(null);
+    if (headers) {
+      config.withUserAgent("benchmark").withOauthToken("token").withImpersonateUsername("user")
+          .addToCustomHeaders("X-Benchmark", "value");
+    }
+    final NoOpHttpClientFactory factory = new NoOpHttpClientFactory();
+    client = factory.newBuilder(config.build()).build();
+    request = client.newHttpRequestBuilder().uri("https://localhost:6443/api/v1/namespaces/default/pods").build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    client.close();
+  }
+
+  @Benchmark
+  public HttpResponse<AsyncBody> consumeBytes() throws ExecutionException, InterruptedException {
+    return client.consumeBytes(request, (value, asyncBody) -> {
+    }).get();
+  }
+
+  private static final class NoOpHttpClientFactory implements HttpClient.Factory {
+    @Override
+    public NoOpHttpClientBuilder newBuilder() {
+      return new NoOpHttpClientBuilder(this);
+    }
+  }
+
+  private static final class NoOpHttpClientBuilder
+      extends StandardHttpClientBuilder<NoOpHttpClient, NoOpHttpClientFactory, NoOpHttpClientBuilder> {
+
+    private NoOpHttpClientBuilder(NoOpHttpClientFactory clientFactory) {
+      super(clientFactory);
+    }
+
+    @Override
+    public NoOpHttpClient build() {
+      return new NoOpHttpClient(this, new AtomicBoolean());
+    }
+
+    @Override
+    protected NoOpHttpClientBuilder newInstance(NoOpHttpClientFactory clientFactory) {
+      return new NoOpHttpClientBuilder(clientFactory);
+    }
+  }
+
+  private static final class NoOpHttpClient
+      extends StandardHttpClient<NoOpHttpClient, NoOpHttpClientFactory, NoOpHttpClientBuilder> {
+
+    private NoOpHttpClient(NoOpHttpClientBuilder builder, AtomicBoolean closed) {
+      super(builder, closed);
+    }
+
+    @Override
+    public CompletableFuture<WebSocketResponse> buildWebSocketDirect(StandardWebSocketBuilder standardWebSocketBuilder,
+        WebSocket.Listener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<AsyncBody>> consumeBytesDirect(StandardHttpRequest request,
+        AsyncBody.Consumer<List<ByteBuffer>> consumer) {
+      return CompletableFuture.completedFuture(new NoOpResponse(request));
+    }
+
+    @Override
+    protected void doClose() {
+      // nothing to release
+    }
+  }
+
+  private static final class NoOpResponse extends StandardHttpHeaders implements HttpResponse<AsyncBody>, AsyncBody {
+
+    private final HttpRequest request;
+
+    private NoOpResponse(HttpRequest request) {
+      this.request = request;
+    }
+
+    @Override
+    public int code() {
+      return 200;
+    }
+
+    @Override
+    public AsyncBody body() {
+      return this;
+    }
+
+    @Override
+    public HttpRequest request() {
+      return request;
+    }
+
+    @Override
+    public Optional<HttpResponse<?>> previousResponse() {
+      return Optional.empty();
+    }
+
+    @Override
+    public void consume() {
+      // the body is empty
+    }
+
+    @Override
+    public CompletableFuture<Void> done() {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void cancel() {
+      // the body is empty
+    }
+  }
+}
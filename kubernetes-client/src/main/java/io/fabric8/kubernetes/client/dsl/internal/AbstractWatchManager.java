@@ -159,7 +159,8 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     if (state != null && state.closed.compareAndSet(false, true)) {
       logger.debug("Closing the current watch");
       closeCurrentRequest();
-      CompletableFuture<Void> future = Utils.schedule(baseOperation.getOperationContext().getExecutor(),
+      CompletableFuture<Void> future = Utils.schedule(baseOperation.getOperationContext().getScheduler(),
+          baseOperation.getOperationContext().getExecutor(),
           () -> failSafeReconnect(state), watchEndCheckMs,
           TimeUnit.MILLISECONDS);
       state.ended.whenComplete((v, t) -> future.cancel(true));
@@ -230,8 +231,8 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     logger.debug("Scheduling reconnect task in {} ms", delay);
 
     synchronized (this) {
-      reconnectAttempt = Utils.schedule(baseOperation.getOperationContext().getExecutor(), this::reconnect, delay,
-          TimeUnit.MILLISECONDS);
+      reconnectAttempt = Utils.schedule(baseOperation.getOperationContext().getScheduler(),
+          baseOperation.getOperationContext().getExecutor(), this::reconnect, delay, TimeUnit.MILLISECONDS);
       if (isForceClosed()) {
         cancelReconnect();
       }
@@ -21,6 +21,7 @@ import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.DefaultKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
@@ -55,6 +56,7 @@ import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.impl.BaseClient;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
 import io.fabric8.kubernetes.client.readiness.Readiness;
@@ -63,6 +65,7 @@ import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.URLUtils.URLBuilder;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.BulkOperationHelper;
 import io.fabric8.kubernetes.client.utils.internal.CreateOrReplaceHelper;
 import io.fabric8.kubernetes.client.utils.internal.WatcherToggle;
 import org.slf4j.Logger;
@@ -79,6 +82,9 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -88,6 +94,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -108,6 +115,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   private static final String WATCH = "watch";
   private static final String READ_ONLY_UPDATE_EXCEPTION_MESSAGE = "Cannot update read-only resources";
   private static final String READ_ONLY_EDIT_EXCEPTION_MESSAGE = "Cannot edit read-only resources";
+  // ask for just the metadata, falling back to the full objects for servers that can't provide it
+  private static final String METADATA_LIST_ACCEPT = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,"
+      + "application/json";
+  private static final long METADATA_LIST_LIMIT = 500L;
 
   private final T item;
 
@@ -400,6 +411,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return new FilterNestedImpl<>(this);
   }
 
+  @Override
+  public FilterWatchListDeletable<T, L, R> withParallelism(int parallelism) {
+    return newInstance(context.withParallelism(parallelism));
+  }
+
   @Override
   public FilterWatchListDeletable<T, L, R> withoutFields(Map<String, String> fields) {
     return withNewFilter().withoutFields(fields).endFilter();
@@ -547,32 +563,56 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
             }
           } else if (ke.getCode() == HttpURLConnection.HTTP_BAD_METHOD) {
             // collection delete may not be supported, fall-back to single item delete
-            return list().getItems().stream().flatMap(i -> resource(i).delete().stream()).collect(Collectors.toList());
+            return BulkOperationHelper.execute(list().getItems(), i -> resource(i).delete(), context.getParallelism(),
+                context.getExecutor(), true, "delete").stream().flatMap(List::stream).collect(Collectors.toList());
           }
         }
         throw re;
       }
     }
     // if there is no name nor namespace and this is a namespaced resource, find each applicable namespace and issue a delete
-    Set<String> namespaces = list().getItems().stream().map(i -> i.getMetadata().getNamespace()).collect(Collectors.toSet());
-    return namespaces.stream().flatMap(n -> inNamespace(n).delete().stream()).collect(Collectors.toList());
+    return BulkOperationHelper.execute(new ArrayList<>(listNamespaces()), n -> inNamespace(n).delete(),
+        context.getParallelism(), context.getExecutor(), "delete").stream().flatMap(List::stream).collect(Collectors.toList());
+  }
+
+  /**
+   * Find the namespaces of the items matching this context, paging through a metadata only list.
+   */
+  Set<String> listNamespaces() {
+    Set<String> namespaces = new LinkedHashSet<>();
+    String continueVal = null;
+    try {
+      do {
+        URL url = fetchListUrl(getNamespacedUrl(), defaultListOptions(
+            new ListOptionsBuilder().withLimit(METADATA_LIST_LIMIT).withContinue(continueVal).build(), null));
+        HttpRequest.Builder requestBuilder = withRequestTimeout(httpClient.newHttpRequestBuilder()).url(url)
+            .setHeader("Accept", METADATA_LIST_ACCEPT);
+        GenericKubernetesResourceList list = waitForResult(
+            handleResponse(httpClient, requestBuilder, new TypeReference<GenericKubernetesResourceList>() {
+            }));
+        list.getItems().forEach(i -> namespaces.add(i.getMetadata().getNamespace()));
+        continueVal = list.getMetadata() == null ? null : list.getMetadata().getContinue();
+      } while (Utils.isNotNullOrEmpty(continueVal));
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+    return namespaces;
   }
 
   @Override
   public boolean delete(List<T> items) {
     if (items != null) {
-      for (T toDelete : items) {
-        if (toDelete == null) {
-          continue;
-        }
+      List<T> toDelete = items.stream().filter(Objects::nonNull).collect(Collectors.toList());
+      BulkOperationHelper.execute(toDelete, item -> {
         try {
-          resource(toDelete).delete();
+          return resource(item).delete();
         } catch (KubernetesClientException e) {
           if (e.getCode() != HttpURLConnection.HTTP_NOT_FOUND) {
             throw e;
           }
+          return Collections.emptyList();
         }
-      }
+      }, context.getParallelism(), context.getExecutor(), true, "delete");
     }
     return true;
   }
@@ -930,12 +970,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   @Override
   public T waitUntilCondition(Predicate<T> condition, long amount, TimeUnit timeUnit) {
-    CompletableFuture<List<T>> futureCondition = informOnCondition(l -> {
-      if (l.isEmpty()) {
-        return condition.test(null);
-      }
-      return l.stream().allMatch(condition);
-    });
+    CompletableFuture<List<T>> futureCondition = informOnAllMatch(condition);
 
     if (!Utils.waitUntilReady(futureCondition, amount, timeUnit)) {
       futureCondition.cancel(true);
@@ -1007,6 +1042,168 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return future;
   }
 
+  @Override
+  public CompletableFuture<List<T>> informOnAllMatch(Predicate<T> condition) {
+    CompletableFuture<List<T>> future = new CompletableFuture<>();
+
+    SharedIndexInformer<T> informer = this.createInformer(0, Runnable::run);
+
+    informer.initialState(Stream.empty());
+
+    // prevent unnecessary watches and handle closure
+    future.whenComplete((r, t) -> informer.stop());
+
+    // the keys of all known items, and of those that don't yet satisfy the condition
+    Set<String> keys = new HashSet<>();
+    Set<String> unmatched = new HashSet<>();
+    AtomicBoolean seeded = new AtomicBoolean();
+
+    Consumer<String> track = key -> {
+      T item = informer.getStore().getByKey(key);
+      if (item == null) {
+        keys.remove(key);
+        unmatched.remove(key);
+        return;
+      }
+      keys.add(key);
+      if (condition.test(item)) {
+        unmatched.remove(key);
+      } else {
+        unmatched.add(key);
+      }
+    };
+
+    // only the changed item is re-evaluated, trapping any exceptions
+    Consumer<T> test = obj -> {
+      try {
+        if (seeded.compareAndSet(false, true)) {
+          // the first event is delivered once the initial state is in the store
+          informer.getStore().listKeys().forEach(track);
+        } else if (obj != null) {
+          track.accept(informer.getStore().getKey(obj));
+        }
+        if (!unmatched.isEmpty()) {
+          return;
+        }
+        if (!keys.isEmpty()) {
+          future.complete(informer.getStore().list());
+        } else if (condition.test(null)) {
+          future.complete(Collections.emptyList());
+        }
+      } catch (Exception e) {
+        future.completeExceptionally(e);
+      }
+    };
+
+    informer.addEventHandler(new ResourceEventHandler<T>() {
+      @Override
+      public void onAdd(T obj) {
+        test.accept(obj);
+      }
+
+      @Override
+      public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+        test.accept(obj);
+      }
+
+      @Override
+      public void onUpdate(T oldObj, T newObj) {
+        test.accept(newObj);
+      }
+
+      @Override
+      public void onNothing() {
+        test.accept(null);
+      }
+    }).start().whenComplete((v, t) -> {
+      if (t != null) {
+        future.completeExceptionally(t);
+      }
+    });
+    informer.stopped().whenComplete((v, t) -> {
+      if (t != null) {
+        future.completeExceptionally(t);
+      } else {
+        future.completeExceptionally(new KubernetesClientException("Informer was stopped"));
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Similar to {@link #informOnCondition(Predicate)}, but for many named items of this collection. A single informer
+   * is used for the whole collection rather than one per name, and each condition is only re-evaluated when its item
+   * changes.
+   *
+   * @param names the names of the items
+   * @param condition the condition to test for each item, which will be null if the item does not exist
+   * @return a future for each name, which completes with a singleton or empty list once the condition is met
+   */
+  List<CompletableFuture<List<T>>> informOnConditions(List<String> names, Predicate<T> condition) {
+    Map<String, CompletableFuture<List<T>>> futures = new LinkedHashMap<>();
+    List<CompletableFuture<List<T>>> result = names.stream()
+        .map(n -> futures.computeIfAbsent(n, k -> new CompletableFuture<>()))
+        .collect(Collectors.toList());
+
+    SharedIndexInformer<T> informer = this.createInformer(0, Runnable::run);
+
+    informer.initialState(Stream.empty());
+
+    // prevent unnecessary watches and handle closure
+    CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).whenComplete((r, t) -> informer.stop());
+
+    // cluster scoped items are keyed by their name only
+    String keyNamespace = isResourceNamespaced() ? namespace : null;
+    Consumer<String> test = name -> {
+      CompletableFuture<List<T>> future = futures.get(name);
+      if (future == null || future.isDone()) {
+        return;
+      }
+      try {
+        T item = informer.getStore().getByKey(Cache.namespaceKeyFunc(keyNamespace, name));
+        if (condition.test(item)) {
+          future.complete(item == null ? Collections.emptyList() : Collections.singletonList(item));
+        }
+      } catch (Exception e) {
+        future.completeExceptionally(e);
+      }
+    };
+
+    informer.addEventHandler(new ResourceEventHandler<T>() {
+      @Override
+      public void onAdd(T obj) {
+        test.accept(obj.getMetadata().getName());
+      }
+
+      @Override
+      public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+        test.accept(obj.getMetadata().getName());
+      }
+
+      @Override
+      public void onUpdate(T oldObj, T newObj) {
+        test.accept(newObj.getMetadata().getName());
+      }
+
+      @Override
+      public void onNothing() {
+        futures.keySet().forEach(test);
+      }
+    }).start().whenComplete((v, t) -> {
+      if (t != null) {
+        futures.values().forEach(f -> f.completeExceptionally(t));
+      } else {
+        // items that don't exist won't have seen an event
+        futures.keySet().forEach(test);
+      }
+    });
+    informer.stopped().whenComplete((v, t) -> {
+      Throwable cause = t != null ? t : new KubernetesClientException("Informer was stopped");
+      futures.values().forEach(f -> f.completeExceptionally(cause));
+    });
+    return result;
+  }
+
   public void setType(Class<T> type) {
     this.type = type;
   }
@@ -1072,7 +1269,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
     // use the local context / namespace but without a resourceVersion
     DefaultSharedIndexInformer<T, L> informer = new DefaultSharedIndexInformer<>(getType(),
-        this.withResourceVersion(null).withLimit(this.limit), resync, executor);
+        this.withResourceVersion(null).withLimit(this.limit), resync, executor, context.getScheduler());
     if (indexers != null) {
       informer.addIndexers(indexers);
     }
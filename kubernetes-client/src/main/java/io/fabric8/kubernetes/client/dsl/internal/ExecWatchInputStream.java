@@ -23,16 +23,23 @@ import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Provides an InputStream that is non-blocking to the producer
  * and that will request more input when needed.
+ * <p>
+ * Uses a {@link ReentrantLock} rather than a monitor so that a blocked reader
+ * does not pin its carrier when running on a virtual thread.
  */
 public class ExecWatchInputStream extends InputStream {
 
   private static final int BUFFER_SIZE = 1 << 15;
 
   private final LinkedList<ByteBuffer> buffers = new LinkedList<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
   private boolean complete;
   private boolean closed;
   private Throwable failed;
@@ -51,7 +58,8 @@ public class ExecWatchInputStream extends InputStream {
   }
 
   void onExit(Integer exitCode, Throwable t) {
-    synchronized (buffers) {
+    lock.lock();
+    try {
       if (complete) {
         return;
       }
@@ -61,12 +69,15 @@ public class ExecWatchInputStream extends InputStream {
       } else if (exitCode != null && exitCode != 0) {
         failed = new KubernetesClientException("process exited with a non-zero exit code: " + exitCode);
       }
-      buffers.notifyAll();
+      changed.signalAll();
+    } finally {
+      lock.unlock();
     }
   }
 
   void consume(List<ByteBuffer> value) {
-    synchronized (buffers) {
+    lock.lock();
+    try {
       if (closed) {
         // even if closed there may be other streams
         // so keep pulling
@@ -75,16 +86,19 @@ public class ExecWatchInputStream extends InputStream {
       }
       assert !complete || failed == null;
       buffers.addAll(value);
-      buffers.notifyAll();
+      changed.signalAll();
       if ((currentBuffer != null ? currentBuffer.remaining() : 0)
           + buffers.stream().mapToInt(ByteBuffer::remaining).sum() < bufferSize) {
         request.run();
       }
+    } finally {
+      lock.unlock();
     }
   }
 
   private ByteBuffer current() throws IOException {
-    synchronized (buffers) {
+    lock.lock();
+    try {
       while (currentBuffer == null || !currentBuffer.hasRemaining()) {
         // Check whether the stream is closed or exhausted
         if (closed) {
@@ -104,7 +118,7 @@ public class ExecWatchInputStream extends InputStream {
 
         if (currentBuffer == null && !complete) {
           try {
-            buffers.wait();
+            changed.await();
           } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new InterruptedIOException();
@@ -112,6 +126,8 @@ public class ExecWatchInputStream extends InputStream {
         }
       }
       return currentBuffer;
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -148,14 +164,17 @@ public class ExecWatchInputStream extends InputStream {
 
   @Override
   public void close() throws IOException {
-    synchronized (buffers) {
+    lock.lock();
+    try {
       if (this.closed) {
         return;
       }
       this.closed = true;
       requestMoreIfNeeded();
       this.buffers.clear();
-      buffers.notifyAll();
+      changed.signalAll();
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -142,6 +143,9 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
   private final SerialExecutor serialExecutor;
   private final AtomicBoolean closed = new AtomicBoolean(false);
   private final CompletableFuture<Integer> exitCode = new CompletableFuture<>();
+  // WebSocket.send copies as needed, so a single framing buffer is reused for every message
+  private final Object frameLock = new Object();
+  private ByteBuffer frame;
   private KubernetesSerialization serialization;
 
   public static String toString(ByteBuffer buffer) {
@@ -425,10 +429,16 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
     if (length > 0) {
       waitForQueue(length);
       WebSocket ws = webSocketRef.get();
-      byte[] toSend = new byte[length + 1];
-      toSend[0] = flag;
-      System.arraycopy(bytes, offset, toSend, 1, length);
-      if (!ws.send(ByteBuffer.wrap(toSend))) {
+      boolean sent;
+      synchronized (frameLock) {
+        if (frame == null || frame.capacity() < length + 1) {
+          frame = ByteBuffer.allocate(length + 1);
+        }
+        frame.clear();
+        frame.put(flag).put(bytes, offset, length).flip();
+        sent = ws.send(frame);
+      }
+      if (!sent) {
         this.exitCode.completeExceptionally(new IOException("could not send"));
       }
     }
@@ -472,14 +482,25 @@ public class ExecWebSocketListener implements ExecWatch, AutoCloseable, WebSocke
   }
 
   final void waitForQueue(int length) {
-    try {
-      while (webSocketRef.get().queueSize() + length > MAX_QUEUE_SIZE && !Thread.interrupted()) {
-        checkError();
-        Thread.sleep(50L);
+    WebSocket ws = webSocketRef.get();
+    long limit = Math.max(0, MAX_QUEUE_SIZE - length);
+    // another writer may fill the queue again before this one wakes up, so check again each time
+    while (ws.queueSize() > limit && !exitCode.isDone()) {
+      // wake up when the queue drains or the exec fails, whichever is first - with OkHttp, which has no write
+      // notifications, the queue size is still polled
+      CompletableFuture<Void> writable = ws.whenQueueSizeAtMost(limit);
+      try {
+        CompletableFuture.anyOf(writable, exitCode).get();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException ex) {
+        // reported by checkError
+      } finally {
+        writable.cancel(false);
       }
-    } catch (InterruptedException ex) {
-      Thread.currentThread().interrupt();
     }
+    checkError();
   }
 
   final void checkError() {
@@ -317,7 +317,7 @@ public class HasMetadataOperation<T extends HasMetadata, L extends KubernetesRes
     final String namespace = checkNamespace(getItem());
 
     CompletableFuture<Void> completion = new CompletableFuture<>();
-    Utils.scheduleWithVariableRate(completion, getOperationContext().getExecutor(), () -> {
+    Utils.scheduleWithVariableRate(context.getScheduler(), completion, context.getExecutor(), () -> {
       try {
         Scale scale = scale();
         int statusReplicas = Optional.ofNullable(scale.getStatus().getReplicas()).orElse(0);
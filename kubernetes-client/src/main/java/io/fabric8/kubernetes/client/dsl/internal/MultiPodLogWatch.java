@@ -0,0 +1,385 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.ContainerState;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.Informable;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.URLUtils;
+import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Follows the logs of every container of every pod seen by an informer, including pods and container restarts that
+ * happen after the watch has started, and merges them into a single {@link OutputStream}.
+ * <br>
+ * Each line is prefixed with [pod/container] and requested with timestamps. Writes for all of the streams happen
+ * through one {@link SerialExecutor}, so lines are never interleaved and at most one thread of the client executor is
+ * used regardless of the number of pods. A stream only requests more bytes once its previous batch has been written,
+ * so a slow output applies backpressure to all of the streams.
+ * <br>
+ * A stream that ends while its container may still be running is resumed from the timestamp of its last line on the
+ * next event for its pod, at the latest on the next resync. Lines with a timestamp up to that one are skipped.
+ */
+public class MultiPodLogWatch implements LogWatch, ResourceEventHandler<Pod> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MultiPodLogWatch.class);
+  private static final long RESYNC_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  private final PodOperationsImpl pods;
+  private final Predicate<Pod> filter;
+  private final OutputStream out;
+  private final HttpClient httpClient;
+  private final SerialExecutor serialExecutor;
+  private final Map<String, CompletableFuture<AsyncBody>> streams = new ConcurrentHashMap<>();
+  // streams that ended, with the timestamp of their last line or EPOCH if they had none
+  private final Map<String, Instant> ended = new ConcurrentHashMap<>();
+  // streams read to the end of a container that had already terminated
+  private final Set<String> finished = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final CompletableFuture<Throwable> onCloseFuture = new CompletableFuture<>();
+  private volatile SharedIndexInformer<Pod> informer;
+
+  /**
+   * @param pods pod operations for the namespace, with the log options to use for each stream
+   * @param filter which of the informed pods to follow
+   * @param out where to write the merged lines
+   */
+  public MultiPodLogWatch(PodOperationsImpl pods, Predicate<Pod> filter, OutputStream out) {
+    this.pods = pods;
+    this.filter = filter;
+    this.out = Objects.requireNonNull(out, "an OutputStream is required to watch multiple logs");
+    this.httpClient = pods.getOperationContext().getHttpClient();
+    this.serialExecutor = new SerialExecutor(pods.getOperationContext().getExecutor());
+  }
+
+  /**
+   * Start following the pods of the informable, which should already be filtered as much as possible.
+   */
+  public MultiPodLogWatch start(Informable<Pod> informable) {
+    SharedIndexInformer<Pod> started = informable.inform(this, RESYNC_MILLIS);
+    this.informer = started;
+    if (closed.get()) {
+      started.close();
+    }
+    return this;
+  }
+
+  @Override
+  public void onAdd(Pod pod) {
+    followContainers(pod);
+  }
+
+  @Override
+  public void onUpdate(Pod oldPod, Pod newPod) {
+    followContainers(newPod);
+  }
+
+  @Override
+  public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
+    String prefix = pod.getMetadata().getUid() + "/";
+    streams.entrySet().removeIf(e -> {
+      if (e.getKey().startsWith(prefix)) {
+        e.getValue().thenAccept(AsyncBody::cancel);
+        return true;
+      }
+      return false;
+    });
+    forget(prefix, null);
+  }
+
+  private void forget(String prefix, String keep) {
+    ended.keySet().removeIf(key -> key.startsWith(prefix) && !key.equals(keep));
+    finished.removeIf(key -> key.startsWith(prefix) && !key.equals(keep));
+  }
+
+  private void followContainers(Pod pod) {
+    if (closed.get() || !filter.test(pod) || pod.getStatus() == null) {
+      return;
+    }
+    String onlyContainer = pods.getContext().getContainerId();
+    for (ContainerStatus status : pod.getStatus().getContainerStatuses()) {
+      ContainerState state = status.getState();
+      if (onlyContainer != null && !onlyContainer.isEmpty() && !onlyContainer.equals(status.getName())) {
+        continue;
+      }
+      if (state == null || (state.getRunning() == null && state.getTerminated() == null)) {
+        continue; // nothing to read yet
+      }
+      // a restarted container is a new stream
+      String containerPrefix = pod.getMetadata().getUid() + "/" + status.getName() + "/";
+      String key = containerPrefix + Optional.ofNullable(status.getRestartCount()).orElse(0);
+      if (finished.contains(key)) {
+        continue;
+      }
+      CompletableFuture<AsyncBody> body = new CompletableFuture<>();
+      if (streams.putIfAbsent(key, body) == null) {
+        Instant since = ended.remove(key);
+        // the logs of earlier restarts are no longer followed
+        forget(containerPrefix, key);
+        follow(pod, status.getName(), key, body, since, state.getRunning() == null);
+      }
+    }
+  }
+
+  private void follow(Pod pod, String container, String key, CompletableFuture<AsyncBody> body, Instant since,
+      boolean terminated) {
+    URL url;
+    try {
+      String namespace = Optional.ofNullable(pod.getMetadata().getNamespace()).orElse(pods.getNamespace());
+      PodOperationContext context = pods.getContext().withContainerId(container).withTimestamps(true);
+      if (since != null && !Instant.EPOCH.equals(since)) {
+        context = context.toBuilder().sinceSeconds(null).tailingLines(null).sinceTimestamp(since.toString()).build();
+      }
+      String logParameters = context.getLogParameters();
+      url = new URL(URLUtils.join(pods.getResourceUrl(namespace, pod.getMetadata().getName()).toString(),
+          logParameters + "&follow=true"));
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+    HttpRequest request = httpClient.newHttpRequestBuilder().url(url).build();
+    LineWriter writer = new LineWriter("[" + pod.getMetadata().getName() + "/" + container + "] ", since);
+
+    httpClient.consumeBytes(request, (buffers, a) -> CompletableFuture.runAsync(() -> writer.write(buffers), serialExecutor)
+        .whenComplete((v, t) -> {
+          if (t != null) {
+            a.cancel();
+            onFailure(t);
+          } else if (!closed.get()) {
+            a.consume();
+          } else {
+            a.cancel();
+          }
+        })).whenComplete((r, e) -> {
+          if (e != null) {
+            // the container may have gone away, a later update will start a new stream if needed
+            LOGGER.debug("Could not follow the log of {}/{}", pod.getMetadata().getName(), container, e);
+            release(key, body, since, false);
+            return;
+          }
+          body.complete(r.body());
+          if (!r.isSuccessful()) {
+            LOGGER.debug("Could not follow the log of {}/{}: {}", pod.getMetadata().getName(), container, r.code());
+            r.body().cancel();
+            release(key, body, since, false);
+            return;
+          }
+          if (closed.get()) {
+            r.body().cancel();
+            return;
+          }
+          r.body().consume();
+          r.body().done().whenComplete((v, t) -> CompletableFuture.runAsync(writer::flush, serialExecutor)
+              .whenComplete((f, u) -> {
+                if (closed.get()) {
+                  return;
+                }
+                release(key, body, Optional.ofNullable(writer.lastTimestamp()).orElse(Instant.EPOCH),
+                    t == null && terminated);
+              }));
+        });
+  }
+
+  /**
+   * Stop tracking a stream as in flight, unless its pod was deleted in the meantime, so that the next event for the pod
+   * either resumes it from where it ended or skips it for good.
+   */
+  private void release(String key, CompletableFuture<AsyncBody> body, Instant resumeFrom, boolean complete) {
+    streams.computeIfPresent(key, (k, v) -> {
+      if (v != body) {
+        return v;
+      }
+      if (complete) {
+        finished.add(k);
+      } else if (resumeFrom != null) {
+        ended.put(k, resumeFrom);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Splits the bytes of a single stream into prefixed lines. Only used from the serial executor.
+   */
+  final class LineWriter {
+
+    private final byte[] prefix;
+    private final LineBuffer partial = new LineBuffer();
+    private final Instant since;
+    private boolean skipping;
+    private byte[] timestamp = new byte[0];
+
+    LineWriter(String prefix, Instant since) {
+      this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+      this.since = since;
+      this.skipping = since != null && !Instant.EPOCH.equals(since);
+      if (since != null) {
+        timestamp = since.toString().getBytes(StandardCharsets.US_ASCII);
+      }
+    }
+
+    /**
+     * @return the timestamp of the last line written, or of the resumed stream if there was none
+     */
+    Instant lastTimestamp() {
+      return parse(timestamp);
+    }
+
+    void write(List<ByteBuffer> buffers) {
+      try {
+        for (ByteBuffer buffer : buffers) {
+          while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            partial.write(b);
+            if (b == '\n') {
+              writeLine();
+            }
+          }
+        }
+        out.flush();
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    }
+
+    /**
+     * Write anything left from a stream that did not end with a newline
+     */
+    void flush() {
+      if (partial.size() == 0) {
+        return;
+      }
+      partial.write('\n');
+      try {
+        writeLine();
+        out.flush();
+      } catch (IOException e) {
+        onFailure(e);
+      }
+    }
+
+    private void writeLine() throws IOException {
+      byte[] lineTimestamp = partial.firstWord();
+      // sinceTime has a precision of seconds, so a resumed stream repeats lines
+      if (skipping) {
+        Instant instant = parse(lineTimestamp);
+        if (instant != null && !instant.isAfter(since)) {
+          partial.reset();
+          return;
+        }
+        skipping = false;
+      }
+      if (lineTimestamp.length > 0) {
+        timestamp = lineTimestamp;
+      }
+      out.write(prefix);
+      partial.writeTo(out);
+      partial.reset();
+    }
+  }
+
+  private static Instant parse(byte[] timestamp) {
+    try {
+      return timestamp.length == 0 ? null : Instant.parse(new String(timestamp, StandardCharsets.US_ASCII));
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private static final class LineBuffer extends ByteArrayOutputStream {
+
+    byte[] firstWord() {
+      for (int i = 0; i < count; i++) {
+        if (buf[i] == ' ') {
+          return Arrays.copyOf(buf, i);
+        }
+      }
+      return new byte[0];
+    }
+  }
+
+  @Override
+  public InputStream getOutput() {
+    return null;
+  }
+
+  @Override
+  public CompletionStage<Throwable> onClose() {
+    return onCloseFuture.minimalCompletionStage();
+  }
+
+  @Override
+  public void close() {
+    cleanUp(null);
+  }
+
+  private void cleanUp(Throwable u) {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    SharedIndexInformer<Pod> toClose = informer;
+    if (toClose != null) {
+      toClose.close();
+    }
+    streams.values().forEach(body -> body.thenAccept(AsyncBody::cancel));
+    streams.clear();
+    ended.clear();
+    finished.clear();
+    onCloseFuture.complete(u);
+    serialExecutor.shutdownNow();
+  }
+
+  private void onFailure(Throwable u) {
+    if (closed.get()) {
+      return;
+    }
+    LOGGER.error("Multi-pod log watch failure.", u);
+    cleanUp(u);
+  }
+
+}
@@ -33,12 +33,16 @@ import io.fabric8.kubernetes.client.dsl.NamespaceListVisitFromServerGetDeleteRec
 import io.fabric8.kubernetes.client.dsl.NamespaceableResource;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.Waitable;
+import io.fabric8.kubernetes.client.extension.ResourceAdapter;
+import io.fabric8.kubernetes.client.utils.internal.BulkOperationHelper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -112,17 +116,7 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
       return Collections.emptyList();
     }
     List<HasMetadata> items = operations.stream().map(Resource::item).collect(Collectors.toList());
-    final List<CompletableFuture<List<HasMetadata>>> futures = new ArrayList<>(items.size());
-    for (final Resource<HasMetadata> impl : operations) {
-      CompletableFuture<List<HasMetadata>> futureCondition = impl.informOnCondition(l -> {
-        if (l.isEmpty()) {
-          return condition.test(null);
-        }
-        return condition.test(l.get(0));
-      });
-
-      futures.add(futureCondition);
-    }
+    final List<CompletableFuture<List<HasMetadata>>> futures = informOnConditions(operations, condition);
 
     final List<HasMetadata> results = new ArrayList<>();
     final List<HasMetadata> itemsWithConditionNotMatched = new ArrayList<>();
@@ -158,6 +152,58 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
     return results;
   }
 
+  /**
+   * Items of the same collection - type and namespace - share a single informer, so that waiting on a large list
+   * does not need a watch per item.
+   */
+  private static List<CompletableFuture<List<HasMetadata>>> informOnConditions(
+      List<? extends Resource<HasMetadata>> operations, Predicate<HasMetadata> condition) {
+    Map<List<Object>, List<Integer>> groups = new LinkedHashMap<>();
+    for (int i = 0; i < operations.size(); i++) {
+      BaseOperation<HasMetadata, ?, ?> operation = asBaseOperation(operations.get(i));
+      List<Object> key = operation == null ? Collections.singletonList(i)
+          : Arrays.asList(operation.getType(), operation.getAPIGroupName(), operation.getAPIGroupVersion(),
+              operation.getResourceT(), operation.getNamespace());
+      groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+    }
+
+    List<CompletableFuture<List<HasMetadata>>> futures = new ArrayList<>(Collections.nCopies(operations.size(), null));
+    for (List<Integer> group : groups.values()) {
+      if (group.size() == 1) {
+        // a single item is cheaper to watch by name
+        int index = group.get(0);
+        futures.set(index, operations.get(index).informOnCondition(l -> {
+          if (l.isEmpty()) {
+            return condition.test(null);
+          }
+          return condition.test(l.get(0));
+        }));
+        continue;
+      }
+      BaseOperation<HasMetadata, ?, ?> operation = asBaseOperation(operations.get(group.get(0)));
+      BaseOperation<HasMetadata, ?, ?> collection = operation
+          .newInstance(operation.getOperationContext().withName(null).withItem(null));
+      List<CompletableFuture<List<HasMetadata>>> groupFutures = collection.informOnConditions(
+          group.stream().map(i -> asBaseOperation(operations.get(i)).getName()).collect(Collectors.toList()),
+          condition);
+      for (int i = 0; i < group.size(); i++) {
+        futures.set(group.get(i), groupFutures.get(i));
+      }
+    }
+    return futures;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BaseOperation<HasMetadata, ?, ?> asBaseOperation(Resource<HasMetadata> resource) {
+    while (resource instanceof ResourceAdapter) {
+      resource = ((ResourceAdapter<HasMetadata>) resource).getResource();
+    }
+    if (resource instanceof BaseOperation) {
+      return (BaseOperation<HasMetadata, ?, ?>) resource;
+    }
+    return null;
+  }
+
   @Override
   public ListVisitFromServerWritable<HasMetadata> dryRun(boolean isDryRun) {
     return newInstance(this.context.withDryRun(isDryRun));
@@ -169,25 +215,29 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
   }
 
   @Override
-  public List<HasMetadata> createOrReplace() {
-    List<? extends Resource<HasMetadata>> operations = getResources();
+  public ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> withParallelism(int parallelism) {
+    return newInstance(context.withParallelism(parallelism));
+  }
 
-    return operations.stream()
-        .map(Resource::createOrReplace)
+  @Override
+  public List<HasMetadata> createOrReplace() {
+    return performOperation(Resource::createOrReplace, "createOrReplace").stream()
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
 
   @Override
   public List<StatusDetails> delete() {
-    List<StatusDetails> deleted = resources().flatMap(r -> r.delete().stream()).collect(Collectors.toList());
+    List<StatusDetails> deleted = BulkOperationHelper
+        .execute(getItems(), i -> getResource(i).delete(), context.getParallelism(), context.getExecutor(), true, "delete")
+        .stream().flatMap(List::stream).collect(Collectors.toList());
     BaseOperation.waitForDelete(deleted, this.context, this);
     return deleted;
   }
 
   @Override
   public List<HasMetadata> get() {
-    return performOperation(Resource::get);
+    return getResources().stream().map(Resource::get).collect(Collectors.toList());
   }
 
   @Override
@@ -258,7 +308,7 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> create() {
-    return performOperation(Resource::create);
+    return performOperation(Resource::create, "create");
   }
 
   @Override
@@ -273,17 +323,18 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> replace() {
-    return performOperation(Resource::replace);
+    return performOperation(Resource::replace, "replace");
   }
 
   private List<HasMetadata> performOperation(
-      Function<? super NamespaceableResource<HasMetadata>, ? extends HasMetadata> operation) {
-    return getResources().stream().map(operation).collect(Collectors.toList());
+      Function<? super NamespaceableResource<HasMetadata>, ? extends HasMetadata> operation, String operationName) {
+    return BulkOperationHelper.execute(getItems(), i -> operation.apply(getResource(i)), context.getParallelism(),
+        context.getExecutor(), false, operationName);
   }
 
   @Override
   public List<HasMetadata> replaceStatus() {
-    return performOperation(Resource::replaceStatus);
+    return performOperation(Resource::replaceStatus, "replaceStatus");
   }
 
   @Override
@@ -298,17 +349,17 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> updateStatus() {
-    return performOperation(Resource::updateStatus);
+    return performOperation(Resource::updateStatus, "updateStatus");
   }
 
   @Override
   public List<HasMetadata> update() {
-    return performOperation(Resource::update);
+    return performOperation(Resource::update, "update");
   }
 
   @Override
   public List<HasMetadata> serverSideApply() {
-    return performOperation(Resource::serverSideApply);
+    return performOperation(Resource::serverSideApply, "serverSideApply");
   }
 
   @Override
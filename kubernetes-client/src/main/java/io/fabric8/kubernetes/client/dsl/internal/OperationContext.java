@@ -28,7 +28,9 @@ import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.impl.BaseClient;
 import io.fabric8.kubernetes.client.impl.ResourceHandler;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
+import io.fabric8.kubernetes.client.utils.HashedWheelScheduler;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.NoOpApplyCache;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -74,6 +76,7 @@ public class OperationContext {
 
   private long timeout;
   private TimeUnit timeoutUnit = TimeUnit.MILLISECONDS;
+  private int parallelism = 1;
 
   public OperationContext() {
   }
@@ -84,6 +87,7 @@ public class OperationContext {
         other.fieldsNot, other.resourceVersion, other.gracePeriodSeconds, other.propagationPolicy,
         other.dryRun, other.selectorAsString, other.defaultNamespace, other.fieldValidation, other.fieldManager,
         other.forceConflicts, other.timeout, other.timeoutUnit, other.requestConfig);
+    this.parallelism = other.parallelism;
   }
 
   @SuppressWarnings("java:S107")
@@ -266,6 +270,10 @@ public class OperationContext {
     return timeoutUnit;
   }
 
+  public int getParallelism() {
+    return parallelism;
+  }
+
   public String getLabelQueryParam() {
     if (Utils.isNotNullOrEmpty(selectorAsString)) {
       return selectorAsString;
@@ -527,6 +535,18 @@ public class OperationContext {
     return getClient().adapt(BaseClient.class).getExecutor();
   }
 
+  public HashedWheelScheduler getScheduler() {
+    return getClient().adapt(BaseClient.class).getScheduler();
+  }
+
+  public NoOpApplyCache getNoOpApplyCache() {
+    return getClient().adapt(BaseClient.class).getNoOpApplyCache();
+  }
+
+  public PortForwardSelector getPortForwardSelector() {
+    return getClient().adapt(BaseClient.class).getPortForwardSelector();
+  }
+
   public OperationContext withFieldValidation(Validation fieldValidation) {
     if (this.fieldValidation == fieldValidation) {
       return this;
@@ -561,6 +581,15 @@ public class OperationContext {
     return context;
   }
 
+  public OperationContext withParallelism(int parallelism) {
+    if (parallelism == this.parallelism) {
+      return this;
+    }
+    final OperationContext context = new OperationContext(this);
+    context.parallelism = parallelism;
+    return context;
+  }
+
   public OperationContext withRequestConfig(RequestConfig requestConfig) {
     if (requestConfig == this.requestConfig) {
       return this;
@@ -41,6 +41,7 @@ import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.NoOpApplyCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +81,8 @@ public class OperationSupport {
   protected String apiGroupName;
   protected String apiGroupVersion;
   protected boolean dryRun;
+  // the namespaced url of the context namespace and type, which most operations use, is only assembled once
+  private volatile URL contextNamespacedUrl;
 
   public OperationSupport(Client client) {
     this(new OperationContext().withClient(client));
@@ -143,9 +146,16 @@ public class OperationSupport {
   }
 
   protected URL getNamespacedUrl(String namespace, String type) throws MalformedURLException {
+    boolean contextUrl = Objects.equals(namespace, this.namespace) && Objects.equals(type, resourceT);
+    if (contextUrl && contextNamespacedUrl != null) {
+      return contextNamespacedUrl;
+    }
     List<String> parts = getRootUrlParts();
     addNamespacedUrlPathParts(parts, namespace, type);
     URL requestUrl = new URL(URLUtils.join(parts.toArray(new String[parts.size()])));
+    if (contextUrl) {
+      contextNamespacedUrl = requestUrl;
+    }
     return requestUrl;
   }
 
@@ -314,6 +324,7 @@ public class OperationSupport {
       deleteOptions.setDryRun(Collections.singletonList("All"));
     }
 
+    invalidateNoOpApplyCache(requestUrl);
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .delete(JSON, getKubernetesSerialization().asJson(deleteOptions)).url(requestUrl);
 
@@ -334,6 +345,11 @@ public class OperationSupport {
    */
   protected <T, I> T handleCreate(I resource, Class<T> outputType) throws InterruptedException, IOException {
     resource = correctNamespace(resource);
+    NoOpApplyCache cache = context.getNoOpApplyCache();
+    if (cache != null && resource instanceof HasMetadata && ((HasMetadata) resource).getMetadata() != null
+        && ((HasMetadata) resource).getMetadata().getName() != null) {
+      cache.invalidate(getResourceUrl(checkNamespace(resource), ((HasMetadata) resource).getMetadata().getName()).toString());
+    }
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .post(JSON, getKubernetesSerialization().asJson(resource))
         .url(getResourceURLForWriteOperation(getResourceUrl(checkNamespace(resource), null)));
@@ -352,9 +368,11 @@ public class OperationSupport {
    */
   protected <T> T handleUpdate(T updated, Class<T> type) throws IOException {
     updated = correctNamespace(updated);
+    URL resourceUrl = getResourceUrl(checkNamespace(updated), checkName(updated));
+    invalidateNoOpApplyCache(resourceUrl);
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .put(JSON, getKubernetesSerialization().asJson(updated))
-        .url(getResourceURLForWriteOperation(getResourceUrl(checkNamespace(updated), checkName(updated))));
+        .url(getResourceURLForWriteOperation(resourceUrl));
     return handleResponse(requestBuilder, type);
   }
 
@@ -393,10 +411,53 @@ public class OperationSupport {
     } else {
       patchForUpdate = getKubernetesSerialization().asJson(updated);
       current = updated; // use the updated to determine the path
+      NoOpApplyCache cache = context.getNoOpApplyCache();
+      if (cache != null && updated instanceof HasMetadata && !isDryRun(patchContext)
+          && (patchContext == null || patchContext.getPatchType() != PatchType.JSON)) {
+        return handleCachedPatch(cache, patchContext, updated, patchForUpdate, type);
+      }
     }
     return handlePatch(patchContext, current, patchForUpdate, type);
   }
 
+  /**
+   * A patch with the whole desired state is not sent again if it's the same as the last one applied through this client.
+   */
+  private <T> T handleCachedPatch(NoOpApplyCache cache, PatchContext patchContext, T updated, String patchForUpdate,
+      Class<T> type) throws InterruptedException, IOException {
+    String key = getResourceURLForPatchOperation(getResourceUrl(checkNamespace(updated), checkName(updated)), patchContext)
+        + ";" + getContentTypeFromPatchContextOrDefault(patchContext);
+    String resourceVersion = KubernetesResourceUtil.getResourceVersion((HasMetadata) updated);
+    // re-applying with the last observed resourceVersion should still match, so it's left out of the comparison
+    String desired = patchForUpdate;
+    if (resourceVersion != null) {
+      HasMetadata copy = (HasMetadata) getKubernetesSerialization().clone(updated);
+      copy.getMetadata().setResourceVersion(null);
+      desired = getKubernetesSerialization().asJson(copy);
+    }
+    Object applied = cache.get(key, desired, resourceVersion);
+    if (type.isInstance(applied)) {
+      return getKubernetesSerialization().clone(type.cast(applied));
+    }
+    T result = handlePatch(patchContext, updated, patchForUpdate, type);
+    if (result instanceof HasMetadata) {
+      cache.put(key, desired, resourceVersion, getKubernetesSerialization().clone(result),
+          KubernetesResourceUtil.getResourceVersion((HasMetadata) result));
+    }
+    return result;
+  }
+
+  private boolean isDryRun(PatchContext patchContext) {
+    return dryRun || (patchContext != null && patchContext.getDryRun() != null && !patchContext.getDryRun().isEmpty());
+  }
+
+  private void invalidateNoOpApplyCache(URL resourceUrl) {
+    NoOpApplyCache cache = context.getNoOpApplyCache();
+    if (cache != null) {
+      cache.invalidate(resourceUrl.toString());
+    }
+  }
+
   /**
    * Send an http patch and handle the response.
    *
@@ -412,10 +473,11 @@ public class OperationSupport {
   protected <T> T handlePatch(PatchContext patchContext, T current, String patchForUpdate, Class<T> type)
       throws InterruptedException, IOException {
     String bodyContentType = getContentTypeFromPatchContextOrDefault(patchContext);
+    URL resourceUrl = getResourceUrl(checkNamespace(current), checkName(current));
+    invalidateNoOpApplyCache(resourceUrl);
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .patch(bodyContentType, patchForUpdate)
-        .url(getResourceURLForPatchOperation(getResourceUrl(checkNamespace(current), checkName(current)),
-            patchContext));
+        .url(getResourceURLForPatchOperation(resourceUrl, patchContext));
     return handleResponse(requestBuilder, type);
   }
 
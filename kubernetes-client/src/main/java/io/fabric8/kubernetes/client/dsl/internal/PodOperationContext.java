@@ -67,6 +67,9 @@ public class PodOperationContext {
   private Integer bufferSize;
   private String file;
   private String dir;
+  private boolean compressed;
+  private Integer parallelism;
+  private boolean incremental;
   private boolean terminateOnError;
 
   private boolean rolling;
@@ -127,6 +130,18 @@ public class PodOperationContext {
     return this.toBuilder().dir(dir).build();
   }
 
+  public PodOperationContext withCompressed(boolean compressed) {
+    return this.toBuilder().compressed(compressed).build();
+  }
+
+  public PodOperationContext withParallelism(Integer parallelism) {
+    return this.toBuilder().parallelism(parallelism).build();
+  }
+
+  public PodOperationContext withIncremental(boolean incremental) {
+    return this.toBuilder().incremental(incremental).build();
+  }
+
   public PodOperationContext withReadyWaitTimeout(Integer readyWaitTimeout) {
     return this.toBuilder().readyWaitTimeout(readyWaitTimeout).build();
   }
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.CachedSingleThreadScheduler;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single selector loop serving the local sockets of all of the port forwards of a client.
+ * <br>
+ * Channels are registered with a {@link Handler} that is called on the selector thread whenever one of its interest ops
+ * is ready. Handlers must not block; anything that may block should be handed off, with the interest ops restored
+ * later through {@link #execute(Runnable)}.
+ * <br>
+ * Like the {@link io.fabric8.kubernetes.client.utils.HashedWheelScheduler} it uses a single daemon thread, which will
+ * terminate when no channel has been registered for the ttl.
+ */
+public class PortForwardSelector implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(PortForwardSelector.class);
+
+  public interface Handler {
+
+    /**
+     * Called on the selector thread with the ready key
+     */
+    void ready(SelectionKey key) throws IOException;
+
+  }
+
+  private final long ttlNanos;
+  private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+  private Selector selector;
+  private Thread worker;
+  private boolean closed;
+
+  public PortForwardSelector() {
+    this(CachedSingleThreadScheduler.DEFAULT_TTL_MILLIS);
+  }
+
+  /**
+   * @param ttlMillis how long the selector thread should be kept when no channel is registered
+   */
+  public PortForwardSelector(long ttlMillis) {
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+  }
+
+  /**
+   * Register the channel, which will be made non-blocking. The interest ops may later be changed from the handler or
+   * from a task passed to {@link #execute(Runnable)}.
+   *
+   * @return a future completed with the key once registered
+   */
+  public CompletableFuture<SelectionKey> register(SelectableChannel channel, int ops, Handler handler) {
+    CompletableFuture<SelectionKey> result = new CompletableFuture<>();
+    execute(() -> {
+      Selector current;
+      synchronized (this) {
+        current = selector;
+      }
+      try {
+        if (current == null) {
+          throw new ClosedSelectorException();
+        }
+        channel.configureBlocking(false);
+        result.complete(channel.register(current, ops, handler));
+      } catch (IOException | RuntimeException e) {
+        result.completeExceptionally(e);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Run the task on the selector thread.
+   */
+  public void execute(Runnable task) {
+    Selector toWake;
+    synchronized (this) {
+      if (closed) {
+        throw new KubernetesClientException("The port forward selector has been closed");
+      }
+      tasks.add(task);
+      if (worker == null) {
+        try {
+          selector = Selector.open();
+        } catch (IOException e) {
+          tasks.remove(task);
+          throw KubernetesClientException.launderThrowable(e);
+        }
+        worker = new Thread(this::loop, "fabric8-port-forward-selector");
+        worker.setDaemon(true);
+        worker.start();
+        return;
+      }
+      toWake = selector;
+    }
+    toWake.wakeup();
+  }
+
+  private void loop() {
+    Selector current;
+    synchronized (this) {
+      current = selector;
+    }
+    long idleSince = System.nanoTime();
+    try {
+      while (true) {
+        runTasks();
+        if (current.keys().isEmpty()) {
+          if (System.nanoTime() - idleSince >= ttlNanos && stopIfIdle(current)) {
+            return;
+          }
+        } else {
+          idleSince = System.nanoTime();
+        }
+        current.select(TimeUnit.NANOSECONDS.toMillis(ttlNanos) + 1);
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        for (Iterator<SelectionKey> iter = current.selectedKeys().iterator(); iter.hasNext();) {
+          SelectionKey key = iter.next();
+          iter.remove();
+          dispatch(key);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      logger.error("Port forward selector terminated unexpectedly", e);
+      synchronized (this) {
+        if (worker == Thread.currentThread()) {
+          worker = null;
+        }
+      }
+    } finally {
+      closeSelector(current);
+    }
+  }
+
+  private synchronized boolean stopIfIdle(Selector current) {
+    if (!tasks.isEmpty() || !current.keys().isEmpty()) {
+      return false;
+    }
+    worker = null;
+    selector = null;
+    return true;
+  }
+
+  private void runTasks() {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        logger.warn("Error running port forward selector task", e);
+      }
+    }
+  }
+
+  private static void dispatch(SelectionKey key) {
+    if (!key.isValid()) {
+      return;
+    }
+    try {
+      ((Handler) key.attachment()).ready(key);
+    } catch (ClosedChannelException e) {
+      key.cancel();
+    } catch (IOException | RuntimeException e) {
+      logger.debug("Error handling port forward channel, closing it", e);
+      key.cancel();
+      Utils.closeQuietly(key.channel());
+    }
+  }
+
+  private static void closeSelector(Selector selector) {
+    for (SelectionKey key : selector.keys()) {
+      Utils.closeQuietly(key.channel());
+    }
+    Utils.closeQuietly(selector);
+  }
+
+  /**
+   * Stop the selector thread and close all registered channels.
+   */
+  @Override
+  public void close() {
+    Thread toInterrupt;
+    Selector toWake;
+    synchronized (this) {
+      closed = true;
+      toInterrupt = worker;
+      toWake = selector;
+      worker = null;
+      selector = null;
+    }
+    tasks.clear();
+    if (toInterrupt != null) {
+      toInterrupt.interrupt();
+      toWake.wakeup();
+    }
+  }
+
+  synchronized boolean isRunning() {
+    return worker != null;
+  }
+
+}
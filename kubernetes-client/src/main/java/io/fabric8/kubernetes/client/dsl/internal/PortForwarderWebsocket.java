@@ -29,6 +29,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URL;
+import java.nio.channels.SelectionKey;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
@@ -54,11 +55,22 @@ public class PortForwarderWebsocket {
   private final HttpClient client;
   private final Executor executor;
   private final long connectTimeoutMills;
+  private final PortForwardSelector selector;
 
   public PortForwarderWebsocket(HttpClient client, Executor executor, long connectTimeoutMillis) {
+    this(client, executor, connectTimeoutMillis, null);
+  }
+
+  /**
+   * @param selector if not null, local connections are accepted and served by the selector rather than by threads
+   *        dedicated to each listening port and connection
+   */
+  public PortForwarderWebsocket(HttpClient client, Executor executor, long connectTimeoutMillis,
+      PortForwardSelector selector) {
     this.client = client;
     this.executor = executor;
     this.connectTimeoutMills = connectTimeoutMillis;
+    this.selector = selector;
   }
 
   public LocalPortForward forward(final URL resourceBaseUrl, final int port, final InetAddress localHost, final int localPort) {
@@ -69,7 +81,7 @@ public class PortForwarderWebsocket {
       final AtomicBoolean alive = new AtomicBoolean(true);
       final CopyOnWriteArrayList<PortForward> handles = new CopyOnWriteArrayList<>();
 
-      final ExecutorService executorService = Executors.newSingleThreadExecutor();
+      final ExecutorService executorService = selector == null ? Executors.newSingleThreadExecutor() : null;
 
       // Create a handle that can be used to retrieve information and stop the port-forward
       final LocalPortForward localPortForwardHandle = new LocalPortForward() {
@@ -80,7 +92,9 @@ public class PortForwarderWebsocket {
             server.close();
           } finally {
             Utils.closeQuietly(handles);
-            executorService.shutdownNow();
+            if (executorService != null) {
+              executorService.shutdownNow();
+            }
           }
         }
 
@@ -138,6 +152,28 @@ public class PortForwarderWebsocket {
 
       // Start listening on localhost for new connections.
       // Every new connection will open its own stream on the remote resource.
+      if (selector != null) {
+        selector.register(server, SelectionKey.OP_ACCEPT, key -> {
+          try {
+            SocketChannel socket;
+            while ((socket = server.accept()) != null) {
+              // the accepted sockets are ours, so they may be made non-blocking and served by the selector
+              handles.add(forward(resourceBaseUrl, port, socket, socket, selector));
+            }
+          } catch (IOException e) {
+            if (alive.get()) {
+              LOG.error("Error while listening for connections", e);
+            }
+            Utils.closeQuietly(localPortForwardHandle);
+          }
+        }).whenComplete((key, t) -> {
+          if (t != null) {
+            LOG.error("Error while listening for connections", t);
+            Utils.closeQuietly(localPortForwardHandle);
+          }
+        });
+        return localPortForwardHandle;
+      }
       executorService.execute(() -> {
         // accept cycle
         while (alive.get()) {
@@ -159,8 +195,16 @@ public class PortForwarderWebsocket {
     }
   }
 
+  /**
+   * Forward the given channels, which are served by threads and left in their blocking mode.
+   */
   public PortForward forward(URL resourceBaseUrl, int port, final ReadableByteChannel in, final WritableByteChannel out) {
-    final PortForwarderWebsocketListener listener = new PortForwarderWebsocketListener(in, out, executor);
+    return forward(resourceBaseUrl, port, in, out, null);
+  }
+
+  private PortForward forward(URL resourceBaseUrl, int port, final ReadableByteChannel in, final WritableByteChannel out,
+      PortForwardSelector selector) {
+    final PortForwarderWebsocketListener listener = new PortForwarderWebsocketListener(in, out, executor, selector);
     CompletableFuture<WebSocket> socket = client
         .newWebSocketBuilder()
         .uri(URI.create(URLUtils.join(resourceBaseUrl.toString(), "portforward?ports=" + port)))
@@ -25,6 +25,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
@@ -41,6 +43,7 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
   private static final String LOG_PREFIX = "FWD";
   private static final String PROTOCOL_ERROR = "Protocol error";
   private static final int BUFFER_SIZE = 4096;
+  private static final long MAX_QUEUE_SIZE = 1024 * 1024L;
 
   private final ExecutorService pumperService = Executors.newSingleThreadExecutor();
 
@@ -58,16 +61,47 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
 
   private int messagesRead = 0;
 
+  /**
+   * Non-null if the channel is served by the selector rather than by a pumper thread
+   */
+  private final PortForwardSelector selector;
+
+  // the following are only accessed from the selector thread
+  private SelectionKey key;
+  private ByteBuffer readBuffer;
+  private ByteBuffer pendingWrite;
+
   public PortForwarderWebsocketListener(ReadableByteChannel in, WritableByteChannel out, Executor executor) {
+    this(in, out, executor, null);
+  }
+
+  /**
+   * @param selector if not null, and in and out are the same {@link SelectableChannel}, the channel is made non-blocking
+   *        and served by the selector instead of a dedicated thread - so only pass one for channels owned by the client
+   */
+  public PortForwarderWebsocketListener(ReadableByteChannel in, WritableByteChannel out, Executor executor,
+      PortForwardSelector selector) {
     this.in = in;
     this.out = out;
     this.serialExecutor = new SerialExecutor(executor);
+    this.selector = in != null && in == out && in instanceof SelectableChannel ? selector : null;
   }
 
   @Override
   public void onOpen(final WebSocket webSocket) {
     logger.debug("{}: onOpen", LOG_PREFIX);
-    if (in != null) {
+    if (selector != null) {
+      readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+      selector.register((SelectableChannel) in, SelectionKey.OP_READ, k -> ready(webSocket, k))
+          // the future may already be complete, so hand the key over on the selector thread rather than this one
+          .whenCompleteAsync((k, t) -> {
+            if (t != null) {
+              clientError(webSocket, "registering the client channel", t);
+            } else {
+              registered(webSocket, k);
+            }
+          }, task -> onSelector(webSocket, task));
+    } else if (in != null) {
       pumperService.execute(() -> {
         try {
           pipe(in, webSocket, alive::get);
@@ -81,7 +115,7 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
     }
   }
 
-  private void clientError(final WebSocket webSocket, String operation, Exception e) {
+  private void clientError(final WebSocket webSocket, String operation, Throwable e) {
     if (alive.get()) {
       logger.debug("Error while " + operation, e);
       clientThrowables.add(e);
@@ -128,7 +162,12 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
       closeForwarder();
     } else {
       // Data
-      if (out != null) {
+      if (selector != null) {
+        onSelector(webSocket, () -> {
+          pendingWrite = buffer;
+          flush(webSocket);
+        });
+      } else if (out != null) {
         serialExecutor.execute(() -> {
           try {
             while (buffer.hasRemaining()) {
@@ -209,6 +248,90 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
     });
   }
 
+  private void onSelector(WebSocket webSocket, Runnable task) {
+    try {
+      selector.execute(task);
+    } catch (KubernetesClientException e) {
+      clientError(webSocket, "using the port forward selector", e);
+    }
+  }
+
+  private void registered(WebSocket webSocket, SelectionKey registeredKey) {
+    if (key == null) {
+      key = registeredKey;
+    }
+    if (pendingWrite != null) {
+      // data arrived before the registration completed
+      flush(webSocket);
+    }
+  }
+
+  private void ready(WebSocket webSocket, SelectionKey readyKey) {
+    key = readyKey;
+    if (key.isWritable() && pendingWrite != null) {
+      flush(webSocket);
+    }
+    if (key.isValid() && key.isReadable()) {
+      read(webSocket);
+    }
+  }
+
+  /**
+   * Send what is available from the channel, and stop reading while the websocket queue is full
+   */
+  private void read(WebSocket webSocket) {
+    try {
+      int read;
+      do {
+        readBuffer.clear();
+        readBuffer.put((byte) 0); // channel byte
+        read = in.read(readBuffer);
+        if (read > 0) {
+          readBuffer.flip();
+          webSocket.send(readBuffer);
+        }
+      } while (read > 0 && alive.get() && webSocket.queueSize() <= MAX_QUEUE_SIZE);
+      if (read < 0 || !alive.get()) {
+        interest(SelectionKey.OP_READ, false);
+      } else if (read > 0) {
+        interest(SelectionKey.OP_READ, false);
+        webSocket.whenQueueSizeAtMost(MAX_QUEUE_SIZE / 2)
+            .thenRun(() -> onSelector(webSocket, () -> interest(SelectionKey.OP_READ, alive.get())));
+      }
+    } catch (IOException e) {
+      clientError(webSocket, "writing client data", e);
+    }
+  }
+
+  /**
+   * Write the pending message, and only request the next one once it has been fully written
+   */
+  private void flush(WebSocket webSocket) {
+    if (key == null) {
+      // not yet registered, registered(...) will flush
+      return;
+    }
+    try {
+      while (pendingWrite.hasRemaining()) {
+        if (out.write(pendingWrite) == 0) {
+          interest(SelectionKey.OP_WRITE, true);
+          return;
+        }
+      }
+      pendingWrite = null;
+      interest(SelectionKey.OP_WRITE, false);
+      webSocket.request();
+    } catch (IOException e) {
+      clientError(webSocket, "forwarding data to the client", e);
+    }
+  }
+
+  private void interest(int op, boolean enabled) {
+    if (key != null && key.isValid()) {
+      key.interestOps(enabled ? key.interestOps() | op : key.interestOps() & ~op);
+    }
+  }
+
   private static void pipe(ReadableByteChannel in, WebSocket webSocket, BooleanSupplier isAlive)
       throws IOException, InterruptedException {
     final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
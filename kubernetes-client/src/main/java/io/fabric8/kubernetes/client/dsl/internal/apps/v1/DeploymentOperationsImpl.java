@@ -36,6 +36,7 @@ import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
+import io.fabric8.kubernetes.client.utils.internal.PodOperationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -175,6 +176,17 @@ public class DeploymentOperationsImpl
     return findFirstPodResource().map(it -> it.watchLog(out)).orElse(null);
   }
 
+  /**
+   * Pods are owned by the replica sets of the deployment, which change with each rollout, so all of the pods matching
+   * the deployment labels are followed.
+   */
+  @Override
+  public LogWatch watchAllLogs(OutputStream out) {
+    Deployment deployment = requireFromServer();
+    return PodOperationUtil.watchAllLogs(context, rollingOperationContext, null, getDeploymentSelectorLabels(deployment),
+        out);
+  }
+
   private Optional<RollableScalableResource<ReplicaSet>> findFirstPodResource() {
     List<RollableScalableResource<ReplicaSet>> podResources = doGetLog();
     if (!podResources.isEmpty()) {
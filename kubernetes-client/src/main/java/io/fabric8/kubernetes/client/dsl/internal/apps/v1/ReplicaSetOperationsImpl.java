@@ -118,6 +118,12 @@ public class ReplicaSetOperationsImpl
     return PodOperationUtil.watchLog(doGetLog(), out);
   }
 
+  @Override
+  public LogWatch watchAllLogs(OutputStream out) {
+    ReplicaSet replicaSet = requireFromServer();
+    return PodOperationUtil.watchAllLogs(context, rollingOperationContext, replicaSet.getMetadata().getUid(), getReplicaSetSelectorLabels(replicaSet), out);
+  }
+
   static Map<String, String> getReplicaSetSelectorLabels(ReplicaSet replicaSet) {
     Map<String, String> labels = new HashMap<>();
 
@@ -121,6 +121,12 @@ public class StatefulSetOperationsImpl
     return PodOperationUtil.watchLog(doGetLog(), out);
   }
 
+  @Override
+  public LogWatch watchAllLogs(OutputStream out) {
+    StatefulSet statefulSet = requireFromServer();
+    return PodOperationUtil.watchAllLogs(context, rollingOperationContext, statefulSet.getMetadata().getUid(), getStatefulSetSelectorLabels(statefulSet), out);
+  }
+
   @Override
   public StatefulSet restart() {
     return RollingUpdater.restart(this);
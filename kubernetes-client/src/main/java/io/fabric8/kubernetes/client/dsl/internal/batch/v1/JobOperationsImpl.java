@@ -150,6 +150,12 @@ public class JobOperationsImpl extends HasMetadataOperation<Job, JobList, Scalab
     return PodOperationUtil.watchLog(doGetLog(), out);
   }
 
+  @Override
+  public LogWatch watchAllLogs(OutputStream out) {
+    Job job = requireFromServer();
+    return PodOperationUtil.watchAllLogs(context, podControllerOperationContext, job.getMetadata().getUid(), getJobPodLabels(job), out);
+  }
+
   @Override
   public Loggable withLogWaitTimeout(Integer logWaitTimeout) {
     return withReadyWaitTimeout(logWaitTimeout);
@@ -52,14 +52,15 @@ import io.fabric8.kubernetes.client.dsl.internal.ExecWebSocketListener;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperation;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
 import io.fabric8.kubernetes.client.dsl.internal.LogWatchCallback;
+import io.fabric8.kubernetes.client.dsl.internal.MultiPodLogWatch;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext.StreamContext;
 import io.fabric8.kubernetes.client.dsl.internal.PortForwarderWebsocket;
+import io.fabric8.kubernetes.client.dsl.internal.uploadable.PodDownload;
 import io.fabric8.kubernetes.client.dsl.internal.uploadable.PodUpload;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.WebSocket;
-import io.fabric8.kubernetes.client.lib.FilenameUtils;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.URLUtils.URLBuilder;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -90,6 +91,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import static io.fabric8.kubernetes.client.utils.internal.OptionalDependencyWrapper.wrapRunWithOptionalDependency;
 
@@ -192,6 +194,17 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
     }
   }
 
+  /**
+   * Follows all of the containers of the pod, including restarts
+   */
+  @Override
+  public LogWatch watchAllLogs(OutputStream out) {
+    checkForPiped(out);
+    PodOperationsImpl podOperations = PodOperationUtil.getGenericPodOperations(context, getContext());
+    return new MultiPodLogWatch(podOperations, pod -> true, out)
+        .start(podOperations.withField("metadata.name", checkName(null)));
+  }
+
   @Override
   public PodOperationsImpl withReadyWaitTimeout(Integer readyWaitTimeout) {
     return new PodOperationsImpl(getContext().withReadyWaitTimeout(readyWaitTimeout), context);
@@ -205,7 +218,8 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   @Override
   public PortForward portForward(int port, ReadableByteChannel in, WritableByteChannel out) {
     try {
-      return new PortForwarderWebsocket(httpClient, this.context.getExecutor(), getRequestConfig().getRequestTimeout())
+      return new PortForwarderWebsocket(httpClient, this.context.getExecutor(), getRequestConfig().getRequestTimeout(),
+          this.context.getPortForwardSelector())
           .forward(getResourceUrl(), port, in, out);
     } catch (Exception e) {
       throw KubernetesClientException.launderThrowable(e);
@@ -225,7 +239,8 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   @Override
   public LocalPortForward portForward(int port, InetAddress localInetAddress, int localPort) {
     try {
-      return new PortForwarderWebsocket(httpClient, this.context.getExecutor(), getRequestConfig().getRequestTimeout())
+      return new PortForwarderWebsocket(httpClient, this.context.getExecutor(), getRequestConfig().getRequestTimeout(),
+          this.context.getPortForwardSelector())
           .forward(getResourceUrl(), port, localInetAddress, localPort);
     } catch (MalformedURLException ex) {
       throw KubernetesClientException.launderThrowable(ex);
@@ -398,6 +413,22 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
     return new PodOperationsImpl(getContext().withDir(dir), context);
   }
 
+  @Override
+  public PodOperationsImpl withCompression() {
+    return new PodOperationsImpl(getContext().withCompressed(true), context);
+  }
+
+  @Override
+  public PodOperationsImpl withParallelism(int streams) {
+    // both the copy streams and the deletes that span several requests
+    return new PodOperationsImpl(getContext().withParallelism(streams), context.withParallelism(streams));
+  }
+
+  @Override
+  public PodOperationsImpl withIncrementalCopy() {
+    return new PodOperationsImpl(getContext().withIncremental(true), context);
+  }
+
   @Override
   public boolean copy(Path destination) {
     try {
@@ -455,6 +486,9 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   }
 
   private InputStream readFile(String source) {
+    if (getContext().isCompressed()) {
+      return gunzip(read("sh", "-c", String.format("gzip -c %s", shellQuote(source))));
+    }
     return read(readFileCommand(source));
   }
 
@@ -476,6 +510,14 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
       destination = destination.toPath().resolve(filename).toFile();
     }
 
+    if (getContext().isCompressed()) {
+      try (InputStream in = readFile(source)) {
+        Files.copy(in, destination.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      } catch (Exception e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+      return;
+    }
     try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(destination.toPath()))) {
       ExecWatch w = writingOutput(out).exec(readFileCommand(source));
       w.exitCode().get();
@@ -485,58 +527,30 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   }
 
   public InputStream readTar(String source) {
+    if (getContext().isCompressed()) {
+      return gunzip(read("sh", "-c", "tar -czf - " + shellQuote(source)));
+    }
     return read("sh", "-c", "tar -cf - " + shellQuote(source));
   }
 
+  private static InputStream gunzip(InputStream is) {
+    try {
+      return new GZIPInputStream(is);
+    } catch (IOException e) {
+      Utils.closeQuietly(is);
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
   private InputStream read(String... command) {
     ExecWatch watch = redirectingOutput().exec(command);
     return watch.getOutput();
   }
 
   private void copyDir(String source, File target) throws Exception {
-    //Let's wrap the code to a runnable inner class to avoid NoClassDef on Option classes.
+    // PodDownload is only loaded here to avoid NoClassDef on the optional classes.
     try {
-      new Runnable() {
-        @Override
-        public void run() {
-          File destination = target;
-          if (!destination.isDirectory() && !destination.mkdirs())
-
-          {
-            throw KubernetesClientException.launderThrowable(new IOException("Failed to create directory: " + destination));
-          }
-          try (
-              InputStream is = readTar(source);
-              org.apache.commons.compress.archivers.tar.TarArchiveInputStream tis = new org.apache.commons.compress.archivers.tar.TarArchiveInputStream(
-                  is))
-
-          {
-            for (org.apache.commons.compress.archivers.ArchiveEntry entry = tis.getNextTarEntry(); entry != null; entry = tis
-                .getNextEntry()) {
-              if (tis.canReadEntryData(entry)) {
-                final String normalizedEntryName = FilenameUtils.normalize(entry.getName());
-                if (normalizedEntryName == null) {
-                  throw new IOException("Tar entry '" + entry.getName() + "' has an invalid name");
-                }
-                File f = new File(destination, normalizedEntryName);
-                if (entry.isDirectory()) {
-                  if (!f.isDirectory() && !f.mkdirs()) {
-                    throw new IOException("Failed to create directory: " + f);
-                  }
-                } else {
-                  File parent = f.getParentFile();
-                  if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException("Failed to create directory: " + f);
-                  }
-                  Files.copy(tis, f.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                }
-              }
-            }
-          } catch (Exception e) {
-            throw KubernetesClientException.launderThrowable(e);
-          }
-        }
-      }.run();
+      PodDownload.copyDir(this, source, target);
     } catch (NoClassDefFoundError e) {
       throw new KubernetesClientException(
           "TarArchiveInputStream class is provided by commons-compress, an optional dependency. To use the read/copy functionality you must explicitly add commons-compress and commons-io dependency to the classpath.");
@@ -122,6 +122,12 @@ public class ReplicationControllerOperationsImpl extends
     return PodOperationUtil.watchLog(doGetLog(), out);
   }
 
+  @Override
+  public LogWatch watchAllLogs(OutputStream out) {
+    ReplicationController rc = requireFromServer();
+    return PodOperationUtil.watchAllLogs(context, rollingOperationContext, rc.getMetadata().getUid(), getReplicationControllerPodLabels(rc), out);
+  }
+
   static Map<String, String> getReplicationControllerPodLabels(ReplicationController replicationController) {
     Map<String, String> labels = new HashMap<>();
     if (replicationController != null && replicationController.getSpec() != null
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal.uploadable;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import io.fabric8.kubernetes.client.lib.FilenameUtils;
+import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.BulkOperationHelper;
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl.shellQuote;
+
+/**
+ * Copies directories out of a pod as tar streams, optionally gzip compressed on the pod side, split across concurrent
+ * exec streams, and skipping files that are unchanged locally.
+ */
+public class PodDownload {
+
+  static final class RemoteFile {
+    final boolean directory;
+    final long size;
+    final long modifiedSeconds;
+    final String path;
+
+    RemoteFile(boolean directory, long size, long modifiedSeconds, String path) {
+      this.directory = directory;
+      this.size = size;
+      this.modifiedSeconds = modifiedSeconds;
+      this.path = path;
+    }
+  }
+
+  private PodDownload() {
+  }
+
+  /**
+   * Copy the source directory to below the target, as tar does - so the target will contain the full source path.
+   */
+  public static void copyDir(PodOperationsImpl operation, String source, File target) throws IOException {
+    if (!target.isDirectory() && !target.mkdirs()) {
+      throw new IOException("Failed to create directory: " + target);
+    }
+    Integer parallelism = operation.getContext().getParallelism();
+    if (!operation.getContext().isIncremental() && (parallelism == null || parallelism <= 1)) {
+      try (InputStream is = operation.readTar(source)) {
+        extractTar(is, target, false);
+      }
+      return;
+    }
+    List<RemoteFile> toCopy = new ArrayList<>();
+    for (RemoteFile file : list(operation, source)) {
+      File local = localFile(target, file.path);
+      if (file.directory) {
+        if (!local.isDirectory() && !local.mkdirs()) {
+          throw new IOException("Failed to create directory: " + local);
+        }
+      } else if (!operation.getContext().isIncremental() || !isUnchanged(file, local)) {
+        toCopy.add(file);
+      }
+    }
+    if (toCopy.isEmpty()) {
+      return;
+    }
+    List<List<RemoteFile>> groups = BulkOperationHelper.partition(toCopy, f -> f.size,
+        parallelism == null ? 1 : parallelism);
+    BulkOperationHelper.execute(groups, group -> {
+      try {
+        copyFiles(operation, group, target);
+        return null;
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    }, groups.size(), operation.getOperationContext().getExecutor(), "copy");
+  }
+
+  static boolean isUnchanged(RemoteFile file, File local) {
+    return local.isFile() && local.length() == file.size && local.lastModified() / 1000 == file.modifiedSeconds;
+  }
+
+  private static List<RemoteFile> list(PodOperationsImpl operation, String source) throws IOException {
+    List<RemoteFile> result = new ArrayList<>();
+    ExecWatch watch = operation.redirectingOutput().exec("sh", "-c", listCommand(source));
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(watch.getOutput(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        RemoteFile file = parseListing(line);
+        if (file != null) {
+          result.add(file);
+        }
+      }
+    } finally {
+      watch.close();
+    }
+    return result;
+  }
+
+  /**
+   * Lists the directories and regular files, symbolic links and other special files are not copied.
+   */
+  static String listCommand(String source) {
+    String quoted = shellQuote(safePath(source));
+    return String.format(
+        "find %1$s -type d -exec stat -c 'd %%s %%Y %%n' {} + && find %1$s -type f -exec stat -c 'f %%s %%Y %%n' {} +",
+        quoted);
+  }
+
+  /**
+   * Relative paths are prefixed with ./ so that neither find nor tar can take a name starting with - for an option.
+   * Unlike --verbatim-files-from this also works with busybox tar.
+   */
+  static String safePath(String path) {
+    return path.startsWith("/") || path.startsWith("./") ? path : "./" + path;
+  }
+
+  static RemoteFile parseListing(String line) {
+    String[] parts = line.split(" ", 4);
+    if (parts.length < 4 || (!parts[0].equals("d") && !parts[0].equals("f"))) {
+      return null;
+    }
+    try {
+      return new RemoteFile(parts[0].equals("d"), Long.parseLong(parts[1]), Long.parseLong(parts[2]), parts[3]);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * The exec stdin cannot be closed, so the names are read up to an empty line and then passed on to tar.
+   */
+  static String copyCommand(boolean compressed) {
+    return "while IFS= read -r f && [ -n \"$f\" ]; do printf '%s\\n' \"$f\"; done | "
+        + (compressed ? "tar -czf - -T -" : "tar -cf - -T -");
+  }
+
+  private static void copyFiles(PodOperationsImpl operation, List<RemoteFile> files, File target) throws IOException {
+    boolean compressed = operation.getContext().isCompressed();
+    try (ExecWatch watch = operation.redirectingInput().redirectingOutput().exec("sh", "-c", copyCommand(compressed))) {
+      // tar starts writing before it has read all of the names, so they are fed while the output is read - from a
+      // thread of their own, as the client executor may be bounded and busy running the other groups
+      CompletableFuture<Void> namesWritten = new CompletableFuture<>();
+      Utils.daemonThreadFactory(watch).newThread(() -> {
+        try (OutputStream names = watch.getInput()) {
+          for (RemoteFile file : files) {
+            names.write((safePath(file.path) + "\n").getBytes(StandardCharsets.UTF_8));
+          }
+          names.write('\n');
+          namesWritten.complete(null);
+        } catch (IOException | RuntimeException e) {
+          namesWritten.completeExceptionally(KubernetesClientException.launderThrowable(e));
+        }
+      }).start();
+      InputStream is = watch.getOutput();
+      try (InputStream tar = compressed ? new GZIPInputStream(is) : is) {
+        extractTar(tar, target, true);
+      }
+      Utils.waitUntilReadyOrFail(namesWritten, -1, TimeUnit.MILLISECONDS);
+      Utils.waitUntilReadyOrFail(watch.exitCode(), operation.getRequestConfig().getRequestTimeout(), TimeUnit.MILLISECONDS);
+      Integer exitCode = watch.exitCode().getNow(null);
+      if (exitCode == null || exitCode != 0) {
+        throw new IOException("Copying " + files.size() + " files failed, tar exited with code " + exitCode);
+      }
+    }
+  }
+
+  /**
+   * Extract the tar stream below the destination
+   *
+   * @param keepModified true to set the modification time of extracted files from the tar entries
+   */
+  public static void extractTar(InputStream is, File destination, boolean keepModified) throws IOException {
+    try (TarArchiveInputStream tis = new TarArchiveInputStream(is)) {
+      for (ArchiveEntry entry = tis.getNextEntry(); entry != null; entry = tis.getNextEntry()) {
+        if (!tis.canReadEntryData(entry)) {
+          continue;
+        }
+        File f = localFile(destination, entry.getName());
+        if (entry.isDirectory()) {
+          if (!f.isDirectory() && !f.mkdirs()) {
+            throw new IOException("Failed to create directory: " + f);
+          }
+        } else {
+          File parent = f.getParentFile();
+          if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Failed to create directory: " + f);
+          }
+          Files.copy(tis, f.toPath(), StandardCopyOption.REPLACE_EXISTING);
+          if (keepModified) {
+            f.setLastModified(entry.getLastModifiedDate().getTime());
+          }
+        }
+      }
+    }
+  }
+
+  private static File localFile(File destination, String name) throws IOException {
+    // tar strips the leading slash from absolute names
+    final String normalizedEntryName = FilenameUtils.normalize(name.startsWith("/") ? name.substring(1) : name);
+    if (normalizedEntryName == null) {
+      throw new IOException("Tar entry '" + name + "' has an invalid name");
+    }
+    return new File(destination, normalizedEntryName);
+  }
+
+}
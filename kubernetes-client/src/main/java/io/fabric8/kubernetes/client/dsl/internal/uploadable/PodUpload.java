@@ -15,10 +15,12 @@
  */
 package io.fabric8.kubernetes.client.dsl.internal.uploadable;
 
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.ExecWatch;
 import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
 import io.fabric8.kubernetes.client.utils.InputStreamPumper;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.BulkOperationHelper;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.utils.CountingOutputStream;
@@ -33,9 +35,15 @@ import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
 import static io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl.shellQuote;
 import static io.fabric8.kubernetes.client.utils.Utils.generateId;
@@ -45,6 +53,7 @@ public class PodUpload {
   private static final Logger LOG = LoggerFactory.getLogger(PodUpload.class);
 
   private static final String TAR_PATH_DELIMITER = "/";
+  private static final int BUFFER_SIZE = 8192;
 
   private PodUpload() {
   }
@@ -53,6 +62,9 @@ public class PodUpload {
       throws IOException {
 
     final File toUpload = pathToUpload.toFile();
+    if (operation.getContext().isCompressed()) {
+      return uploadCompressed(operation, toUpload);
+    }
     if (Utils.isNotNullOrEmpty(operation.getContext().getFile()) && toUpload.isFile()) {
       return uploadTar(operation, getDirectoryFromFile(operation.getContext().getFile()),
           tar -> addFileToTar(new File(operation.getContext().getFile()).getName(), toUpload, tar));
@@ -66,6 +78,23 @@ public class PodUpload {
     throw new IllegalArgumentException("Provided arguments are not valid (file, directory, path)");
   }
 
+  private static boolean uploadCompressed(PodOperationsImpl operation, File toUpload) throws IOException {
+    if (Utils.isNotNullOrEmpty(operation.getContext().getFile()) && toUpload.isFile()) {
+      String name = new File(operation.getContext().getFile()).getName();
+      return uploadCompressedTar(operation, getDirectoryFromFile(operation.getContext().getFile()),
+          Collections.singletonList(Collections.singletonList(new AbstractMap.SimpleEntry<>(name, toUpload))));
+    } else if (Utils.isNotNullOrEmpty(operation.getContext().getDir()) && toUpload.isDirectory()) {
+      List<Map.Entry<String, File>> entries = new ArrayList<>();
+      for (File file : Objects.requireNonNull(toUpload.listFiles())) {
+        collectEntries(file.getName(), file, entries);
+      }
+      Integer parallelism = operation.getContext().getParallelism();
+      return uploadCompressedTar(operation, ensureEndsWithSlash(operation.getContext().getDir()),
+          partition(entries, parallelism == null ? 1 : parallelism));
+    }
+    throw new IllegalArgumentException("Provided arguments are not valid (file, directory, path)");
+  }
+
   private static String getDirectoryFromFile(String file) {
     String directoryTrimmedFromFilePath = file.substring(0, file.lastIndexOf('/'));
     return ensureEndsWithSlash(directoryTrimmedFromFilePath.isEmpty() ? "/" : directoryTrimmedFromFilePath);
@@ -124,6 +153,14 @@ public class PodUpload {
 
   public static boolean uploadFileData(PodOperationsImpl operation, InputStream inputStream)
       throws IOException {
+    if (operation.getContext().isCompressed()) {
+      String file = operation.getContext().getFile();
+      return uploadCompressed(operation, createExecCommandForCompressedUpload(file), os -> {
+        try (GZIPOutputStream gzip = new GZIPOutputStream(os, BUFFER_SIZE)) {
+          InputStreamPumper.transferTo(inputStream, gzip::write);
+        }
+      });
+    }
     return upload(operation, operation.getContext().getFile(), os -> InputStreamPumper.transferTo(inputStream, os::write));
   }
 
@@ -164,6 +201,95 @@ public class PodUpload {
 
   }
 
+  /**
+   * Stream each group of entries as a gzip compressed tar directly into tar on the pod, one exec per group with the
+   * groups running concurrently.
+   * <br>
+   * Integrity is checked by the extraction itself - a corrupt or truncated stream fails the gzip checksum or length
+   * check and so the exit code.
+   */
+  private static boolean uploadCompressedTar(PodOperationsImpl operation, String directory,
+      List<List<Map.Entry<String, File>>> groups) {
+    String command = extractCompressedTarCommand(directory);
+    List<Boolean> results = BulkOperationHelper.execute(groups, group -> {
+      try {
+        return uploadCompressed(operation, command, os -> {
+          try (TarArchiveOutputStream tar = new TarArchiveOutputStream(new GZIPOutputStream(os, BUFFER_SIZE))) {
+            tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+            for (Map.Entry<String, File> entry : group) {
+              tar.putArchiveEntry(new TarArchiveEntry(entry.getValue(), entry.getKey()));
+              if (entry.getValue().isFile()) {
+                Files.copy(entry.getValue().toPath(), tar);
+              }
+              tar.closeArchiveEntry();
+            }
+          }
+        });
+      } catch (IOException e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    }, groups.size(), operation.getOperationContext().getExecutor(), "upload");
+    return results.stream().allMatch(Boolean.TRUE::equals);
+  }
+
+  private static boolean uploadCompressed(PodOperationsImpl operation, String command,
+      UploadProcessor<OutputStream> processor) throws IOException {
+    int uploadRequestTimeout = operation.getRequestConfig().getUploadRequestTimeout();
+    long uploadRequestTimeoutEnd = uploadRequestTimeout < 0 ? Long.MAX_VALUE
+        : uploadRequestTimeout + System.currentTimeMillis();
+    CompletableFuture<Integer> exitFuture;
+    try (ExecWatch execWatch = operation.redirectingInput().terminateOnError().exec("sh", "-c", command)) {
+      OutputStream out = execWatch.getInput();
+      processor.process(out);
+      out.close(); // also flushes
+      exitFuture = execWatch.exitCode();
+    }
+    if (!Utils.waitUntilReady(exitFuture, Math.max(0, uploadRequestTimeoutEnd - System.currentTimeMillis()),
+        TimeUnit.MILLISECONDS)) {
+      LOG.debug("failed to complete upload before timeout expired");
+      return false;
+    }
+    final Integer exitCode = exitFuture.getNow(null);
+    if (exitCode == null || exitCode != 0) {
+      LOG.debug("upload process failed with exit code {}", exitCode);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Split the entries into at most the given number of groups of about the same size. Directory entries all go to the
+   * first group, tar creates any missing parents of the files in the other groups.
+   */
+  static List<List<Map.Entry<String, File>>> partition(List<Map.Entry<String, File>> entries, int groups) {
+    List<Map.Entry<String, File>> directories = new ArrayList<>();
+    List<Map.Entry<String, File>> files = new ArrayList<>();
+    for (Map.Entry<String, File> entry : entries) {
+      (entry.getValue().isFile() ? files : directories).add(entry);
+    }
+    List<List<Map.Entry<String, File>>> result = BulkOperationHelper.partition(files, e -> e.getValue().length(), groups);
+    result.get(0).addAll(0, directories);
+    return result;
+  }
+
+  private static void collectEntries(String name, File file, List<Map.Entry<String, File>> entries) {
+    entries.add(new AbstractMap.SimpleEntry<>(name, file));
+    if (file.isDirectory()) {
+      for (File fileInDirectory : Objects.requireNonNull(file.listFiles())) {
+        collectEntries(name + TAR_PATH_DELIMITER + fileInDirectory.getName(), fileInDirectory, entries);
+      }
+    }
+  }
+
+  static String extractCompressedTarCommand(String directory) {
+    return String.format("mkdir -p %1$s && tar -C %1$s -xmzf -", shellQuote(directory));
+  }
+
+  static String createExecCommandForCompressedUpload(String file) {
+    return String.format("mkdir -p %s && gzip -dc > %s", shellQuote(getDirectoryFromFile(file)), shellQuote(file));
+  }
+
   static String extractTarCommand(String directory, String tar) {
     return String.format("mkdir -p %1$s; tar -C %1$s -xmf %2$s; e=$?; rm %2$s; exit $e", shellQuote(directory), tar);
   }
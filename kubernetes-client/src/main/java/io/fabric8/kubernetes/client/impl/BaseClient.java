@@ -35,11 +35,15 @@ import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
+import io.fabric8.kubernetes.client.dsl.internal.PortForwardSelector;
 import io.fabric8.kubernetes.client.extension.ExtensionAdapter;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.StandardHttpClient;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
+import io.fabric8.kubernetes.client.utils.HashedWheelScheduler;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.NoOpApplyCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,6 +82,34 @@ public abstract class BaseClient implements Client {
 
   };
 
+  /**
+   * An {@link ExecutorSupplier} that provides a virtual thread per task {@link Executor} per client.
+   * <p>
+   * Requires Java 21+, see {@link Utils#isVirtualThreadSupported()}.
+   */
+  public static final ExecutorSupplier VIRTUAL_THREAD_EXECUTOR_SUPPLIER = new ExecutorSupplier() {
+
+    @Override
+    public Executor get() {
+      ExecutorService executor = Utils.virtualThreadPerTaskExecutor(this);
+      if (executor == null) {
+        throw new KubernetesClientException("Virtual threads are not supported by this JVM, Java 21+ is required");
+      }
+      return executor;
+    }
+
+    @Override
+    public void onClose(Executor executor) {
+      ((ExecutorService) executor).shutdownNow();
+    }
+
+  };
+
+  /**
+   * Set to false to use the {@link #DEFAULT_EXECUTOR_SUPPLIER} even when virtual threads are supported.
+   */
+  public static final String KUBERNETES_VIRTUAL_THREADS_SYSTEM_PROPERTY = "kubernetes.virtual.threads";
+
   public static final String APIS = "/apis";
   private static final String API = "/api";
 
@@ -92,6 +124,9 @@ public abstract class BaseClient implements Client {
   private OperationSupport operationSupport;
   private ExecutorSupplier executorSupplier;
   private Executor executor;
+  private HashedWheelScheduler scheduler;
+  private NoOpApplyCache noOpApplyCache;
+  private PortForwardSelector portForwardSelector;
   protected KubernetesSerialization kubernetesSerialization;
   private CompletableFuture<Void> closed;
   private Set<AutoCloseable> closable;
@@ -107,6 +142,9 @@ public abstract class BaseClient implements Client {
     this.matchingGroupPredicate = baseClient.matchingGroupPredicate;
     this.executorSupplier = baseClient.executorSupplier;
     this.executor = baseClient.executor;
+    this.scheduler = baseClient.scheduler;
+    this.noOpApplyCache = baseClient.noOpApplyCache;
+    this.portForwardSelector = baseClient.portForwardSelector;
     this.kubernetesSerialization = baseClient.kubernetesSerialization;
     this.closable = baseClient.closable;
     setDerivedFields();
@@ -125,13 +163,29 @@ public abstract class BaseClient implements Client {
     this.adapters = new Adapters(this.handlers);
     setDerivedFields();
     if (executorSupplier == null) {
-      executorSupplier = DEFAULT_EXECUTOR_SUPPLIER;
+      executorSupplier = defaultExecutorSupplier();
     }
     this.executorSupplier = executorSupplier;
     this.executor = executorSupplier.get();
+    if (httpClient instanceof StandardHttpClient) {
+      ((StandardHttpClient<?, ?, ?>) httpClient).setTaskExecutor(executor);
+    }
+    this.scheduler = new HashedWheelScheduler();
+    this.portForwardSelector = new PortForwardSelector();
+    if (config.getNoOpApplyCacheSize() != null && config.getNoOpApplyCacheSize() > 0) {
+      this.noOpApplyCache = new NoOpApplyCache(config.getNoOpApplyCacheSize());
+    }
     this.kubernetesSerialization = kubernetesSerialization;
   }
 
+  static ExecutorSupplier defaultExecutorSupplier() {
+    if (Utils.isVirtualThreadSupported()
+        && Utils.getSystemPropertyOrEnvVar(KUBERNETES_VIRTUAL_THREADS_SYSTEM_PROPERTY, Boolean.TRUE)) {
+      return VIRTUAL_THREAD_EXECUTOR_SUPPLIER;
+    }
+    return DEFAULT_EXECUTOR_SUPPLIER;
+  }
+
   protected void setDerivedFields() {
     this.namespace = config.getNamespace();
     this.apiVersion = config.getApiVersion();
@@ -173,6 +227,8 @@ public abstract class BaseClient implements Client {
       this.executorSupplier.onClose(executor);
       this.executorSupplier = null;
     }
+    scheduler.close();
+    portForwardSelector.close();
   }
 
   public CompletableFuture<Void> getClosed() {
@@ -390,6 +446,27 @@ public abstract class BaseClient implements Client {
     return executor;
   }
 
+  /**
+   * The scheduler shared by the watches and informers of this client, which also exposes the scheduling metrics
+   */
+  public HashedWheelScheduler getScheduler() {
+    return scheduler;
+  }
+
+  /**
+   * The cache of applied bodies, or null if disabled by {@link Config#getNoOpApplyCacheSize()}
+   */
+  public NoOpApplyCache getNoOpApplyCache() {
+    return noOpApplyCache;
+  }
+
+  /**
+   * The selector serving the local connections of all port forwards of this client
+   */
+  public PortForwardSelector getPortForwardSelector() {
+    return portForwardSelector;
+  }
+
   @Override
   public String raw(String uri) {
     try {
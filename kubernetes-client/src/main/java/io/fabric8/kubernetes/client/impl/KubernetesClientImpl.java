@@ -173,6 +173,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Class for Kubernetes Client implementing KubernetesClient interface.
@@ -359,6 +361,17 @@ public class KubernetesClientImpl extends BaseClient implements NamespacedKubern
     return resourceList(new KubernetesListBuilder().withItems(new ArrayList<>(items)).build());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> resourceList(
+      Stream<? extends HasMetadata> items) {
+    try (Stream<? extends HasMetadata> stream = items) {
+      return resourceListFor(stream.collect(Collectors.<HasMetadata> toList()));
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -23,11 +23,13 @@ import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.informers.cache.StringInterner;
 import io.fabric8.kubernetes.client.informers.cache.Store;
 import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorStore;
 import io.fabric8.kubernetes.client.informers.impl.cache.Reflector;
 import io.fabric8.kubernetes.client.informers.impl.cache.SharedProcessor;
+import io.fabric8.kubernetes.client.utils.HashedWheelScheduler;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,6 +66,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   private final CacheImpl<T> indexer = new CacheImpl<>();
   private final SharedProcessor<T> processor;
   private final Executor informerExecutor;
+  private final HashedWheelScheduler scheduler;
   private final String description;
 
   private final AtomicBoolean started = new AtomicBoolean();
@@ -75,6 +78,14 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod,
       Executor informerExecutor) {
+    this(apiTypeClass, listerWatcher, resyncPeriod, informerExecutor, null);
+  }
+
+  /**
+   * @param scheduler the scheduler for resync checks, watch timeouts and reconnects, or null to use the shared scheduler
+   */
+  public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod,
+      Executor informerExecutor, HashedWheelScheduler scheduler) {
     if (resyncPeriod < 0) {
       throw new IllegalArgumentException("Invalid resync period provided, It should be a non-negative value");
     }
@@ -84,11 +95,12 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     this.description = listerWatcher.getApiEndpointPath();
 
     this.informerExecutor = informerExecutor;
+    this.scheduler = scheduler;
     // reuse the informer executor, but ensure serial processing
     this.processor = new SharedProcessor<>(informerExecutor, description);
 
     processorStore = new ProcessorStore<>(this.indexer, this.processor);
-    this.reflector = new Reflector<>(listerWatcher, processorStore, informerExecutor);
+    this.reflector = new Reflector<>(listerWatcher, processorStore, informerExecutor, scheduler);
   }
 
   /**
@@ -244,7 +256,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   synchronized void scheduleResync(BooleanSupplier resyncFunc) {
     // schedule the resync runnable
     if (resyncCheckPeriodMillis > 0) {
-      resyncFuture = Utils.scheduleAtFixedRate(informerExecutor, () -> {
+      resyncFuture = Utils.scheduleAtFixedRate(scheduler, informerExecutor, () -> {
         if (log.isDebugEnabled()) {
           log.debug("Checking for resync at interval for {}", this);
         }
@@ -296,6 +308,15 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return this;
   }
 
+  @Override
+  public synchronized SharedIndexInformer<T> stringInterner(StringInterner stringInterner) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting string interner");
+    }
+    this.indexer.setStringInterner(stringInterner);
+    return this;
+  }
+
   @Override
   public String toString() {
     return this.description;
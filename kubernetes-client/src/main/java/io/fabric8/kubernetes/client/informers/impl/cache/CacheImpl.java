@@ -20,6 +20,7 @@ import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.informers.cache.StringInterner;
 import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.util.ArrayList;
@@ -73,6 +74,9 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
   // items stores object instances
   private ItemStore<T> items;
 
+  // stringInterner deduplicates the strings of the stored objects
+  private volatile StringInterner stringInterner;
+
   // indices stores objects' key by their indices
   private final ConcurrentMap<String, Index> indices = new ConcurrentHashMap<>();
 
@@ -89,6 +93,10 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
     this.items = items;
   }
 
+  public void setStringInterner(StringInterner stringInterner) {
+    this.stringInterner = stringInterner;
+  }
+
   /**
    * Returns the indexers registered with the cache.
    *
@@ -120,14 +128,21 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param obj the object
    * @return the old object
    */
-  public synchronized T put(T obj) {
+  public T put(T obj) {
     if (obj == null) {
       return null;
     }
-    String key = getKey(obj);
-    T oldObj = this.items.put(key, obj);
-    this.updateIndices(oldObj, obj, key);
-    return oldObj;
+    // the object isn't shared yet, so it's interned without holding up readers of the cache
+    final StringInterner interner = this.stringInterner;
+    if (interner != null) {
+      interner.internFields(obj);
+    }
+    synchronized (this) {
+      String key = getKey(obj);
+      T oldObj = this.items.put(key, obj);
+      this.updateIndices(oldObj, obj, key);
+      return oldObj;
+    }
   }
 
   /**
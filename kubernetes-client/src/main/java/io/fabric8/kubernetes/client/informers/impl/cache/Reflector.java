@@ -26,6 +26,7 @@ import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
 import io.fabric8.kubernetes.client.informers.ExceptionHandler;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
+import io.fabric8.kubernetes.client.utils.HashedWheelScheduler;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +57,7 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private final CompletableFuture<Void> stopFuture = new CompletableFuture<>();
   private final ExponentialBackoffIntervalCalculator retryIntervalCalculator;
   private final Executor executor;
+  private final HashedWheelScheduler scheduler;
   //default behavior - retry if started and it's not a watcherexception
   private volatile ExceptionHandler handler = (b, t) -> b && !(t instanceof WatcherException);
   private long minTimeout = MIN_TIMEOUT;
@@ -69,12 +71,21 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   }
 
   public Reflector(ListerWatcher<T, L> listerWatcher, ProcessorStore<T> store, Executor executor) {
+    this(listerWatcher, store, executor, null);
+  }
+
+  /**
+   * @param scheduler the scheduler for watch timeouts and reconnects, or null to use the shared scheduler
+   */
+  public Reflector(ListerWatcher<T, L> listerWatcher, ProcessorStore<T> store, Executor executor,
+      HashedWheelScheduler scheduler) {
     this.listerWatcher = listerWatcher;
     this.store = store;
     this.watcher = new ReflectorWatcher();
     this.retryIntervalCalculator = new ExponentialBackoffIntervalCalculator(listerWatcher.getWatchReconnectInterval(),
         ExponentialBackoffIntervalCalculator.UNLIMITED_RETRIES);
     this.executor = executor;
+    this.scheduler = scheduler;
   }
 
   public CompletableFuture<Void> start() {
@@ -175,7 +186,7 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     if (isStopped()) {
       return;
     }
-    reconnectFuture = Utils.schedule(executor, this::listSyncAndWatch,
+    reconnectFuture = Utils.schedule(scheduler, executor, this::listSyncAndWatch,
         retryIntervalCalculator.nextReconnectInterval(), TimeUnit.MILLISECONDS);
   }
 
@@ -235,7 +246,7 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
       timeoutFuture.cancel(true);
     }
     timeoutFuture = new CompletableFuture<>();
-    Utils.scheduleWithVariableRate(timeoutFuture, executor,
+    Utils.scheduleWithVariableRate(scheduler, timeoutFuture, executor,
         () -> future.thenAccept(AbstractWatchManager::closeRequest), timeout.getAsLong(), timeout, TimeUnit.SECONDS);
     watchFuture = future;
     return watchFuture;
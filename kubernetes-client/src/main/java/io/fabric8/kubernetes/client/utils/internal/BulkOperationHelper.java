@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Applies an operation to many items with bounded concurrency.
+ * <p>
+ * Items are processed in tiers, Namespaces and CustomResourceDefinitions before everything else (or after for
+ * deletion), so that instances never race what they depend on. Up to parallelism items of a tier are in flight at once,
+ * the failures of a tier are collected together, and no later tier is started once one has failed.
+ */
+public class BulkOperationHelper {
+
+  private static final List<String> FIRST_TIER_KINDS = Arrays.asList("Namespace", "CustomResourceDefinition");
+
+  private BulkOperationHelper() {
+    // Utility
+  }
+
+  /**
+   * Apply the operation to each item.
+   *
+   * @param items the items
+   * @param operation the operation to apply to an item
+   * @param parallelism the maximum number of items in flight, 1 or less processes the items in order on the calling
+   *        thread and stops at the first failure
+   * @param executor the executor used for the concurrent operations
+   * @param dependentsFirst true to process the dependent items before what they depend on, as for deletion
+   * @param operationName the name of the operation for error reporting
+   * @return the result for each item in the order of the items
+   */
+  public static <T extends HasMetadata, R> List<R> execute(List<T> items, Function<T, R> operation, int parallelism,
+      Executor executor, boolean dependentsFirst, String operationName) {
+    Map<Integer, List<Integer>> tiers = dependentsFirst ? new TreeMap<>(Collections.reverseOrder()) : new TreeMap<>();
+    for (int i = 0; i < items.size(); i++) {
+      tiers.computeIfAbsent(tier(items.get(i)), k -> new ArrayList<>()).add(i);
+    }
+    return run(items, tiers.values(), operation, parallelism, executor, operationName);
+  }
+
+  /**
+   * Apply the operation to each item, without any ordering between them.
+   *
+   * @param items the items
+   * @param operation the operation to apply to an item
+   * @param parallelism the maximum number of items in flight, 1 or less processes the items in order on the calling
+   *        thread and stops at the first failure
+   * @param executor the executor used for the concurrent operations
+   * @param operationName the name of the operation for error reporting
+   * @return the result for each item in the order of the items
+   */
+  public static <T, R> List<R> execute(List<T> items, Function<T, R> operation, int parallelism, Executor executor,
+      String operationName) {
+    List<Integer> all = IntStream.range(0, items.size()).boxed().collect(Collectors.toList());
+    return run(items, Collections.singletonList(all), operation, parallelism, executor, operationName);
+  }
+
+  /**
+   * Split the items into at most the given number of groups of about the same total weight, heaviest items first onto
+   * the lightest group. With a single group the items keep their order.
+   *
+   * @param items the items
+   * @param weight the weight of an item, such as its size
+   * @param groups the maximum number of groups
+   * @return the non-empty groups, or a single empty group if there are no items
+   */
+  public static <T> List<List<T>> partition(List<T> items, ToLongFunction<T> weight, int groups) {
+    int count = Math.max(1, Math.min(groups, items.size()));
+    List<List<T>> result = new ArrayList<>(count);
+    if (count == 1) {
+      result.add(new ArrayList<>(items));
+      return result;
+    }
+    PriorityQueue<long[]> load = new PriorityQueue<>(Comparator.comparingLong((long[] l) -> l[0])
+        .thenComparingLong(l -> l[1]));
+    for (int i = 0; i < count; i++) {
+      result.add(new ArrayList<>());
+      load.add(new long[] { 0, i });
+    }
+    List<T> sorted = new ArrayList<>(items);
+    sorted.sort(Comparator.comparingLong(weight).reversed());
+    for (T item : sorted) {
+      long[] lightest = load.poll();
+      result.get((int) lightest[1]).add(item);
+      lightest[0] += weight.applyAsLong(item);
+      load.add(lightest);
+    }
+    return result;
+  }
+
+  private static <T, R> List<R> run(List<T> items, Collection<List<Integer>> tiers, Function<T, R> operation,
+      int parallelism, Executor executor, String operationName) {
+    if (parallelism <= 1 || items.size() <= 1) {
+      return items.stream().map(operation).collect(Collectors.toList());
+    }
+    List<R> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+    Map<Integer, RuntimeException> failures = Collections.synchronizedMap(new TreeMap<>());
+    for (List<Integer> tier : tiers) {
+      AtomicInteger next = new AtomicInteger();
+      AtomicInteger remaining = new AtomicInteger(tier.size());
+      CompletableFuture<Void> tierDone = new CompletableFuture<>();
+      Runnable worker = () -> {
+        int i;
+        while ((i = next.getAndIncrement()) < tier.size()) {
+          int index = tier.get(i);
+          try {
+            R result = operation.apply(items.get(index));
+            synchronized (results) {
+              results.set(index, result);
+            }
+          } catch (RuntimeException e) {
+            failures.put(index, e);
+          } finally {
+            if (remaining.decrementAndGet() == 0) {
+              tierDone.complete(null);
+            }
+          }
+        }
+      };
+      // the calling thread works through the items too, so the tier completes even if the executor never gets to
+      // the helpers, such as when it is bounded and its threads are all busy or waiting on this call
+      try {
+        for (int i = 1; i < Math.min(parallelism, tier.size()); i++) {
+          CompletableFuture.runAsync(worker, executor);
+        }
+      } catch (RejectedExecutionException e) {
+        // continue with the helpers already started
+      }
+      try {
+        worker.run();
+        // only the items already taken by a helper are left, and those are running
+        Utils.waitUntilReadyOrFail(tierDone, -1, TimeUnit.SECONDS);
+      } finally {
+        // stop handing out items if the wait was abandoned
+        next.set(tier.size());
+      }
+      if (!failures.isEmpty()) {
+        throw toException(items, failures, operationName);
+      }
+    }
+    return results;
+  }
+
+  static int tier(HasMetadata item) {
+    return FIRST_TIER_KINDS.contains(item.getKind()) ? 0 : 1;
+  }
+
+  private static RuntimeException toException(List<?> items,
+      Map<Integer, RuntimeException> failures, String operationName) {
+    List<RuntimeException> causes = new ArrayList<>(failures.values());
+    if (causes.size() == 1) {
+      return causes.get(0);
+    }
+    String names = failures.keySet().stream().map(items::get).map(BulkOperationHelper::describe)
+        .collect(Collectors.joining(", "));
+    KubernetesClientException exception = new KubernetesClientException(
+        String.format("Failed to %s %d of %d items: %s", operationName, causes.size(), items.size(), names),
+        causes.get(0));
+    causes.stream().skip(1).forEach(exception::addSuppressed);
+    return exception;
+  }
+
+  private static String describe(Object item) {
+    if (item instanceof HasMetadata) {
+      HasMetadata meta = (HasMetadata) item;
+      return meta.getKind() + "/" + (meta.getMetadata() == null ? null : meta.getMetadata().getName());
+    }
+    return String.valueOf(item);
+  }
+
+}
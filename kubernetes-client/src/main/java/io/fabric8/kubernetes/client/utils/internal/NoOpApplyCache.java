@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils.internal;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers a fingerprint of the last body successfully applied to each resource, together with the response, so that
+ * applying the same desired state again can skip the request.
+ * <p>
+ * Only writes made through the owning client are seen. Changes made by others are not corrected by re-applying an
+ * unchanged body until its entry expires, is evicted, or is invalidated by another write through the client. A body
+ * carrying a resourceVersion is only skipped if that is the resourceVersion last observed for the resource.
+ */
+public class NoOpApplyCache {
+
+  public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+  private static final class Applied {
+    private final byte[] fingerprint;
+    private final String resourceVersion;
+    private final Object result;
+    private final long expires;
+
+    private Applied(byte[] fingerprint, String resourceVersion, Object result, long expires) {
+      this.fingerprint = fingerprint;
+      this.resourceVersion = resourceVersion;
+      this.result = result;
+      this.expires = expires;
+    }
+  }
+
+  private final Map<String, Applied> entries;
+  // the keys of the entries by the path of their url, so that invalidation only visits what it removes
+  private final NavigableMap<String, Set<String>> keysByPath = new TreeMap<>();
+  private final long ttlNanos;
+  private final LongSupplier nanoTime;
+
+  public NoOpApplyCache(int maxSize) {
+    this(maxSize, DEFAULT_TTL, System::nanoTime);
+  }
+
+  NoOpApplyCache(int maxSize, Duration ttl, LongSupplier nanoTime) {
+    this.entries = new LinkedHashMap<String, Applied>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Applied> eldest) {
+        if (size() > maxSize) {
+          unindex(eldest.getKey());
+          return true;
+        }
+        return false;
+      }
+    };
+    this.ttlNanos = ttl.toNanos();
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Get the result of the last apply of this body.
+   *
+   * @param key the request key - the patch url and content type
+   * @param body the request body, without its resourceVersion
+   * @param resourceVersion the resourceVersion of the request, or null
+   * @return the result of the last apply, or null if the body must be sent
+   */
+  public synchronized Object get(String key, String body, String resourceVersion) {
+    Applied entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (nanoTime.getAsLong() - entry.expires > 0) {
+      entries.remove(key);
+      unindex(key);
+      return null;
+    }
+    if ((resourceVersion != null && !resourceVersion.equals(entry.resourceVersion))
+        || !MessageDigest.isEqual(entry.fingerprint, fingerprint(body))) {
+      return null;
+    }
+    return entry.result;
+  }
+
+  /**
+   * Record a successful apply.
+   *
+   * @param key the request key
+   * @param body the request body, without its resourceVersion
+   * @param resourceVersion the resourceVersion of the request, or null
+   * @param result the response
+   * @param observedResourceVersion the resourceVersion of the response
+   */
+  public void put(String key, String body, String resourceVersion, Object result, String observedResourceVersion) {
+    Applied applied = new Applied(fingerprint(body), observedResourceVersion, result, nanoTime.getAsLong() + ttlNanos);
+    synchronized (this) {
+      if (entries.put(key, applied) == null) {
+        keysByPath.computeIfAbsent(path(key), k -> new HashSet<>()).add(key);
+      }
+    }
+  }
+
+  /**
+   * Forget everything applied to the resource, its subresources, or for a collection url all of its items.
+   *
+   * @param url the resource or collection url, any query is ignored
+   */
+  public synchronized void invalidate(String url) {
+    String path = path(url);
+    remove(keysByPath.remove(path));
+    // the paths below this one, '0' being the character after '/'
+    NavigableMap<String, Set<String>> below = keysByPath.subMap(path + "/", true, path + "0", false);
+    below.values().forEach(this::remove);
+    below.clear();
+  }
+
+  private void remove(Set<String> keys) {
+    if (keys != null) {
+      entries.keySet().removeAll(keys);
+    }
+  }
+
+  private void unindex(String key) {
+    String path = path(key);
+    Set<String> keys = keysByPath.get(path);
+    if (keys != null && keys.remove(key) && keys.isEmpty()) {
+      keysByPath.remove(path);
+    }
+  }
+
+  /**
+   * The url of a key or of an invalidation, without its query or content type
+   */
+  static String path(String url) {
+    for (int i = 0; i < url.length(); i++) {
+      char c = url.charAt(i);
+      if (c == '?' || c == ';') {
+        return url.substring(0, i);
+      }
+    }
+    return url;
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  static byte[] fingerprint(String body) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+}
@@ -23,6 +23,7 @@ import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.dsl.internal.MultiPodLogWatch;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
@@ -60,8 +61,7 @@ public class PodOperationUtil {
       String controllerUid) {
     List<PodResource> pods = new ArrayList<>();
     for (Pod pod : controllerPodList.getItems()) {
-      OwnerReference ownerReference = KubernetesResourceUtil.getControllerUid(pod);
-      if (ownerReference != null && ownerReference.getUid().equals(controllerUid)) {
+      if (isControlledBy(pod, controllerUid)) {
         pods.add(podOperations.withName(pod.getMetadata().getName()));
       }
     }
@@ -85,6 +85,23 @@ public class PodOperationUtil {
     return findFirstPodResource(podResources).map(it -> it.watchLog(out)).orElse(null);
   }
 
+  /**
+   * Follow the logs of all of the pods matching the selector labels, including pods created later
+   *
+   * @param controllerUid only follow pods controlled by this uid, or null to follow all of the matching pods
+   */
+  public static LogWatch watchAllLogs(OperationContext context, PodOperationContext podOperationContext,
+      String controllerUid, Map<String, String> selectorLabels, OutputStream out) {
+    PodOperationsImpl podOperations = getGenericPodOperations(context, podOperationContext);
+    return new MultiPodLogWatch(podOperations, pod -> controllerUid == null || isControlledBy(pod, controllerUid), out)
+        .start(podOperations.withLabels(selectorLabels));
+  }
+
+  private static boolean isControlledBy(Pod pod, String controllerUid) {
+    OwnerReference ownerReference = KubernetesResourceUtil.getControllerUid(pod);
+    return ownerReference != null && ownerReference.getUid().equals(controllerUid);
+  }
+
   public static Reader getLogReader(List<PodResource> podResources) {
     return findFirstPodResource(podResources).map(Loggable::getLogReader).orElse(null);
   }
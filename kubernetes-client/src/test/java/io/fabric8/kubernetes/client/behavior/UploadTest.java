@@ -42,6 +42,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -57,6 +58,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -64,6 +66,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.condition.JRE.JAVA_21;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -446,6 +449,84 @@ class UploadTest {
       }
     }
 
+
+    @Nested
+    @DisplayName("Compressed")
+    class Compressed {
+
+      private ByteArrayOutputStream sent;
+
+      @BeforeEach
+      void setUp() {
+        sent = new ByteArrayOutputStream();
+        doAnswer(i -> {
+          final ByteBuffer buffer = i.getArgument(0);
+          synchronized (sent) {
+            sent.write(buffer.array(), buffer.position() + 1, buffer.remaining() - 1);
+          }
+          return true;
+        }).when(webSocket).send(any());
+      }
+
+      @Test
+      @DisplayName("streams gzip compressed tar of directory into tar in a single exec")
+      void streamsCompressedTarInSingleExec() throws Exception {
+        // Given
+        toUpload = new File(Objects.requireNonNull(PodUpload.class.getResource("/upload_long"))
+            .getFile()).toPath();
+        // When
+        final boolean result = client.pods().inNamespace("default").withName("success-pod").dir("/target/location")
+            .withCompression().upload(toUpload);
+        // Then
+        assertThat(result).isTrue();
+        assertThat(httpClient.getRecordedBuildWebSocketDirects())
+            .singleElement()
+            .extracting(TestStandardHttpClient.RecordedBuildWebSocketDirect::getStandardWebSocketBuilder)
+            .extracting(StandardWebSocketBuilder::asHttpRequest)
+            .extracting(StandardHttpRequest::uri)
+            .extracting(URI::getQuery).asString()
+            .contains("command=mkdir -p '/target/location/' && tar -C '/target/location/' -xmzf -");
+        final TarArchiveInputStream tar = new TarArchiveInputStream(
+            new GZIPInputStream(new ByteArrayInputStream(sent.toByteArray())));
+        assertThat(tar.getNextEntry().getName()).endsWith("long_directory_name/");
+        assertThat(tar.getNextEntry().getName()).endsWith("long_directory_name/upload-sample.txt");
+        assertThat(tar.getNextEntry()).isNull();
+      }
+
+      @Test
+      @DisplayName("splits directory into parallel exec streams")
+      void splitsDirectoryIntoParallelStreams(@TempDir Path tempDir) throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+          Files.write(tempDir.resolve("file" + i), new byte[1024 * (i + 1)]);
+        }
+        // When
+        final boolean result = client.pods().inNamespace("default").withName("success-pod").dir("/target/location")
+            .withCompression().withParallelism(2).upload(tempDir);
+        // Then
+        assertThat(result).isTrue();
+        assertThat(httpClient.getRecordedBuildWebSocketDirects()).hasSize(2);
+      }
+
+      @Test
+      @DisplayName("streams gzip compressed input stream into gzip")
+      void streamsCompressedInputStream() throws Exception {
+        // When
+        final boolean result = client.pods().inNamespace("default").withName("success-pod").file("/target/location")
+            .withCompression().upload(new ByteArrayInputStream("data".getBytes(StandardCharsets.UTF_8)));
+        // Then
+        assertThat(result).isTrue();
+        assertThat(httpClient.getRecordedBuildWebSocketDirects())
+            .singleElement()
+            .extracting(TestStandardHttpClient.RecordedBuildWebSocketDirect::getStandardWebSocketBuilder)
+            .extracting(StandardWebSocketBuilder::asHttpRequest)
+            .extracting(StandardHttpRequest::uri)
+            .extracting(URI::getQuery).asString()
+            .contains("command=mkdir -p '/target/' && gzip -dc > '/target/location'");
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(sent.toByteArray())))
+            .hasBinaryContent("data".getBytes(StandardCharsets.UTF_8));
+      }
+    }
   }
 
   private ByteBuffer exitZeroEvent() {
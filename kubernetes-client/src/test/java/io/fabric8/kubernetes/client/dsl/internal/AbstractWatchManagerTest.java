@@ -140,7 +140,7 @@ class AbstractWatchManagerTest {
     final CompletableFuture<?> cf = mock(CompletableFuture.class);
     ExecutorService executor = CommonThreadPool.get();
     final MockedStatic<Utils> utils = mockStatic(Utils.class);
-    utils.when(() -> Utils.schedule(any(), any(), anyLong(), any())).thenReturn(cf);
+    utils.when(() -> Utils.schedule(any(), any(), any(), anyLong(), any())).thenReturn(cf);
     final WatcherAdapter<HasMetadata> watcher = new WatcherAdapter<>();
     final WatchManager<HasMetadata> awm = withDefaultWatchManager(watcher);
     awm.baseOperation.context = Mockito.mock(OperationContext.class);
@@ -286,6 +286,7 @@ class AbstractWatchManagerTest {
   static BaseOperation mockOperation() {
     BaseOperation operation = mock(BaseOperation.class, Mockito.RETURNS_DEEP_STUBS);
     Mockito.when(operation.getOperationContext().getExecutor()).thenReturn(Runnable::run);
+    Mockito.when(operation.getOperationContext().getScheduler()).thenReturn(null);
     Mockito.when(operation.getKubernetesSerialization()).thenReturn(new KubernetesSerialization());
     Mockito.when(operation.appendListOptionParams(Mockito.any(), Mockito.any())).thenCallRealMethod();
     return operation;
@@ -315,7 +315,7 @@ class BaseOperationTest {
         .withName("test-pod")) {
 
       @Override
-      public CompletableFuture<List<Pod>> informOnCondition(Predicate condition) {
+      public CompletableFuture<List<Pod>> informOnAllMatch(Predicate condition) {
         return future;
       }
 
@@ -25,11 +25,15 @@ import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
@@ -81,6 +85,53 @@ class ExecWebSocketListenerTest {
         .send(ByteBuffer.wrap(new byte[] { (byte) 0, (byte) 1, (byte) 3, (byte) 3, (byte) 7 }));
   }
 
+  @Test
+  void testSendWaitsForQueueToDrain() throws Exception {
+    final WebSocket mockedWebSocket = Mockito.mock(WebSocket.class);
+    final CompletableFuture<Void> refilled = new CompletableFuture<>();
+    final CompletableFuture<Void> writable = new CompletableFuture<>();
+    final AtomicLong queueSize = new AtomicLong(Long.MAX_VALUE);
+    Mockito.when(mockedWebSocket.send(Mockito.any())).thenReturn(true);
+    Mockito.when(mockedWebSocket.queueSize()).thenAnswer(i -> queueSize.get());
+    Mockito.when(mockedWebSocket.whenQueueSizeAtMost(Mockito.anyLong())).thenReturn(refilled, writable);
+
+    ExecWebSocketListener listener = newExecWebSocketListener(new PodOperationContext());
+    listener.onOpen(mockedWebSocket);
+
+    CompletableFuture<Void> sent = CompletableFuture
+        .runAsync(() -> listener.sendWithErrorChecking(new byte[] { 1 }, 0, 1));
+
+    verify(mockedWebSocket, Mockito.timeout(5000)).whenQueueSizeAtMost(Mockito.anyLong());
+    // woken up, but the queue was filled again by another writer
+    refilled.complete(null);
+    verify(mockedWebSocket, Mockito.timeout(5000).times(2)).whenQueueSizeAtMost(Mockito.anyLong());
+    assertFalse(sent.isDone());
+    queueSize.set(0);
+    writable.complete(null);
+    sent.get(5, TimeUnit.SECONDS);
+    verify(mockedWebSocket).send(ByteBuffer.wrap(new byte[] { 0, 1 }));
+  }
+
+  @Test
+  void testSendWaitingForQueueFailsOnError() {
+    final WebSocket mockedWebSocket = Mockito.mock(WebSocket.class);
+    Mockito.when(mockedWebSocket.queueSize()).thenReturn(Long.MAX_VALUE);
+    Mockito.when(mockedWebSocket.whenQueueSizeAtMost(Mockito.anyLong())).thenReturn(new CompletableFuture<>());
+
+    ExecWebSocketListener listener = newExecWebSocketListener(new PodOperationContext());
+    listener.onOpen(mockedWebSocket);
+
+    CompletableFuture<Void> sent = CompletableFuture
+        .runAsync(() -> listener.sendWithErrorChecking(new byte[] { 1 }, 0, 1));
+
+    verify(mockedWebSocket, Mockito.timeout(5000)).whenQueueSizeAtMost(Mockito.anyLong());
+    listener.onError(mockedWebSocket, new IOException("here"));
+
+    assertTrue(assertThrows(Exception.class, () -> sent.get(5, TimeUnit.SECONDS))
+        .getCause() instanceof KubernetesClientException);
+    verify(mockedWebSocket, Mockito.never()).send(Mockito.any());
+  }
+
   @Test
   void testCheckErrorHasErrorFromMessageShouldThrowException() {
     ExecWebSocketListener listener = newExecWebSocketListener(
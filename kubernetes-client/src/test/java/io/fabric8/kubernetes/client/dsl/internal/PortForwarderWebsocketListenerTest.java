@@ -30,10 +30,14 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
@@ -218,4 +222,78 @@ class PortForwarderWebsocketListenerTest {
     }
 
   }
+
+  @Test
+  void selector_shouldPipeSocketInBothDirections() throws IOException {
+    try (PortForwardSelector selector = new PortForwardSelector();
+        ServerSocketChannel server = ServerSocketChannel.open()
+            .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        SocketChannel client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel socket = server.accept()) {
+      ByteArrayOutputStream sent = new ByteArrayOutputStream();
+      doAnswer(i -> {
+        ByteBuffer buffer = i.getArgument(0);
+        sent.write(buffer.array(), buffer.position() + 1, buffer.remaining() - 1);
+        return true;
+      }).when(webSocket).send(any());
+      listener = new PortForwarderWebsocketListener(socket, socket, CommonThreadPool.get(), selector);
+      listener.onOpen(webSocket);
+
+      client.write(StandardCharsets.UTF_8.encode("FROM CLIENT"));
+      await().atMost(10, TimeUnit.SECONDS).until(() -> sent.toString().equals("FROM CLIENT"));
+
+      listener.onMessage(webSocket, "SKIP 1");
+      listener.onMessage(webSocket, "SKIP 2");
+      listener.onMessage(webSocket, ByteBuffer.wrap(
+          ByteBuffer.allocate(12).put((byte) 0).put("FROM SERVER".getBytes(StandardCharsets.UTF_8)).array()));
+      ByteBuffer received = ByteBuffer.allocate(11);
+      while (received.hasRemaining() && client.read(received) >= 0) {
+        // blocking read of the whole message
+      }
+      assertThat(new String(received.array(), StandardCharsets.UTF_8)).isEqualTo("FROM SERVER");
+      verify(webSocket, timeout(10_000).times(3)).request();
+      assertThat(listener.errorOccurred()).isFalse();
+    }
+  }
+
+  @Test
+  void selector_shouldWriteMessageReceivedRightAfterOpen() throws IOException {
+    try (PortForwardSelector selector = new PortForwardSelector();
+        ServerSocketChannel server = ServerSocketChannel.open()
+            .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        SocketChannel client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel socket = server.accept()) {
+      // larger than the socket buffers, so that the write has to wait for the channel to become writable
+      final byte[] data = new byte[8 * 1024 * 1024];
+      listener = new PortForwarderWebsocketListener(socket, socket, CommonThreadPool.get(), selector);
+      listener.onOpen(webSocket);
+      listener.onMessage(webSocket, "SKIP 1");
+      listener.onMessage(webSocket, "SKIP 2");
+      listener.onMessage(webSocket, ByteBuffer.wrap(ByteBuffer.allocate(data.length + 1).put((byte) 0).put(data).array()));
+
+      ByteBuffer received = ByteBuffer.allocate(data.length);
+      while (received.hasRemaining() && client.read(received) >= 0) {
+        // blocking read of the whole message
+      }
+      assertThat(received.hasRemaining()).isFalse();
+      verify(webSocket, timeout(10_000).times(3)).request();
+      assertThat(listener.errorOccurred()).isFalse();
+    }
+  }
+
+  @Test
+  void selector_shouldCloseSocketOnClose() throws IOException {
+    try (PortForwardSelector selector = new PortForwardSelector();
+        ServerSocketChannel server = ServerSocketChannel.open()
+            .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        SocketChannel client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel socket = server.accept()) {
+      listener = new PortForwarderWebsocketListener(socket, socket, CommonThreadPool.get(), selector);
+      listener.onOpen(webSocket);
+      listener.onClose(webSocket, 1000, "done");
+
+      await().atMost(10, TimeUnit.SECONDS).until(() -> !socket.isOpen());
+      assertThat(client.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+    }
+  }
 }
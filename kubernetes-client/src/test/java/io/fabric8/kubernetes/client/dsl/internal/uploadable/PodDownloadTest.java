@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal.uploadable;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.mockwebserver.DefaultMockServer;
+import io.fabric8.mockwebserver.internal.WebSocketMessage;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PodDownloadTest {
+
+  @Test
+  void listCommand() {
+    assertThat(PodDownload.listCommand("/tmp/foo"))
+        .isEqualTo("find '/tmp/foo' -type d -exec stat -c 'd %s %Y %n' {} + && "
+            + "find '/tmp/foo' -type f -exec stat -c 'f %s %Y %n' {} +");
+  }
+
+  @Test
+  void listCommandDoesNotTakeRelativeSourceForAnOption() {
+    assertThat(PodDownload.listCommand("-foo"))
+        .isEqualTo("find './-foo' -type d -exec stat -c 'd %s %Y %n' {} + && "
+            + "find './-foo' -type f -exec stat -c 'f %s %Y %n' {} +");
+  }
+
+  @Test
+  void safePathPrefixesRelativePaths() {
+    assertThat(PodDownload.safePath("/tmp/-foo")).isEqualTo("/tmp/-foo");
+    assertThat(PodDownload.safePath("./-foo")).isEqualTo("./-foo");
+    assertThat(PodDownload.safePath("-foo/bar")).isEqualTo("./-foo/bar");
+  }
+
+  @Test
+  void copyCommandReadsNamesUpToAnEmptyLine() {
+    assertThat(PodDownload.copyCommand(true))
+        .isEqualTo("while IFS= read -r f && [ -n \"$f\" ]; do printf '%s\\n' \"$f\"; done | tar -czf - -T -");
+  }
+
+  @Test
+  void parseListingKeepsSpacesInNames() {
+    PodDownload.RemoteFile file = PodDownload.parseListing("f 12 1700000000 /tmp/foo/a file");
+
+    assertThat(file.directory).isFalse();
+    assertThat(file.size).isEqualTo(12);
+    assertThat(file.modifiedSeconds).isEqualTo(1700000000L);
+    assertThat(file.path).isEqualTo("/tmp/foo/a file");
+  }
+
+  @Test
+  void parseListingIgnoresOtherOutput() {
+    assertThat(PodDownload.parseListing("find: '/tmp/foo': Permission denied")).isNull();
+    assertThat(PodDownload.parseListing("f x 1 /tmp/foo")).isNull();
+  }
+
+  @Test
+  void extractTarKeepsModifiedTimeSoTheFileIsUnchanged(@TempDir Path tempDir) throws Exception {
+    byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (TarArchiveOutputStream tar = new TarArchiveOutputStream(bytes)) {
+      TarArchiveEntry entry = new TarArchiveEntry("tmp/foo/file");
+      entry.setSize(content.length);
+      entry.setModTime(new Date(1700000000000L));
+      tar.putArchiveEntry(entry);
+      tar.write(content);
+      tar.closeArchiveEntry();
+    }
+
+    PodDownload.extractTar(new ByteArrayInputStream(bytes.toByteArray()), tempDir.toFile(), true);
+
+    File extracted = tempDir.resolve("tmp/foo/file").toFile();
+    assertThat(Files.readAllBytes(extracted.toPath())).isEqualTo(content);
+    assertThat(PodDownload.isUnchanged(new PodDownload.RemoteFile(false, content.length, 1700000000L, "/tmp/foo/file"),
+        extracted)).isTrue();
+    assertThat(PodDownload.isUnchanged(new PodDownload.RemoteFile(false, content.length, 1700000001L, "/tmp/foo/file"),
+        extracted)).isFalse();
+  }
+
+  @Test
+  void copyDirInParallelIncrementallyAndCompressed(@TempDir Path tempDir) throws Exception {
+    final DefaultMockServer server = new DefaultMockServer();
+    server.start();
+    try (KubernetesClient client = new KubernetesClientBuilder()
+        .withConfig(new ConfigBuilder().withMasterUrl(server.url("/")).withNamespace("test").build()).build()) {
+      final Pod pod = new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1").endMetadata()
+          .withNewSpec().addNewContainer().withName("default").endContainer().endSpec()
+          .withNewStatus().withPhase("Running").endStatus().build();
+      server.expect().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod).always();
+      // every exec first waits for the pod to be running
+      server.expect().withPath("/api/v1/namespaces/test/pods?fieldSelector=metadata.name%3Dpod1")
+          .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata()
+              .withItems(pod).build())
+          .always();
+      server.expect().withPath("/api/v1/namespaces/test/pods?allowWatchBookmarks=true&fieldSelector=metadata.name%3Dpod1"
+          + "&resourceVersion=1&timeoutSeconds=600&watch=true")
+          .andUpgradeToWebSocket().open().done().always();
+      server.expect().withPath(execPath(PodDownload.listCommand("/tmp/dir"), false))
+          .andUpgradeToWebSocket()
+          .open(stdout(("d 0 1700000000 /tmp/dir\n"
+              + "d 0 1700000000 /tmp/dir/b\n"
+              + "f 1 1700000000 /tmp/dir/a\n"
+              + "f 2 1700000000 /tmp/dir/b/c\n"
+              + "f 1 1700000000 /tmp/dir/unchanged\n").getBytes(StandardCharsets.UTF_8)), SUCCESS)
+          .done()
+          .once();
+      // each of the two concurrent streams is served the files it asks for
+      final byte[] a = gzippedTar("tmp/dir/a", "A");
+      final byte[] c = gzippedTar("tmp/dir/b/c", "CC");
+      for (int i = 0; i < 2; i++) {
+        server.expect().withPath(execPath(PodDownload.copyCommand(true), true))
+            .andUpgradeToWebSocket()
+            .open()
+            .expect("\u0000/tmp/dir/a\n\n").andEmit(stdout(a)).once()
+            .expect("\u0000/tmp/dir/b/c\n\n").andEmit(stdout(c)).once()
+            .expectSentWebSocketMessage(new String(stdout(a).getBytes(), StandardCharsets.UTF_8)).andEmit(SUCCESS).once()
+            .expectSentWebSocketMessage(new String(stdout(c).getBytes(), StandardCharsets.UTF_8)).andEmit(SUCCESS).once()
+            .done()
+            .once();
+      }
+      final File unchanged = tempDir.resolve("tmp/dir/unchanged").toFile();
+      assertThat(unchanged.getParentFile().mkdirs()).isTrue();
+      Files.write(unchanged.toPath(), "U".getBytes(StandardCharsets.UTF_8));
+      assertThat(unchanged.setLastModified(1700000000000L)).isTrue();
+
+      final boolean copied = client.pods().withName("pod1").dir("/tmp/dir")
+          .withCompression().withParallelism(2).withIncrementalCopy()
+          .copy(tempDir);
+
+      assertThat(copied).isTrue();
+      assertThat(tempDir.resolve("tmp/dir/a")).hasContent("A");
+      assertThat(tempDir.resolve("tmp/dir/b/c")).hasContent("CC");
+      assertThat(tempDir.resolve("tmp/dir/unchanged")).hasContent("U");
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  private static final WebSocketMessage SUCCESS = new WebSocketMessage(0L,
+      "\u0003{\"metadata\":{},\"status\":\"Success\"}".getBytes(StandardCharsets.UTF_8), true, true);
+
+  private static String execPath(String command, boolean stdin) throws IOException {
+    return "/api/v1/namespaces/test/pods/pod1/exec?command=sh&command=-c&command="
+        + URLEncoder.encode(command, StandardCharsets.UTF_8.name()).replace("+", "%20")
+        + "&container=default" + (stdin ? "&stdin=true" : "") + "&stdout=true";
+  }
+
+  private static WebSocketMessage stdout(byte[] data) {
+    final byte[] message = new byte[data.length + 1];
+    message[0] = 1;
+    System.arraycopy(data, 0, message, 1, data.length);
+    return new WebSocketMessage(0L, message, true, true);
+  }
+
+  private static byte[] gzippedTar(String name, String content) throws IOException {
+    final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    final ByteArrayOutputStream result = new ByteArrayOutputStream();
+    try (TarArchiveOutputStream tar = new TarArchiveOutputStream(new GZIPOutputStream(result))) {
+      final TarArchiveEntry entry = new TarArchiveEntry(name);
+      entry.setSize(bytes.length);
+      entry.setModTime(new Date(1700000000000L));
+      tar.putArchiveEntry(entry);
+      tar.write(bytes);
+      tar.closeArchiveEntry();
+    }
+    return result.toByteArray();
+  }
+}
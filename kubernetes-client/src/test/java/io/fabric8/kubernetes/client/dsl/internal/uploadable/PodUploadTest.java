@@ -19,10 +19,18 @@ import io.fabric8.kubernetes.client.utils.InputStreamPumper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -79,4 +87,26 @@ class PodUploadTest {
     }
   }
 
+
+  @Test
+  void extractCompressedTarCommand() {
+    assertThat(PodUpload.extractCompressedTarCommand("/tmp/foo/"))
+        .isEqualTo("mkdir -p '/tmp/foo/' && tar -C '/tmp/foo/' -xmzf -");
+  }
+
+  @Test
+  void partitionBalancesFilesAndKeepsDirectoriesInFirstGroup(@TempDir Path tempDir) throws Exception {
+    final List<Map.Entry<String, File>> entries = new ArrayList<>();
+    entries.add(new AbstractMap.SimpleEntry<>("dir", Files.createDirectory(tempDir.resolve("dir")).toFile()));
+    for (int size : new int[] { 1, 5, 3, 4 }) {
+      entries.add(new AbstractMap.SimpleEntry<>("dir/" + size,
+          Files.write(tempDir.resolve("dir").resolve("f" + size), new byte[size]).toFile()));
+    }
+
+    final List<List<Map.Entry<String, File>>> groups = PodUpload.partition(entries, 2);
+
+    assertThat(groups).hasSize(2);
+    assertThat(groups.get(0)).extracting(Map.Entry::getKey).containsExactly("dir", "dir/5", "dir/1");
+    assertThat(groups.get(1)).extracting(Map.Entry::getKey).containsExactly("dir/4", "dir/3");
+  }
 }
@@ -25,6 +25,7 @@ import io.fabric8.kubernetes.client.RequestConfig;
 import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.kubernetes.client.utils.Utils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -140,4 +141,23 @@ class BaseClientTest {
     }
   }
 
+  @Test
+  @DisplayName("defaultExecutorSupplier, selects virtual threads only when supported")
+  void defaultExecutorSupplier() {
+    assertThat(BaseClient.defaultExecutorSupplier())
+        .isSameAs(Utils.isVirtualThreadSupported() ? BaseClient.VIRTUAL_THREAD_EXECUTOR_SUPPLIER
+            : BaseClient.DEFAULT_EXECUTOR_SUPPLIER);
+  }
+
+  @Test
+  @DisplayName("defaultExecutorSupplier, with virtual threads disabled, selects the default executor supplier")
+  void defaultExecutorSupplierVirtualThreadsDisabled() {
+    System.setProperty(BaseClient.KUBERNETES_VIRTUAL_THREADS_SYSTEM_PROPERTY, "false");
+    try {
+      assertThat(BaseClient.defaultExecutorSupplier()).isSameAs(BaseClient.DEFAULT_EXECUTOR_SUPPLIER);
+    } finally {
+      System.clearProperty(BaseClient.KUBERNETES_VIRTUAL_THREADS_SYSTEM_PROPERTY);
+    }
+  }
+
 }
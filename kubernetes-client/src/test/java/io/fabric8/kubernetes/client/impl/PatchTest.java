@@ -212,6 +212,65 @@ class PatchTest {
         PatchType.SERVER_SIDE_APPLY.getContentType());
   }
 
+  @Test
+  void testServerSideApplySkippedWhenUnchangedWithNoOpApplyCache() {
+    // Given
+    Config config = new ConfigBuilder().withMasterUrl("https://localhost:8443/").withNoOpApplyCacheSize(10).build();
+    try (KubernetesClient client = new KubernetesClientImpl(mockClient, config, () -> Runnable::run,
+        new KubernetesSerialization())) {
+      Pod pod = new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build();
+
+      // When
+      client.pods().inNamespace("ns1").resource(pod).fieldManager("x").serverSideApply();
+      client.pods().inNamespace("ns1").resource(pod).fieldManager("x").serverSideApply();
+      // a different field manager is a different apply
+      client.pods().inNamespace("ns1").resource(pod).fieldManager("y").serverSideApply();
+      // a change to the body is applied
+      client.pods().inNamespace("ns1").resource(new PodBuilder(pod).editMetadata().addToLabels("a", "b").endMetadata()
+          .build()).fieldManager("x").serverSideApply();
+      // other writes invalidate
+      client.pods().inNamespace("ns1").withName("pod1").delete();
+      client.pods().inNamespace("ns1").resource(pod).fieldManager("y").serverSideApply();
+
+      // Then
+      verify(mockClient, times(5)).sendAsync(any(), any());
+      assertRequest(0, "PATCH", "/api/v1/namespaces/ns1/pods/pod1", "fieldManager=x",
+          PatchType.SERVER_SIDE_APPLY.getContentType());
+      assertRequest(1, "PATCH", "/api/v1/namespaces/ns1/pods/pod1", "fieldManager=y",
+          PatchType.SERVER_SIDE_APPLY.getContentType());
+      assertRequest(4, "PATCH", "/api/v1/namespaces/ns1/pods/pod1", "fieldManager=y",
+          PatchType.SERVER_SIDE_APPLY.getContentType());
+    }
+  }
+
+  @Test
+  void testServerSideApplyWithObservedResourceVersionSkippedWithNoOpApplyCache() {
+    // Given
+    when(mockClient.sendAsync(any(), Mockito.eq(byte[].class)))
+        .thenReturn(CompletableFuture.completedFuture(TestHttpResponse.from(200,
+            "{\"metadata\":{\"resourceVersion\":\"2\"}}")));
+    Config config = new ConfigBuilder().withMasterUrl("https://localhost:8443/").withNoOpApplyCacheSize(10).build();
+    try (KubernetesClient client = new KubernetesClientImpl(mockClient, config, () -> Runnable::run,
+        new KubernetesSerialization())) {
+      Pod pod = new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1")
+          .addToAnnotations("resourceVersion", "1").endMetadata().build();
+
+      // When
+      client.pods().inNamespace("ns1").resource(pod).fieldManager("x").serverSideApply();
+      // the resourceVersion observed by the last apply
+      Pod observed = new PodBuilder(pod).editMetadata().withResourceVersion("2").endMetadata().build();
+      Pod skipped = client.pods().inNamespace("ns1").resource(observed).fieldManager("x").serverSideApply();
+      // only the resourceVersion of the metadata is left out of the comparison
+      client.pods().inNamespace("ns1").resource(new PodBuilder(observed).editMetadata()
+          .addToAnnotations("resourceVersion", "2").endMetadata().build()).fieldManager("x").serverSideApply();
+
+      // Then
+      verify(mockClient, times(2)).sendAsync(any(), any());
+      assertEquals("2", skipped.getMetadata().getResourceVersion());
+      assertEquals("1", pod.getMetadata().getResourceVersion());
+    }
+  }
+
   private void assertRequest(String method, String url, String queryParam) {
     assertRequest(0, method, url, queryParam, null);
   }
@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.StringInterner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,7 @@ import java.util.Map;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class CacheTest {
 
@@ -103,6 +105,24 @@ class CacheTest {
     assertEquals(newGenerateName, testPodObj.getMetadata().getGenerateName());
   }
 
+  @Test
+  void testStringInterner() {
+    cache.setStringInterner(new StringInterner());
+    Pod first = new PodBuilder().withNewMetadata().withName("first").withNamespace(new String("ns"))
+        .addToLabels(new String("app"), new String("web")).endMetadata().build();
+    Pod second = new PodBuilder().withNewMetadata().withName("second").withNamespace(new String("ns"))
+        .addToLabels(new String("app"), new String("web")).endMetadata().build();
+
+    cache.put(first);
+    cache.put(second);
+
+    Pod cached = cache.getByKey(mockKeyFunction(second));
+    assertSame(first.getMetadata().getNamespace(), cached.getMetadata().getNamespace());
+    assertSame(first.getMetadata().getLabels().get("app"), cached.getMetadata().getLabels().get("app"));
+    assertSame(first.getMetadata().getLabels().keySet().iterator().next(),
+        cached.getMetadata().getLabels().keySet().iterator().next());
+  }
+
   @Disabled
   @Test
   void testDefaultNamespaceIndex() {
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkOperationHelperTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void executeSequentiallyKeepsOrderAndStopsAtFirstFailure() {
+    List<HasMetadata> items = Arrays.asList(pod("a"), pod("b"), pod("c"));
+    List<String> seen = new ArrayList<>();
+
+    assertThatThrownBy(() -> BulkOperationHelper.execute(items, i -> {
+      seen.add(i.getMetadata().getName());
+      if (seen.size() == 2) {
+        throw new KubernetesClientException("failed");
+      }
+      return i;
+    }, 1, executor, false, "create"))
+        .hasMessage("failed");
+    assertThat(seen).containsExactly("a", "b");
+  }
+
+  @Test
+  void executeInParallelBoundsConcurrencyAndKeepsResultOrder() {
+    List<HasMetadata> items = IntStream.range(0, 20).mapToObj(i -> pod("pod" + i)).collect(Collectors.toList());
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+
+    List<String> results = BulkOperationHelper.execute(items, i -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      sleep();
+      inFlight.decrementAndGet();
+      return i.getMetadata().getName();
+    }, 4, executor, false, "create");
+
+    assertThat(results).isEqualTo(items.stream().map(i -> i.getMetadata().getName()).collect(Collectors.toList()));
+    assertThat(maxInFlight.get()).isBetween(2, 4);
+  }
+
+  @Test
+  void executeInParallelCreatesNamespacesFirstAndDeletesThemLast() {
+    List<HasMetadata> items = Arrays.asList(pod("a"), new NamespaceBuilder().withNewMetadata().withName("ns").endMetadata()
+        .build(), pod("b"));
+    List<String> created = Collections.synchronizedList(new ArrayList<>());
+    List<String> deleted = Collections.synchronizedList(new ArrayList<>());
+
+    BulkOperationHelper.execute(items, i -> created.add(i.getKind()), 2, executor, false, "create");
+    BulkOperationHelper.execute(items, i -> deleted.add(i.getKind()), 2, executor, true, "delete");
+
+    assertThat(created).containsExactly("Namespace", "Pod", "Pod");
+    assertThat(deleted).containsExactly("Pod", "Pod", "Namespace");
+  }
+
+  @Test
+  void executeInParallelAggregatesFailuresAndSkipsLaterTiers() {
+    List<HasMetadata> items = Arrays.asList(new NamespaceBuilder().withNewMetadata().withName("ns1").endMetadata().build(),
+        new NamespaceBuilder().withNewMetadata().withName("ns2").endMetadata().build(), pod("a"));
+    AtomicInteger pods = new AtomicInteger();
+
+    assertThatThrownBy(() -> BulkOperationHelper.execute(items, i -> {
+      if (i.getKind().equals("Pod")) {
+        pods.incrementAndGet();
+        return i;
+      }
+      throw new KubernetesClientException(i.getMetadata().getName());
+    }, 2, executor, false, "create"))
+        .isInstanceOf(KubernetesClientException.class)
+        .hasMessage("Failed to create 2 of 3 items: Namespace/ns1, Namespace/ns2")
+        .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+    assertThat(pods.get()).isZero();
+  }
+
+  @Test
+  void executeOnPlainItemsReportsEachFailedItem() {
+    List<String> namespaces = Arrays.asList("ns1", "ns2", "ns3");
+
+    assertThatThrownBy(() -> BulkOperationHelper.execute(namespaces, n -> {
+      if (!n.equals("ns2")) {
+        throw new KubernetesClientException(n);
+      }
+      return n;
+    }, 3, executor, "delete"))
+        .hasMessage("Failed to delete 2 of 3 items: ns1, ns3");
+  }
+
+  @Test
+  void executeInParallelFromTheOnlyThreadOfTheExecutorCompletes() throws Exception {
+    ExecutorService single = Executors.newSingleThreadExecutor();
+    try {
+      List<HasMetadata> items = IntStream.range(0, 5).mapToObj(i -> pod("pod" + i)).collect(Collectors.toList());
+
+      List<String> results = CompletableFuture
+          .supplyAsync(() -> BulkOperationHelper.execute(items, i -> i.getMetadata().getName(), 3, single, false,
+              "create"), single)
+          .get(10, TimeUnit.SECONDS);
+
+      assertThat(results).containsExactly("pod0", "pod1", "pod2", "pod3", "pod4");
+    } finally {
+      single.shutdownNow();
+    }
+  }
+
+  @Test
+  void partitionBalancesWeightAcrossGroups() {
+    List<List<Integer>> groups = BulkOperationHelper.partition(Arrays.asList(1, 5, 3, 4, 2), i -> i, 2);
+
+    assertThat(groups).containsExactly(Arrays.asList(5, 2, 1), Arrays.asList(4, 3));
+    assertThat(BulkOperationHelper.partition(Arrays.asList(1, 5), i -> i, 4)).hasSize(2);
+    assertThat(BulkOperationHelper.partition(Collections.emptyList(), i -> 0, 4)).containsExactly(Collections.emptyList());
+  }
+
+  private static HasMetadata pod(String name) {
+    return new PodBuilder().withNewMetadata().withName(name).endMetadata().build();
+  }
+
+  private static void sleep() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(20);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoOpApplyCacheTest {
+
+  private static final String KEY = "https://localhost/api/v1/namespaces/ns/pods/a?fieldManager=x;application/apply-patch+yaml";
+  private static final String BODY = "{\"metadata\":{\"name\":\"a\"}}";
+
+  private final AtomicLong now = new AtomicLong();
+  private final NoOpApplyCache cache = new NoOpApplyCache(2, Duration.ofSeconds(10), now::get);
+
+  @Test
+  void getReturnsResultOnlyForSameBody() {
+    cache.put(KEY, BODY, null, "result", "1");
+
+    assertThat(cache.get(KEY, BODY, null)).isEqualTo("result");
+    assertThat(cache.get(KEY, "{\"metadata\":{\"name\":\"b\"}}", null)).isNull();
+    assertThat(cache.get(KEY + "x", BODY, null)).isNull();
+  }
+
+  @Test
+  void getIgnoresResourceVersionOnlyIfItIsTheObservedOne() {
+    cache.put(KEY, BODY, "1", "result", "2");
+
+    assertThat(cache.get(KEY, BODY, "2")).isEqualTo("result");
+    assertThat(cache.get(KEY, BODY, null)).isEqualTo("result");
+    assertThat(cache.get(KEY, BODY, "3")).isNull();
+  }
+
+  @Test
+  void getExpiresEntries() {
+    cache.put(KEY, BODY, null, "result", "1");
+
+    now.addAndGet(Duration.ofSeconds(11).toNanos());
+
+    assertThat(cache.get(KEY, BODY, null)).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void putEvictsLeastRecentlyUsed() {
+    cache.put("a", BODY, null, "a", "1");
+    cache.put("b", BODY, null, "b", "1");
+    cache.get("a", BODY, null);
+    cache.put("c", BODY, null, "c", "1");
+
+    assertThat(cache.get("a", BODY, null)).isEqualTo("a");
+    assertThat(cache.get("b", BODY, null)).isNull();
+  }
+
+  @Test
+  void evictedEntriesAreNoLongerInvalidated() {
+    cache.put("https://localhost/api/v1/namespaces/ns/pods/a;json", BODY, null, "a", "1");
+    cache.put("https://localhost/api/v1/namespaces/ns/pods/b;json", BODY, null, "b", "1");
+    cache.put("https://localhost/api/v1/namespaces/ns/pods/c;json", BODY, null, "c", "1");
+
+    cache.invalidate("https://localhost/api/v1/namespaces/ns/pods/b");
+    cache.put("https://localhost/api/v1/namespaces/ns/pods/a;json", BODY, null, "a", "1");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("https://localhost/api/v1/namespaces/ns/pods/c;json", BODY, null)).isEqualTo("c");
+  }
+
+  @Test
+  void invalidateRemovesResourceAndSubresourcesOnly() {
+    NoOpApplyCache large = new NoOpApplyCache(10);
+    large.put("https://localhost/api/v1/namespaces/ns/pods/a?fieldManager=x;json", BODY, null, "a", "1");
+    large.put("https://localhost/api/v1/namespaces/ns/pods/a/status;json", BODY, null, "status", "1");
+    large.put("https://localhost/api/v1/namespaces/ns/pods/ab;json", BODY, null, "ab", "1");
+
+    large.invalidate("https://localhost/api/v1/namespaces/ns/pods/a?dryRun=All");
+
+    assertThat(large.size()).isEqualTo(1);
+    assertThat(large.get("https://localhost/api/v1/namespaces/ns/pods/ab;json", BODY, null)).isEqualTo("ab");
+
+    large.invalidate("https://localhost/api/v1/namespaces/ns/pods");
+
+    assertThat(large.size()).isZero();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserializes a list of 10k items of mixed kinds, each of which is resolved by the KubernetesDeserializer.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class KubernetesListDeserializationBenchmark {
+
+  private static final int ITEMS = 10_000;
+
+  private ObjectMapper mapper;
+  private byte[] json;
+
+  @Setup
+  public void setup() throws IOException {
+    mapper = new ObjectMapper();
+    List<HasMetadata> items = new ArrayList<>(ITEMS);
+    for (int i = 0; i < ITEMS; i++) {
+      items.add(item(i));
+    }
+    json = mapper.writeValueAsBytes(new KubernetesListBuilder().withItems(items).build());
+  }
+
+  private static HasMetadata item(int i) {
+    String name = "item-" + i;
+    switch (i % 5) {
+      case 0:
+        return new PodBuilder().withNewMetadata().withName(name).addToLabels("app", "benchmark").endMetadata()
+            .withNewSpec().addNewContainer().withName("main").withImage("busybox").addToArgs("sleep", "3600")
+            .endContainer().endSpec().build();
+      case 1:
+        return new ServiceBuilder().withNewMetadata().withName(name).endMetadata()
+            .withNewSpec().addToSelector("app", "benchmark").addNewPort().withPort(80).endPort().endSpec().build();
+      case 2:
+        return new ConfigMapBuilder().withNewMetadata().withName(name).endMetadata()
+            .addToData("key", "value-" + i).build();
+      case 3:
+        return new DeploymentBuilder().withNewMetadata().withName(name).endMetadata()
+            .withNewSpec().withReplicas(2).withNewSelector().addToMatchLabels("app", "benchmark").endSelector()
+            .withNewTemplate().withNewMetadata().addToLabels("app", "benchmark").endMetadata()
+            .withNewSpec().addNewContainer().withName("main").withImage("nginx").endContainer().endSpec()
+            .endTemplate().endSpec().build();
+      default:
+        // not a registered kind, so bound as a GenericKubernetesResource
+        return new GenericKubernetesResourceBuilder().withApiVersion("example.com/v1").withKind("Widget")
+            .withNewMetadata().withName(name).endMetadata()
+            .withAdditionalProperties(Collections.singletonMap("spec", Collections.singletonMap("size", i))).build();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public KubernetesList deserialize() throws IOException {
+    return mapper.readValue(json, KubernetesList.class);
+  }
+}
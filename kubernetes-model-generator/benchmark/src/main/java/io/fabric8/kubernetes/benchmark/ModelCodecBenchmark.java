@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.NodeBuilder;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.model.jackson.CodecModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses and serializes single resources, with and without the codecs generated for the model.
+ * <p>
+ * The published model is generated without codecs, this module generates them for the core and apps models at build
+ * time and registers them through {@code BenchmarkCodecModule}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class ModelCodecBenchmark {
+
+  @Param({ "Pod", "Deployment", "Node" })
+  public String kind;
+
+  @Param({ "true", "false" })
+  public boolean codecs;
+
+  private ObjectMapper mapper;
+  private HasMetadata resource;
+  private Class<? extends HasMetadata> type;
+  private byte[] json;
+
+  @Setup
+  public void setup() throws IOException {
+    mapper = new ObjectMapper();
+    resource = resource(kind);
+    type = resource.getClass();
+    json = mapper.writeValueAsBytes(resource);
+    if (codecs) {
+      final List<CodecModule> modules = CodecModule.findModules(ModelCodecBenchmark.class.getClassLoader());
+      if (modules.isEmpty()) {
+        throw new IllegalStateException("No generated codecs found");
+      }
+      mapper.registerModules(modules);
+      if (!Arrays.equals(json, mapper.writeValueAsBytes(resource))
+          || !resource.equals(mapper.readValue(json, type))) {
+        throw new IllegalStateException("The generated codecs don't match the bean binding for " + kind);
+      }
+    }
+  }
+
+  private static HasMetadata resource(String kind) {
+    switch (kind) {
+      case "Pod":
+        return new PodBuilder().withNewMetadata().withName("pod").withNamespace("default")
+            .addToLabels("app", "benchmark").addToAnnotations("description", "a pod").endMetadata()
+            .withNewSpec().addNewContainer().withName("main").withImage("busybox").addToArgs("sleep", "3600")
+            .addNewEnv().withName("KEY").withValue("value").endEnv()
+            .addNewPort().withContainerPort(8080).withName("http").endPort()
+            .withNewResources().addToLimits("cpu", new Quantity("1")).addToRequests("memory", new Quantity("64Mi"))
+            .endResources().endContainer().endSpec()
+            .withNewStatus().withPhase("Running").withPodIP("10.0.0.1").endStatus().build();
+      case "Deployment":
+        return new DeploymentBuilder().withNewMetadata().withName("deployment").withNamespace("default").endMetadata()
+            .withNewSpec().withReplicas(3).withNewSelector().addToMatchLabels("app", "benchmark").endSelector()
+            .withNewTemplate().withNewMetadata().addToLabels("app", "benchmark").endMetadata()
+            .withNewSpec().addNewContainer().withName("main").withImage("nginx")
+            .addNewPort().withContainerPort(80).endPort().endContainer().endSpec()
+            .endTemplate().endSpec()
+            .withNewStatus().withReplicas(3).withReadyReplicas(3).withAvailableReplicas(3).endStatus().build();
+      default:
+        return new NodeBuilder().withNewMetadata().withName("node").addToLabels("kubernetes.io/os", "linux")
+            .endMetadata()
+            .withNewSpec().withPodCIDR("10.244.0.0/24").endSpec()
+            .withNewStatus().addToCapacity("cpu", new Quantity("8")).addToCapacity("memory", new Quantity("32Gi"))
+            .addToAllocatable("cpu", new Quantity("7800m")).addNewAddress().withType("InternalIP")
+            .withAddress("192.168.0.10").endAddress().addNewCondition().withType("Ready").withStatus("True")
+            .endCondition().withNewNodeInfo().withKubeletVersion("v1.32.0").withOperatingSystem("linux")
+            .withArchitecture("amd64").endNodeInfo().endStatus().build();
+    }
+  }
+
+  @Benchmark
+  public HasMetadata parse() throws IOException {
+    return mapper.readValue(json, type);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return mapper.writeValueAsBytes(resource);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.benchmark;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses, sums and compares the kind of cpu and memory quantities found in pod specs.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class QuantityBenchmark {
+
+  private static final String[] CPU = { "100m", "250m", "500m", "1", "2", "1500m", "0.5" };
+  private static final String[] MEMORY = { "64Mi", "128Mi", "256Mi", "1Gi", "1.5Gi", "512M", "2G" };
+
+  @Param({ "cpu", "memory" })
+  public String resource;
+
+  @Param({ "1000" })
+  public int size;
+
+  private String[] amounts;
+  private Quantity[] quantities;
+
+  @Setup
+  public void setup() {
+    final String[] values = resource.equals("cpu") ? CPU : MEMORY;
+    final Random random = new Random(0);
+    amounts = new String[size];
+    quantities = new Quantity[size];
+    for (int i = 0; i < size; i++) {
+      amounts[i] = values[random.nextInt(values.length)];
+      quantities[i] = new Quantity(amounts[i]);
+    }
+  }
+
+  @Benchmark
+  public BigDecimal parse() {
+    BigDecimal last = null;
+    for (String amount : amounts) {
+      last = new Quantity(amount).getNumericalAmount();
+    }
+    return last;
+  }
+
+  @Benchmark
+  public Quantity sum() {
+    Quantity total = new Quantity("0");
+    for (Quantity quantity : quantities) {
+      total = total.add(quantity);
+    }
+    return total;
+  }
+
+  @Benchmark
+  public BigDecimal sumNumericalAmounts() {
+    BigDecimal total = BigDecimal.ZERO;
+    for (Quantity quantity : quantities) {
+      total = total.add(quantity.getNumericalAmount());
+    }
+    return total;
+  }
+
+  @Benchmark
+  public Quantity max() {
+    Quantity max = quantities[0];
+    for (Quantity quantity : quantities) {
+      if (quantity.compareTo(max) > 0) {
+        max = quantity;
+      }
+    }
+    return max;
+  }
+
+  @Benchmark
+  public int countEqual() {
+    int count = 0;
+    for (Quantity quantity : quantities) {
+      if (quantity.equals(quantities[0])) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
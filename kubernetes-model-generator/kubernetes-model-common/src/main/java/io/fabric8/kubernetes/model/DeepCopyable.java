@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model;
+
+/**
+ * A model object that can create an independent copy of itself without a serialization round trip.
+ *
+ * @param <T> the type of the copy
+ */
+public interface DeepCopyable<T> {
+
+  /**
+   * Creates a copy of this object that shares no mutable state with it, modifying the copy or any of its nested
+   * values doesn't affect the original.
+   *
+   * @return a deep copy of this object
+   * @throws UnsupportedOperationException if a nested value can't be copied, or its copy depends on the serialization
+   *         such as an additional property named like a declared one
+   */
+  T deepCopy();
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming deserializer for a generated model type, extended by the generated codecs.
+ * <p>
+ * The fields are dispatched by name to {@link #readProperty(Object, String, JsonParser, DeserializationContext)}
+ * instead of going through the reflective bean properties. The deserializer of each property type is only looked up
+ * once. Unknown fields go to the additional properties, and as with the {@link UnmatchedFieldTypeModule} fields of
+ * templates that don't match their type are kept there as text.
+ *
+ * @param <T> the model type
+ */
+public abstract class CodecDeserializer<T> extends StdDeserializer<T> {
+
+  private final boolean additionalProperties;
+  private final Map<Object, JsonDeserializer<Object>> deserializers = new ConcurrentHashMap<>();
+
+  /**
+   * @param additionalProperties true if the type keeps unknown fields with
+   *        {@link #setAdditionalProperty(Object, String, Object)}
+   */
+  protected CodecDeserializer(Class<T> type, boolean additionalProperties) {
+    super(type);
+    this.additionalProperties = additionalProperties;
+  }
+
+  /**
+   * @return a new instance of the type
+   */
+  protected abstract T create();
+
+  /**
+   * Read the value of the current field into the instance.
+   *
+   * @return false if the field is not a property of the type, the value must not have been read
+   */
+  protected abstract boolean readProperty(T value, String name, JsonParser p, DeserializationContext ctxt)
+      throws IOException;
+
+  protected void setAdditionalProperty(T value, String name, Object additionalProperty) {
+    // no additional properties by default
+  }
+
+  @Override
+  public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    return deserialize(p, ctxt, create());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T deserialize(JsonParser p, DeserializationContext ctxt, T value) throws IOException {
+    JsonToken t = p.currentToken();
+    if (t == JsonToken.START_OBJECT) {
+      t = p.nextToken();
+    } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+      return (T) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+    for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+      String name = p.currentName();
+      p.nextToken();
+      readField(value, name, p, ctxt);
+    }
+    return value;
+  }
+
+  private void readField(T value, String name, JsonParser p, DeserializationContext ctxt) throws IOException {
+    try {
+      if (readProperty(value, name, p, ctxt)) {
+        return;
+      }
+    } catch (MismatchedInputException e) {
+      if (additionalProperties && UnmatchedFieldTypeModule.isInTemplate()) {
+        setAdditionalProperty(value, name, p.getText());
+        return;
+      }
+      throw e;
+    }
+    if (additionalProperties) {
+      setAdditionalProperty(value, name, read(p, ctxt, Object.class));
+    } else {
+      ctxt.handleUnknownProperty(p, this, value, name);
+    }
+  }
+
+  protected <V> V read(JsonParser p, DeserializationContext ctxt, Class<V> type) throws IOException {
+    if (type == String.class && p.hasToken(JsonToken.VALUE_STRING)) {
+      return type.cast(p.getText());
+    }
+    JsonDeserializer<Object> deserializer = deserializers.get(type);
+    if (deserializer == null) {
+      deserializer = cache(type, ctxt.findRootValueDeserializer(ctxt.constructType(type)));
+    }
+    return read(p, ctxt, deserializer);
+  }
+
+  protected <V> V read(JsonParser p, DeserializationContext ctxt, TypeReference<V> type) throws IOException {
+    JsonDeserializer<Object> deserializer = deserializers.get(type);
+    if (deserializer == null) {
+      deserializer = cache(type, ctxt.findRootValueDeserializer(ctxt.getTypeFactory().constructType(type)));
+    }
+    return read(p, ctxt, deserializer);
+  }
+
+  /**
+   * Read the value with a deserializer specified for the property, obtained like the deserializers of
+   * {@link com.fasterxml.jackson.databind.annotation.JsonDeserialize#using()}.
+   */
+  @SuppressWarnings("unchecked")
+  protected <V> V readUsing(JsonParser p, DeserializationContext ctxt,
+      Class<? extends JsonDeserializer<?>> deserializerClass) throws IOException {
+    JsonDeserializer<Object> deserializer = deserializers.get(deserializerClass);
+    if (deserializer == null) {
+      deserializer = cache(deserializerClass, (JsonDeserializer<Object>) ctxt.deserializerInstance(null, deserializerClass));
+    }
+    return read(p, ctxt, deserializer);
+  }
+
+  private JsonDeserializer<Object> cache(Object key, JsonDeserializer<Object> deserializer) {
+    JsonDeserializer<Object> existing = deserializers.putIfAbsent(key, deserializer);
+    return existing != null ? existing : deserializer;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> V read(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> deserializer)
+      throws IOException {
+    if (p.hasToken(JsonToken.VALUE_NULL)) {
+      return (V) deserializer.getNullValue(ctxt);
+    }
+    return (V) deserializer.deserialize(p, ctxt);
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Base for the modules generated with the model that register the {@link CodecDeserializer} and
+ * {@link CodecSerializer} of each generated type, so that they are bound without reflection.
+ * <p>
+ * The generated modules are listed as services of this class, see {@link #findModules(ClassLoader)}.
+ */
+public abstract class CodecModule extends SimpleModule {
+
+  protected CodecModule(String name) {
+    super(name);
+  }
+
+  /**
+   * Adds the codecs of the module. Called once for each mapper the module is registered with, so that the codecs are
+   * not shared between mappers.
+   */
+  protected abstract void addCodecs(SimpleDeserializers deserializers, SimpleSerializers serializers);
+
+  @Override
+  public void setupModule(SetupContext context) {
+    super.setupModule(context);
+    SimpleDeserializers deserializers = new SimpleDeserializers();
+    SimpleSerializers serializers = new SimpleSerializers();
+    addCodecs(deserializers, serializers);
+    context.addDeserializers(deserializers);
+    context.addSerializers(serializers);
+  }
+
+  @Override
+  public Object getTypeId() {
+    return getClass().getName();
+  }
+
+  /**
+   * @return the generated codec modules available from the class loader
+   */
+  public static List<CodecModule> findModules(ClassLoader classLoader) {
+    List<CodecModule> result = new ArrayList<>();
+    ServiceLoader.load(CodecModule.class, classLoader).forEach(result::add);
+    return result;
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Streaming serializer for a generated model type, extended by the generated codecs.
+ * <p>
+ * The properties are written in their declared order, skipping null values and empty collections, followed by the
+ * additional properties. As with the {@link BeanPropertyWriterDelegate} a property that also has a value in the
+ * additional properties is only written from the additional properties.
+ *
+ * @param <T> the model type
+ */
+public abstract class CodecSerializer<T> extends StdSerializer<T> {
+
+  protected CodecSerializer(Class<T> type) {
+    super(type);
+  }
+
+  /**
+   * Write the properties of the value with {@link #writeField} and {@link #writeNonEmptyField}.
+   */
+  protected abstract void writeProperties(T value, JsonGenerator gen, SerializerProvider provider,
+      Map<String, Object> additionalProperties) throws IOException;
+
+  protected Map<String, Object> getAdditionalProperties(T value) {
+    return null;
+  }
+
+  @Override
+  public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    writeContents(value, gen, provider);
+    gen.writeEndObject();
+  }
+
+  @Override
+  public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+      throws IOException {
+    WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+    writeContents(value, gen, provider);
+    typeSer.writeTypeSuffix(gen, typeId);
+  }
+
+  private void writeContents(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    Map<String, Object> additionalProperties = getAdditionalProperties(value);
+    if (additionalProperties != null && additionalProperties.isEmpty()) {
+      additionalProperties = null;
+    }
+    writeProperties(value, gen, provider, additionalProperties);
+    if (additionalProperties != null) {
+      for (Map.Entry<String, Object> entry : additionalProperties.entrySet()) {
+        if (entry.getValue() == null) {
+          gen.writeNullField(entry.getKey());
+        } else {
+          writeValue(gen, provider, entry.getKey(), entry.getValue());
+        }
+      }
+    }
+  }
+
+  protected void writeField(JsonGenerator gen, SerializerProvider provider, Map<String, Object> additionalProperties,
+      String name, Object value) throws IOException {
+    if (value == null || (additionalProperties != null && additionalProperties.get(name) != null)) {
+      return;
+    }
+    writeValue(gen, provider, name, value);
+  }
+
+  protected void writeNonEmptyField(JsonGenerator gen, SerializerProvider provider,
+      Map<String, Object> additionalProperties, String name, Object value) throws IOException {
+    if ((value instanceof Collection && ((Collection<?>) value).isEmpty())
+        || (value instanceof Map && ((Map<?, ?>) value).isEmpty())) {
+      return;
+    }
+    writeField(gen, provider, additionalProperties, name, value);
+  }
+
+  private static void writeValue(JsonGenerator gen, SerializerProvider provider, String name, Object value)
+      throws IOException {
+    if (value instanceof String) {
+      gen.writeStringField(name, (String) value);
+    } else {
+      provider.defaultSerializeField(name, value, gen);
+    }
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.util;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.model.DeepCopyable;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deep copies the values held by model objects, used by the {@link DeepCopyable#deepCopy()} implementations.
+ */
+public class DeepCopy {
+
+  // the names of the JsonProperty fields of each model class
+  private static final ClassValue<Set<String>> DECLARED_PROPERTIES = new ClassValue<Set<String>>() {
+    @Override
+    protected Set<String> computeValue(Class<?> type) {
+      final Set<String> names = new HashSet<>();
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          final JsonProperty property = field.getAnnotation(JsonProperty.class);
+          if (property != null) {
+            names.add(property.value().isEmpty() ? field.getName() : property.value());
+          }
+        }
+      }
+      return names;
+    }
+  };
+
+  private DeepCopy() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Copies a value of a model field.
+   * <p>
+   * Immutable values are returned as they are, {@link DeepCopyable} values and JsonNodes are copied by themselves,
+   * Lists, Sets and Maps are copied into new modifiable collections with their elements copied.
+   *
+   * @param value the value to copy, may be null
+   * @return the copy
+   * @throws UnsupportedOperationException if the value, or any of its nested values, can't be copied
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T copy(T value) {
+    if (value == null || isImmutable(value)) {
+      return value;
+    } else if (value instanceof DeepCopyable) {
+      return (T) ((DeepCopyable<?>) value).deepCopy();
+    } else if (value instanceof List) {
+      return (T) copyInto(new ArrayList<>(((List<?>) value).size()), (List<?>) value);
+    } else if (value instanceof Set) {
+      return (T) copyInto(new LinkedHashSet<>(), (Set<?>) value);
+    } else if (value instanceof Map) {
+      final Map<Object, Object> copy = new LinkedHashMap<>();
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        copy.put(entry.getKey(), copy(entry.getValue()));
+      }
+      return (T) copy;
+    } else if (value instanceof JsonNode) {
+      return (T) ((JsonNode) value).deepCopy();
+    } else if (value instanceof byte[]) {
+      return (T) ((byte[]) value).clone();
+    }
+    throw new UnsupportedOperationException("Can't deep copy values of " + value.getClass().getName());
+  }
+
+  /**
+   * Copies the additional properties of a model object.
+   * <p>
+   * An additional property named like a declared property of the object, such as one holding a value of a mismatched
+   * type, replaces that property when the object is serialized. Its copy therefore depends on the serialization, and
+   * such properties are not copied here.
+   *
+   * @param type the class of the model object, whose {@link JsonProperty} fields are its declared properties
+   * @param additionalProperties the additional properties to copy, may be null
+   * @return the copy
+   * @throws UnsupportedOperationException if an additional property is named like a declared property, or any of
+   *         the values can't be copied
+   */
+  public static Map<String, Object> copyAdditionalProperties(Class<?> type, Map<String, Object> additionalProperties) {
+    if (additionalProperties != null && !additionalProperties.isEmpty()) {
+      final Set<String> declared = DECLARED_PROPERTIES.get(type);
+      for (String name : additionalProperties.keySet()) {
+        if (declared.contains(name)) {
+          throw new UnsupportedOperationException(
+              "Can't deep copy the additional property " + name + " of " + type.getName() + ", it's a declared property");
+        }
+      }
+    }
+    return copy(additionalProperties);
+  }
+
+  private static <C extends Collection<Object>> C copyInto(C copy, Collection<?> values) {
+    for (Object value : values) {
+      copy.add(copy(value));
+    }
+    return copy;
+  }
+
+  private static boolean isImmutable(Object value) {
+    return value instanceof String
+        || value instanceof Boolean
+        || value instanceof Character
+        || value instanceof Integer
+        || value instanceof Long
+        || value instanceof Double
+        || value instanceof Float
+        || value instanceof Short
+        || value instanceof Byte
+        || value instanceof BigDecimal
+        || value instanceof BigInteger
+        || value instanceof Enum
+        || (value instanceof TemporalAccessor && value.getClass().getName().startsWith("java.time."));
+  }
+}
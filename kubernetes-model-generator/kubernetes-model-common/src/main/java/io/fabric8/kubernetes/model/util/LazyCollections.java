@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.util;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Views of the collection fields of model objects that are left null until something is written to them, returned
+ * by the getters of models generated with lazy collection initialization.
+ * <p>
+ * A view reads as empty while its field is null, so reading a shared instance never writes to it. The first write
+ * allocates the collection and attaches it to the field, and every later read or write goes to that collection.
+ */
+public class LazyCollections {
+
+  private LazyCollections() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Returns a view of a List field.
+   *
+   * @param field reads the current value of the field, may return null
+   * @param attach stores a newly allocated list in the field
+   * @return the modifiable view
+   */
+  public static <E> List<E> list(Supplier<List<E>> field, Consumer<List<E>> attach) {
+    return new LazyList<>(field, attach);
+  }
+
+  /**
+   * Returns a view of a Map field.
+   *
+   * @param field reads the current value of the field, may return null
+   * @param attach stores a newly allocated map in the field
+   * @return the modifiable view
+   */
+  public static <K, V> Map<K, V> map(Supplier<Map<K, V>> field, Consumer<Map<K, V>> attach) {
+    return new LazyMap<>(field, attach);
+  }
+
+  private static final class LazyList<E> extends AbstractList<E> {
+
+    private final Supplier<List<E>> field;
+    private final Consumer<List<E>> attach;
+
+    private LazyList(Supplier<List<E>> field, Consumer<List<E>> attach) {
+      this.field = field;
+      this.attach = attach;
+    }
+
+    private List<E> read() {
+      final List<E> list = field.get();
+      return list != null ? list : Collections.emptyList();
+    }
+
+    private List<E> write() {
+      List<E> list = field.get();
+      if (list == null) {
+        list = new ArrayList<>();
+        attach.accept(list);
+      }
+      return list;
+    }
+
+    @Override
+    public E get(int index) {
+      return read().get(index);
+    }
+
+    @Override
+    public int size() {
+      return read().size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+      return write().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+      write().add(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+      return write().remove(index);
+    }
+  }
+
+  private static final class LazyMap<K, V> extends AbstractMap<K, V> {
+
+    private final Supplier<Map<K, V>> field;
+    private final Consumer<Map<K, V>> attach;
+
+    private LazyMap(Supplier<Map<K, V>> field, Consumer<Map<K, V>> attach) {
+      this.field = field;
+      this.attach = attach;
+    }
+
+    private Map<K, V> read() {
+      final Map<K, V> map = field.get();
+      return map != null ? map : Collections.emptyMap();
+    }
+
+    private Map<K, V> write() {
+      Map<K, V> map = field.get();
+      if (map == null) {
+        map = new LinkedHashMap<>();
+        attach.accept(map);
+      }
+      return map;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+      // removing through the entries of an unset map has nothing to remove, so it needs no write
+      return read().entrySet();
+    }
+
+    @Override
+    public int size() {
+      return read().size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return read().containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+      return read().get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+      return write().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+      final Map<K, V> map = field.get();
+      return map != null ? map.remove(key) : null;
+    }
+
+    @Override
+    public void clear() {
+      final Map<K, V> map = field.get();
+      if (map != null) {
+        map.clear();
+      }
+    }
+  }
+}
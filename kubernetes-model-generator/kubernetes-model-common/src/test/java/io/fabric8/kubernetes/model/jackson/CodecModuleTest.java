@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CodecModuleTest {
+
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    objectMapper.registerModules(new GoCompatibilityModule(), new ExampleCodecs());
+  }
+
+  @Test
+  @DisplayName("readValue, with codec, sets properties and keeps unknown fields in additionalProperties")
+  void readValue() throws IOException {
+    // When
+    final Example result = objectMapper.readValue(
+        "{\"unknown\":{\"a\":[1]},\"name\":\"n\",\"replicas\":\"3\",\"tags\":[\"a\",null],\"nested\":{\"name\":\"x\"}}",
+        Example.class);
+    // Then
+    assertThat(result.name).isEqualTo("n");
+    assertThat(result.replicas).isEqualTo(3);
+    assertThat(result.tags).containsExactly("a", null);
+    assertThat(result.nested.name).isEqualTo("x");
+    assertThat(result.additionalProperties).containsOnlyKeys("unknown");
+  }
+
+  @Test
+  @DisplayName("readValue, with null values, sets null properties")
+  void readValueWithNulls() throws IOException {
+    // When
+    final Example result = objectMapper.readValue("{\"name\":null,\"tags\":null,\"nested\":null,\"other\":null}",
+        Example.class);
+    // Then
+    assertThat(result.name).isNull();
+    assertThat(result.tags).isNull();
+    assertThat(result.nested).isNull();
+    assertThat(result.additionalProperties).containsEntry("other", null);
+  }
+
+  @Test
+  @DisplayName("readValue, with unmatched type fields outside of templates, throws exception")
+  void readValueWithUnmatchedType() {
+    assertThatThrownBy(() -> objectMapper.readValue("{\"replicas\":\"${REPLICAS}\"}", Example.class))
+        .isInstanceOf(MismatchedInputException.class);
+  }
+
+  @Test
+  @DisplayName("readValue, with unmatched type fields in templates, keeps value in additionalProperties")
+  void readValueWithUnmatchedTypeInTemplate() throws IOException {
+    UnmatchedFieldTypeModule.setInTemplate();
+    try {
+      // When
+      final Example result = objectMapper.readValue("{\"name\":\"n\",\"replicas\":\"${REPLICAS}\"}", Example.class);
+      // Then
+      assertThat(result.replicas).isNull();
+      assertThat(result.additionalProperties).containsEntry("replicas", "${REPLICAS}");
+      assertThat(objectMapper.writeValueAsString(result)).isEqualTo("{\"name\":\"n\",\"replicas\":\"${REPLICAS}\"}");
+    } finally {
+      UnmatchedFieldTypeModule.removeInTemplate();
+    }
+  }
+
+  @Test
+  @DisplayName("readerForUpdating, with codec, updates existing instance")
+  void readerForUpdating() throws IOException {
+    // Given
+    final Example existing = new Example();
+    existing.name = "existing";
+    // When
+    final Example result = objectMapper.readerForUpdating(existing).readValue("{\"replicas\":1}");
+    // Then
+    assertThat(result).isSameAs(existing);
+    assertThat(result.name).isEqualTo("existing");
+    assertThat(result.replicas).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("readValue, with unknown fields and no additionalProperties, fails as configured")
+  void readValueWithUnknownFieldWithoutAdditionalProperties() throws IOException {
+    assertThatThrownBy(() -> objectMapper.readValue("{\"name\":\"n\",\"unknown\":1}", Nested.class))
+        .isInstanceOf(UnrecognizedPropertyException.class);
+    assertThat(objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .readValue("{\"unknown\":{\"a\":1},\"name\":\"n\"}", Nested.class).name).isEqualTo("n");
+  }
+
+  @Test
+  @DisplayName("writeValueAsString, with codec, writes non-null properties in order and then additionalProperties")
+  void writeValueAsString() throws IOException {
+    // Given
+    final Example example = new Example();
+    example.replicas = 2;
+    example.name = "n";
+    example.nested = new Nested();
+    example.additionalProperties.put("extra", null);
+    // When
+    final String result = objectMapper.writeValueAsString(example);
+    // Then
+    assertThat(result).isEqualTo("{\"name\":\"n\",\"replicas\":2,\"nested\":{},\"extra\":null}");
+  }
+
+  @Test
+  @DisplayName("writeValueAsString, with value in additionalProperties, only writes the additional value")
+  void writeValueAsStringWithDuplicateInAdditionalProperties() throws IOException {
+    // Given
+    final Example example = new Example();
+    example.name = "n";
+    example.replicas = 1;
+    example.additionalProperties.put("replicas", "${REPLICAS}");
+    // When
+    final String result = objectMapper.writeValueAsString(example);
+    // Then
+    assertThat(result).isEqualTo("{\"name\":\"n\",\"replicas\":\"${REPLICAS}\"}");
+  }
+
+  @Test
+  @DisplayName("findModules, without generated modules, returns empty list")
+  void findModules() {
+    assertThat(CodecModule.findModules(CodecModuleTest.class.getClassLoader())).isEmpty();
+  }
+
+  static class ExampleCodecs extends CodecModule {
+
+    ExampleCodecs() {
+      super("ExampleCodecs");
+    }
+
+    @Override
+    protected void addCodecs(SimpleDeserializers deserializers, SimpleSerializers serializers) {
+      deserializers.addDeserializer(Example.class, new ExampleDeserializer());
+      serializers.addSerializer(Example.class, new ExampleSerializer());
+      deserializers.addDeserializer(Nested.class, new NestedDeserializer());
+      serializers.addSerializer(Nested.class, new NestedSerializer());
+    }
+  }
+
+  static class Example {
+    private String name;
+    private Integer replicas;
+    private List<String> tags = new ArrayList<>();
+    private Nested nested;
+    private final Map<String, Object> additionalProperties = new LinkedHashMap<>();
+  }
+
+  static class Nested {
+    private String name;
+  }
+
+  private static final TypeReference<List<String>> TYPE_TAGS = new TypeReference<List<String>>() {
+  };
+
+  static final class ExampleDeserializer extends CodecDeserializer<Example> {
+
+    ExampleDeserializer() {
+      super(Example.class, true);
+    }
+
+    @Override
+    protected Example create() {
+      return new Example();
+    }
+
+    @Override
+    protected boolean readProperty(Example value, String name, JsonParser p, DeserializationContext ctxt)
+        throws IOException {
+      switch (name) {
+        case "name":
+          value.name = read(p, ctxt, String.class);
+          return true;
+        case "replicas":
+          value.replicas = read(p, ctxt, Integer.class);
+          return true;
+        case "tags":
+          value.tags = read(p, ctxt, TYPE_TAGS);
+          return true;
+        case "nested":
+          value.nested = read(p, ctxt, Nested.class);
+          return true;
+        default:
+          return false;
+      }
+    }
+
+    @Override
+    protected void setAdditionalProperty(Example value, String name, Object additionalProperty) {
+      value.additionalProperties.put(name, additionalProperty);
+    }
+  }
+
+  static final class ExampleSerializer extends CodecSerializer<Example> {
+
+    ExampleSerializer() {
+      super(Example.class);
+    }
+
+    @Override
+    protected void writeProperties(Example value, JsonGenerator gen, SerializerProvider provider,
+        Map<String, Object> additionalProperties) throws IOException {
+      writeField(gen, provider, additionalProperties, "name", value.name);
+      writeField(gen, provider, additionalProperties, "replicas", value.replicas);
+      writeNonEmptyField(gen, provider, additionalProperties, "tags", value.tags);
+      writeField(gen, provider, additionalProperties, "nested", value.nested);
+    }
+
+    @Override
+    protected Map<String, Object> getAdditionalProperties(Example value) {
+      return value.additionalProperties;
+    }
+  }
+
+  static final class NestedDeserializer extends CodecDeserializer<Nested> {
+
+    NestedDeserializer() {
+      super(Nested.class, false);
+    }
+
+    @Override
+    protected Nested create() {
+      return new Nested();
+    }
+
+    @Override
+    protected boolean readProperty(Nested value, String name, JsonParser p, DeserializationContext ctxt)
+        throws IOException {
+      if (name.equals("name")) {
+        value.name = read(p, ctxt, String.class);
+        return true;
+      }
+      return false;
+    }
+  }
+
+  static final class NestedSerializer extends CodecSerializer<Nested> {
+
+    NestedSerializer() {
+      super(Nested.class);
+    }
+
+    @Override
+    protected void writeProperties(Nested value, JsonGenerator gen, SerializerProvider provider,
+        Map<String, Object> additionalProperties) throws IOException {
+      writeField(gen, provider, additionalProperties, "name", value.name);
+    }
+  }
+}
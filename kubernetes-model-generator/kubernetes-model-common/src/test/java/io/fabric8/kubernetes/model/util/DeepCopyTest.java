@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.util;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeepCopyTest {
+
+  @Test
+  void nullIsCopiedAsNull() {
+    assertThat(DeepCopy.<Object> copy(null)).isNull();
+  }
+
+  @Test
+  void immutableValuesAreShared() {
+    final BigDecimal decimal = new BigDecimal("1.5");
+    final OffsetDateTime time = OffsetDateTime.now();
+    assertThat(DeepCopy.copy(decimal)).isSameAs(decimal);
+    assertThat(DeepCopy.copy(time)).isSameAs(time);
+    assertThat(DeepCopy.copy("value")).isSameAs("value");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void collectionsAreCopiedRecursively() {
+    // Given
+    final List<Object> nested = new ArrayList<>(Arrays.asList("a", "b"));
+    final Map<String, Object> map = new LinkedHashMap<>();
+    map.put("list", nested);
+    map.put("set", new LinkedHashSet<>(Collections.singleton(1)));
+    // When
+    final Map<String, Object> copy = DeepCopy.copy(map);
+    // Then
+    assertThat(copy).isEqualTo(map).isNotSameAs(map);
+    assertThat(copy.get("list")).isNotSameAs(nested);
+    ((List<Object>) copy.get("list")).add("c");
+    ((Set<Object>) copy.get("set")).add(2);
+    assertThat(nested).containsExactly("a", "b");
+    assertThat((Set<Object>) map.get("set")).containsExactly(1);
+  }
+
+  @Test
+  void immutableCollectionsAreCopiedAsModifiable() {
+    final List<String> copy = DeepCopy.copy(Collections.singletonList("a"));
+    copy.add("b");
+    assertThat(copy).containsExactly("a", "b");
+  }
+
+  @Test
+  void deepCopyableAndJsonNodeValuesCopyThemselves() {
+    final Copyable copyable = new Copyable();
+    final ObjectNode node = JsonNodeFactory.instance.objectNode().put("key", "value");
+    assertThat(DeepCopy.copy(copyable)).isNotSameAs(copyable).isInstanceOf(Copyable.class);
+    assertThat(DeepCopy.copy(node)).isEqualTo(node).isNotSameAs(node);
+  }
+
+  @Test
+  void otherValuesAreNotSupported() {
+    final List<Object> list = Collections.singletonList(new Object());
+    assertThatThrownBy(() -> DeepCopy.copy(list))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("Can't deep copy values of java.lang.Object");
+  }
+
+  @Test
+  void additionalPropertiesAreCopied() {
+    final Map<String, Object> additionalProperties = new LinkedHashMap<>();
+    additionalProperties.put("f:metadata", new LinkedHashMap<>(Collections.singletonMap("f:labels", "value")));
+    final Map<String, Object> copy = DeepCopy.copyAdditionalProperties(WithProperties.class, additionalProperties);
+    assertThat(copy).isEqualTo(additionalProperties);
+    assertThat(copy.get("f:metadata")).isNotSameAs(additionalProperties.get("f:metadata"));
+    assertThat(DeepCopy.copyAdditionalProperties(WithProperties.class, null)).isNull();
+  }
+
+  @Test
+  void additionalPropertiesNamedLikeDeclaredPropertiesAreNotSupported() {
+    final Map<String, Object> additionalProperties = Collections.singletonMap("immutable", "${immutable}");
+    assertThatThrownBy(() -> DeepCopy.copyAdditionalProperties(WithProperties.class, additionalProperties))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessageContaining("immutable");
+  }
+
+  private static final class WithProperties {
+    @JsonProperty("immutable")
+    private Boolean immutable;
+    @JsonProperty
+    private String name;
+  }
+
+  private static final class Copyable implements DeepCopyable<Copyable> {
+
+    @Override
+    public Copyable deepCopy() {
+      return new Copyable();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.model.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyCollectionsTest {
+
+  private List<String> list;
+  private Map<String, String> map;
+
+  private List<String> getList() {
+    return list != null ? list : LazyCollections.list(() -> this.list, list -> this.list = list);
+  }
+
+  private Map<String, String> getMap() {
+    return map != null ? map : LazyCollections.map(() -> this.map, map -> this.map = map);
+  }
+
+  @Test
+  void readingAnUnsetFieldLeavesItNull() {
+    assertThat(getList()).isEmpty();
+    assertThat(getList()).isEqualTo(Collections.emptyList()).hasSameHashCodeAs(Collections.emptyList());
+    assertThat(getMap()).isEmpty();
+    assertThat(getMap().get("key")).isNull();
+    assertThat(getMap()).isEqualTo(Collections.emptyMap());
+    getList().clear();
+    getMap().remove("key");
+    getMap().clear();
+    assertThat(list).isNull();
+    assertThat(map).isNull();
+  }
+
+  @Test
+  void writingAttachesTheCollection() {
+    getList().add("a");
+    getMap().put("key", "value");
+
+    assertThat(list).containsExactly("a");
+    assertThat(map).containsExactly(Map.entry("key", "value"));
+  }
+
+  @Test
+  void viewsObtainedBeforeTheFirstWriteShareTheAttachedCollection() {
+    final List<String> first = getList();
+    final List<String> second = getList();
+    final Map<String, String> firstMap = getMap();
+    final Map<String, String> secondMap = getMap();
+
+    first.add("a");
+    second.add("b");
+    firstMap.put("a", "1");
+    secondMap.computeIfAbsent("b", k -> "2");
+
+    assertThat(list).containsExactly("a", "b");
+    assertThat(first).isEqualTo(second).containsExactly("a", "b");
+    assertThat(map).containsExactly(Map.entry("a", "1"), Map.entry("b", "2"));
+    assertThat(firstMap).isEqualTo(secondMap);
+  }
+}
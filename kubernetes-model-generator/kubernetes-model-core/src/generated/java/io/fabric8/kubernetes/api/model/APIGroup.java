@@ -14,8 +14,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -49,7 +51,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class APIGroup implements Editable<APIGroupBuilder>, KubernetesResource
+public class APIGroup implements Editable<APIGroupBuilder>, DeepCopyable<APIGroup>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -193,6 +195,19 @@ public class APIGroup implements Editable<APIGroupBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public APIGroup deepCopy() {
+        APIGroup copy = new APIGroup();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.preferredVersion = DeepCopy.copy(this.preferredVersion);
+        copy.serverAddressByClientCIDRs = DeepCopy.copy(this.serverAddressByClientCIDRs);
+        copy.versions = DeepCopy.copy(this.versions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIGroup.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
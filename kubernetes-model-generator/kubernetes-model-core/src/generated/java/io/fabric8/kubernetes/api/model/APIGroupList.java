@@ -14,8 +14,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -46,7 +48,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class APIGroupList implements Editable<APIGroupListBuilder>, KubernetesResource
+public class APIGroupList implements Editable<APIGroupListBuilder>, DeepCopyable<APIGroupList>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -131,6 +133,16 @@ public class APIGroupList implements Editable<APIGroupListBuilder>, KubernetesRe
         return edit();
     }
 
+    @Override
+    public APIGroupList deepCopy() {
+        APIGroupList copy = new APIGroupList();
+        copy.apiVersion = this.apiVersion;
+        copy.groups = DeepCopy.copy(this.groups);
+        copy.kind = this.kind;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIGroupList.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -44,7 +46,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class APIResource implements Editable<APIResourceBuilder>, KubernetesResource
+public class APIResource implements Editable<APIResourceBuilder>, DeepCopyable<APIResource>, KubernetesResource
 {
 
     @JsonProperty("categories")
@@ -266,6 +268,23 @@ public class APIResource implements Editable<APIResourceBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public APIResource deepCopy() {
+        APIResource copy = new APIResource();
+        copy.categories = DeepCopy.copy(this.categories);
+        copy.group = this.group;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.namespaced = this.namespaced;
+        copy.shortNames = DeepCopy.copy(this.shortNames);
+        copy.singularName = this.singularName;
+        copy.storageVersionHash = this.storageVersionHash;
+        copy.verbs = DeepCopy.copy(this.verbs);
+        copy.version = this.version;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIResource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
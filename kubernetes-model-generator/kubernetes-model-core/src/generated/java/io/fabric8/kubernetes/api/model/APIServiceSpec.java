@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class APIServiceSpec implements Editable<APIServiceSpecBuilder>, KubernetesResource
+public class APIServiceSpec implements Editable<APIServiceSpecBuilder>, DeepCopyable<APIServiceSpec>, KubernetesResource
 {
 
     @JsonProperty("caBundle")
@@ -198,6 +200,20 @@ public class APIServiceSpec implements Editable<APIServiceSpecBuilder>, Kubernet
         return edit();
     }
 
+    @Override
+    public APIServiceSpec deepCopy() {
+        APIServiceSpec copy = new APIServiceSpec();
+        copy.caBundle = this.caBundle;
+        copy.group = this.group;
+        copy.groupPriorityMinimum = this.groupPriorityMinimum;
+        copy.insecureSkipTLSVerify = this.insecureSkipTLSVerify;
+        copy.service = DeepCopy.copy(this.service);
+        copy.version = this.version;
+        copy.versionPriority = this.versionPriority;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIServiceSpec.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,8 +14,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -47,7 +49,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class APIVersions implements Editable<APIVersionsBuilder>, KubernetesResource
+public class APIVersions implements Editable<APIVersionsBuilder>, DeepCopyable<APIVersions>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -153,6 +155,17 @@ public class APIVersions implements Editable<APIVersionsBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public APIVersions deepCopy() {
+        APIVersions copy = new APIVersions();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.serverAddressByClientCIDRs = DeepCopy.copy(this.serverAddressByClientCIDRs);
+        copy.versions = DeepCopy.copy(this.versions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(APIVersions.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Affinity implements Editable<AffinityBuilder>, KubernetesResource
+public class Affinity implements Editable<AffinityBuilder>, DeepCopyable<Affinity>, KubernetesResource
 {
 
     @JsonProperty("nodeAffinity")
@@ -118,6 +120,16 @@ public class Affinity implements Editable<AffinityBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Affinity deepCopy() {
+        Affinity copy = new Affinity();
+        copy.nodeAffinity = DeepCopy.copy(this.nodeAffinity);
+        copy.podAffinity = DeepCopy.copy(this.podAffinity);
+        copy.podAntiAffinity = DeepCopy.copy(this.podAntiAffinity);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Affinity.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
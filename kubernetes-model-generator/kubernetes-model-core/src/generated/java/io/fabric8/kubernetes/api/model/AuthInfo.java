@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -46,7 +48,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class AuthInfo implements Editable<AuthInfoBuilder>, KubernetesResource
+public class AuthInfo implements Editable<AuthInfoBuilder>, DeepCopyable<AuthInfo>, KubernetesResource
 {
 
     @JsonProperty("as")
@@ -273,6 +275,28 @@ public class AuthInfo implements Editable<AuthInfoBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public AuthInfo deepCopy() {
+        AuthInfo copy = new AuthInfo();
+        copy.as = this.as;
+        copy.asGroups = DeepCopy.copy(this.asGroups);
+        copy.asUid = this.asUid;
+        copy.asUserExtra = DeepCopy.copy(this.asUserExtra);
+        copy.authProvider = DeepCopy.copy(this.authProvider);
+        copy.clientCertificate = this.clientCertificate;
+        copy.clientCertificateData = this.clientCertificateData;
+        copy.clientKey = this.clientKey;
+        copy.clientKeyData = this.clientKeyData;
+        copy.exec = DeepCopy.copy(this.exec);
+        copy.extensions = DeepCopy.copy(this.extensions);
+        copy.password = this.password;
+        copy.token = this.token;
+        copy.tokenFile = this.tokenFile;
+        copy.username = this.username;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(AuthInfo.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -31,7 +33,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class AuthProviderConfig implements Editable<AuthProviderConfigBuilder>, KubernetesResource
+public class AuthProviderConfig implements Editable<AuthProviderConfigBuilder>, DeepCopyable<AuthProviderConfig>, KubernetesResource
 {
 
     @JsonProperty("config")
@@ -85,6 +87,15 @@ public class AuthProviderConfig implements Editable<AuthProviderConfigBuilder>,
         return edit();
     }
 
+    @Override
+    public AuthProviderConfig deepCopy() {
+        AuthProviderConfig copy = new AuthProviderConfig();
+        copy.config = DeepCopy.copy(this.config);
+        copy.name = this.name;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(AuthProviderConfig.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
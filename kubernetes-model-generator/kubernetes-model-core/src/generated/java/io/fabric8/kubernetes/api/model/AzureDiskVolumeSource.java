@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class AzureDiskVolumeSource implements Editable<AzureDiskVolumeSourceBuilder>, KubernetesResource
+public class AzureDiskVolumeSource implements Editable<AzureDiskVolumeSourceBuilder>, DeepCopyable<AzureDiskVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("cachingMode")
@@ -178,6 +180,19 @@ public class AzureDiskVolumeSource implements Editable<AzureDiskVolumeSourceBuil
         return edit();
     }
 
+    @Override
+    public AzureDiskVolumeSource deepCopy() {
+        AzureDiskVolumeSource copy = new AzureDiskVolumeSource();
+        copy.cachingMode = this.cachingMode;
+        copy.diskName = this.diskName;
+        copy.diskURI = this.diskURI;
+        copy.fsType = this.fsType;
+        copy.kind = this.kind;
+        copy.readOnly = this.readOnly;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(AzureDiskVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
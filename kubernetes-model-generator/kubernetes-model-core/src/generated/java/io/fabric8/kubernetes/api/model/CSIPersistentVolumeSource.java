@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class CSIPersistentVolumeSource implements Editable<CSIPersistentVolumeSourceBuilder>, KubernetesResource
+public class CSIPersistentVolumeSource implements Editable<CSIPersistentVolumeSourceBuilder>, DeepCopyable<CSIPersistentVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("controllerExpandSecretRef")
@@ -260,6 +262,23 @@ public class CSIPersistentVolumeSource implements Editable<CSIPersistentVolumeSo
         return edit();
     }
 
+    @Override
+    public CSIPersistentVolumeSource deepCopy() {
+        CSIPersistentVolumeSource copy = new CSIPersistentVolumeSource();
+        copy.controllerExpandSecretRef = DeepCopy.copy(this.controllerExpandSecretRef);
+        copy.controllerPublishSecretRef = DeepCopy.copy(this.controllerPublishSecretRef);
+        copy.driver = this.driver;
+        copy.fsType = this.fsType;
+        copy.nodeExpandSecretRef = DeepCopy.copy(this.nodeExpandSecretRef);
+        copy.nodePublishSecretRef = DeepCopy.copy(this.nodePublishSecretRef);
+        copy.nodeStageSecretRef = DeepCopy.copy(this.nodeStageSecretRef);
+        copy.readOnly = this.readOnly;
+        copy.volumeAttributes = DeepCopy.copy(this.volumeAttributes);
+        copy.volumeHandle = this.volumeHandle;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(CSIPersistentVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class CSIVolumeSource implements Editable<CSIVolumeSourceBuilder>, KubernetesResource
+public class CSIVolumeSource implements Editable<CSIVolumeSourceBuilder>, DeepCopyable<CSIVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("driver")
@@ -160,6 +162,18 @@ public class CSIVolumeSource implements Editable<CSIVolumeSourceBuilder>, Kubern
         return edit();
     }
 
+    @Override
+    public CSIVolumeSource deepCopy() {
+        CSIVolumeSource copy = new CSIVolumeSource();
+        copy.driver = this.driver;
+        copy.fsType = this.fsType;
+        copy.nodePublishSecretRef = DeepCopy.copy(this.nodePublishSecretRef);
+        copy.readOnly = this.readOnly;
+        copy.volumeAttributes = DeepCopy.copy(this.volumeAttributes);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(CSIVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -40,7 +42,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class CephFSVolumeSource implements Editable<CephFSVolumeSourceBuilder>, KubernetesResource
+public class CephFSVolumeSource implements Editable<CephFSVolumeSourceBuilder>, DeepCopyable<CephFSVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("monitors")
@@ -182,6 +184,19 @@ public class CephFSVolumeSource implements Editable<CephFSVolumeSourceBuilder>,
         return edit();
     }
 
+    @Override
+    public CephFSVolumeSource deepCopy() {
+        CephFSVolumeSource copy = new CephFSVolumeSource();
+        copy.monitors = DeepCopy.copy(this.monitors);
+        copy.path = this.path;
+        copy.readOnly = this.readOnly;
+        copy.secretFile = this.secretFile;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.user = this.user;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(CephFSVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class CinderVolumeSource implements Editable<CinderVolumeSourceBuilder>, KubernetesResource
+public class CinderVolumeSource implements Editable<CinderVolumeSourceBuilder>, DeepCopyable<CinderVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("fsType")
@@ -138,6 +140,17 @@ public class CinderVolumeSource implements Editable<CinderVolumeSourceBuilder>,
         return edit();
     }
 
+    @Override
+    public CinderVolumeSource deepCopy() {
+        CinderVolumeSource copy = new CinderVolumeSource();
+        copy.fsType = this.fsType;
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.volumeID = this.volumeID;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(CinderVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Cluster implements Editable<ClusterBuilder>, KubernetesResource
+public class Cluster implements Editable<ClusterBuilder>, DeepCopyable<Cluster>, KubernetesResource
 {
 
     @JsonProperty("certificate-authority")
@@ -171,6 +173,21 @@ public class Cluster implements Editable<ClusterBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Cluster deepCopy() {
+        Cluster copy = new Cluster();
+        copy.certificateAuthority = this.certificateAuthority;
+        copy.certificateAuthorityData = this.certificateAuthorityData;
+        copy.disableCompression = this.disableCompression;
+        copy.extensions = DeepCopy.copy(this.extensions);
+        copy.insecureSkipTlsVerify = this.insecureSkipTlsVerify;
+        copy.proxyUrl = this.proxyUrl;
+        copy.server = this.server;
+        copy.tlsServerName = this.tlsServerName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Cluster.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ClusterTrustBundleProjection implements Editable<ClusterTrustBundleProjectionBuilder>, KubernetesResource
+public class ClusterTrustBundleProjection implements Editable<ClusterTrustBundleProjectionBuilder>, DeepCopyable<ClusterTrustBundleProjection>, KubernetesResource
 {
 
     @JsonProperty("labelSelector")
@@ -158,6 +160,18 @@ public class ClusterTrustBundleProjection implements Editable<ClusterTrustBundle
         return edit();
     }
 
+    @Override
+    public ClusterTrustBundleProjection deepCopy() {
+        ClusterTrustBundleProjection copy = new ClusterTrustBundleProjection();
+        copy.labelSelector = DeepCopy.copy(this.labelSelector);
+        copy.name = this.name;
+        copy.optional = this.optional;
+        copy.path = this.path;
+        copy.signerName = this.signerName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ClusterTrustBundleProjection.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
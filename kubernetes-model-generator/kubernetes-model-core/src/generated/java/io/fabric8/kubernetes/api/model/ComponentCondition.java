@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ComponentCondition implements Editable<ComponentConditionBuilder>, KubernetesResource
+public class ComponentCondition implements Editable<ComponentConditionBuilder>, DeepCopyable<ComponentCondition>, KubernetesResource
 {
 
     @JsonProperty("error")
@@ -138,6 +140,17 @@ public class ComponentCondition implements Editable<ComponentConditionBuilder>,
         return edit();
     }
 
+    @Override
+    public ComponentCondition deepCopy() {
+        ComponentCondition copy = new ComponentCondition();
+        copy.error = this.error;
+        copy.message = this.message;
+        copy.status = this.status;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ComponentCondition.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
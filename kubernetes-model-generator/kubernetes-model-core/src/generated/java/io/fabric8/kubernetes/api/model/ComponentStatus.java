@@ -14,8 +14,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -47,7 +49,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ComponentStatus implements Editable<ComponentStatusBuilder>, HasMetadata
+public class ComponentStatus implements Editable<ComponentStatusBuilder>, DeepCopyable<ComponentStatus>, HasMetadata
 {
 
     @JsonProperty("apiVersion")
@@ -151,6 +153,17 @@ public class ComponentStatus implements Editable<ComponentStatusBuilder>, HasMet
         return edit();
     }
 
+    @Override
+    public ComponentStatus deepCopy() {
+        ComponentStatus copy = new ComponentStatus();
+        copy.apiVersion = this.apiVersion;
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ComponentStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Config implements Editable<ConfigBuilder>, KubernetesResource
+public class Config implements Editable<ConfigBuilder>, DeepCopyable<Config>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -177,6 +179,21 @@ public class Config implements Editable<ConfigBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Config deepCopy() {
+        Config copy = new Config();
+        copy.apiVersion = this.apiVersion;
+        copy.clusters = DeepCopy.copy(this.clusters);
+        copy.contexts = DeepCopy.copy(this.contexts);
+        copy.currentContext = this.currentContext;
+        copy.extensions = DeepCopy.copy(this.extensions);
+        copy.kind = this.kind;
+        copy.preferences = DeepCopy.copy(this.preferences);
+        copy.users = DeepCopy.copy(this.users);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Config.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -47,7 +49,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ConfigMap implements Editable<ConfigMapBuilder>, HasMetadata, Namespaced
+public class ConfigMap implements Editable<ConfigMapBuilder>, DeepCopyable<ConfigMap>, HasMetadata, Namespaced
 {
 
     @JsonProperty("apiVersion")
@@ -191,6 +193,19 @@ public class ConfigMap implements Editable<ConfigMapBuilder>, HasMetadata, Names
         return edit();
     }
 
+    @Override
+    public ConfigMap deepCopy() {
+        ConfigMap copy = new ConfigMap();
+        copy.apiVersion = this.apiVersion;
+        copy.binaryData = DeepCopy.copy(this.binaryData);
+        copy.data = DeepCopy.copy(this.data);
+        copy.immutable = this.immutable;
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ConfigMap.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
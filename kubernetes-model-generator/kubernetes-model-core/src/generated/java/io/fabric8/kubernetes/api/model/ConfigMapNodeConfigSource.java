@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ConfigMapNodeConfigSource implements Editable<ConfigMapNodeConfigSourceBuilder>, KubernetesResource
+public class ConfigMapNodeConfigSource implements Editable<ConfigMapNodeConfigSourceBuilder>, DeepCopyable<ConfigMapNodeConfigSource>, KubernetesResource
 {
 
     @JsonProperty("kubeletConfigKey")
@@ -158,6 +160,18 @@ public class ConfigMapNodeConfigSource implements Editable<ConfigMapNodeConfigSo
         return edit();
     }
 
+    @Override
+    public ConfigMapNodeConfigSource deepCopy() {
+        ConfigMapNodeConfigSource copy = new ConfigMapNodeConfigSource();
+        copy.kubeletConfigKey = this.kubeletConfigKey;
+        copy.name = this.name;
+        copy.namespace = this.namespace;
+        copy.resourceVersion = this.resourceVersion;
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ConfigMapNodeConfigSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ConfigMapVolumeSource implements Editable<ConfigMapVolumeSourceBuilder>, KubernetesResource
+public class ConfigMapVolumeSource implements Editable<ConfigMapVolumeSourceBuilder>, DeepCopyable<ConfigMapVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("defaultMode")
@@ -142,6 +144,17 @@ public class ConfigMapVolumeSource implements Editable<ConfigMapVolumeSourceBuil
         return edit();
     }
 
+    @Override
+    public ConfigMapVolumeSource deepCopy() {
+        ConfigMapVolumeSource copy = new ConfigMapVolumeSource();
+        copy.defaultMode = this.defaultMode;
+        copy.items = DeepCopy.copy(this.items);
+        copy.name = this.name;
+        copy.optional = this.optional;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ConfigMapVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -58,7 +60,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Container implements Editable<ContainerBuilder>, KubernetesResource
+public class Container implements Editable<ContainerBuilder>, DeepCopyable<Container>, KubernetesResource
 {
 
     @JsonProperty("args")
@@ -556,6 +558,37 @@ public class Container implements Editable<ContainerBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Container deepCopy() {
+        Container copy = new Container();
+        copy.args = DeepCopy.copy(this.args);
+        copy.command = DeepCopy.copy(this.command);
+        copy.env = DeepCopy.copy(this.env);
+        copy.envFrom = DeepCopy.copy(this.envFrom);
+        copy.image = this.image;
+        copy.imagePullPolicy = this.imagePullPolicy;
+        copy.lifecycle = DeepCopy.copy(this.lifecycle);
+        copy.livenessProbe = DeepCopy.copy(this.livenessProbe);
+        copy.name = this.name;
+        copy.ports = DeepCopy.copy(this.ports);
+        copy.readinessProbe = DeepCopy.copy(this.readinessProbe);
+        copy.resizePolicy = DeepCopy.copy(this.resizePolicy);
+        copy.resources = DeepCopy.copy(this.resources);
+        copy.restartPolicy = this.restartPolicy;
+        copy.securityContext = DeepCopy.copy(this.securityContext);
+        copy.startupProbe = DeepCopy.copy(this.startupProbe);
+        copy.stdin = this.stdin;
+        copy.stdinOnce = this.stdinOnce;
+        copy.terminationMessagePath = this.terminationMessagePath;
+        copy.terminationMessagePolicy = this.terminationMessagePolicy;
+        copy.tty = this.tty;
+        copy.volumeDevices = DeepCopy.copy(this.volumeDevices);
+        copy.volumeMounts = DeepCopy.copy(this.volumeMounts);
+        copy.workingDir = this.workingDir;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Container.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ContainerPort implements Editable<ContainerPortBuilder>, KubernetesResource
+public class ContainerPort implements Editable<ContainerPortBuilder>, DeepCopyable<ContainerPort>, KubernetesResource
 {
 
     @JsonProperty("containerPort")
@@ -158,6 +160,18 @@ public class ContainerPort implements Editable<ContainerPortBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public ContainerPort deepCopy() {
+        ContainerPort copy = new ContainerPort();
+        copy.containerPort = this.containerPort;
+        copy.hostIP = this.hostIP;
+        copy.hostPort = this.hostPort;
+        copy.name = this.name;
+        copy.protocol = this.protocol;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ContainerPort.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ContainerState implements Editable<ContainerStateBuilder>, KubernetesResource
+public class ContainerState implements Editable<ContainerStateBuilder>, DeepCopyable<ContainerState>, KubernetesResource
 {
 
     @JsonProperty("running")
@@ -118,6 +120,16 @@ public class ContainerState implements Editable<ContainerStateBuilder>, Kubernet
         return edit();
     }
 
+    @Override
+    public ContainerState deepCopy() {
+        ContainerState copy = new ContainerState();
+        copy.running = DeepCopy.copy(this.running);
+        copy.terminated = DeepCopy.copy(this.terminated);
+        copy.waiting = DeepCopy.copy(this.waiting);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ContainerState.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
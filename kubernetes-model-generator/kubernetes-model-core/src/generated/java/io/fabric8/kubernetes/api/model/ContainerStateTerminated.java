@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ContainerStateTerminated implements Editable<ContainerStateTerminatedBuilder>, KubernetesResource
+public class ContainerStateTerminated implements Editable<ContainerStateTerminatedBuilder>, DeepCopyable<ContainerStateTerminated>, KubernetesResource
 {
 
     @JsonProperty("containerID")
@@ -198,6 +200,20 @@ public class ContainerStateTerminated implements Editable<ContainerStateTerminat
         return edit();
     }
 
+    @Override
+    public ContainerStateTerminated deepCopy() {
+        ContainerStateTerminated copy = new ContainerStateTerminated();
+        copy.containerID = this.containerID;
+        copy.exitCode = this.exitCode;
+        copy.finishedAt = this.finishedAt;
+        copy.message = this.message;
+        copy.reason = this.reason;
+        copy.signal = this.signal;
+        copy.startedAt = this.startedAt;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ContainerStateTerminated.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
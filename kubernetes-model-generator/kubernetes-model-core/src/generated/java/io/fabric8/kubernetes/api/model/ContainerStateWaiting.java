@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ContainerStateWaiting implements Editable<ContainerStateWaitingBuilder>, KubernetesResource
+public class ContainerStateWaiting implements Editable<ContainerStateWaitingBuilder>, DeepCopyable<ContainerStateWaiting>, KubernetesResource
 {
 
     @JsonProperty("message")
@@ -98,6 +100,15 @@ public class ContainerStateWaiting implements Editable<ContainerStateWaitingBuil
         return edit();
     }
 
+    @Override
+    public ContainerStateWaiting deepCopy() {
+        ContainerStateWaiting copy = new ContainerStateWaiting();
+        copy.message = this.message;
+        copy.reason = this.reason;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ContainerStateWaiting.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
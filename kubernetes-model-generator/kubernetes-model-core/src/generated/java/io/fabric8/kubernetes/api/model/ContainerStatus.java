@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -48,7 +50,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ContainerStatus implements Editable<ContainerStatusBuilder>, KubernetesResource
+public class ContainerStatus implements Editable<ContainerStatusBuilder>, DeepCopyable<ContainerStatus>, KubernetesResource
 {
 
     @JsonProperty("allocatedResources")
@@ -346,6 +348,27 @@ public class ContainerStatus implements Editable<ContainerStatusBuilder>, Kubern
         return edit();
     }
 
+    @Override
+    public ContainerStatus deepCopy() {
+        ContainerStatus copy = new ContainerStatus();
+        copy.allocatedResources = DeepCopy.copy(this.allocatedResources);
+        copy.allocatedResourcesStatus = DeepCopy.copy(this.allocatedResourcesStatus);
+        copy.containerID = this.containerID;
+        copy.image = this.image;
+        copy.imageID = this.imageID;
+        copy.lastState = DeepCopy.copy(this.lastState);
+        copy.name = this.name;
+        copy.ready = this.ready;
+        copy.resources = DeepCopy.copy(this.resources);
+        copy.restartCount = this.restartCount;
+        copy.started = this.started;
+        copy.state = DeepCopy.copy(this.state);
+        copy.user = DeepCopy.copy(this.user);
+        copy.volumeMounts = DeepCopy.copy(this.volumeMounts);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ContainerStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
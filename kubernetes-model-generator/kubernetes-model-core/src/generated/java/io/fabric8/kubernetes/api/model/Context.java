@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Context implements Editable<ContextBuilder>, KubernetesResource
+public class Context implements Editable<ContextBuilder>, DeepCopyable<Context>, KubernetesResource
 {
 
     @JsonProperty("cluster")
@@ -115,6 +117,17 @@ public class Context implements Editable<ContextBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Context deepCopy() {
+        Context copy = new Context();
+        copy.cluster = this.cluster;
+        copy.extensions = DeepCopy.copy(this.extensions);
+        copy.namespace = this.namespace;
+        copy.user = this.user;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Context.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
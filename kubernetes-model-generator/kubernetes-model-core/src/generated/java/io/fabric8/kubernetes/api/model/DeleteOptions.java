@@ -14,8 +14,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -48,7 +50,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class DeleteOptions implements Editable<DeleteOptionsBuilder>, KubernetesResource
+public class DeleteOptions implements Editable<DeleteOptionsBuilder>, DeepCopyable<DeleteOptions>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -180,6 +182,21 @@ public class DeleteOptions implements Editable<DeleteOptionsBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public DeleteOptions deepCopy() {
+        DeleteOptions copy = new DeleteOptions();
+        copy.apiVersion = this.apiVersion;
+        copy.dryRun = DeepCopy.copy(this.dryRun);
+        copy.gracePeriodSeconds = this.gracePeriodSeconds;
+        copy.ignoreStoreReadErrorWithClusterBreakingPotential = this.ignoreStoreReadErrorWithClusterBreakingPotential;
+        copy.kind = this.kind;
+        copy.orphanDependents = this.orphanDependents;
+        copy.preconditions = DeepCopy.copy(this.preconditions);
+        copy.propagationPolicy = this.propagationPolicy;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DeleteOptions.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class DownwardAPIVolumeFile implements Editable<DownwardAPIVolumeFileBuilder>, KubernetesResource
+public class DownwardAPIVolumeFile implements Editable<DownwardAPIVolumeFileBuilder>, DeepCopyable<DownwardAPIVolumeFile>, KubernetesResource
 {
 
     @JsonProperty("fieldRef")
@@ -138,6 +140,17 @@ public class DownwardAPIVolumeFile implements Editable<DownwardAPIVolumeFileBuil
         return edit();
     }
 
+    @Override
+    public DownwardAPIVolumeFile deepCopy() {
+        DownwardAPIVolumeFile copy = new DownwardAPIVolumeFile();
+        copy.fieldRef = DeepCopy.copy(this.fieldRef);
+        copy.mode = this.mode;
+        copy.path = this.path;
+        copy.resourceFieldRef = DeepCopy.copy(this.resourceFieldRef);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DownwardAPIVolumeFile.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
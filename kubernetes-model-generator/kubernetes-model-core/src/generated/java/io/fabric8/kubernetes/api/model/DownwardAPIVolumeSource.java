@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class DownwardAPIVolumeSource implements Editable<DownwardAPIVolumeSourceBuilder>, KubernetesResource
+public class DownwardAPIVolumeSource implements Editable<DownwardAPIVolumeSourceBuilder>, DeepCopyable<DownwardAPIVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("defaultMode")
@@ -102,6 +104,15 @@ public class DownwardAPIVolumeSource implements Editable<DownwardAPIVolumeSource
         return edit();
     }
 
+    @Override
+    public DownwardAPIVolumeSource deepCopy() {
+        DownwardAPIVolumeSource copy = new DownwardAPIVolumeSource();
+        copy.defaultMode = this.defaultMode;
+        copy.items = DeepCopy.copy(this.items);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(DownwardAPIVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class EndpointAddress implements Editable<EndpointAddressBuilder>, KubernetesResource
+public class EndpointAddress implements Editable<EndpointAddressBuilder>, DeepCopyable<EndpointAddress>, KubernetesResource
 {
 
     @JsonProperty("hostname")
@@ -138,6 +140,17 @@ public class EndpointAddress implements Editable<EndpointAddressBuilder>, Kubern
         return edit();
     }
 
+    @Override
+    public EndpointAddress deepCopy() {
+        EndpointAddress copy = new EndpointAddress();
+        copy.hostname = this.hostname;
+        copy.ip = this.ip;
+        copy.nodeName = this.nodeName;
+        copy.targetRef = DeepCopy.copy(this.targetRef);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EndpointAddress.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class EndpointPort implements Editable<EndpointPortBuilder>, KubernetesResource
+public class EndpointPort implements Editable<EndpointPortBuilder>, DeepCopyable<EndpointPort>, KubernetesResource
 {
 
     @JsonProperty("appProtocol")
@@ -138,6 +140,17 @@ public class EndpointPort implements Editable<EndpointPortBuilder>, KubernetesRe
         return edit();
     }
 
+    @Override
+    public EndpointPort deepCopy() {
+        EndpointPort copy = new EndpointPort();
+        copy.appProtocol = this.appProtocol;
+        copy.name = this.name;
+        copy.port = this.port;
+        copy.protocol = this.protocol;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EndpointPort.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
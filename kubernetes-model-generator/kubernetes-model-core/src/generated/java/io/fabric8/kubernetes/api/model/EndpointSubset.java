@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class EndpointSubset implements Editable<EndpointSubsetBuilder>, KubernetesResource
+public class EndpointSubset implements Editable<EndpointSubsetBuilder>, DeepCopyable<EndpointSubset>, KubernetesResource
 {
 
     @JsonProperty("addresses")
@@ -126,6 +128,16 @@ public class EndpointSubset implements Editable<EndpointSubsetBuilder>, Kubernet
         return edit();
     }
 
+    @Override
+    public EndpointSubset deepCopy() {
+        EndpointSubset copy = new EndpointSubset();
+        copy.addresses = DeepCopy.copy(this.addresses);
+        copy.notReadyAddresses = DeepCopy.copy(this.notReadyAddresses);
+        copy.ports = DeepCopy.copy(this.ports);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EndpointSubset.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
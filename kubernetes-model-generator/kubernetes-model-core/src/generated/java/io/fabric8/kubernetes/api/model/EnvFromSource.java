@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class EnvFromSource implements Editable<EnvFromSourceBuilder>, KubernetesResource
+public class EnvFromSource implements Editable<EnvFromSourceBuilder>, DeepCopyable<EnvFromSource>, KubernetesResource
 {
 
     @JsonProperty("configMapRef")
@@ -118,6 +120,16 @@ public class EnvFromSource implements Editable<EnvFromSourceBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public EnvFromSource deepCopy() {
+        EnvFromSource copy = new EnvFromSource();
+        copy.configMapRef = DeepCopy.copy(this.configMapRef);
+        copy.prefix = this.prefix;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EnvFromSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
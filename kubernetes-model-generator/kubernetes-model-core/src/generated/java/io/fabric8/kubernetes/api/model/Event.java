@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -58,7 +60,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Event implements Editable<EventBuilder>, HasMetadata, Namespaced
+public class Event implements Editable<EventBuilder>, DeepCopyable<Event>, HasMetadata, Namespaced
 {
 
     @JsonProperty("action")
@@ -407,6 +409,30 @@ public class Event implements Editable<EventBuilder>, HasMetadata, Namespaced
         return edit();
     }
 
+    @Override
+    public Event deepCopy() {
+        Event copy = new Event();
+        copy.action = this.action;
+        copy.apiVersion = this.apiVersion;
+        copy.count = this.count;
+        copy.eventTime = DeepCopy.copy(this.eventTime);
+        copy.firstTimestamp = this.firstTimestamp;
+        copy.involvedObject = DeepCopy.copy(this.involvedObject);
+        copy.kind = this.kind;
+        copy.lastTimestamp = this.lastTimestamp;
+        copy.message = this.message;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.reason = this.reason;
+        copy.related = DeepCopy.copy(this.related);
+        copy.reportingComponent = this.reportingComponent;
+        copy.reportingInstance = this.reportingInstance;
+        copy.series = DeepCopy.copy(this.series);
+        copy.source = DeepCopy.copy(this.source);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Event.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
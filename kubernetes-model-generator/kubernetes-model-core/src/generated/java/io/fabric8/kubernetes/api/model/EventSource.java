@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class EventSource implements Editable<EventSourceBuilder>, KubernetesResource
+public class EventSource implements Editable<EventSourceBuilder>, DeepCopyable<EventSource>, KubernetesResource
 {
 
     @JsonProperty("component")
@@ -98,6 +100,15 @@ public class EventSource implements Editable<EventSourceBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public EventSource deepCopy() {
+        EventSource copy = new EventSource();
+        copy.component = this.component;
+        copy.host = this.host;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(EventSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
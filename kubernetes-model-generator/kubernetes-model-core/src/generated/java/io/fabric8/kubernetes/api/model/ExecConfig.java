@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ExecConfig implements Editable<ExecConfigBuilder>, KubernetesResource
+public class ExecConfig implements Editable<ExecConfigBuilder>, DeepCopyable<ExecConfig>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -159,6 +161,20 @@ public class ExecConfig implements Editable<ExecConfigBuilder>, KubernetesResour
         return edit();
     }
 
+    @Override
+    public ExecConfig deepCopy() {
+        ExecConfig copy = new ExecConfig();
+        copy.apiVersion = this.apiVersion;
+        copy.args = DeepCopy.copy(this.args);
+        copy.command = this.command;
+        copy.env = DeepCopy.copy(this.env);
+        copy.installHint = this.installHint;
+        copy.interactiveMode = this.interactiveMode;
+        copy.provideClusterInfo = this.provideClusterInfo;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ExecConfig.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
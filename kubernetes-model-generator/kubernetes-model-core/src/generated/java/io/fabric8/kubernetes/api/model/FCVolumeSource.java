@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class FCVolumeSource implements Editable<FCVolumeSourceBuilder>, KubernetesResource
+public class FCVolumeSource implements Editable<FCVolumeSourceBuilder>, DeepCopyable<FCVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("fsType")
@@ -164,6 +166,18 @@ public class FCVolumeSource implements Editable<FCVolumeSourceBuilder>, Kubernet
         return edit();
     }
 
+    @Override
+    public FCVolumeSource deepCopy() {
+        FCVolumeSource copy = new FCVolumeSource();
+        copy.fsType = this.fsType;
+        copy.lun = this.lun;
+        copy.readOnly = this.readOnly;
+        copy.targetWWNs = DeepCopy.copy(this.targetWWNs);
+        copy.wwids = DeepCopy.copy(this.wwids);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(FCVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class FieldSelectorRequirement implements Editable<FieldSelectorRequirementBuilder>, KubernetesResource
+public class FieldSelectorRequirement implements Editable<FieldSelectorRequirementBuilder>, DeepCopyable<FieldSelectorRequirement>, KubernetesResource
 {
 
     @JsonProperty("key")
@@ -122,6 +124,16 @@ public class FieldSelectorRequirement implements Editable<FieldSelectorRequireme
         return edit();
     }
 
+    @Override
+    public FieldSelectorRequirement deepCopy() {
+        FieldSelectorRequirement copy = new FieldSelectorRequirement();
+        copy.key = this.key;
+        copy.operator = this.operator;
+        copy.values = DeepCopy.copy(this.values);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(FieldSelectorRequirement.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
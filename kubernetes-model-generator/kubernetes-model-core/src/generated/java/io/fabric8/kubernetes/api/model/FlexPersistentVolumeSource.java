@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class FlexPersistentVolumeSource implements Editable<FlexPersistentVolumeSourceBuilder>, KubernetesResource
+public class FlexPersistentVolumeSource implements Editable<FlexPersistentVolumeSourceBuilder>, DeepCopyable<FlexPersistentVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("driver")
@@ -160,6 +162,18 @@ public class FlexPersistentVolumeSource implements Editable<FlexPersistentVolume
         return edit();
     }
 
+    @Override
+    public FlexPersistentVolumeSource deepCopy() {
+        FlexPersistentVolumeSource copy = new FlexPersistentVolumeSource();
+        copy.driver = this.driver;
+        copy.fsType = this.fsType;
+        copy.options = DeepCopy.copy(this.options);
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(FlexPersistentVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class FlexVolumeSource implements Editable<FlexVolumeSourceBuilder>, KubernetesResource
+public class FlexVolumeSource implements Editable<FlexVolumeSourceBuilder>, DeepCopyable<FlexVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("driver")
@@ -160,6 +162,18 @@ public class FlexVolumeSource implements Editable<FlexVolumeSourceBuilder>, Kube
         return edit();
     }
 
+    @Override
+    public FlexVolumeSource deepCopy() {
+        FlexVolumeSource copy = new FlexVolumeSource();
+        copy.driver = this.driver;
+        copy.fsType = this.fsType;
+        copy.options = DeepCopy.copy(this.options);
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(FlexVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
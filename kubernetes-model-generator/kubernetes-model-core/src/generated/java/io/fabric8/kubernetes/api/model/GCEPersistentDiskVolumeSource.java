@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class GCEPersistentDiskVolumeSource implements Editable<GCEPersistentDiskVolumeSourceBuilder>, KubernetesResource
+public class GCEPersistentDiskVolumeSource implements Editable<GCEPersistentDiskVolumeSourceBuilder>, DeepCopyable<GCEPersistentDiskVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("fsType")
@@ -138,6 +140,17 @@ public class GCEPersistentDiskVolumeSource implements Editable<GCEPersistentDisk
         return edit();
     }
 
+    @Override
+    public GCEPersistentDiskVolumeSource deepCopy() {
+        GCEPersistentDiskVolumeSource copy = new GCEPersistentDiskVolumeSource();
+        copy.fsType = this.fsType;
+        copy.partition = this.partition;
+        copy.pdName = this.pdName;
+        copy.readOnly = this.readOnly;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GCEPersistentDiskVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
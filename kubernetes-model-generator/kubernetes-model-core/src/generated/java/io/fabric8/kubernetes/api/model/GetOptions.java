@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class GetOptions implements Editable<GetOptionsBuilder>, KubernetesResource
+public class GetOptions implements Editable<GetOptionsBuilder>, DeepCopyable<GetOptions>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -106,6 +108,16 @@ public class GetOptions implements Editable<GetOptionsBuilder>, KubernetesResour
         return edit();
     }
 
+    @Override
+    public GetOptions deepCopy() {
+        GetOptions copy = new GetOptions();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.resourceVersion = this.resourceVersion;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GetOptions.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class GlusterfsPersistentVolumeSource implements Editable<GlusterfsPersistentVolumeSourceBuilder>, KubernetesResource
+public class GlusterfsPersistentVolumeSource implements Editable<GlusterfsPersistentVolumeSourceBuilder>, DeepCopyable<GlusterfsPersistentVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("endpoints")
@@ -138,6 +140,17 @@ public class GlusterfsPersistentVolumeSource implements Editable<GlusterfsPersis
         return edit();
     }
 
+    @Override
+    public GlusterfsPersistentVolumeSource deepCopy() {
+        GlusterfsPersistentVolumeSource copy = new GlusterfsPersistentVolumeSource();
+        copy.endpoints = this.endpoints;
+        copy.endpointsNamespace = this.endpointsNamespace;
+        copy.path = this.path;
+        copy.readOnly = this.readOnly;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GlusterfsPersistentVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
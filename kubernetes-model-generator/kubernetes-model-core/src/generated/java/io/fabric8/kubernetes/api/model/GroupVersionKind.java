@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -32,7 +34,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class GroupVersionKind implements Editable<GroupVersionKindBuilder>, KubernetesResource
+public class GroupVersionKind implements Editable<GroupVersionKindBuilder>, DeepCopyable<GroupVersionKind>, KubernetesResource
 {
 
     @JsonProperty("group")
@@ -97,6 +99,16 @@ public class GroupVersionKind implements Editable<GroupVersionKindBuilder>, Kube
         return edit();
     }
 
+    @Override
+    public GroupVersionKind deepCopy() {
+        GroupVersionKind copy = new GroupVersionKind();
+        copy.group = this.group;
+        copy.kind = this.kind;
+        copy.version = this.version;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(GroupVersionKind.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class HTTPGetAction implements Editable<HTTPGetActionBuilder>, KubernetesResource
+public class HTTPGetAction implements Editable<HTTPGetActionBuilder>, DeepCopyable<HTTPGetAction>, KubernetesResource
 {
 
     @JsonProperty("host")
@@ -162,6 +164,18 @@ public class HTTPGetAction implements Editable<HTTPGetActionBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public HTTPGetAction deepCopy() {
+        HTTPGetAction copy = new HTTPGetAction();
+        copy.host = this.host;
+        copy.httpHeaders = DeepCopy.copy(this.httpHeaders);
+        copy.path = this.path;
+        copy.port = DeepCopy.copy(this.port);
+        copy.scheme = this.scheme;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(HTTPGetAction.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
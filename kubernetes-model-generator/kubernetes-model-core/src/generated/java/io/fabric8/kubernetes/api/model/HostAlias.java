@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class HostAlias implements Editable<HostAliasBuilder>, KubernetesResource
+public class HostAlias implements Editable<HostAliasBuilder>, DeepCopyable<HostAlias>, KubernetesResource
 {
 
     @JsonProperty("hostnames")
@@ -102,6 +104,15 @@ public class HostAlias implements Editable<HostAliasBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public HostAlias deepCopy() {
+        HostAlias copy = new HostAlias();
+        copy.hostnames = DeepCopy.copy(this.hostnames);
+        copy.ip = this.ip;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(HostAlias.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class HostIP implements Editable<HostIPBuilder>, KubernetesResource
+public class HostIP implements Editable<HostIPBuilder>, DeepCopyable<HostIP>, KubernetesResource
 {
 
     @JsonProperty("ip")
@@ -78,6 +80,14 @@ public class HostIP implements Editable<HostIPBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public HostIP deepCopy() {
+        HostIP copy = new HostIP();
+        copy.ip = this.ip;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(HostIP.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
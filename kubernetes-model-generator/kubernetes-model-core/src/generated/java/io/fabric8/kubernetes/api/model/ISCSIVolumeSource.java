@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -45,7 +47,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ISCSIVolumeSource implements Editable<ISCSIVolumeSourceBuilder>, KubernetesResource
+public class ISCSIVolumeSource implements Editable<ISCSIVolumeSourceBuilder>, DeepCopyable<ISCSIVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("chapAuthDiscovery")
@@ -282,6 +284,24 @@ public class ISCSIVolumeSource implements Editable<ISCSIVolumeSourceBuilder>, Ku
         return edit();
     }
 
+    @Override
+    public ISCSIVolumeSource deepCopy() {
+        ISCSIVolumeSource copy = new ISCSIVolumeSource();
+        copy.chapAuthDiscovery = this.chapAuthDiscovery;
+        copy.chapAuthSession = this.chapAuthSession;
+        copy.fsType = this.fsType;
+        copy.initiatorName = this.initiatorName;
+        copy.iqn = this.iqn;
+        copy.iscsiInterface = this.iscsiInterface;
+        copy.lun = this.lun;
+        copy.portals = DeepCopy.copy(this.portals);
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.targetPortal = this.targetPortal;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ISCSIVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class LabelSelector implements Editable<LabelSelectorBuilder>, KubernetesResource
+public class LabelSelector implements Editable<LabelSelectorBuilder>, DeepCopyable<LabelSelector>, KubernetesResource
 {
 
     @JsonProperty("matchExpressions")
@@ -104,6 +106,15 @@ public class LabelSelector implements Editable<LabelSelectorBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public LabelSelector deepCopy() {
+        LabelSelector copy = new LabelSelector();
+        copy.matchExpressions = DeepCopy.copy(this.matchExpressions);
+        copy.matchLabels = DeepCopy.copy(this.matchLabels);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LabelSelector.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Lifecycle implements Editable<LifecycleBuilder>, KubernetesResource
+public class Lifecycle implements Editable<LifecycleBuilder>, DeepCopyable<Lifecycle>, KubernetesResource
 {
 
     @JsonProperty("postStart")
@@ -98,6 +100,15 @@ public class Lifecycle implements Editable<LifecycleBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Lifecycle deepCopy() {
+        Lifecycle copy = new Lifecycle();
+        copy.postStart = DeepCopy.copy(this.postStart);
+        copy.preStop = DeepCopy.copy(this.preStop);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Lifecycle.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class LifecycleHandler implements Editable<LifecycleHandlerBuilder>, KubernetesResource
+public class LifecycleHandler implements Editable<LifecycleHandlerBuilder>, DeepCopyable<LifecycleHandler>, KubernetesResource
 {
 
     @JsonProperty("exec")
@@ -138,6 +140,17 @@ public class LifecycleHandler implements Editable<LifecycleHandlerBuilder>, Kube
         return edit();
     }
 
+    @Override
+    public LifecycleHandler deepCopy() {
+        LifecycleHandler copy = new LifecycleHandler();
+        copy.exec = DeepCopy.copy(this.exec);
+        copy.httpGet = DeepCopy.copy(this.httpGet);
+        copy.sleep = DeepCopy.copy(this.sleep);
+        copy.tcpSocket = DeepCopy.copy(this.tcpSocket);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LifecycleHandler.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -45,7 +47,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class LimitRange implements Editable<LimitRangeBuilder>, HasMetadata, Namespaced
+public class LimitRange implements Editable<LimitRangeBuilder>, DeepCopyable<LimitRange>, HasMetadata, Namespaced
 {
 
     @JsonProperty("apiVersion")
@@ -147,6 +149,17 @@ public class LimitRange implements Editable<LimitRangeBuilder>, HasMetadata, Nam
         return edit();
     }
 
+    @Override
+    public LimitRange deepCopy() {
+        LimitRange copy = new LimitRange();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.spec = DeepCopy.copy(this.spec);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LimitRange.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
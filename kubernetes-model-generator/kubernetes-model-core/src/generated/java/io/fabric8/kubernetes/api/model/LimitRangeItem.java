@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class LimitRangeItem implements Editable<LimitRangeItemBuilder>, KubernetesResource
+public class LimitRangeItem implements Editable<LimitRangeItemBuilder>, DeepCopyable<LimitRangeItem>, KubernetesResource
 {
 
     @JsonProperty("default")
@@ -188,6 +190,19 @@ public class LimitRangeItem implements Editable<LimitRangeItemBuilder>, Kubernet
         return edit();
     }
 
+    @Override
+    public LimitRangeItem deepCopy() {
+        LimitRangeItem copy = new LimitRangeItem();
+        copy._default = DeepCopy.copy(this._default);
+        copy.defaultRequest = DeepCopy.copy(this.defaultRequest);
+        copy.max = DeepCopy.copy(this.max);
+        copy.maxLimitRequestRatio = DeepCopy.copy(this.maxLimitRequestRatio);
+        copy.min = DeepCopy.copy(this.min);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LimitRangeItem.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class LinuxContainerUser implements Editable<LinuxContainerUserBuilder>, KubernetesResource
+public class LinuxContainerUser implements Editable<LinuxContainerUserBuilder>, DeepCopyable<LinuxContainerUser>, KubernetesResource
 {
 
     @JsonProperty("gid")
@@ -122,6 +124,16 @@ public class LinuxContainerUser implements Editable<LinuxContainerUserBuilder>,
         return edit();
     }
 
+    @Override
+    public LinuxContainerUser deepCopy() {
+        LinuxContainerUser copy = new LinuxContainerUser();
+        copy.gid = this.gid;
+        copy.supplementalGroups = DeepCopy.copy(this.supplementalGroups);
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LinuxContainerUser.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ListMeta implements Editable<ListMetaBuilder>, KubernetesResource
+public class ListMeta implements Editable<ListMetaBuilder>, DeepCopyable<ListMeta>, KubernetesResource
 {
 
     @JsonProperty("continue")
@@ -111,6 +113,17 @@ public class ListMeta implements Editable<ListMetaBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public ListMeta deepCopy() {
+        ListMeta copy = new ListMeta();
+        copy._continue = this._continue;
+        copy.remainingItemCount = this.remainingItemCount;
+        copy.resourceVersion = this.resourceVersion;
+        copy.selfLink = this.selfLink;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ListMeta.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
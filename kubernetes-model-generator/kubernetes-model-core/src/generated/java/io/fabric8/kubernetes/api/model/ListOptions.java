@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -50,7 +52,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ListOptions implements Editable<ListOptionsBuilder>, KubernetesResource
+public class ListOptions implements Editable<ListOptionsBuilder>, DeepCopyable<ListOptions>, KubernetesResource
 {
 
     @JsonProperty("allowWatchBookmarks")
@@ -232,6 +234,25 @@ public class ListOptions implements Editable<ListOptionsBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public ListOptions deepCopy() {
+        ListOptions copy = new ListOptions();
+        copy.allowWatchBookmarks = this.allowWatchBookmarks;
+        copy.apiVersion = this.apiVersion;
+        copy._continue = this._continue;
+        copy.fieldSelector = this.fieldSelector;
+        copy.kind = this.kind;
+        copy.labelSelector = this.labelSelector;
+        copy.limit = this.limit;
+        copy.resourceVersion = this.resourceVersion;
+        copy.resourceVersionMatch = this.resourceVersionMatch;
+        copy.sendInitialEvents = this.sendInitialEvents;
+        copy.timeoutSeconds = this.timeoutSeconds;
+        copy.watch = this.watch;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ListOptions.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class LoadBalancerIngress implements Editable<LoadBalancerIngressBuilder>, KubernetesResource
+public class LoadBalancerIngress implements Editable<LoadBalancerIngressBuilder>, DeepCopyable<LoadBalancerIngress>, KubernetesResource
 {
 
     @JsonProperty("hostname")
@@ -142,6 +144,17 @@ public class LoadBalancerIngress implements Editable<LoadBalancerIngressBuilder>
         return edit();
     }
 
+    @Override
+    public LoadBalancerIngress deepCopy() {
+        LoadBalancerIngress copy = new LoadBalancerIngress();
+        copy.hostname = this.hostname;
+        copy.ip = this.ip;
+        copy.ipMode = this.ipMode;
+        copy.ports = DeepCopy.copy(this.ports);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(LoadBalancerIngress.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ManagedFieldsEntry implements Editable<ManagedFieldsEntryBuilder>, KubernetesResource
+public class ManagedFieldsEntry implements Editable<ManagedFieldsEntryBuilder>, DeepCopyable<ManagedFieldsEntry>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -198,6 +200,20 @@ public class ManagedFieldsEntry implements Editable<ManagedFieldsEntryBuilder>,
         return edit();
     }
 
+    @Override
+    public ManagedFieldsEntry deepCopy() {
+        ManagedFieldsEntry copy = new ManagedFieldsEntry();
+        copy.apiVersion = this.apiVersion;
+        copy.fieldsType = this.fieldsType;
+        copy.fieldsV1 = DeepCopy.copy(this.fieldsV1);
+        copy.manager = this.manager;
+        copy.operation = this.operation;
+        copy.subresource = this.subresource;
+        copy.time = this.time;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ManagedFieldsEntry.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
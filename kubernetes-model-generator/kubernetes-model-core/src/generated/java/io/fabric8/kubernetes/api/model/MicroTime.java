@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -32,7 +34,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class MicroTime implements Editable<MicroTimeBuilder>, KubernetesResource
+public class MicroTime implements Editable<MicroTimeBuilder>, DeepCopyable<MicroTime>, KubernetesResource
 {
 
     @JsonProperty("Time")
@@ -71,6 +73,14 @@ public class MicroTime implements Editable<MicroTimeBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public MicroTime deepCopy() {
+        MicroTime copy = new MicroTime();
+        copy.time = this.time;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(MicroTime.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
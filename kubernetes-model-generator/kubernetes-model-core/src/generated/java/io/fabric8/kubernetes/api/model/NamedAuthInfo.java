@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -31,7 +33,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class NamedAuthInfo implements Editable<NamedAuthInfoBuilder>, KubernetesResource
+public class NamedAuthInfo implements Editable<NamedAuthInfoBuilder>, DeepCopyable<NamedAuthInfo>, KubernetesResource
 {
 
     @JsonProperty("name")
@@ -83,6 +85,15 @@ public class NamedAuthInfo implements Editable<NamedAuthInfoBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public NamedAuthInfo deepCopy() {
+        NamedAuthInfo copy = new NamedAuthInfo();
+        copy.name = this.name;
+        copy.user = DeepCopy.copy(this.user);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NamedAuthInfo.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
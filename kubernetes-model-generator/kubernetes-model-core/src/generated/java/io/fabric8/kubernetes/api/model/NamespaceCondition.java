@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class NamespaceCondition implements Editable<NamespaceConditionBuilder>, KubernetesResource
+public class NamespaceCondition implements Editable<NamespaceConditionBuilder>, DeepCopyable<NamespaceCondition>, KubernetesResource
 {
 
     @JsonProperty("lastTransitionTime")
@@ -158,6 +160,18 @@ public class NamespaceCondition implements Editable<NamespaceConditionBuilder>,
         return edit();
     }
 
+    @Override
+    public NamespaceCondition deepCopy() {
+        NamespaceCondition copy = new NamespaceCondition();
+        copy.lastTransitionTime = this.lastTransitionTime;
+        copy.message = this.message;
+        copy.reason = this.reason;
+        copy.status = this.status;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NamespaceCondition.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class NamespaceSpec implements Editable<NamespaceSpecBuilder>, KubernetesResource
+public class NamespaceSpec implements Editable<NamespaceSpecBuilder>, DeepCopyable<NamespaceSpec>, KubernetesResource
 {
 
     @JsonProperty("finalizers")
@@ -82,6 +84,14 @@ public class NamespaceSpec implements Editable<NamespaceSpecBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public NamespaceSpec deepCopy() {
+        NamespaceSpec copy = new NamespaceSpec();
+        copy.finalizers = DeepCopy.copy(this.finalizers);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NamespaceSpec.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
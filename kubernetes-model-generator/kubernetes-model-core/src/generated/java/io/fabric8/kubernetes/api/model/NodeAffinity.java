@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class NodeAffinity implements Editable<NodeAffinityBuilder>, KubernetesResource
+public class NodeAffinity implements Editable<NodeAffinityBuilder>, DeepCopyable<NodeAffinity>, KubernetesResource
 {
 
     @JsonProperty("preferredDuringSchedulingIgnoredDuringExecution")
@@ -102,6 +104,15 @@ public class NodeAffinity implements Editable<NodeAffinityBuilder>, KubernetesRe
         return edit();
     }
 
+    @Override
+    public NodeAffinity deepCopy() {
+        NodeAffinity copy = new NodeAffinity();
+        copy.preferredDuringSchedulingIgnoredDuringExecution = DeepCopy.copy(this.preferredDuringSchedulingIgnoredDuringExecution);
+        copy.requiredDuringSchedulingIgnoredDuringExecution = DeepCopy.copy(this.requiredDuringSchedulingIgnoredDuringExecution);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeAffinity.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class NodeConfigStatus implements Editable<NodeConfigStatusBuilder>, KubernetesResource
+public class NodeConfigStatus implements Editable<NodeConfigStatusBuilder>, DeepCopyable<NodeConfigStatus>, KubernetesResource
 {
 
     @JsonProperty("active")
@@ -138,6 +140,17 @@ public class NodeConfigStatus implements Editable<NodeConfigStatusBuilder>, Kube
         return edit();
     }
 
+    @Override
+    public NodeConfigStatus deepCopy() {
+        NodeConfigStatus copy = new NodeConfigStatus();
+        copy.active = DeepCopy.copy(this.active);
+        copy.assigned = DeepCopy.copy(this.assigned);
+        copy.error = this.error;
+        copy.lastKnownGood = DeepCopy.copy(this.lastKnownGood);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeConfigStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
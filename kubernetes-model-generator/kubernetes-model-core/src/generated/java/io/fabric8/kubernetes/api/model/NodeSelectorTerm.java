@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class NodeSelectorTerm implements Editable<NodeSelectorTermBuilder>, KubernetesResource
+public class NodeSelectorTerm implements Editable<NodeSelectorTermBuilder>, DeepCopyable<NodeSelectorTerm>, KubernetesResource
 {
 
     @JsonProperty("matchExpressions")
@@ -104,6 +106,15 @@ public class NodeSelectorTerm implements Editable<NodeSelectorTermBuilder>, Kube
         return edit();
     }
 
+    @Override
+    public NodeSelectorTerm deepCopy() {
+        NodeSelectorTerm copy = new NodeSelectorTerm();
+        copy.matchExpressions = DeepCopy.copy(this.matchExpressions);
+        copy.matchFields = DeepCopy.copy(this.matchFields);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeSelectorTerm.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -41,7 +43,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class NodeSpec implements Editable<NodeSpecBuilder>, KubernetesResource
+public class NodeSpec implements Editable<NodeSpecBuilder>, DeepCopyable<NodeSpec>, KubernetesResource
 {
 
     @JsonProperty("configSource")
@@ -204,6 +206,20 @@ public class NodeSpec implements Editable<NodeSpecBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public NodeSpec deepCopy() {
+        NodeSpec copy = new NodeSpec();
+        copy.configSource = DeepCopy.copy(this.configSource);
+        copy.externalID = this.externalID;
+        copy.podCIDR = this.podCIDR;
+        copy.podCIDRs = DeepCopy.copy(this.podCIDRs);
+        copy.providerID = this.providerID;
+        copy.taints = DeepCopy.copy(this.taints);
+        copy.unschedulable = this.unschedulable;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeSpec.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -47,7 +49,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class NodeStatus implements Editable<NodeStatusBuilder>, KubernetesResource
+public class NodeStatus implements Editable<NodeStatusBuilder>, DeepCopyable<NodeStatus>, KubernetesResource
 {
 
     @JsonProperty("addresses")
@@ -336,6 +338,26 @@ public class NodeStatus implements Editable<NodeStatusBuilder>, KubernetesResour
         return edit();
     }
 
+    @Override
+    public NodeStatus deepCopy() {
+        NodeStatus copy = new NodeStatus();
+        copy.addresses = DeepCopy.copy(this.addresses);
+        copy.allocatable = DeepCopy.copy(this.allocatable);
+        copy.capacity = DeepCopy.copy(this.capacity);
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.config = DeepCopy.copy(this.config);
+        copy.daemonEndpoints = DeepCopy.copy(this.daemonEndpoints);
+        copy.features = DeepCopy.copy(this.features);
+        copy.images = DeepCopy.copy(this.images);
+        copy.nodeInfo = DeepCopy.copy(this.nodeInfo);
+        copy.phase = this.phase;
+        copy.runtimeHandlers = DeepCopy.copy(this.runtimeHandlers);
+        copy.volumesAttached = DeepCopy.copy(this.volumesAttached);
+        copy.volumesInUse = DeepCopy.copy(this.volumesInUse);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
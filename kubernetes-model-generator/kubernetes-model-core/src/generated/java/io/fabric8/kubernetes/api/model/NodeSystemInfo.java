@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class NodeSystemInfo implements Editable<NodeSystemInfoBuilder>, KubernetesResource
+public class NodeSystemInfo implements Editable<NodeSystemInfoBuilder>, DeepCopyable<NodeSystemInfo>, KubernetesResource
 {
 
     @JsonProperty("architecture")
@@ -258,6 +260,23 @@ public class NodeSystemInfo implements Editable<NodeSystemInfoBuilder>, Kubernet
         return edit();
     }
 
+    @Override
+    public NodeSystemInfo deepCopy() {
+        NodeSystemInfo copy = new NodeSystemInfo();
+        copy.architecture = this.architecture;
+        copy.bootID = this.bootID;
+        copy.containerRuntimeVersion = this.containerRuntimeVersion;
+        copy.kernelVersion = this.kernelVersion;
+        copy.kubeProxyVersion = this.kubeProxyVersion;
+        copy.kubeletVersion = this.kubeletVersion;
+        copy.machineID = this.machineID;
+        copy.operatingSystem = this.operatingSystem;
+        copy.osImage = this.osImage;
+        copy.systemUUID = this.systemUUID;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(NodeSystemInfo.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -49,7 +51,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ObjectMeta implements Editable<ObjectMetaBuilder>, KubernetesResource
+public class ObjectMeta implements Editable<ObjectMetaBuilder>, DeepCopyable<ObjectMeta>, KubernetesResource
 {
 
     @JsonProperty("annotations")
@@ -370,6 +372,28 @@ public class ObjectMeta implements Editable<ObjectMetaBuilder>, KubernetesResour
         return edit();
     }
 
+    @Override
+    public ObjectMeta deepCopy() {
+        ObjectMeta copy = new ObjectMeta();
+        copy.annotations = DeepCopy.copy(this.annotations);
+        copy.creationTimestamp = this.creationTimestamp;
+        copy.deletionGracePeriodSeconds = this.deletionGracePeriodSeconds;
+        copy.deletionTimestamp = this.deletionTimestamp;
+        copy.finalizers = DeepCopy.copy(this.finalizers);
+        copy.generateName = this.generateName;
+        copy.generation = this.generation;
+        copy.labels = DeepCopy.copy(this.labels);
+        copy.managedFields = DeepCopy.copy(this.managedFields);
+        copy.name = this.name;
+        copy.namespace = this.namespace;
+        copy.ownerReferences = DeepCopy.copy(this.ownerReferences);
+        copy.resourceVersion = this.resourceVersion;
+        copy.selfLink = this.selfLink;
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ObjectMeta.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ObjectReference implements Editable<ObjectReferenceBuilder>, KubernetesResource
+public class ObjectReference implements Editable<ObjectReferenceBuilder>, DeepCopyable<ObjectReference>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -198,6 +200,20 @@ public class ObjectReference implements Editable<ObjectReferenceBuilder>, Kubern
         return edit();
     }
 
+    @Override
+    public ObjectReference deepCopy() {
+        ObjectReference copy = new ObjectReference();
+        copy.apiVersion = this.apiVersion;
+        copy.fieldPath = this.fieldPath;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.namespace = this.namespace;
+        copy.resourceVersion = this.resourceVersion;
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ObjectReference.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
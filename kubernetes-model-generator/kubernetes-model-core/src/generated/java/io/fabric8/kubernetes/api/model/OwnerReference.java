@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -47,7 +49,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class OwnerReference implements Editable<OwnerReferenceBuilder>, KubernetesResource
+public class OwnerReference implements Editable<OwnerReferenceBuilder>, DeepCopyable<OwnerReference>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -187,6 +189,19 @@ public class OwnerReference implements Editable<OwnerReferenceBuilder>, Kubernet
         return edit();
     }
 
+    @Override
+    public OwnerReference deepCopy() {
+        OwnerReference copy = new OwnerReference();
+        copy.apiVersion = this.apiVersion;
+        copy.blockOwnerDeletion = this.blockOwnerDeletion;
+        copy.controller = this.controller;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(OwnerReference.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -32,7 +34,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Patch implements Editable<PatchBuilder>, KubernetesResource
+public class Patch implements Editable<PatchBuilder>, DeepCopyable<Patch>, KubernetesResource
 {
 
     @JsonIgnore
@@ -48,6 +50,13 @@ public class Patch implements Editable<PatchBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Patch deepCopy() {
+        Patch copy = new Patch();
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Patch.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,8 +14,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -46,7 +48,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PatchOptions implements Editable<PatchOptionsBuilder>, KubernetesResource
+public class PatchOptions implements Editable<PatchOptionsBuilder>, DeepCopyable<PatchOptions>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -152,6 +154,19 @@ public class PatchOptions implements Editable<PatchOptionsBuilder>, KubernetesRe
         return edit();
     }
 
+    @Override
+    public PatchOptions deepCopy() {
+        PatchOptions copy = new PatchOptions();
+        copy.apiVersion = this.apiVersion;
+        copy.dryRun = DeepCopy.copy(this.dryRun);
+        copy.fieldManager = this.fieldManager;
+        copy.fieldValidation = this.fieldValidation;
+        copy.force = this.force;
+        copy.kind = this.kind;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PatchOptions.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -46,7 +48,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PersistentVolume implements Editable<PersistentVolumeBuilder>, HasMetadata
+public class PersistentVolume implements Editable<PersistentVolumeBuilder>, DeepCopyable<PersistentVolume>, HasMetadata
 {
 
     @JsonProperty("apiVersion")
@@ -167,6 +169,18 @@ public class PersistentVolume implements Editable<PersistentVolumeBuilder>, HasM
         return edit();
     }
 
+    @Override
+    public PersistentVolume deepCopy() {
+        PersistentVolume copy = new PersistentVolume();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.spec = DeepCopy.copy(this.spec);
+        copy.status = DeepCopy.copy(this.status);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PersistentVolume.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PersistentVolumeClaimCondition implements Editable<PersistentVolumeClaimConditionBuilder>, KubernetesResource
+public class PersistentVolumeClaimCondition implements Editable<PersistentVolumeClaimConditionBuilder>, DeepCopyable<PersistentVolumeClaimCondition>, KubernetesResource
 {
 
     @JsonProperty("lastProbeTime")
@@ -178,6 +180,19 @@ public class PersistentVolumeClaimCondition implements Editable<PersistentVolume
         return edit();
     }
 
+    @Override
+    public PersistentVolumeClaimCondition deepCopy() {
+        PersistentVolumeClaimCondition copy = new PersistentVolumeClaimCondition();
+        copy.lastProbeTime = this.lastProbeTime;
+        copy.lastTransitionTime = this.lastTransitionTime;
+        copy.message = this.message;
+        copy.reason = this.reason;
+        copy.status = this.status;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PersistentVolumeClaimCondition.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -43,7 +45,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PersistentVolumeClaimSpec implements Editable<PersistentVolumeClaimSpecBuilder>, KubernetesResource
+public class PersistentVolumeClaimSpec implements Editable<PersistentVolumeClaimSpecBuilder>, DeepCopyable<PersistentVolumeClaimSpec>, KubernetesResource
 {
 
     @JsonProperty("accessModes")
@@ -242,6 +244,22 @@ public class PersistentVolumeClaimSpec implements Editable<PersistentVolumeClaim
         return edit();
     }
 
+    @Override
+    public PersistentVolumeClaimSpec deepCopy() {
+        PersistentVolumeClaimSpec copy = new PersistentVolumeClaimSpec();
+        copy.accessModes = DeepCopy.copy(this.accessModes);
+        copy.dataSource = DeepCopy.copy(this.dataSource);
+        copy.dataSourceRef = DeepCopy.copy(this.dataSourceRef);
+        copy.resources = DeepCopy.copy(this.resources);
+        copy.selector = DeepCopy.copy(this.selector);
+        copy.storageClassName = this.storageClassName;
+        copy.volumeAttributesClassName = this.volumeAttributesClassName;
+        copy.volumeMode = this.volumeMode;
+        copy.volumeName = this.volumeName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PersistentVolumeClaimSpec.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
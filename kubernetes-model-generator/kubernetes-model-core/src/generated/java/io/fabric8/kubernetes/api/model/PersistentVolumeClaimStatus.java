@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PersistentVolumeClaimStatus implements Editable<PersistentVolumeClaimStatusBuilder>, KubernetesResource
+public class PersistentVolumeClaimStatus implements Editable<PersistentVolumeClaimStatusBuilder>, DeepCopyable<PersistentVolumeClaimStatus>, KubernetesResource
 {
 
     @JsonProperty("accessModes")
@@ -230,6 +232,21 @@ public class PersistentVolumeClaimStatus implements Editable<PersistentVolumeCla
         return edit();
     }
 
+    @Override
+    public PersistentVolumeClaimStatus deepCopy() {
+        PersistentVolumeClaimStatus copy = new PersistentVolumeClaimStatus();
+        copy.accessModes = DeepCopy.copy(this.accessModes);
+        copy.allocatedResourceStatuses = DeepCopy.copy(this.allocatedResourceStatuses);
+        copy.allocatedResources = DeepCopy.copy(this.allocatedResources);
+        copy.capacity = DeepCopy.copy(this.capacity);
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.currentVolumeAttributesClassName = this.currentVolumeAttributesClassName;
+        copy.modifyVolumeStatus = DeepCopy.copy(this.modifyVolumeStatus);
+        copy.phase = this.phase;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PersistentVolumeClaimStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
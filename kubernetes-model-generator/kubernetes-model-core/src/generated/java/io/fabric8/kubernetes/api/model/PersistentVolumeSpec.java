@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -65,7 +67,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PersistentVolumeSpec implements Editable<PersistentVolumeSpecBuilder>, KubernetesResource
+public class PersistentVolumeSpec implements Editable<PersistentVolumeSpecBuilder>, DeepCopyable<PersistentVolumeSpec>, KubernetesResource
 {
 
     @JsonProperty("accessModes")
@@ -686,6 +688,44 @@ public class PersistentVolumeSpec implements Editable<PersistentVolumeSpecBuilde
         return edit();
     }
 
+    @Override
+    public PersistentVolumeSpec deepCopy() {
+        PersistentVolumeSpec copy = new PersistentVolumeSpec();
+        copy.accessModes = DeepCopy.copy(this.accessModes);
+        copy.awsElasticBlockStore = DeepCopy.copy(this.awsElasticBlockStore);
+        copy.azureDisk = DeepCopy.copy(this.azureDisk);
+        copy.azureFile = DeepCopy.copy(this.azureFile);
+        copy.capacity = DeepCopy.copy(this.capacity);
+        copy.cephfs = DeepCopy.copy(this.cephfs);
+        copy.cinder = DeepCopy.copy(this.cinder);
+        copy.claimRef = DeepCopy.copy(this.claimRef);
+        copy.csi = DeepCopy.copy(this.csi);
+        copy.fc = DeepCopy.copy(this.fc);
+        copy.flexVolume = DeepCopy.copy(this.flexVolume);
+        copy.flocker = DeepCopy.copy(this.flocker);
+        copy.gcePersistentDisk = DeepCopy.copy(this.gcePersistentDisk);
+        copy.glusterfs = DeepCopy.copy(this.glusterfs);
+        copy.hostPath = DeepCopy.copy(this.hostPath);
+        copy.iscsi = DeepCopy.copy(this.iscsi);
+        copy.local = DeepCopy.copy(this.local);
+        copy.mountOptions = DeepCopy.copy(this.mountOptions);
+        copy.nfs = DeepCopy.copy(this.nfs);
+        copy.nodeAffinity = DeepCopy.copy(this.nodeAffinity);
+        copy.persistentVolumeReclaimPolicy = this.persistentVolumeReclaimPolicy;
+        copy.photonPersistentDisk = DeepCopy.copy(this.photonPersistentDisk);
+        copy.portworxVolume = DeepCopy.copy(this.portworxVolume);
+        copy.quobyte = DeepCopy.copy(this.quobyte);
+        copy.rbd = DeepCopy.copy(this.rbd);
+        copy.scaleIO = DeepCopy.copy(this.scaleIO);
+        copy.storageClassName = this.storageClassName;
+        copy.storageos = DeepCopy.copy(this.storageos);
+        copy.volumeAttributesClassName = this.volumeAttributesClassName;
+        copy.volumeMode = this.volumeMode;
+        copy.vsphereVolume = DeepCopy.copy(this.vsphereVolume);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PersistentVolumeSpec.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PersistentVolumeStatus implements Editable<PersistentVolumeStatusBuilder>, KubernetesResource
+public class PersistentVolumeStatus implements Editable<PersistentVolumeStatusBuilder>, DeepCopyable<PersistentVolumeStatus>, KubernetesResource
 {
 
     @JsonProperty("lastPhaseTransitionTime")
@@ -138,6 +140,17 @@ public class PersistentVolumeStatus implements Editable<PersistentVolumeStatusBu
         return edit();
     }
 
+    @Override
+    public PersistentVolumeStatus deepCopy() {
+        PersistentVolumeStatus copy = new PersistentVolumeStatus();
+        copy.lastPhaseTransitionTime = this.lastPhaseTransitionTime;
+        copy.message = this.message;
+        copy.phase = this.phase;
+        copy.reason = this.reason;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PersistentVolumeStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PhotonPersistentDiskVolumeSource implements Editable<PhotonPersistentDiskVolumeSourceBuilder>, KubernetesResource
+public class PhotonPersistentDiskVolumeSource implements Editable<PhotonPersistentDiskVolumeSourceBuilder>, DeepCopyable<PhotonPersistentDiskVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("fsType")
@@ -98,6 +100,15 @@ public class PhotonPersistentDiskVolumeSource implements Editable<PhotonPersiste
         return edit();
     }
 
+    @Override
+    public PhotonPersistentDiskVolumeSource deepCopy() {
+        PhotonPersistentDiskVolumeSource copy = new PhotonPersistentDiskVolumeSource();
+        copy.fsType = this.fsType;
+        copy.pdID = this.pdID;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PhotonPersistentDiskVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
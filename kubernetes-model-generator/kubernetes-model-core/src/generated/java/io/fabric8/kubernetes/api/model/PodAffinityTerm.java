@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -40,7 +42,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PodAffinityTerm implements Editable<PodAffinityTermBuilder>, KubernetesResource
+public class PodAffinityTerm implements Editable<PodAffinityTermBuilder>, DeepCopyable<PodAffinityTerm>, KubernetesResource
 {
 
     @JsonProperty("labelSelector")
@@ -186,6 +188,19 @@ public class PodAffinityTerm implements Editable<PodAffinityTermBuilder>, Kubern
         return edit();
     }
 
+    @Override
+    public PodAffinityTerm deepCopy() {
+        PodAffinityTerm copy = new PodAffinityTerm();
+        copy.labelSelector = DeepCopy.copy(this.labelSelector);
+        copy.matchLabelKeys = DeepCopy.copy(this.matchLabelKeys);
+        copy.mismatchLabelKeys = DeepCopy.copy(this.mismatchLabelKeys);
+        copy.namespaceSelector = DeepCopy.copy(this.namespaceSelector);
+        copy.namespaces = DeepCopy.copy(this.namespaces);
+        copy.topologyKey = this.topologyKey;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodAffinityTerm.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
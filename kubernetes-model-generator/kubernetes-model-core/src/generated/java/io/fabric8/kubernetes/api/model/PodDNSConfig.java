@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PodDNSConfig implements Editable<PodDNSConfigBuilder>, KubernetesResource
+public class PodDNSConfig implements Editable<PodDNSConfigBuilder>, DeepCopyable<PodDNSConfig>, KubernetesResource
 {
 
     @JsonProperty("nameservers")
@@ -126,6 +128,16 @@ public class PodDNSConfig implements Editable<PodDNSConfigBuilder>, KubernetesRe
         return edit();
     }
 
+    @Override
+    public PodDNSConfig deepCopy() {
+        PodDNSConfig copy = new PodDNSConfig();
+        copy.nameservers = DeepCopy.copy(this.nameservers);
+        copy.options = DeepCopy.copy(this.options);
+        copy.searches = DeepCopy.copy(this.searches);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodDNSConfig.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,8 +14,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -48,7 +50,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PodExecOptions implements Editable<PodExecOptionsBuilder>, KubernetesResource
+public class PodExecOptions implements Editable<PodExecOptionsBuilder>, DeepCopyable<PodExecOptions>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -180,6 +182,21 @@ public class PodExecOptions implements Editable<PodExecOptionsBuilder>, Kubernet
         return edit();
     }
 
+    @Override
+    public PodExecOptions deepCopy() {
+        PodExecOptions copy = new PodExecOptions();
+        copy.apiVersion = this.apiVersion;
+        copy.command = DeepCopy.copy(this.command);
+        copy.container = this.container;
+        copy.kind = this.kind;
+        copy.stderr = this.stderr;
+        copy.stdin = this.stdin;
+        copy.stdout = this.stdout;
+        copy.tty = this.tty;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodExecOptions.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PodReadinessGate implements Editable<PodReadinessGateBuilder>, KubernetesResource
+public class PodReadinessGate implements Editable<PodReadinessGateBuilder>, DeepCopyable<PodReadinessGate>, KubernetesResource
 {
 
     @JsonProperty("conditionType")
@@ -78,6 +80,14 @@ public class PodReadinessGate implements Editable<PodReadinessGateBuilder>, Kube
         return edit();
     }
 
+    @Override
+    public PodReadinessGate deepCopy() {
+        PodReadinessGate copy = new PodReadinessGate();
+        copy.conditionType = this.conditionType;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodReadinessGate.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
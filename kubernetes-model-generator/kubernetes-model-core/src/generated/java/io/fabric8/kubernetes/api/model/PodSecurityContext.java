@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -47,7 +49,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PodSecurityContext implements Editable<PodSecurityContextBuilder>, KubernetesResource
+public class PodSecurityContext implements Editable<PodSecurityContextBuilder>, DeepCopyable<PodSecurityContext>, KubernetesResource
 {
 
     @JsonProperty("appArmorProfile")
@@ -324,6 +326,26 @@ public class PodSecurityContext implements Editable<PodSecurityContextBuilder>,
         return edit();
     }
 
+    @Override
+    public PodSecurityContext deepCopy() {
+        PodSecurityContext copy = new PodSecurityContext();
+        copy.appArmorProfile = DeepCopy.copy(this.appArmorProfile);
+        copy.fsGroup = this.fsGroup;
+        copy.fsGroupChangePolicy = this.fsGroupChangePolicy;
+        copy.runAsGroup = this.runAsGroup;
+        copy.runAsNonRoot = this.runAsNonRoot;
+        copy.runAsUser = this.runAsUser;
+        copy.seLinuxChangePolicy = this.seLinuxChangePolicy;
+        copy.seLinuxOptions = DeepCopy.copy(this.seLinuxOptions);
+        copy.seccompProfile = DeepCopy.copy(this.seccompProfile);
+        copy.supplementalGroups = DeepCopy.copy(this.supplementalGroups);
+        copy.supplementalGroupsPolicy = this.supplementalGroupsPolicy;
+        copy.sysctls = DeepCopy.copy(this.sysctls);
+        copy.windowsOptions = DeepCopy.copy(this.windowsOptions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodSecurityContext.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -74,7 +76,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PodSpec implements Editable<PodSpecBuilder>, KubernetesResource
+public class PodSpec implements Editable<PodSpecBuilder>, DeepCopyable<PodSpec>, KubernetesResource
 {
 
     @JsonProperty("activeDeadlineSeconds")
@@ -886,6 +888,53 @@ public class PodSpec implements Editable<PodSpecBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public PodSpec deepCopy() {
+        PodSpec copy = new PodSpec();
+        copy.activeDeadlineSeconds = this.activeDeadlineSeconds;
+        copy.affinity = DeepCopy.copy(this.affinity);
+        copy.automountServiceAccountToken = this.automountServiceAccountToken;
+        copy.containers = DeepCopy.copy(this.containers);
+        copy.dnsConfig = DeepCopy.copy(this.dnsConfig);
+        copy.dnsPolicy = this.dnsPolicy;
+        copy.enableServiceLinks = this.enableServiceLinks;
+        copy.ephemeralContainers = DeepCopy.copy(this.ephemeralContainers);
+        copy.hostAliases = DeepCopy.copy(this.hostAliases);
+        copy.hostIPC = this.hostIPC;
+        copy.hostNetwork = this.hostNetwork;
+        copy.hostPID = this.hostPID;
+        copy.hostUsers = this.hostUsers;
+        copy.hostname = this.hostname;
+        copy.imagePullSecrets = DeepCopy.copy(this.imagePullSecrets);
+        copy.initContainers = DeepCopy.copy(this.initContainers);
+        copy.nodeName = this.nodeName;
+        copy.nodeSelector = DeepCopy.copy(this.nodeSelector);
+        copy.os = DeepCopy.copy(this.os);
+        copy.overhead = DeepCopy.copy(this.overhead);
+        copy.preemptionPolicy = this.preemptionPolicy;
+        copy.priority = this.priority;
+        copy.priorityClassName = this.priorityClassName;
+        copy.readinessGates = DeepCopy.copy(this.readinessGates);
+        copy.resourceClaims = DeepCopy.copy(this.resourceClaims);
+        copy.resources = DeepCopy.copy(this.resources);
+        copy.restartPolicy = this.restartPolicy;
+        copy.runtimeClassName = this.runtimeClassName;
+        copy.schedulerName = this.schedulerName;
+        copy.schedulingGates = DeepCopy.copy(this.schedulingGates);
+        copy.securityContext = DeepCopy.copy(this.securityContext);
+        copy.serviceAccount = this.serviceAccount;
+        copy.serviceAccountName = this.serviceAccountName;
+        copy.setHostnameAsFQDN = this.setHostnameAsFQDN;
+        copy.shareProcessNamespace = this.shareProcessNamespace;
+        copy.subdomain = this.subdomain;
+        copy.terminationGracePeriodSeconds = this.terminationGracePeriodSeconds;
+        copy.tolerations = DeepCopy.copy(this.tolerations);
+        copy.topologySpreadConstraints = DeepCopy.copy(this.topologySpreadConstraints);
+        copy.volumes = DeepCopy.copy(this.volumes);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodSpec.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
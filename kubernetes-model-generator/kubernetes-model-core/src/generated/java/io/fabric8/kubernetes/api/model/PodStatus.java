@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -50,7 +52,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PodStatus implements Editable<PodStatusBuilder>, KubernetesResource
+public class PodStatus implements Editable<PodStatusBuilder>, DeepCopyable<PodStatus>, KubernetesResource
 {
 
     @JsonProperty("conditions")
@@ -394,6 +396,29 @@ public class PodStatus implements Editable<PodStatusBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public PodStatus deepCopy() {
+        PodStatus copy = new PodStatus();
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.containerStatuses = DeepCopy.copy(this.containerStatuses);
+        copy.ephemeralContainerStatuses = DeepCopy.copy(this.ephemeralContainerStatuses);
+        copy.hostIP = this.hostIP;
+        copy.hostIPs = DeepCopy.copy(this.hostIPs);
+        copy.initContainerStatuses = DeepCopy.copy(this.initContainerStatuses);
+        copy.message = this.message;
+        copy.nominatedNodeName = this.nominatedNodeName;
+        copy.phase = this.phase;
+        copy.podIP = this.podIP;
+        copy.podIPs = DeepCopy.copy(this.podIPs);
+        copy.qosClass = this.qosClass;
+        copy.reason = this.reason;
+        copy.resize = this.resize;
+        copy.resourceClaimStatuses = DeepCopy.copy(this.resourceClaimStatuses);
+        copy.startTime = this.startTime;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PodStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class PortworxVolumeSource implements Editable<PortworxVolumeSourceBuilder>, KubernetesResource
+public class PortworxVolumeSource implements Editable<PortworxVolumeSourceBuilder>, DeepCopyable<PortworxVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("fsType")
@@ -118,6 +120,16 @@ public class PortworxVolumeSource implements Editable<PortworxVolumeSourceBuilde
         return edit();
     }
 
+    @Override
+    public PortworxVolumeSource deepCopy() {
+        PortworxVolumeSource copy = new PortworxVolumeSource();
+        copy.fsType = this.fsType;
+        copy.readOnly = this.readOnly;
+        copy.volumeID = this.volumeID;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(PortworxVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Preferences implements Editable<PreferencesBuilder>, KubernetesResource
+public class Preferences implements Editable<PreferencesBuilder>, DeepCopyable<Preferences>, KubernetesResource
 {
 
     @JsonProperty("colors")
@@ -87,6 +89,15 @@ public class Preferences implements Editable<PreferencesBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public Preferences deepCopy() {
+        Preferences copy = new Preferences();
+        copy.colors = this.colors;
+        copy.extensions = DeepCopy.copy(this.extensions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Preferences.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
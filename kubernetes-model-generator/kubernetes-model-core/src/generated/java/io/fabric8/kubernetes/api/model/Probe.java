@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Probe implements Editable<ProbeBuilder>, KubernetesResource
+public class Probe implements Editable<ProbeBuilder>, DeepCopyable<Probe>, KubernetesResource
 {
 
     @JsonProperty("exec")
@@ -258,6 +260,23 @@ public class Probe implements Editable<ProbeBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Probe deepCopy() {
+        Probe copy = new Probe();
+        copy.exec = DeepCopy.copy(this.exec);
+        copy.failureThreshold = this.failureThreshold;
+        copy.grpc = DeepCopy.copy(this.grpc);
+        copy.httpGet = DeepCopy.copy(this.httpGet);
+        copy.initialDelaySeconds = this.initialDelaySeconds;
+        copy.periodSeconds = this.periodSeconds;
+        copy.successThreshold = this.successThreshold;
+        copy.tcpSocket = DeepCopy.copy(this.tcpSocket);
+        copy.terminationGracePeriodSeconds = this.terminationGracePeriodSeconds;
+        copy.timeoutSeconds = this.timeoutSeconds;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Probe.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
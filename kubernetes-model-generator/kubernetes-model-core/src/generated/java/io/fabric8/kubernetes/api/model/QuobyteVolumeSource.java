@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class QuobyteVolumeSource implements Editable<QuobyteVolumeSourceBuilder>, KubernetesResource
+public class QuobyteVolumeSource implements Editable<QuobyteVolumeSourceBuilder>, DeepCopyable<QuobyteVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("group")
@@ -178,6 +180,19 @@ public class QuobyteVolumeSource implements Editable<QuobyteVolumeSourceBuilder>
         return edit();
     }
 
+    @Override
+    public QuobyteVolumeSource deepCopy() {
+        QuobyteVolumeSource copy = new QuobyteVolumeSource();
+        copy.group = this.group;
+        copy.readOnly = this.readOnly;
+        copy.registry = this.registry;
+        copy.tenant = this.tenant;
+        copy.user = this.user;
+        copy.volume = this.volume;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(QuobyteVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
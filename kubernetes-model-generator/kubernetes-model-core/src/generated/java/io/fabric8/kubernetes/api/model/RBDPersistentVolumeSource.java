@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class RBDPersistentVolumeSource implements Editable<RBDPersistentVolumeSourceBuilder>, KubernetesResource
+public class RBDPersistentVolumeSource implements Editable<RBDPersistentVolumeSourceBuilder>, DeepCopyable<RBDPersistentVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("fsType")
@@ -222,6 +224,21 @@ public class RBDPersistentVolumeSource implements Editable<RBDPersistentVolumeSo
         return edit();
     }
 
+    @Override
+    public RBDPersistentVolumeSource deepCopy() {
+        RBDPersistentVolumeSource copy = new RBDPersistentVolumeSource();
+        copy.fsType = this.fsType;
+        copy.image = this.image;
+        copy.keyring = this.keyring;
+        copy.monitors = DeepCopy.copy(this.monitors);
+        copy.pool = this.pool;
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.user = this.user;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(RBDPersistentVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,8 +14,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -47,7 +49,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ReplicationControllerList implements Editable<ReplicationControllerListBuilder>, KubernetesResource, KubernetesResourceList<io.fabric8.kubernetes.api.model.ReplicationController>
+public class ReplicationControllerList implements Editable<ReplicationControllerListBuilder>, DeepCopyable<ReplicationControllerList>, KubernetesResource, KubernetesResourceList<io.fabric8.kubernetes.api.model.ReplicationController>
 {
 
     @JsonProperty("apiVersion")
@@ -151,6 +153,17 @@ public class ReplicationControllerList implements Editable<ReplicationController
         return edit();
     }
 
+    @Override
+    public ReplicationControllerList deepCopy() {
+        ReplicationControllerList copy = new ReplicationControllerList();
+        copy.apiVersion = this.apiVersion;
+        copy.items = DeepCopy.copy(this.items);
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ReplicationControllerList.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ReplicationControllerSpec implements Editable<ReplicationControllerSpecBuilder>, KubernetesResource
+public class ReplicationControllerSpec implements Editable<ReplicationControllerSpecBuilder>, DeepCopyable<ReplicationControllerSpec>, KubernetesResource
 {
 
     @JsonProperty("minReadySeconds")
@@ -140,6 +142,17 @@ public class ReplicationControllerSpec implements Editable<ReplicationController
         return edit();
     }
 
+    @Override
+    public ReplicationControllerSpec deepCopy() {
+        ReplicationControllerSpec copy = new ReplicationControllerSpec();
+        copy.minReadySeconds = this.minReadySeconds;
+        copy.replicas = this.replicas;
+        copy.selector = DeepCopy.copy(this.selector);
+        copy.template = DeepCopy.copy(this.template);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ReplicationControllerSpec.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
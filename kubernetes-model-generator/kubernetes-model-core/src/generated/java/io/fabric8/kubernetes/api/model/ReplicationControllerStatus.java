@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -40,7 +42,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ReplicationControllerStatus implements Editable<ReplicationControllerStatusBuilder>, KubernetesResource
+public class ReplicationControllerStatus implements Editable<ReplicationControllerStatusBuilder>, DeepCopyable<ReplicationControllerStatus>, KubernetesResource
 {
 
     @JsonProperty("availableReplicas")
@@ -182,6 +184,19 @@ public class ReplicationControllerStatus implements Editable<ReplicationControll
         return edit();
     }
 
+    @Override
+    public ReplicationControllerStatus deepCopy() {
+        ReplicationControllerStatus copy = new ReplicationControllerStatus();
+        copy.availableReplicas = this.availableReplicas;
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.fullyLabeledReplicas = this.fullyLabeledReplicas;
+        copy.observedGeneration = this.observedGeneration;
+        copy.readyReplicas = this.readyReplicas;
+        copy.replicas = this.replicas;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ReplicationControllerStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
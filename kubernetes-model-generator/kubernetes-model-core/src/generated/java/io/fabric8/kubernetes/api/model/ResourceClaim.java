@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ResourceClaim implements Editable<ResourceClaimBuilder>, KubernetesResource
+public class ResourceClaim implements Editable<ResourceClaimBuilder>, DeepCopyable<ResourceClaim>, KubernetesResource
 {
 
     @JsonProperty("name")
@@ -98,6 +100,15 @@ public class ResourceClaim implements Editable<ResourceClaimBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public ResourceClaim deepCopy() {
+        ResourceClaim copy = new ResourceClaim();
+        copy.name = this.name;
+        copy.request = this.request;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ResourceClaim.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
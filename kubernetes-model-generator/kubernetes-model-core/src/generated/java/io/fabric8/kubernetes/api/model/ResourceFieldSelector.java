@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ResourceFieldSelector implements Editable<ResourceFieldSelectorBuilder>, KubernetesResource
+public class ResourceFieldSelector implements Editable<ResourceFieldSelectorBuilder>, DeepCopyable<ResourceFieldSelector>, KubernetesResource
 {
 
     @JsonProperty("containerName")
@@ -118,6 +120,16 @@ public class ResourceFieldSelector implements Editable<ResourceFieldSelectorBuil
         return edit();
     }
 
+    @Override
+    public ResourceFieldSelector deepCopy() {
+        ResourceFieldSelector copy = new ResourceFieldSelector();
+        copy.containerName = this.containerName;
+        copy.divisor = DeepCopy.copy(this.divisor);
+        copy.resource = this.resource;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ResourceFieldSelector.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
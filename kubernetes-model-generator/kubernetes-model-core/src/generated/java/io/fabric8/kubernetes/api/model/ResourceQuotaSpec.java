@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ResourceQuotaSpec implements Editable<ResourceQuotaSpecBuilder>, KubernetesResource
+public class ResourceQuotaSpec implements Editable<ResourceQuotaSpecBuilder>, DeepCopyable<ResourceQuotaSpec>, KubernetesResource
 {
 
     @JsonProperty("hard")
@@ -124,6 +126,16 @@ public class ResourceQuotaSpec implements Editable<ResourceQuotaSpecBuilder>, Ku
         return edit();
     }
 
+    @Override
+    public ResourceQuotaSpec deepCopy() {
+        ResourceQuotaSpec copy = new ResourceQuotaSpec();
+        copy.hard = DeepCopy.copy(this.hard);
+        copy.scopeSelector = DeepCopy.copy(this.scopeSelector);
+        copy.scopes = DeepCopy.copy(this.scopes);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ResourceQuotaSpec.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ResourceQuotaStatus implements Editable<ResourceQuotaStatusBuilder>, KubernetesResource
+public class ResourceQuotaStatus implements Editable<ResourceQuotaStatusBuilder>, DeepCopyable<ResourceQuotaStatus>, KubernetesResource
 {
 
     @JsonProperty("hard")
@@ -102,6 +104,15 @@ public class ResourceQuotaStatus implements Editable<ResourceQuotaStatusBuilder>
         return edit();
     }
 
+    @Override
+    public ResourceQuotaStatus deepCopy() {
+        ResourceQuotaStatus copy = new ResourceQuotaStatus();
+        copy.hard = DeepCopy.copy(this.hard);
+        copy.used = DeepCopy.copy(this.used);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ResourceQuotaStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ResourceRequirements implements Editable<ResourceRequirementsBuilder>, KubernetesResource
+public class ResourceRequirements implements Editable<ResourceRequirementsBuilder>, DeepCopyable<ResourceRequirements>, KubernetesResource
 {
 
     @JsonProperty("claims")
@@ -126,6 +128,16 @@ public class ResourceRequirements implements Editable<ResourceRequirementsBuilde
         return edit();
     }
 
+    @Override
+    public ResourceRequirements deepCopy() {
+        ResourceRequirements copy = new ResourceRequirements();
+        copy.claims = DeepCopy.copy(this.claims);
+        copy.limits = DeepCopy.copy(this.limits);
+        copy.requests = DeepCopy.copy(this.requests);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ResourceRequirements.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -32,7 +34,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class RootPaths implements Editable<RootPathsBuilder>, KubernetesResource
+public class RootPaths implements Editable<RootPathsBuilder>, DeepCopyable<RootPaths>, KubernetesResource
 {
 
     @JsonProperty("paths")
@@ -73,6 +75,14 @@ public class RootPaths implements Editable<RootPathsBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public RootPaths deepCopy() {
+        RootPaths copy = new RootPaths();
+        copy.paths = DeepCopy.copy(this.paths);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(RootPaths.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
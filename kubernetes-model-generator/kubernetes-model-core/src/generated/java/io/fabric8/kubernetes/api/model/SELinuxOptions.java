@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class SELinuxOptions implements Editable<SELinuxOptionsBuilder>, KubernetesResource
+public class SELinuxOptions implements Editable<SELinuxOptionsBuilder>, DeepCopyable<SELinuxOptions>, KubernetesResource
 {
 
     @JsonProperty("level")
@@ -138,6 +140,17 @@ public class SELinuxOptions implements Editable<SELinuxOptionsBuilder>, Kubernet
         return edit();
     }
 
+    @Override
+    public SELinuxOptions deepCopy() {
+        SELinuxOptions copy = new SELinuxOptions();
+        copy.level = this.level;
+        copy.role = this.role;
+        copy.type = this.type;
+        copy.user = this.user;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(SELinuxOptions.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
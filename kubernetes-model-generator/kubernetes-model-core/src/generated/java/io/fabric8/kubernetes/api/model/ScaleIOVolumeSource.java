@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ScaleIOVolumeSource implements Editable<ScaleIOVolumeSourceBuilder>, KubernetesResource
+public class ScaleIOVolumeSource implements Editable<ScaleIOVolumeSourceBuilder>, DeepCopyable<ScaleIOVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("fsType")
@@ -258,6 +260,23 @@ public class ScaleIOVolumeSource implements Editable<ScaleIOVolumeSourceBuilder>
         return edit();
     }
 
+    @Override
+    public ScaleIOVolumeSource deepCopy() {
+        ScaleIOVolumeSource copy = new ScaleIOVolumeSource();
+        copy.fsType = this.fsType;
+        copy.gateway = this.gateway;
+        copy.protectionDomain = this.protectionDomain;
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.sslEnabled = this.sslEnabled;
+        copy.storageMode = this.storageMode;
+        copy.storagePool = this.storagePool;
+        copy.system = this.system;
+        copy.volumeName = this.volumeName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ScaleIOVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ScopeSelector implements Editable<ScopeSelectorBuilder>, KubernetesResource
+public class ScopeSelector implements Editable<ScopeSelectorBuilder>, DeepCopyable<ScopeSelector>, KubernetesResource
 {
 
     @JsonProperty("matchExpressions")
@@ -82,6 +84,14 @@ public class ScopeSelector implements Editable<ScopeSelectorBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public ScopeSelector deepCopy() {
+        ScopeSelector copy = new ScopeSelector();
+        copy.matchExpressions = DeepCopy.copy(this.matchExpressions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ScopeSelector.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
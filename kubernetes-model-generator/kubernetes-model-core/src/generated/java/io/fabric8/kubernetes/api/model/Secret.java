@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -48,7 +50,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Secret implements Editable<SecretBuilder>, HasMetadata, Namespaced
+public class Secret implements Editable<SecretBuilder>, DeepCopyable<Secret>, HasMetadata, Namespaced
 {
 
     @JsonProperty("apiVersion")
@@ -211,6 +213,20 @@ public class Secret implements Editable<SecretBuilder>, HasMetadata, Namespaced
         return edit();
     }
 
+    @Override
+    public Secret deepCopy() {
+        Secret copy = new Secret();
+        copy.apiVersion = this.apiVersion;
+        copy.data = DeepCopy.copy(this.data);
+        copy.immutable = this.immutable;
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.stringData = DeepCopy.copy(this.stringData);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Secret.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
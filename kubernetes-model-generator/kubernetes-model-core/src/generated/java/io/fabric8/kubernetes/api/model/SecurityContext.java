@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -44,7 +46,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class SecurityContext implements Editable<SecurityContextBuilder>, KubernetesResource
+public class SecurityContext implements Editable<SecurityContextBuilder>, DeepCopyable<SecurityContext>, KubernetesResource
 {
 
     @JsonProperty("allowPrivilegeEscalation")
@@ -298,6 +300,25 @@ public class SecurityContext implements Editable<SecurityContextBuilder>, Kubern
         return edit();
     }
 
+    @Override
+    public SecurityContext deepCopy() {
+        SecurityContext copy = new SecurityContext();
+        copy.allowPrivilegeEscalation = this.allowPrivilegeEscalation;
+        copy.appArmorProfile = DeepCopy.copy(this.appArmorProfile);
+        copy.capabilities = DeepCopy.copy(this.capabilities);
+        copy.privileged = this.privileged;
+        copy.procMount = this.procMount;
+        copy.readOnlyRootFilesystem = this.readOnlyRootFilesystem;
+        copy.runAsGroup = this.runAsGroup;
+        copy.runAsNonRoot = this.runAsNonRoot;
+        copy.runAsUser = this.runAsUser;
+        copy.seLinuxOptions = DeepCopy.copy(this.seLinuxOptions);
+        copy.seccompProfile = DeepCopy.copy(this.seccompProfile);
+        copy.windowsOptions = DeepCopy.copy(this.windowsOptions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(SecurityContext.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,8 +14,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -49,7 +51,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ServiceAccount implements Editable<ServiceAccountBuilder>, HasMetadata, Namespaced
+public class ServiceAccount implements Editable<ServiceAccountBuilder>, DeepCopyable<ServiceAccount>, HasMetadata, Namespaced
 {
 
     @JsonProperty("apiVersion")
@@ -193,6 +195,19 @@ public class ServiceAccount implements Editable<ServiceAccountBuilder>, HasMetad
         return edit();
     }
 
+    @Override
+    public ServiceAccount deepCopy() {
+        ServiceAccount copy = new ServiceAccount();
+        copy.apiVersion = this.apiVersion;
+        copy.automountServiceAccountToken = this.automountServiceAccountToken;
+        copy.imagePullSecrets = DeepCopy.copy(this.imagePullSecrets);
+        copy.kind = this.kind;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.secrets = DeepCopy.copy(this.secrets);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ServiceAccount.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
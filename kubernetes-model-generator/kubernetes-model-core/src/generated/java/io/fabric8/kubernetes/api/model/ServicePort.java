@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -38,7 +40,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ServicePort implements Editable<ServicePortBuilder>, KubernetesResource
+public class ServicePort implements Editable<ServicePortBuilder>, DeepCopyable<ServicePort>, KubernetesResource
 {
 
     @JsonProperty("appProtocol")
@@ -178,6 +180,19 @@ public class ServicePort implements Editable<ServicePortBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public ServicePort deepCopy() {
+        ServicePort copy = new ServicePort();
+        copy.appProtocol = this.appProtocol;
+        copy.name = this.name;
+        copy.nodePort = this.nodePort;
+        copy.port = this.port;
+        copy.protocol = this.protocol;
+        copy.targetPort = DeepCopy.copy(this.targetPort);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ServicePort.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
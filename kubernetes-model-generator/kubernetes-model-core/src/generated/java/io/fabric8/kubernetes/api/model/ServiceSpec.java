@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -54,7 +56,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ServiceSpec implements Editable<ServiceSpecBuilder>, KubernetesResource
+public class ServiceSpec implements Editable<ServiceSpecBuilder>, DeepCopyable<ServiceSpec>, KubernetesResource
 {
 
     @JsonProperty("allocateLoadBalancerNodePorts")
@@ -472,6 +474,33 @@ public class ServiceSpec implements Editable<ServiceSpecBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public ServiceSpec deepCopy() {
+        ServiceSpec copy = new ServiceSpec();
+        copy.allocateLoadBalancerNodePorts = this.allocateLoadBalancerNodePorts;
+        copy.clusterIP = this.clusterIP;
+        copy.clusterIPs = DeepCopy.copy(this.clusterIPs);
+        copy.externalIPs = DeepCopy.copy(this.externalIPs);
+        copy.externalName = this.externalName;
+        copy.externalTrafficPolicy = this.externalTrafficPolicy;
+        copy.healthCheckNodePort = this.healthCheckNodePort;
+        copy.internalTrafficPolicy = this.internalTrafficPolicy;
+        copy.ipFamilies = DeepCopy.copy(this.ipFamilies);
+        copy.ipFamilyPolicy = this.ipFamilyPolicy;
+        copy.loadBalancerClass = this.loadBalancerClass;
+        copy.loadBalancerIP = this.loadBalancerIP;
+        copy.loadBalancerSourceRanges = DeepCopy.copy(this.loadBalancerSourceRanges);
+        copy.ports = DeepCopy.copy(this.ports);
+        copy.publishNotReadyAddresses = this.publishNotReadyAddresses;
+        copy.selector = DeepCopy.copy(this.selector);
+        copy.sessionAffinity = this.sessionAffinity;
+        copy.sessionAffinityConfig = DeepCopy.copy(this.sessionAffinityConfig);
+        copy.trafficDistribution = this.trafficDistribution;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ServiceSpec.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class ServiceStatus implements Editable<ServiceStatusBuilder>, KubernetesResource
+public class ServiceStatus implements Editable<ServiceStatusBuilder>, DeepCopyable<ServiceStatus>, KubernetesResource
 {
 
     @JsonProperty("conditions")
@@ -102,6 +104,15 @@ public class ServiceStatus implements Editable<ServiceStatusBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public ServiceStatus deepCopy() {
+        ServiceStatus copy = new ServiceStatus();
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.loadBalancer = DeepCopy.copy(this.loadBalancer);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(ServiceStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class SleepAction implements Editable<SleepActionBuilder>, KubernetesResource
+public class SleepAction implements Editable<SleepActionBuilder>, DeepCopyable<SleepAction>, KubernetesResource
 {
 
     @JsonProperty("seconds")
@@ -78,6 +80,14 @@ public class SleepAction implements Editable<SleepActionBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public SleepAction deepCopy() {
+        SleepAction copy = new SleepAction();
+        copy.seconds = this.seconds;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(SleepAction.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
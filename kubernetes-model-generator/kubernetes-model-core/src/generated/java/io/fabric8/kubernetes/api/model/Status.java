@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -46,7 +48,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Status implements Editable<StatusBuilder>, KubernetesResource
+public class Status implements Editable<StatusBuilder>, DeepCopyable<Status>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -176,6 +178,21 @@ public class Status implements Editable<StatusBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Status deepCopy() {
+        Status copy = new Status();
+        copy.apiVersion = this.apiVersion;
+        copy.code = this.code;
+        copy.details = DeepCopy.copy(this.details);
+        copy.kind = this.kind;
+        copy.message = this.message;
+        copy.metadata = DeepCopy.copy(this.metadata);
+        copy.reason = this.reason;
+        copy.status = this.status;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Status.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
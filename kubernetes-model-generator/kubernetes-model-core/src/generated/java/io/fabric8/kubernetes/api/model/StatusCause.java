@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -32,7 +34,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class StatusCause implements Editable<StatusCauseBuilder>, KubernetesResource
+public class StatusCause implements Editable<StatusCauseBuilder>, DeepCopyable<StatusCause>, KubernetesResource
 {
 
     @JsonProperty("field")
@@ -97,6 +99,16 @@ public class StatusCause implements Editable<StatusCauseBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public StatusCause deepCopy() {
+        StatusCause copy = new StatusCause();
+        copy.field = this.field;
+        copy.message = this.message;
+        copy.reason = this.reason;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StatusCause.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class StatusDetails implements Editable<StatusDetailsBuilder>, KubernetesResource
+public class StatusDetails implements Editable<StatusDetailsBuilder>, DeepCopyable<StatusDetails>, KubernetesResource
 {
 
     @JsonProperty("causes")
@@ -143,6 +145,19 @@ public class StatusDetails implements Editable<StatusDetailsBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public StatusDetails deepCopy() {
+        StatusDetails copy = new StatusDetails();
+        copy.causes = DeepCopy.copy(this.causes);
+        copy.group = this.group;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.retryAfterSeconds = this.retryAfterSeconds;
+        copy.uid = this.uid;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StatusDetails.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
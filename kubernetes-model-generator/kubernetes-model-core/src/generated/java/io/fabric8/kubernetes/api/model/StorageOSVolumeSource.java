@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class StorageOSVolumeSource implements Editable<StorageOSVolumeSourceBuilder>, KubernetesResource
+public class StorageOSVolumeSource implements Editable<StorageOSVolumeSourceBuilder>, DeepCopyable<StorageOSVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("fsType")
@@ -158,6 +160,18 @@ public class StorageOSVolumeSource implements Editable<StorageOSVolumeSourceBuil
         return edit();
     }
 
+    @Override
+    public StorageOSVolumeSource deepCopy() {
+        StorageOSVolumeSource copy = new StorageOSVolumeSource();
+        copy.fsType = this.fsType;
+        copy.readOnly = this.readOnly;
+        copy.secretRef = DeepCopy.copy(this.secretRef);
+        copy.volumeName = this.volumeName;
+        copy.volumeNamespace = this.volumeNamespace;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(StorageOSVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Taint implements Editable<TaintBuilder>, KubernetesResource
+public class Taint implements Editable<TaintBuilder>, DeepCopyable<Taint>, KubernetesResource
 {
 
     @JsonProperty("effect")
@@ -138,6 +140,17 @@ public class Taint implements Editable<TaintBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Taint deepCopy() {
+        Taint copy = new Taint();
+        copy.effect = this.effect;
+        copy.key = this.key;
+        copy.timeAdded = this.timeAdded;
+        copy.value = this.value;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Taint.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Toleration implements Editable<TolerationBuilder>, KubernetesResource
+public class Toleration implements Editable<TolerationBuilder>, DeepCopyable<Toleration>, KubernetesResource
 {
 
     @JsonProperty("effect")
@@ -158,6 +160,18 @@ public class Toleration implements Editable<TolerationBuilder>, KubernetesResour
         return edit();
     }
 
+    @Override
+    public Toleration deepCopy() {
+        Toleration copy = new Toleration();
+        copy.effect = this.effect;
+        copy.key = this.key;
+        copy.operator = this.operator;
+        copy.tolerationSeconds = this.tolerationSeconds;
+        copy.value = this.value;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Toleration.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
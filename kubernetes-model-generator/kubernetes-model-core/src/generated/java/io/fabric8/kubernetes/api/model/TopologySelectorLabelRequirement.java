@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class TopologySelectorLabelRequirement implements Editable<TopologySelectorLabelRequirementBuilder>, KubernetesResource
+public class TopologySelectorLabelRequirement implements Editable<TopologySelectorLabelRequirementBuilder>, DeepCopyable<TopologySelectorLabelRequirement>, KubernetesResource
 {
 
     @JsonProperty("key")
@@ -102,6 +104,15 @@ public class TopologySelectorLabelRequirement implements Editable<TopologySelect
         return edit();
     }
 
+    @Override
+    public TopologySelectorLabelRequirement deepCopy() {
+        TopologySelectorLabelRequirement copy = new TopologySelectorLabelRequirement();
+        copy.key = this.key;
+        copy.values = DeepCopy.copy(this.values);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(TopologySelectorLabelRequirement.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
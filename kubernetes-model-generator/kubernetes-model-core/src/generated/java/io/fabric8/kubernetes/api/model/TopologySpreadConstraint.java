@@ -14,6 +14,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class TopologySpreadConstraint implements Editable<TopologySpreadConstraintBuilder>, KubernetesResource
+public class TopologySpreadConstraint implements Editable<TopologySpreadConstraintBuilder>, DeepCopyable<TopologySpreadConstraint>, KubernetesResource
 {
 
     @JsonProperty("labelSelector")
@@ -222,6 +224,21 @@ public class TopologySpreadConstraint implements Editable<TopologySpreadConstrai
         return edit();
     }
 
+    @Override
+    public TopologySpreadConstraint deepCopy() {
+        TopologySpreadConstraint copy = new TopologySpreadConstraint();
+        copy.labelSelector = DeepCopy.copy(this.labelSelector);
+        copy.matchLabelKeys = DeepCopy.copy(this.matchLabelKeys);
+        copy.maxSkew = this.maxSkew;
+        copy.minDomains = this.minDomains;
+        copy.nodeAffinityPolicy = this.nodeAffinityPolicy;
+        copy.nodeTaintsPolicy = this.nodeTaintsPolicy;
+        copy.topologyKey = this.topologyKey;
+        copy.whenUnsatisfiable = this.whenUnsatisfiable;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(TopologySpreadConstraint.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
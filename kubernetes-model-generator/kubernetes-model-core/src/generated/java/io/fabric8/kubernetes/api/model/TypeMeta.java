@@ -12,8 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -40,7 +42,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class TypeMeta implements Editable<TypeMetaBuilder>, KubernetesResource
+public class TypeMeta implements Editable<TypeMetaBuilder>, DeepCopyable<TypeMeta>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -92,6 +94,15 @@ public class TypeMeta implements Editable<TypeMetaBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public TypeMeta deepCopy() {
+        TypeMeta copy = new TypeMeta();
+        copy.apiVersion = this.apiVersion;
+        copy.kind = this.kind;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(TypeMeta.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
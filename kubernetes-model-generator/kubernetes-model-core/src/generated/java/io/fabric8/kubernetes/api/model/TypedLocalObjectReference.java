@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -35,7 +37,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class TypedLocalObjectReference implements Editable<TypedLocalObjectReferenceBuilder>, KubernetesResource
+public class TypedLocalObjectReference implements Editable<TypedLocalObjectReferenceBuilder>, DeepCopyable<TypedLocalObjectReference>, KubernetesResource
 {
 
     @JsonProperty("apiGroup")
@@ -118,6 +120,16 @@ public class TypedLocalObjectReference implements Editable<TypedLocalObjectRefer
         return edit();
     }
 
+    @Override
+    public TypedLocalObjectReference deepCopy() {
+        TypedLocalObjectReference copy = new TypedLocalObjectReference();
+        copy.apiGroup = this.apiGroup;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(TypedLocalObjectReference.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class TypedObjectReference implements Editable<TypedObjectReferenceBuilder>, KubernetesResource
+public class TypedObjectReference implements Editable<TypedObjectReferenceBuilder>, DeepCopyable<TypedObjectReference>, KubernetesResource
 {
 
     @JsonProperty("apiGroup")
@@ -138,6 +140,17 @@ public class TypedObjectReference implements Editable<TypedObjectReferenceBuilde
         return edit();
     }
 
+    @Override
+    public TypedObjectReference deepCopy() {
+        TypedObjectReference copy = new TypedObjectReference();
+        copy.apiGroup = this.apiGroup;
+        copy.kind = this.kind;
+        copy.name = this.name;
+        copy.namespace = this.namespace;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(TypedObjectReference.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,8 +14,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.transform.annotations.TemplateTransformation;
 import io.sundr.transform.annotations.TemplateTransformations;
@@ -45,7 +47,7 @@ import lombok.experimental.Accessors;
 @Version("v1")
 @Group("")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class UpdateOptions implements Editable<UpdateOptionsBuilder>, KubernetesResource
+public class UpdateOptions implements Editable<UpdateOptionsBuilder>, DeepCopyable<UpdateOptions>, KubernetesResource
 {
 
     @JsonProperty("apiVersion")
@@ -138,6 +140,18 @@ public class UpdateOptions implements Editable<UpdateOptionsBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public UpdateOptions deepCopy() {
+        UpdateOptions copy = new UpdateOptions();
+        copy.apiVersion = this.apiVersion;
+        copy.dryRun = DeepCopy.copy(this.dryRun);
+        copy.fieldManager = this.fieldManager;
+        copy.fieldValidation = this.fieldValidation;
+        copy.kind = this.kind;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(UpdateOptions.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class VolumeDevice implements Editable<VolumeDeviceBuilder>, KubernetesResource
+public class VolumeDevice implements Editable<VolumeDeviceBuilder>, DeepCopyable<VolumeDevice>, KubernetesResource
 {
 
     @JsonProperty("devicePath")
@@ -98,6 +100,15 @@ public class VolumeDevice implements Editable<VolumeDeviceBuilder>, KubernetesRe
         return edit();
     }
 
+    @Override
+    public VolumeDevice deepCopy() {
+        VolumeDevice copy = new VolumeDevice();
+        copy.devicePath = this.devicePath;
+        copy.name = this.name;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(VolumeDevice.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
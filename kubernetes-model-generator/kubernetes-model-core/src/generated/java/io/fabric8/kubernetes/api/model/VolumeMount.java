@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -39,7 +41,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class VolumeMount implements Editable<VolumeMountBuilder>, KubernetesResource
+public class VolumeMount implements Editable<VolumeMountBuilder>, DeepCopyable<VolumeMount>, KubernetesResource
 {
 
     @JsonProperty("mountPath")
@@ -198,6 +200,20 @@ public class VolumeMount implements Editable<VolumeMountBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public VolumeMount deepCopy() {
+        VolumeMount copy = new VolumeMount();
+        copy.mountPath = this.mountPath;
+        copy.mountPropagation = this.mountPropagation;
+        copy.name = this.name;
+        copy.readOnly = this.readOnly;
+        copy.recursiveReadOnly = this.recursiveReadOnly;
+        copy.subPath = this.subPath;
+        copy.subPathExpr = this.subPathExpr;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(VolumeMount.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class VolumeMountStatus implements Editable<VolumeMountStatusBuilder>, KubernetesResource
+public class VolumeMountStatus implements Editable<VolumeMountStatusBuilder>, DeepCopyable<VolumeMountStatus>, KubernetesResource
 {
 
     @JsonProperty("mountPath")
@@ -138,6 +140,17 @@ public class VolumeMountStatus implements Editable<VolumeMountStatusBuilder>, Ku
         return edit();
     }
 
+    @Override
+    public VolumeMountStatus deepCopy() {
+        VolumeMountStatus copy = new VolumeMountStatus();
+        copy.mountPath = this.mountPath;
+        copy.name = this.name;
+        copy.readOnly = this.readOnly;
+        copy.recursiveReadOnly = this.recursiveReadOnly;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(VolumeMountStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
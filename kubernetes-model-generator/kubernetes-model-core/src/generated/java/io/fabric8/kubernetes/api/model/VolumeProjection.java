@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class VolumeProjection implements Editable<VolumeProjectionBuilder>, KubernetesResource
+public class VolumeProjection implements Editable<VolumeProjectionBuilder>, DeepCopyable<VolumeProjection>, KubernetesResource
 {
 
     @JsonProperty("clusterTrustBundle")
@@ -158,6 +160,18 @@ public class VolumeProjection implements Editable<VolumeProjectionBuilder>, Kube
         return edit();
     }
 
+    @Override
+    public VolumeProjection deepCopy() {
+        VolumeProjection copy = new VolumeProjection();
+        copy.clusterTrustBundle = DeepCopy.copy(this.clusterTrustBundle);
+        copy.configMap = DeepCopy.copy(this.configMap);
+        copy.downwardAPI = DeepCopy.copy(this.downwardAPI);
+        copy.secret = DeepCopy.copy(this.secret);
+        copy.serviceAccountToken = DeepCopy.copy(this.serviceAccountToken);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(VolumeProjection.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
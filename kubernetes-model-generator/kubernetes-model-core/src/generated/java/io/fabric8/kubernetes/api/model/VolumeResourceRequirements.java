@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class VolumeResourceRequirements implements Editable<VolumeResourceRequirementsBuilder>, KubernetesResource
+public class VolumeResourceRequirements implements Editable<VolumeResourceRequirementsBuilder>, DeepCopyable<VolumeResourceRequirements>, KubernetesResource
 {
 
     @JsonProperty("limits")
@@ -102,6 +104,15 @@ public class VolumeResourceRequirements implements Editable<VolumeResourceRequir
         return edit();
     }
 
+    @Override
+    public VolumeResourceRequirements deepCopy() {
+        VolumeResourceRequirements copy = new VolumeResourceRequirements();
+        copy.limits = DeepCopy.copy(this.limits);
+        copy.requests = DeepCopy.copy(this.requests);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(VolumeResourceRequirements.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class VsphereVirtualDiskVolumeSource implements Editable<VsphereVirtualDiskVolumeSourceBuilder>, KubernetesResource
+public class VsphereVirtualDiskVolumeSource implements Editable<VsphereVirtualDiskVolumeSourceBuilder>, DeepCopyable<VsphereVirtualDiskVolumeSource>, KubernetesResource
 {
 
     @JsonProperty("fsType")
@@ -138,6 +140,17 @@ public class VsphereVirtualDiskVolumeSource implements Editable<VsphereVirtualDi
         return edit();
     }
 
+    @Override
+    public VsphereVirtualDiskVolumeSource deepCopy() {
+        VsphereVirtualDiskVolumeSource copy = new VsphereVirtualDiskVolumeSource();
+        copy.fsType = this.fsType;
+        copy.storagePolicyID = this.storagePolicyID;
+        copy.storagePolicyName = this.storagePolicyName;
+        copy.volumePath = this.volumePath;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(VsphereVirtualDiskVolumeSource.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class WatchEvent implements Editable<WatchEventBuilder>, KubernetesResource
+public class WatchEvent implements Editable<WatchEventBuilder>, DeepCopyable<WatchEvent>, KubernetesResource
 {
 
     @JsonProperty("object")
@@ -100,6 +102,15 @@ public class WatchEvent implements Editable<WatchEventBuilder>, KubernetesResour
         return edit();
     }
 
+    @Override
+    public WatchEvent deepCopy() {
+        WatchEvent copy = new WatchEvent();
+        copy.object = DeepCopy.copy(this.object);
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(WatchEvent.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
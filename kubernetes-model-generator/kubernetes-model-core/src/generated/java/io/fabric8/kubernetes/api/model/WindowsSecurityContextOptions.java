@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -36,7 +38,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class WindowsSecurityContextOptions implements Editable<WindowsSecurityContextOptionsBuilder>, KubernetesResource
+public class WindowsSecurityContextOptions implements Editable<WindowsSecurityContextOptionsBuilder>, DeepCopyable<WindowsSecurityContextOptions>, KubernetesResource
 {
 
     @JsonProperty("gmsaCredentialSpec")
@@ -138,6 +140,17 @@ public class WindowsSecurityContextOptions implements Editable<WindowsSecurityCo
         return edit();
     }
 
+    @Override
+    public WindowsSecurityContextOptions deepCopy() {
+        WindowsSecurityContextOptions copy = new WindowsSecurityContextOptions();
+        copy.gmsaCredentialSpec = this.gmsaCredentialSpec;
+        copy.gmsaCredentialSpecName = this.gmsaCredentialSpecName;
+        copy.hostProcess = this.hostProcess;
+        copy.runAsUserName = this.runAsUserName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(WindowsSecurityContextOptions.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -14,6 +14,8 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -33,7 +35,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Bootstrap implements Editable<BootstrapBuilder>, KubernetesResource
+public class Bootstrap implements Editable<BootstrapBuilder>, DeepCopyable<Bootstrap>, KubernetesResource
 {
 
     @JsonProperty("configRef")
@@ -85,6 +87,15 @@ public class Bootstrap implements Editable<BootstrapBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Bootstrap deepCopy() {
+        Bootstrap copy = new Bootstrap();
+        copy.configRef = DeepCopy.copy(this.configRef);
+        copy.dataSecretName = this.dataSecretName;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Bootstrap.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
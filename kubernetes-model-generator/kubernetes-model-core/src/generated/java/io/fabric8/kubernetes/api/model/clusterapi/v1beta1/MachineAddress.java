@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -32,7 +34,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class MachineAddress implements Editable<MachineAddressBuilder>, KubernetesResource
+public class MachineAddress implements Editable<MachineAddressBuilder>, DeepCopyable<MachineAddress>, KubernetesResource
 {
 
     @JsonProperty("address")
@@ -84,6 +86,15 @@ public class MachineAddress implements Editable<MachineAddressBuilder>, Kubernet
         return edit();
     }
 
+    @Override
+    public MachineAddress deepCopy() {
+        MachineAddress copy = new MachineAddress();
+        copy.address = this.address;
+        copy.type = this.type;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(MachineAddress.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
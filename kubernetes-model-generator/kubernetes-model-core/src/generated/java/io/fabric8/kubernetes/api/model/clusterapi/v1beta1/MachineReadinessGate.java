@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -31,7 +33,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class MachineReadinessGate implements Editable<MachineReadinessGateBuilder>, KubernetesResource
+public class MachineReadinessGate implements Editable<MachineReadinessGateBuilder>, DeepCopyable<MachineReadinessGate>, KubernetesResource
 {
 
     @JsonProperty("conditionType")
@@ -70,6 +72,14 @@ public class MachineReadinessGate implements Editable<MachineReadinessGateBuilde
         return edit();
     }
 
+    @Override
+    public MachineReadinessGate deepCopy() {
+        MachineReadinessGate copy = new MachineReadinessGate();
+        copy.conditionType = this.conditionType;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(MachineReadinessGate.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
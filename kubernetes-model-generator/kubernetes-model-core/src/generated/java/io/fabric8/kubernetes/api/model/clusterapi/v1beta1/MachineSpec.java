@@ -17,6 +17,8 @@ import io.fabric8.kubernetes.api.builder.Editable;
 import io.fabric8.kubernetes.api.model.Duration;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -44,7 +46,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class MachineSpec implements Editable<MachineSpecBuilder>, KubernetesResource
+public class MachineSpec implements Editable<MachineSpecBuilder>, DeepCopyable<MachineSpec>, KubernetesResource
 {
 
     @JsonProperty("bootstrap")
@@ -202,6 +204,23 @@ public class MachineSpec implements Editable<MachineSpecBuilder>, KubernetesReso
         return edit();
     }
 
+    @Override
+    public MachineSpec deepCopy() {
+        MachineSpec copy = new MachineSpec();
+        copy.bootstrap = DeepCopy.copy(this.bootstrap);
+        copy.clusterName = this.clusterName;
+        copy.failureDomain = this.failureDomain;
+        copy.infrastructureRef = DeepCopy.copy(this.infrastructureRef);
+        copy.nodeDeletionTimeout = DeepCopy.copy(this.nodeDeletionTimeout);
+        copy.nodeDrainTimeout = DeepCopy.copy(this.nodeDrainTimeout);
+        copy.nodeVolumeDetachTimeout = DeepCopy.copy(this.nodeVolumeDetachTimeout);
+        copy.providerID = this.providerID;
+        copy.readinessGates = DeepCopy.copy(this.readinessGates);
+        copy.version = this.version;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(MachineSpec.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
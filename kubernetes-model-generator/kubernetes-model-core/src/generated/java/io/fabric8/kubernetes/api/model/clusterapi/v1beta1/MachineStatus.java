@@ -17,6 +17,8 @@ import io.fabric8.kubernetes.api.builder.Editable;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.NodeSystemInfo;
 import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -48,7 +50,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class MachineStatus implements Editable<MachineStatusBuilder>, KubernetesResource
+public class MachineStatus implements Editable<MachineStatusBuilder>, DeepCopyable<MachineStatus>, KubernetesResource
 {
 
     @JsonProperty("addresses")
@@ -260,6 +262,27 @@ public class MachineStatus implements Editable<MachineStatusBuilder>, Kubernetes
         return edit();
     }
 
+    @Override
+    public MachineStatus deepCopy() {
+        MachineStatus copy = new MachineStatus();
+        copy.addresses = DeepCopy.copy(this.addresses);
+        copy.bootstrapReady = this.bootstrapReady;
+        copy.certificatesExpiryDate = this.certificatesExpiryDate;
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.deletion = DeepCopy.copy(this.deletion);
+        copy.failureMessage = this.failureMessage;
+        copy.failureReason = this.failureReason;
+        copy.infrastructureReady = this.infrastructureReady;
+        copy.lastUpdated = this.lastUpdated;
+        copy.nodeInfo = DeepCopy.copy(this.nodeInfo);
+        copy.nodeRef = DeepCopy.copy(this.nodeRef);
+        copy.observedGeneration = this.observedGeneration;
+        copy.phase = this.phase;
+        copy.v1beta2 = DeepCopy.copy(this.v1beta2);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(MachineStatus.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
@@ -16,6 +16,8 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
 import io.fabric8.kubernetes.api.model.Condition;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -34,7 +36,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class MachineV1Beta2Status implements Editable<MachineV1Beta2StatusBuilder>, KubernetesResource
+public class MachineV1Beta2Status implements Editable<MachineV1Beta2StatusBuilder>, DeepCopyable<MachineV1Beta2Status>, KubernetesResource
 {
 
     @JsonProperty("conditions")
@@ -75,6 +77,14 @@ public class MachineV1Beta2Status implements Editable<MachineV1Beta2StatusBuilde
         return edit();
     }
 
+    @Override
+    public MachineV1Beta2Status deepCopy() {
+        MachineV1Beta2Status copy = new MachineV1Beta2Status();
+        copy.conditions = DeepCopy.copy(this.conditions);
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(MachineV1Beta2Status.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
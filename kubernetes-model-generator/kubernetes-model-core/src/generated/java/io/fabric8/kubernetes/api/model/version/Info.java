@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.builder.Editable;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,7 +44,7 @@ import lombok.experimental.Accessors;
 })
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
 @Generated("io.fabric8.kubernetes.schema.generator.model.ModelGenerator")
-public class Info implements Editable<InfoBuilder>, KubernetesResource
+public class Info implements Editable<InfoBuilder>, DeepCopyable<Info>, KubernetesResource
 {
 
     @JsonProperty("buildDate")
@@ -239,6 +241,22 @@ public class Info implements Editable<InfoBuilder>, KubernetesResource
         return edit();
     }
 
+    @Override
+    public Info deepCopy() {
+        Info copy = new Info();
+        copy.buildDate = this.buildDate;
+        copy.compiler = this.compiler;
+        copy.gitCommit = this.gitCommit;
+        copy.gitTreeState = this.gitTreeState;
+        copy.gitVersion = this.gitVersion;
+        copy.goVersion = this.goVersion;
+        copy.major = this.major;
+        copy.minor = this.minor;
+        copy.platform = this.platform;
+        copy.additionalProperties = DeepCopy.copyAdditionalProperties(Info.class, this.additionalProperties);
+        return copy;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
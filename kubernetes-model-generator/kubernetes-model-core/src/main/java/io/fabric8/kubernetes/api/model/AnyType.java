@@ -21,6 +21,8 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
@@ -40,7 +42,7 @@ import java.io.Serializable;
 @Setter
 @EqualsAndHashCode
 @Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, lazyCollectionInitEnabled = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class AnyType implements Serializable {
+public class AnyType implements Serializable, DeepCopyable<AnyType> {
 
   protected Object value;
 
@@ -67,6 +69,11 @@ public class AnyType implements Serializable {
     return value;
   }
 
+  @Override
+  public AnyType deepCopy() {
+    return new AnyType(DeepCopy.copy(value));
+  }
+
   public static class Serializer extends JsonSerializer<AnyType> {
 
     @Override
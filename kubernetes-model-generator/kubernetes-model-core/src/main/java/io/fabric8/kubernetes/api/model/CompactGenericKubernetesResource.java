@@ -0,0 +1,322 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.fabric8.kubernetes.model.util.DeepCopy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link GenericKubernetesResource} that keeps everything besides apiVersion, kind and metadata as the JSON bytes
+ * it was read from.
+ * <p>
+ * {@link #get(Object...)} reads the requested path directly from the bytes and serialization copies them as they are,
+ * the nested Maps and Lists of the additionalProperties are only built when they're accessed or modified. This uses
+ * considerably less memory than a GenericKubernetesResource for resources that are mostly read, such as the items of
+ * informers over many custom resource types.
+ * <p>
+ * The values are bound with the ObjectMapper that read the resource, so they match those of a
+ * GenericKubernetesResource read by the same mapper. A CompactGenericKubernetesResource is only equal to another
+ * CompactGenericKubernetesResource, which lets its hash code leave out the additionalProperties.
+ * <p>
+ * Register the {@link Module} with the ObjectMapper used by the KubernetesSerialization so that generic resources are
+ * read as CompactGenericKubernetesResource:
+ *
+ * <pre>{@code
+ * new KubernetesClientBuilder().withKubernetesSerialization(new KubernetesSerialization(
+ *     new ObjectMapper().registerModule(new CompactGenericKubernetesResource.Module()), true)).build();
+ * }</pre>
+ */
+@JsonDeserialize(using = CompactGenericKubernetesResource.Deserializer.class)
+@JsonSerialize(using = CompactGenericKubernetesResource.Serializer.class)
+public class CompactGenericKubernetesResource extends GenericKubernetesResource {
+
+  // only reads and writes the JSON bytes, values are bound with the mapper of the resource
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {
+  };
+  private static final String API_VERSION = "apiVersion";
+  private static final String KIND = "kind";
+  private static final String METADATA = "metadata";
+
+  /**
+   * The JSON object holding the additionalProperties, null once they have been materialized.
+   */
+  private byte[] content;
+
+  /**
+   * The mapper that read the resource, used to bind the values read from the content.
+   */
+  private ObjectMapper mapper = MAPPER;
+
+  public CompactGenericKubernetesResource() {
+  }
+
+  public CompactGenericKubernetesResource(String apiVersion, String kind, ObjectMeta metadata, byte[] content) {
+    setApiVersion(apiVersion);
+    setKind(kind);
+    setMetadata(metadata);
+    this.content = content;
+  }
+
+  /**
+   * @return the JSON bytes of the additionalProperties, or null if they have been materialized as a Map
+   */
+  public synchronized byte[] getContent() {
+    return content;
+  }
+
+  @Override
+  public synchronized Map<String, Object> getAdditionalProperties() {
+    if (content != null) {
+      try {
+        try (JsonParser parser = MAPPER.createParser(content)) {
+          super.setAdditionalProperties(mapper.readValue(parser, MAP_TYPE));
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      content = null;
+    }
+    return super.getAdditionalProperties();
+  }
+
+  @Override
+  public synchronized void setAdditionalProperties(Map<String, Object> additionalProperties) {
+    content = null;
+    super.setAdditionalProperties(additionalProperties);
+  }
+
+  @Override
+  public void setAdditionalProperty(String name, Object value) {
+    getAdditionalProperties().put(name, value);
+  }
+
+  /**
+   * The same as {@link GenericKubernetesResource#get(Object...)}, while the additionalProperties have not been
+   * materialized the value is read from the JSON bytes and only the returned value is built.
+   */
+  @Override
+  public <T> T get(Object... path) {
+    final byte[] bytes = getContent();
+    if (bytes == null) {
+      return super.get(path);
+    }
+    try {
+      return get(mapper, bytes, path);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T get(ObjectMapper mapper, byte[] bytes, Object... path) throws IOException {
+    try (JsonParser parser = MAPPER.createParser(bytes)) {
+      parser.nextToken();
+      for (Object segment : path) {
+        final boolean found;
+        if (segment instanceof String && parser.currentToken() == JsonToken.START_OBJECT) {
+          found = moveToField(parser, (String) segment);
+        } else if (segment instanceof Integer && parser.currentToken() == JsonToken.START_ARRAY) {
+          found = moveToElement(parser, (Integer) segment);
+        } else {
+          found = false;
+        }
+        if (!found) {
+          return null;
+        }
+      }
+      return (T) mapper.readValue(parser, Object.class);
+    }
+  }
+
+  private static boolean moveToField(JsonParser parser, String name) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final boolean matches = name.equals(parser.currentName());
+      parser.nextToken();
+      if (matches) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
+  }
+
+  private static boolean moveToElement(JsonParser parser, int index) throws IOException {
+    if (index < 0) {
+      return false;
+    }
+    for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+      if (i == index) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
+  }
+
+  /**
+   * The JSON bytes are never modified, a copy that has not been materialized shares them with this resource.
+   */
+  @Override
+  public synchronized CompactGenericKubernetesResource deepCopy() {
+    final CompactGenericKubernetesResource copy = new CompactGenericKubernetesResource(getApiVersion(), getKind(),
+        DeepCopy.copy(getMetadata()), content);
+    copy.mapper = mapper;
+    if (content == null) {
+      copy.setAdditionalProperties(DeepCopy.copy(super.getAdditionalProperties()));
+    }
+    return copy;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof CompactGenericKubernetesResource)) {
+      return false;
+    }
+    final CompactGenericKubernetesResource other = (CompactGenericKubernetesResource) o;
+    final byte[] bytes = getContent();
+    // identical bytes are equal, otherwise the materialized Maps are compared
+    if (bytes != null && Arrays.equals(bytes, other.getContent())
+        && Objects.equals(getApiVersion(), other.getApiVersion()) && Objects.equals(getKind(), other.getKind())
+        && Objects.equals(getMetadata(), other.getMetadata())) {
+      return true;
+    }
+    return super.equals(o);
+  }
+
+  /**
+   * Leaves out the additionalProperties, so that the content doesn't need to be materialized.
+   */
+  @Override
+  public int hashCode() {
+    return Objects.hash(getApiVersion(), getKind(), getMetadata());
+  }
+
+  @Override
+  protected boolean canEqual(Object other) {
+    return other instanceof CompactGenericKubernetesResource;
+  }
+
+  /**
+   * Reads generic resources as {@link CompactGenericKubernetesResource}.
+   */
+  public static class Module extends SimpleModule {
+
+    public Module() {
+      addDeserializer(GenericKubernetesResource.class, new Deserializer());
+    }
+
+  }
+
+  public static class Deserializer extends JsonDeserializer<CompactGenericKubernetesResource> {
+
+    @Override
+    public CompactGenericKubernetesResource deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      final CompactGenericKubernetesResource resource = new CompactGenericKubernetesResource();
+      if (p.getCodec() instanceof ObjectMapper) {
+        resource.mapper = (ObjectMapper) p.getCodec();
+      }
+      JsonToken token = p.currentToken();
+      if (token == JsonToken.START_OBJECT) {
+        token = p.nextToken();
+      }
+      ByteArrayBuilder bytes = null;
+      JsonGenerator content = null;
+      for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+        final String name = p.currentName();
+        p.nextToken();
+        switch (name) {
+          case API_VERSION:
+            resource.setApiVersion(ctxt.readValue(p, String.class));
+            break;
+          case KIND:
+            resource.setKind(ctxt.readValue(p, String.class));
+            break;
+          case METADATA:
+            resource.setMetadata(ctxt.readValue(p, ObjectMeta.class));
+            break;
+          default:
+            if (content == null) {
+              bytes = new ByteArrayBuilder();
+              content = MAPPER.createGenerator(bytes);
+              content.writeStartObject();
+            }
+            content.writeFieldName(name);
+            content.copyCurrentStructure(p);
+        }
+      }
+      if (content != null) {
+        content.writeEndObject();
+        content.close();
+        resource.content = bytes.toByteArray();
+      }
+      return resource;
+    }
+
+  }
+
+  public static class Serializer extends JsonSerializer<CompactGenericKubernetesResource> {
+
+    @Override
+    public void serialize(CompactGenericKubernetesResource value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      final byte[] bytes = value.getContent();
+      if (bytes == null) {
+        provider.findValueSerializer(GenericKubernetesResource.class).serialize(value, gen, provider);
+        return;
+      }
+      gen.writeStartObject(value);
+      if (value.getApiVersion() != null) {
+        gen.writeStringField(API_VERSION, value.getApiVersion());
+      }
+      if (value.getKind() != null) {
+        gen.writeStringField(KIND, value.getKind());
+      }
+      if (value.getMetadata() != null) {
+        provider.defaultSerializeField(METADATA, value.getMetadata(), gen);
+      }
+      try (JsonParser parser = MAPPER.createParser(bytes)) {
+        parser.nextToken();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          gen.writeFieldName(parser.currentName());
+          parser.nextToken();
+          gen.copyCurrentStructure(parser);
+        }
+      }
+      gen.writeEndObject();
+    }
+
+  }
+}
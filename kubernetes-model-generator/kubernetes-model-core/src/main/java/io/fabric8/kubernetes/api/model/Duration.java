@@ -25,6 +25,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.fabric8.kubernetes.model.DeepCopyable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -55,7 +56,7 @@ import java.util.stream.Stream;
 @JsonSerialize(using = Duration.Serializer.class)
 @ToString
 @EqualsAndHashCode
-public class Duration implements KubernetesResource {
+public class Duration implements KubernetesResource, DeepCopyable<Duration> {
 
   private static final long serialVersionUID = -2326157920610452294L;
 
@@ -81,6 +82,12 @@ public class Duration implements KubernetesResource {
     this.javaDuration = javaDuration;
   }
 
+  @Override
+  public Duration deepCopy() {
+    // java.time.Duration is immutable
+    return new Duration(javaDuration);
+  }
+
   /**
    * Converts Duration to a primitive value ready to be written to a database.
    *
@@ -62,4 +62,10 @@ public class IntOrString extends AnyType {
     return null;
   }
 
+  @Override
+  public IntOrString deepCopy() {
+    // Integer and String values are immutable
+    return new IntOrString(value);
+  }
+
 }
@@ -29,7 +29,10 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.fabric8.kubernetes.model.DeepCopyable;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
+import lombok.AccessLevel;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
@@ -39,7 +42,6 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.BiFunction;
 
 /**
  * Quantity is fixed point representation of a number.
@@ -54,12 +56,23 @@ import java.util.function.BiFunction;
     "_",
     ""
 })
-@Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, builderPackage = "io.fabric8.kubernetes.api.builder")
-public class Quantity implements Serializable, Comparable<Quantity> {
+@Buildable(editableEnabled = false, validationEnabled = false, generateBuilderPackage = false, builderPackage = "io.fabric8.kubernetes.api.builder", ignore = "numerical")
+public class Quantity implements Serializable, Comparable<Quantity>, DeepCopyable<Quantity> {
+  private static final BigDecimal BINARY_FACTOR = new BigDecimal("2");
+  private static final BigDecimal DECIMAL_FACTOR = new BigDecimal("10");
+
   private String amount;
   private String format = "";
   @JsonIgnore
   private Map<String, Object> additionalProperties = new HashMap<>();
+  /**
+   * The parsed amount, computed once and reset whenever the amount or the format change.
+   * <p>
+   * It's not a property, the builders ignore it.
+   */
+  @JsonIgnore
+  @Setter(AccessLevel.NONE)
+  private transient Numerical numerical;
 
   /**
    * No args constructor for use in serialization
@@ -98,6 +111,7 @@ public class Quantity implements Serializable, Comparable<Quantity> {
 
   public void setAmount(String amount) {
     this.amount = amount;
+    this.numerical = null;
   }
 
   public String getFormat() {
@@ -106,6 +120,7 @@ public class Quantity implements Serializable, Comparable<Quantity> {
 
   public void setFormat(String format) {
     this.format = format;
+    this.numerical = null;
   }
 
   /**
@@ -130,28 +145,16 @@ public class Quantity implements Serializable, Comparable<Quantity> {
    * @throws ArithmeticException
    */
   public static BigDecimal getAmountInBytes(Quantity quantity) throws ArithmeticException {
-    String value = "";
-    if (quantity.getAmount() != null && quantity.getFormat() != null) {
-      value = quantity.getAmount() + quantity.getFormat();
-    } else if (quantity.getAmount() != null) {
-      value = quantity.getAmount();
-    }
+    return quantity.numerical().toBigDecimal();
+  }
 
-    if (value == null || value.isEmpty()) {
-      throw new IllegalArgumentException("Invalid quantity value passed to parse");
+  private Numerical numerical() {
+    Numerical result = numerical;
+    if (result == null) {
+      result = Numerical.parse(getAmount(), getFormat());
+      numerical = result;
     }
-    // Append Extra zeroes if starting with decimal
-    if (!Character.isDigit(value.indexOf(0)) && value.startsWith(".")) {
-      value = "0" + value;
-    }
-
-    Quantity amountFormatPair = parse(value);
-    String formatStr = amountFormatPair.getFormat();
-
-    BigDecimal digit = new BigDecimal(amountFormatPair.getAmount());
-    BigDecimal multiple = getMultiple(formatStr);
-
-    return digit.multiply(multiple);
+    return result;
   }
 
   /**
@@ -177,65 +180,13 @@ public class Quantity implements Serializable, Comparable<Quantity> {
     // Handle Decimal exponent case
     if (containsAtLeastOneDigit(formatStr) && formatStr.length() > 1) {
       int exponent = Integer.parseInt(formatStr.substring(1));
-      return new BigDecimal("10").pow(exponent, MathContext.DECIMAL64);
-    }
-
-    BigDecimal multiple = new BigDecimal("1");
-    BigDecimal binaryFactor = new BigDecimal("2");
-    BigDecimal decimalFactor = new BigDecimal("10");
-
-    switch (formatStr) {
-      case "Ki":
-        multiple = binaryFactor.pow(10, MathContext.DECIMAL64);
-        break;
-      case "Mi":
-        multiple = binaryFactor.pow(20, MathContext.DECIMAL64);
-        break;
-      case "Gi":
-        multiple = binaryFactor.pow(30, MathContext.DECIMAL64);
-        break;
-      case "Ti":
-        multiple = binaryFactor.pow(40, MathContext.DECIMAL64);
-        break;
-      case "Pi":
-        multiple = binaryFactor.pow(50, MathContext.DECIMAL64);
-        break;
-      case "Ei":
-        multiple = binaryFactor.pow(60, MathContext.DECIMAL64);
-        break;
-      case "n":
-        multiple = decimalFactor.pow(-9, MathContext.DECIMAL64);
-        break;
-      case "u":
-        multiple = decimalFactor.pow(-6, MathContext.DECIMAL64);
-        break;
-      case "m":
-        multiple = decimalFactor.pow(-3, MathContext.DECIMAL64);
-        break;
-      case "k":
-        multiple = decimalFactor.pow(3, MathContext.DECIMAL64);
-        break;
-      case "M":
-        multiple = decimalFactor.pow(6, MathContext.DECIMAL64);
-        break;
-      case "G":
-        multiple = decimalFactor.pow(9, MathContext.DECIMAL64);
-        break;
-      case "T":
-        multiple = decimalFactor.pow(12, MathContext.DECIMAL64);
-        break;
-      case "P":
-        multiple = decimalFactor.pow(15, MathContext.DECIMAL64);
-        break;
-      case "E":
-        multiple = decimalFactor.pow(18, MathContext.DECIMAL64);
-        break;
-      case "":
-        break;
-      default:
-        throw new IllegalArgumentException("Invalid quantity format passed to parse");
-    }
-    return multiple;
+      return DECIMAL_FACTOR.pow(exponent, MathContext.DECIMAL64);
+    }
+    final Numerical multiple = Numerical.multipleOf(formatStr, 0);
+    if (multiple == null) {
+      throw new IllegalArgumentException("Invalid quantity format passed to parse");
+    }
+    return multiple.toBigDecimal();
   }
 
   /**
@@ -270,12 +221,12 @@ public class Quantity implements Serializable, Comparable<Quantity> {
    */
   @Override
   public int compareTo(Quantity o) {
-    return getNumericalAmount().compareTo(o.getNumericalAmount());
+    return numerical().compareTo(o.numerical());
   }
 
   @Override
   public int hashCode() {
-    return getAmountInBytes(this).toBigInteger().hashCode();
+    return numerical().integerPartHashCode();
   }
 
   @Override
@@ -345,6 +296,17 @@ public class Quantity implements Serializable, Comparable<Quantity> {
     this.additionalProperties.put(name, value);
   }
 
+  @Override
+  public Quantity deepCopy() {
+    final Quantity copy = new Quantity();
+    copy.amount = amount;
+    copy.format = format;
+    // the parsed amount is immutable and can be shared
+    copy.numerical = numerical;
+    copy.additionalProperties = DeepCopy.copy(additionalProperties);
+    return copy;
+  }
+
   public static class Serializer extends JsonSerializer<Quantity> {
 
     @Override
@@ -393,7 +355,7 @@ public class Quantity implements Serializable, Comparable<Quantity> {
    * @return a new Quantity after y has been added
    */
   public Quantity add(Quantity y) {
-    return op(y, BigDecimal::add);
+    return op(y, numerical().add(y.numerical()));
   }
 
   /**
@@ -405,7 +367,7 @@ public class Quantity implements Serializable, Comparable<Quantity> {
    * @return a new Quantity after y has been subtracted
    */
   public Quantity subtract(Quantity y) {
-    return op(y, BigDecimal::subtract);
+    return op(y, numerical().subtract(y.numerical()));
   }
 
   /**
@@ -415,14 +377,10 @@ public class Quantity implements Serializable, Comparable<Quantity> {
    * @return a new Quantity resulting from the multiplication of this quantity by the scalar multiplicand
    */
   public Quantity multiply(int multiplicand) {
-    BigDecimal numericalAmount = getNumericalAmount();
-    numericalAmount = numericalAmount.multiply(BigDecimal.valueOf(multiplicand));
-    return fromNumericalAmount(numericalAmount, format);
+    return fromNumericalAmount(numerical().multiply(multiplicand), format);
   }
 
-  Quantity op(Quantity y, BiFunction<BigDecimal, BigDecimal, BigDecimal> func) {
-    BigDecimal numericalAmount = this.getNumericalAmount();
-    numericalAmount = func.apply(numericalAmount, y.getNumericalAmount());
+  private Quantity op(Quantity y, BigDecimal numericalAmount) {
     String format = this.format;
     if (numericalAmount.signum() == 0) {
       format = y.format;
@@ -430,4 +388,326 @@ public class Quantity implements Serializable, Comparable<Quantity> {
     return fromNumericalAmount(numericalAmount, format);
   }
 
+  /**
+   * The numerical amount of a Quantity, in the same unscaled value and scale as the BigDecimal previously built on
+   * every call to {@link #getAmountInBytes(Quantity)}.
+   * <p>
+   * Amounts that fit in a long are parsed and compared without creating BigDecimals, larger amounts and anything the
+   * fast path doesn't recognize go through BigDecimal.
+   */
+  static final class Numerical {
+
+    private static final long[] LONG_TEN_POWERS = new long[19];
+    private static final int MAX_CACHED_EXPONENT = 18;
+    private static final Numerical[] DECIMAL_EXPONENTS = new Numerical[2 * MAX_CACHED_EXPONENT + 1];
+
+    static {
+      LONG_TEN_POWERS[0] = 1;
+      for (int i = 1; i < LONG_TEN_POWERS.length; i++) {
+        LONG_TEN_POWERS[i] = LONG_TEN_POWERS[i - 1] * 10;
+      }
+      for (int i = -MAX_CACHED_EXPONENT; i <= MAX_CACHED_EXPONENT; i++) {
+        DECIMAL_EXPONENTS[i + MAX_CACHED_EXPONENT] = of(DECIMAL_FACTOR.pow(i, MathContext.DECIMAL64));
+      }
+    }
+
+    private static final Numerical ONE = of(BigDecimal.ONE);
+    private static final Numerical KI = of(BINARY_FACTOR.pow(10, MathContext.DECIMAL64));
+    private static final Numerical MI = of(BINARY_FACTOR.pow(20, MathContext.DECIMAL64));
+    private static final Numerical GI = of(BINARY_FACTOR.pow(30, MathContext.DECIMAL64));
+    private static final Numerical TI = of(BINARY_FACTOR.pow(40, MathContext.DECIMAL64));
+    private static final Numerical PI = of(BINARY_FACTOR.pow(50, MathContext.DECIMAL64));
+    private static final Numerical EI = of(BINARY_FACTOR.pow(60, MathContext.DECIMAL64));
+
+    // unscaled and scale are only meaningful when exact, otherwise decimal holds the amount
+    private final boolean exact;
+    private final long unscaled;
+    private final int scale;
+    private BigDecimal decimal;
+
+    private Numerical(long unscaled, int scale) {
+      this.exact = true;
+      this.unscaled = unscaled;
+      this.scale = scale;
+    }
+
+    private Numerical(BigDecimal decimal) {
+      this.exact = false;
+      this.unscaled = 0;
+      this.scale = 0;
+      this.decimal = decimal;
+    }
+
+    static Numerical of(BigDecimal decimal) {
+      if (decimal.unscaledValue().bitLength() < Long.SIZE) {
+        return new Numerical(decimal.unscaledValue().longValue(), decimal.scale());
+      }
+      return new Numerical(decimal);
+    }
+
+    BigDecimal toBigDecimal() {
+      BigDecimal result = decimal;
+      if (result == null) {
+        result = BigDecimal.valueOf(unscaled, scale);
+        decimal = result;
+      }
+      return result;
+    }
+
+    static Numerical parse(String amount, String format) {
+      String value = "";
+      if (amount != null && format != null) {
+        value = amount + format;
+      } else if (amount != null) {
+        value = amount;
+      }
+      if (value.isEmpty()) {
+        throw new IllegalArgumentException("Invalid quantity value passed to parse");
+      }
+      final int unitIndex = indexOfUnit(value);
+      final Numerical multiple = multipleOf(value, unitIndex);
+      if (multiple == null || !multiple.exact) {
+        return parseBigDecimal(value);
+      }
+      int i = 0;
+      boolean negative = false;
+      if (unitIndex > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+        negative = value.charAt(0) == '-';
+        i++;
+      }
+      long digits = 0;
+      int digitCount = 0;
+      int digitsScale = 0;
+      boolean fraction = false;
+      for (; i < unitIndex; i++) {
+        final char ch = value.charAt(i);
+        if (ch >= '0' && ch <= '9') {
+          if (++digitCount >= LONG_TEN_POWERS.length) {
+            return parseBigDecimal(value);
+          }
+          digits = digits * 10 + (ch - '0');
+          if (fraction) {
+            digitsScale++;
+          }
+        } else if (ch == '.' && !fraction) {
+          fraction = true;
+        } else {
+          return parseBigDecimal(value);
+        }
+      }
+      if (digitCount == 0) {
+        return parseBigDecimal(value);
+      }
+      if (negative) {
+        digits = -digits;
+      }
+      try {
+        return new Numerical(Math.multiplyExact(digits, multiple.unscaled), digitsScale + multiple.scale);
+      } catch (ArithmeticException e) {
+        return new Numerical(BigDecimal.valueOf(digits, digitsScale).multiply(multiple.toBigDecimal()));
+      }
+    }
+
+    /**
+     * The original BigDecimal based parsing, it also provides the exceptions for invalid values.
+     */
+    private static Numerical parseBigDecimal(String value) {
+      // Append Extra zeroes if starting with decimal
+      if (value.startsWith(".")) {
+        value = "0" + value;
+      }
+      Quantity amountFormatPair = Quantity.parse(value);
+      BigDecimal digit = new BigDecimal(amountFormatPair.getAmount());
+      return of(digit.multiply(getMultiple(amountFormatPair.getFormat())));
+    }
+
+    /**
+     * @return the multiple for the unit starting at the given index, or null if it's not a known unit
+     */
+    static Numerical multipleOf(String value, int unitIndex) {
+      switch (value.length() - unitIndex) {
+        case 0:
+          return ONE;
+        case 1:
+          return decimalMultipleOf(value.charAt(unitIndex));
+        case 2:
+          if (value.charAt(unitIndex + 1) == 'i') {
+            return binaryMultipleOf(value.charAt(unitIndex));
+          }
+          return exponentMultipleOf(value, unitIndex);
+        default:
+          return exponentMultipleOf(value, unitIndex);
+      }
+    }
+
+    private static Numerical decimalMultipleOf(char unit) {
+      switch (unit) {
+        case 'n':
+          return DECIMAL_EXPONENTS[MAX_CACHED_EXPONENT - 9];
+        case 'u':
+          return DECIMAL_EXPONENTS[MAX_CACHED_EXPONENT - 6];
+        case 'm':
+          return DECIMAL_EXPONENTS[MAX_CACHED_EXPONENT - 3];
+        case 'k':
+          return DECIMAL_EXPONENTS[MAX_CACHED_EXPONENT + 3];
+        case 'M':
+          return DECIMAL_EXPONENTS[MAX_CACHED_EXPONENT + 6];
+        case 'G':
+          return DECIMAL_EXPONENTS[MAX_CACHED_EXPONENT + 9];
+        case 'T':
+          return DECIMAL_EXPONENTS[MAX_CACHED_EXPONENT + 12];
+        case 'P':
+          return DECIMAL_EXPONENTS[MAX_CACHED_EXPONENT + 15];
+        case 'E':
+          return DECIMAL_EXPONENTS[MAX_CACHED_EXPONENT + 18];
+        default:
+          return null;
+      }
+    }
+
+    private static Numerical binaryMultipleOf(char unit) {
+      switch (unit) {
+        case 'K':
+          return KI;
+        case 'M':
+          return MI;
+        case 'G':
+          return GI;
+        case 'T':
+          return TI;
+        case 'P':
+          return PI;
+        case 'E':
+          return EI;
+        default:
+          return null;
+      }
+    }
+
+    private static Numerical exponentMultipleOf(String value, int unitIndex) {
+      final char unit = value.charAt(unitIndex);
+      if (unit != 'e' && unit != 'E') {
+        return null;
+      }
+      int i = unitIndex + 1;
+      boolean negative = false;
+      if (value.charAt(i) == '-' || value.charAt(i) == '+') {
+        negative = value.charAt(i) == '-';
+        i++;
+      }
+      if (i == value.length() || value.length() - i > 2) {
+        return null;
+      }
+      int exponent = 0;
+      for (; i < value.length(); i++) {
+        final char ch = value.charAt(i);
+        if (ch < '0' || ch > '9') {
+          return null;
+        }
+        exponent = exponent * 10 + (ch - '0');
+      }
+      if (exponent > MAX_CACHED_EXPONENT) {
+        return null;
+      }
+      return DECIMAL_EXPONENTS[MAX_CACHED_EXPONENT + (negative ? -exponent : exponent)];
+    }
+
+    int compareTo(Numerical o) {
+      if (exact && o.exact) {
+        if (scale == o.scale) {
+          return Long.compare(unscaled, o.unscaled);
+        }
+        final long[] aligned = align(o);
+        if (aligned != null) {
+          return Long.compare(aligned[0], aligned[1]);
+        }
+      }
+      return toBigDecimal().compareTo(o.toBigDecimal());
+    }
+
+    BigDecimal add(Numerical o) {
+      final long[] aligned = exact && o.exact ? align(o) : null;
+      if (aligned != null) {
+        try {
+          return BigDecimal.valueOf(Math.addExact(aligned[0], aligned[1]), Math.max(scale, o.scale));
+        } catch (ArithmeticException e) {
+          // fall back to BigDecimal
+        }
+      }
+      return toBigDecimal().add(o.toBigDecimal());
+    }
+
+    BigDecimal subtract(Numerical o) {
+      final long[] aligned = exact && o.exact ? align(o) : null;
+      if (aligned != null) {
+        try {
+          return BigDecimal.valueOf(Math.subtractExact(aligned[0], aligned[1]), Math.max(scale, o.scale));
+        } catch (ArithmeticException e) {
+          // fall back to BigDecimal
+        }
+      }
+      return toBigDecimal().subtract(o.toBigDecimal());
+    }
+
+    BigDecimal multiply(int multiplicand) {
+      if (exact) {
+        try {
+          return BigDecimal.valueOf(Math.multiplyExact(unscaled, multiplicand), scale);
+        } catch (ArithmeticException e) {
+          // fall back to BigDecimal
+        }
+      }
+      return toBigDecimal().multiply(BigDecimal.valueOf(multiplicand));
+    }
+
+    /**
+     * @return the hash code of the integer part, the same as {@code toBigDecimal().toBigInteger().hashCode()}
+     */
+    int integerPartHashCode() {
+      if (exact && scale >= 0) {
+        return bigIntegerHashCode(scale < LONG_TEN_POWERS.length ? unscaled / LONG_TEN_POWERS[scale] : 0);
+      }
+      if (exact && -scale < LONG_TEN_POWERS.length) {
+        try {
+          return bigIntegerHashCode(Math.multiplyExact(unscaled, LONG_TEN_POWERS[-scale]));
+        } catch (ArithmeticException e) {
+          // fall back to BigInteger
+        }
+      }
+      return toBigDecimal().toBigInteger().hashCode();
+    }
+
+    /**
+     * @return the same value as {@code BigInteger.valueOf(value).hashCode()}
+     */
+    static int bigIntegerHashCode(long value) {
+      final long magnitude = Math.abs(value);
+      final int high = (int) (magnitude >>> 32);
+      final int low = (int) magnitude;
+      final int hashCode = high == 0 ? low : 31 * high + low;
+      return Long.signum(value) * hashCode;
+    }
+
+    /**
+     * @return the unscaled values of both amounts rescaled to the larger scale, or null if they don't fit in a long
+     */
+    private long[] align(Numerical o) {
+      final long[] unscaledValues = { unscaled, o.unscaled };
+      final int diff = scale - o.scale;
+      if (Math.abs(diff) >= LONG_TEN_POWERS.length) {
+        return null;
+      }
+      try {
+        if (diff > 0) {
+          unscaledValues[1] = Math.multiplyExact(o.unscaled, LONG_TEN_POWERS[diff]);
+        } else if (diff < 0) {
+          unscaledValues[0] = Math.multiplyExact(unscaled, LONG_TEN_POWERS[-diff]);
+        }
+      } catch (ArithmeticException e) {
+        return null;
+      }
+      return unscaledValues;
+    }
+  }
+
 }
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.model.AnyType;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.model.util.DeepCopy;
 import io.sundr.builder.annotations.Buildable;
 import lombok.ToString;
 
@@ -35,4 +36,9 @@ public class RawExtension extends AnyType implements KubernetesResource {
     super(value);
   }
 
+  @Override
+  public RawExtension deepCopy() {
+    return new RawExtension(DeepCopy.copy(value));
+  }
+
 }
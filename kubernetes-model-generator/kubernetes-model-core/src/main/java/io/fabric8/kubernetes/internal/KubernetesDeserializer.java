@@ -16,27 +16,32 @@
 package io.fabric8.kubernetes.internal;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource> {
 
@@ -90,36 +95,36 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
           DEFAULT_MAPPING.registerClassesFromClassLoaders();
         }
       }
-      mapping.mappings.putAll(DEFAULT_MAPPING.mappings);
+      mapping.copyFrom(DEFAULT_MAPPING);
     }
   }
 
+  /**
+   * Deserializes in a single pass. Only the fields before apiVersion and kind are buffered, then the buffer and the
+   * rest of the object are replayed to the deserializer of the resolved type.
+   */
   @Override
   public KubernetesResource deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-    final JsonNode node = jp.readValueAsTree();
-    return deserialize(jp, node);
-  }
-
-  final KubernetesResource deserialize(JsonParser jp, JsonNode node) throws IOException {
-    if (node.isObject()) {
-      return fromObjectNode(jp, node);
-    } else if (node.isArray()) {
-      return fromArrayNode(jp, node);
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME || token == JsonToken.END_OBJECT) {
+      return fromObject(jp, ctxt);
+    } else if (token == JsonToken.START_ARRAY) {
+      return fromArray(jp, ctxt);
+    } else if (token == JsonToken.VALUE_NULL) {
+      return null;
     }
-    Object object = node.traverse(jp.getCodec()).readValueAs(Object.class);
+    Object object = ctxt.readValue(jp, Object.class);
     if (object == null) {
       return null;
     }
     return new RawExtension(object);
   }
 
-  private KubernetesResource fromArrayNode(JsonParser jp, JsonNode node) throws IOException {
-    Iterator<JsonNode> iterator = node.elements();
+  private KubernetesResource fromArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
     List<HasMetadata> list = new ArrayList<>();
-    while (iterator.hasNext()) {
-      JsonNode jsonNode = iterator.next();
-      if (jsonNode.isObject()) {
-        KubernetesResource resource = fromObjectNode(jp, jsonNode);
+    while (jp.nextToken() != JsonToken.END_ARRAY) {
+      if (jp.isExpectedStartObjectToken()) {
+        KubernetesResource resource = fromObject(jp, ctxt);
         if (!(resource instanceof HasMetadata)) {
           throw new JsonMappingException(jp, "Cannot parse a nested array containing a non-HasMetadata resource");
         }
@@ -131,34 +136,63 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
     return new KubernetesListBuilder().withItems(list).build();
   }
 
-  private KubernetesResource fromObjectNode(JsonParser jp, JsonNode node) throws IOException {
-    TypeKey key = createKey(node);
+  private KubernetesResource fromObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+    TokenBuffer buffer = ctxt.bufferForInputBuffering(jp);
+    buffer.writeStartObject();
+    String apiVersion = null;
+    String kind = null;
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    }
+    boolean complete = false;
+    for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+      String name = jp.currentName();
+      buffer.writeFieldName(name);
+      if (jp.nextToken() == JsonToken.VALUE_STRING && (API_VERSION.equals(name) || KIND.equals(name))) {
+        String value = jp.getText();
+        buffer.writeString(value);
+        if (API_VERSION.equals(name)) {
+          apiVersion = value;
+        } else {
+          kind = value;
+        }
+        if (apiVersion != null && kind != null) {
+          complete = true;
+          break;
+        }
+      } else {
+        buffer.copyCurrentStructure(jp);
+      }
+    }
+    JsonParser replay;
+    if (complete) {
+      // the rest of the object is read directly from the original parser
+      replay = JsonParserSequence.createFlattened(false, buffer.asParser(jp), jp);
+    } else {
+      buffer.writeEndObject();
+      replay = buffer.asParser(jp);
+    }
+    replay.nextToken();
+
+    TypeKey key = mapping.createKey(apiVersion, kind);
     Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
     if (resourceType == null) {
       if (key == null) {
         // just a wrapper around a map
         // if this raw mapping typed as HasMetadata, a failure will result
-        return jp.getCodec().treeToValue(node, RawExtension.class);
+        return ctxt.readValue(replay, RawExtension.class);
       }
       // this is not quite correct as not all resources have metadata - see LocalResourceAccessReview
-      return jp.getCodec().treeToValue(node, GenericKubernetesResource.class);
+      return ctxt.readValue(replay, GenericKubernetesResource.class);
     } else if (KubernetesResource.class.isAssignableFrom(resourceType)) {
-      return jp.getCodec().treeToValue(node, resourceType);
+      return ctxt.readValue(replay, resourceType);
     }
     throw new JsonMappingException(jp, String.format(
         "There's a class loading issue, %s is registered as a KubernetesResource, but is not an instance of KubernetesResource",
         resourceType.getName()));
   }
 
-  private TypeKey createKey(JsonNode node) {
-    JsonNode apiVersion = node.get(API_VERSION);
-    JsonNode kind = node.get(KIND);
-
-    return mapping.createKey(
-        apiVersion != null ? apiVersion.textValue() : null,
-        kind != null ? kind.textValue() : null);
-  }
-
   /**
    * Registers a Custom Resource Definition Kind
    */
@@ -181,13 +215,32 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
 
   static class Mapping {
 
+    static final String SERVICE_RESOURCE = "META-INF/services/" + KubernetesResource.class.getName();
+
+    private static final String API_VERSION_INDEX = "apiVersion=";
+    private static final String KIND_INDEX = "kind=";
+
     private final Map<TypeKey, Class<? extends KubernetesResource>> mappings = new ConcurrentHashMap<>();
+    // classes known from the generated service files, only loaded once their kind is first needed
+    private final Map<TypeKey, IndexedClass> index = new ConcurrentHashMap<>();
 
     public Class<? extends KubernetesResource> getForKey(TypeKey key) {
       if (key == null) {
         return null;
       }
-      return mappings.get(key);
+      Class<? extends KubernetesResource> result = mappings.get(key);
+      if (result == null) {
+        IndexedClass indexed = index.get(key);
+        if (indexed != null) {
+          Class<? extends KubernetesResource> loaded = indexed.load();
+          if (loaded != null) {
+            Class<? extends KubernetesResource> existing = mappings.putIfAbsent(key, loaded);
+            result = existing != null ? existing : loaded;
+          }
+          index.remove(key, indexed);
+        }
+      }
+      return result;
     }
 
     public void registerKind(String apiVersion, String kind, Class<? extends KubernetesResource> clazz) {
@@ -208,15 +261,68 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
       return new TypeKey(kind, versionParts[0], versionParts[1]);
     }
 
+    void copyFrom(Mapping other) {
+      index.putAll(other.index);
+      mappings.putAll(other.mappings);
+    }
+
+    /**
+     * Reads the service files rather than using the {@link java.util.ServiceLoader}, so that the classes listed with
+     * an index comment are not loaded or instantiated until their kind is deserialized.
+     */
     void registerClassesFromClassLoaders() {
       Stream.of(Thread.currentThread().getContextClassLoader(), KubernetesDeserializer.class.getClassLoader())
           .filter(Objects::nonNull)
-          .map(cl -> ServiceLoader.load(KubernetesResource.class, cl))
-          .map(ServiceLoader::iterator)
-          .map(i -> (Iterable<KubernetesResource>) () -> i)
-          .flatMap(i -> StreamSupport.stream(i.spliterator(), false))
-          .map(KubernetesResource::getClass)
-          .forEach(this::addMapping);
+          .distinct()
+          .forEach(this::registerClassesFromClassLoader);
+    }
+
+    private void registerClassesFromClassLoader(ClassLoader classLoader) {
+      try {
+        Enumeration<URL> resources = classLoader.getResources(SERVICE_RESOURCE);
+        while (resources.hasMoreElements()) {
+          URL url = resources.nextElement();
+          try (BufferedReader reader = new BufferedReader(
+              new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            reader.lines().forEach(line -> registerServiceLine(line, classLoader));
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to read " + SERVICE_RESOURCE, e);
+      }
+    }
+
+    /**
+     * Registers a line of a service file, either "className # apiVersion=group/version kind=Kind" as generated for
+     * the model, or just the class name.
+     */
+    void registerServiceLine(String line, ClassLoader classLoader) {
+      int commentStart = line.indexOf('#');
+      String className = (commentStart < 0 ? line : line.substring(0, commentStart)).trim();
+      if (className.isEmpty()) {
+        return;
+      }
+      String apiVersion = null;
+      String kind = null;
+      if (commentStart >= 0) {
+        for (String token : line.substring(commentStart + 1).trim().split("\\s+")) {
+          if (token.startsWith(API_VERSION_INDEX)) {
+            apiVersion = token.substring(API_VERSION_INDEX.length());
+          } else if (token.startsWith(KIND_INDEX)) {
+            kind = token.substring(KIND_INDEX.length());
+          }
+        }
+      }
+      TypeKey key = createKey(apiVersion, kind);
+      if (key == null) {
+        Optional.ofNullable(new IndexedClass(className, classLoader).load()).ifPresent(this::addMapping);
+        return;
+      }
+      IndexedClass indexed = new IndexedClass(className, classLoader);
+      index.put(key, indexed);
+      if (key.apiGroup != null && key.apiGroup.endsWith(".openshift.io")) {
+        index.putIfAbsent(new TypeKey(key.kind, null, key.version), indexed);
+      }
     }
 
     TypeKey getKeyFromClass(Class<? extends KubernetesResource> clazz) {
@@ -245,6 +351,31 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
     }
   }
 
+  static final class IndexedClass {
+    private final String className;
+    private final ClassLoader classLoader;
+
+    IndexedClass(String className, ClassLoader classLoader) {
+      this.className = className;
+      this.classLoader = classLoader;
+    }
+
+    /**
+     * @return the class, or null if it can't be loaded or is not a KubernetesResource
+     */
+    Class<? extends KubernetesResource> load() {
+      try {
+        Class<?> clazz = Class.forName(className, false, classLoader);
+        if (KubernetesResource.class.isAssignableFrom(clazz)) {
+          return clazz.asSubclass(KubernetesResource.class);
+        }
+      } catch (ClassNotFoundException | LinkageError e) {
+        // ignore, as the ServiceLoader would for a missing provider
+      }
+      return null;
+    }
+  }
+
   public Class<? extends KubernetesResource> getRegisteredKind(String apiVersion, String kind) {
     return mapping.getForKey(mapping.createKey(apiVersion, kind));
   }
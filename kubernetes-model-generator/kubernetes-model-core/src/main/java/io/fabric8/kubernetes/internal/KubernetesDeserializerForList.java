@@ -16,10 +16,10 @@
 package io.fabric8.kubernetes.internal;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 
 import java.io.IOException;
@@ -36,13 +36,12 @@ public class KubernetesDeserializerForList extends JsonDeserializer<List<Kuberne
 
   @Override
   public List<KubernetesResource> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-    final JsonNode node = p.readValueAsTree();
-    if (!node.isArray()) {
-      throw new JsonMappingException(p, "Expected array but found " + node.getNodeType());
+    if (!p.isExpectedStartArrayToken()) {
+      throw new JsonMappingException(p, "Expected array but found " + ctxt.readTree(p).getNodeType());
     }
     final List<KubernetesResource> ret = new ArrayList<>();
-    for (JsonNode item : node) {
-      ret.add(kubernetesDeserializer.deserialize(p, item));
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      ret.add(kubernetesDeserializer.deserialize(p, ctxt));
     }
     return ret;
   }
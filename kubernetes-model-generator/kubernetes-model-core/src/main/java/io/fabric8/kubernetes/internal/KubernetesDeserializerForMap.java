@@ -19,11 +19,9 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.Map;
 
 public class KubernetesDeserializerForMap extends JsonDeserializer<Map<String, KubernetesResource>> {
@@ -36,14 +34,13 @@ public class KubernetesDeserializerForMap extends JsonDeserializer<Map<String, K
 
   @Override
   public Map<String, KubernetesResource> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-    final JsonNode node = p.readValueAsTree();
-    if (!node.isObject()) {
-      throw new JsonMappingException(p, "Expected map but found " + node.getNodeType());
+    if (!p.isExpectedStartObjectToken()) {
+      throw new JsonMappingException(p, "Expected map but found " + ctxt.readTree(p).getNodeType());
     }
     final Map<String, KubernetesResource> ret = new java.util.LinkedHashMap<>();
-    for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
-      final Map.Entry<String, JsonNode> entry = it.next();
-      ret.put(entry.getKey(), kubernetesDeserializer.deserialize(p, entry.getValue()));
+    for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+      p.nextToken();
+      ret.put(name, kubernetesDeserializer.deserialize(p, ctxt));
     }
     return ret;
   }
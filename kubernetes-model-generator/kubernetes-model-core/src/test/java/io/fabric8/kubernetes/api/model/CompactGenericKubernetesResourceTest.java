@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.api.model;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.model.util.Helper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactGenericKubernetesResourceTest {
+
+  private ObjectMapper objectMapper;
+  private String json;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper().registerModule(new CompactGenericKubernetesResource.Module());
+    json = Helper.loadJson("/generic-kubernetes-resource/complex-structure-resource.json");
+  }
+
+  @Test
+  @DisplayName("deserialize, with module, should deserialize generic resources as compact")
+  void deserializeWithModuleShouldDeserializeCompact() throws Exception {
+    // When
+    final GenericKubernetesResource result = objectMapper.readValue(json, GenericKubernetesResource.class);
+    // Then
+    assertThat(result)
+        .isInstanceOf(CompactGenericKubernetesResource.class)
+        .hasFieldOrPropertyWithValue("apiVersion", "the-cr.example.com/v1")
+        .hasFieldOrPropertyWithValue("kind", "SomeCustomResource")
+        .hasFieldOrPropertyWithValue("metadata.name", "custom-resource-example");
+    assertThat(((CompactGenericKubernetesResource) result).getContent()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("get, with paths, should read values without materializing additionalProperties")
+  void getShouldNotMaterialize() throws Exception {
+    // Given
+    final CompactGenericKubernetesResource resource = objectMapper.readValue(json, CompactGenericKubernetesResource.class);
+    final GenericKubernetesResource expected = new ObjectMapper().readValue(json, GenericKubernetesResource.class);
+    // Then
+    assertThat(resource.<Object> get("spec", "dot.in.field")).isEqualTo(42);
+    assertThat(resource.<Object> get("spec", "nested", "list", 1, "entry")).isEqualTo(2);
+    assertThat(resource.<Object> get("spec", "nested", "2dList", 1, 0, "entry")).isEqualTo(3);
+    assertThat(resource.<Object> get("spec", "nested", "list", 99, "entry")).isNull();
+    assertThat(resource.<Object> get("spec", "nested", "list", "1", "entry")).isNull();
+    assertThat(resource.<Object> get("spec", "nested", "list", -1)).isNull();
+    assertThat(resource.<Object> get("spec", "field", "not-here")).isNull();
+    assertThat(resource.<Object> get("spec", "nested")).isEqualTo(expected.get("spec", "nested"));
+    assertThat(resource.<Object> get("status", "reconciled")).isEqualTo(true);
+    assertThat(resource.getContent()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("serialize, without materializing, should serialize like GenericKubernetesResource")
+  void serializeShouldMatchGenericKubernetesResource() throws Exception {
+    // Given
+    final CompactGenericKubernetesResource resource = objectMapper.readValue(json, CompactGenericKubernetesResource.class);
+    final GenericKubernetesResource expected = new ObjectMapper().readValue(json, GenericKubernetesResource.class);
+    // When
+    final String result = objectMapper.writeValueAsString(resource);
+    // Then
+    assertThat(result).isEqualTo(new ObjectMapper().writeValueAsString(expected));
+    assertThat(resource.getContent()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("additionalProperties, when modified, should be materialized and serialized")
+  void modifiedAdditionalPropertiesShouldBeSerialized() throws Exception {
+    // Given
+    final CompactGenericKubernetesResource resource = objectMapper.readValue(json, CompactGenericKubernetesResource.class);
+    // When
+    resource.setAdditionalProperty("data", Collections.singletonMap("key", "value"));
+    // Then
+    assertThat(resource.getContent()).isNull();
+    assertThat(resource.<Object> get("data", "key")).isEqualTo("value");
+    assertThat(resource.<Object> get("spec", "field")).isEqualTo("value");
+    final JsonNode result = objectMapper.valueToTree(resource);
+    assertThat(result.at("/data/key").asText()).isEqualTo("value");
+    assertThat(result.at("/spec/nested/list/2/entry").asInt()).isEqualTo(3);
+    assertThat(result.at("/metadata/name").asText()).isEqualTo("custom-resource-example");
+  }
+
+  @Test
+  @DisplayName("equality, should match CompactGenericKubernetesResource with the same content")
+  void equality() throws Exception {
+    // Given
+    final CompactGenericKubernetesResource resource = objectMapper.readValue(json, CompactGenericKubernetesResource.class);
+    final CompactGenericKubernetesResource other = objectMapper.readValue(json, CompactGenericKubernetesResource.class);
+    final GenericKubernetesResource generic = new ObjectMapper().readValue(json, GenericKubernetesResource.class);
+    // Then
+    assertThat(resource).isEqualTo(other).hasSameHashCodeAs(other).isNotEqualTo(generic);
+    assertThat(generic).isNotEqualTo(resource);
+    assertThat(resource.getContent()).isNotNull();
+    other.getAdditionalProperties();
+    assertThat(resource).isEqualTo(other).hasSameHashCodeAs(other);
+    other.getAdditionalProperties().put("key", "value");
+    assertThat(resource).isNotEqualTo(other);
+  }
+
+  @Test
+  @DisplayName("get, should bind values with the mapper that read the resource")
+  void getUsesReadingMapper() throws Exception {
+    // Given
+    final ObjectMapper bigDecimals = new ObjectMapper().registerModule(new CompactGenericKubernetesResource.Module())
+        .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    final CompactGenericKubernetesResource resource = bigDecimals.readValue(
+        "{\"kind\":\"Widget\",\"spec\":{\"ratio\":0.5}}", CompactGenericKubernetesResource.class);
+    // Then
+    assertThat(resource.<Object> get("spec", "ratio")).isEqualTo(new BigDecimal("0.5"));
+    assertThat(resource.getAdditionalProperties()).extracting("spec").hasFieldOrPropertyWithValue("ratio",
+        new BigDecimal("0.5"));
+  }
+
+  @Test
+  @DisplayName("deepCopy, should share the JSON bytes until either resource is modified")
+  void deepCopy() throws Exception {
+    // Given
+    final CompactGenericKubernetesResource read = objectMapper.readValue(json, CompactGenericKubernetesResource.class);
+    final CompactGenericKubernetesResource resource = new CompactGenericKubernetesResource(read.getApiVersion(),
+        read.getKind(), null, read.getContent());
+    // When
+    final CompactGenericKubernetesResource copy = resource.deepCopy();
+    // Then
+    assertThat(copy).isEqualTo(resource).isNotSameAs(resource);
+    assertThat(copy.getContent()).isSameAs(resource.getContent());
+    copy.setAdditionalProperty("data", "value");
+    assertThat(resource.<Object> get("data")).isNull();
+    assertThat(copy.deepCopy()).isEqualTo(copy);
+  }
+}
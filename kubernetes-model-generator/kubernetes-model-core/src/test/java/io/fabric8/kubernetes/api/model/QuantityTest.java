@@ -236,4 +236,42 @@ class QuantityTest {
     assertThat(quantity.multiply(3)).isEqualTo(new Quantity("12Gi"));
     assertThat(quantity.multiply(-3)).isEqualTo(new Quantity("-12Gi"));
   }
+
+  @Test
+  @DisplayName("Changing the amount or format should discard the previously parsed amount")
+  void testSettersResetParsedAmount() {
+    Quantity quantity = new Quantity("1Gi");
+    assertThat(quantity.getNumericalAmount()).hasToString("1073741824");
+    quantity.setAmount("2");
+    assertThat(quantity.getNumericalAmount()).hasToString("2147483648");
+    quantity.setFormat("Mi");
+    assertThat(quantity).isEqualTo(new Quantity("2048Ki"));
+  }
+
+  @Test
+  void testDeepCopy() {
+    Quantity quantity = new Quantity("1Gi");
+    quantity.setAdditionalProperty("key", "value");
+    Quantity copy = quantity.deepCopy();
+    assertThat(copy).isEqualTo(quantity).isNotSameAs(quantity);
+    assertThat(copy.getFormat()).isEqualTo("Gi");
+    copy.setAdditionalProperty("key", "other");
+    copy.setAmount("2");
+    assertThat(quantity.getAdditionalProperties()).containsEntry("key", "value");
+    assertThat(quantity.getNumericalAmount()).hasToString("1073741824");
+  }
+
+  @ParameterizedTest
+  @DisplayName("Amounts that don't fit in a long should be compared and added as BigDecimals")
+  @CsvSource({
+      "9223372036854775807,1,9223372036854775808", "8Ei,8Ei,18446744073709552000", "99999999999999999999m,1m,100000000000000000",
+      "1000000000000000000,0.000000000000000001,1000000000000000000.000000000000000001",
+      "-9223372036854775808,-1,-9223372036854775809"
+  })
+  void testLargeAmounts(String x, String y, String expectedSum) {
+    Quantity sum = new Quantity(x).add(new Quantity(y));
+    assertThat(sum.getNumericalAmount()).isEqualByComparingTo(expectedSum);
+    assertThat(sum.compareTo(new Quantity(x))).isEqualTo(new Quantity(y).getNumericalAmount().signum());
+    assertThat(sum).isEqualTo(new Quantity(expectedSum)).hasSameHashCodeAs(new Quantity(expectedSum));
+  }
 }
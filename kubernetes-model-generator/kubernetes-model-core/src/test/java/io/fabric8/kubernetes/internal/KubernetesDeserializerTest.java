@@ -15,16 +15,25 @@
  */
 package io.fabric8.kubernetes.internal;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer.TypeKey;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Kind;
 import io.fabric8.kubernetes.model.annotation.Version;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class KubernetesDeserializerTest {
@@ -126,6 +135,111 @@ class KubernetesDeserializerTest {
     assertThat(clazz).isNull();
   }
 
+  @Test
+  void shouldLoadIndexedClassOnlyWhenLookedUp() {
+    // given
+    RecordingClassLoader classLoader = new RecordingClassLoader(getClass().getClassLoader());
+    KubernetesDeserializer.Mapping indexed = new KubernetesDeserializer.Mapping();
+    indexed.registerServiceLine(SmurfResource.class.getName() + " # apiVersion=42 kind=Hitchhiker", classLoader);
+    indexed.registerServiceLine("not.a.Resource # apiVersion=v1 kind=Missing", classLoader);
+    assertThat(classLoader.loaded).isEmpty();
+    // when
+    Class<? extends KubernetesResource> missing = indexed.getForKey(indexed.createKey("v1", "Missing"));
+    Class<? extends KubernetesResource> smurf = indexed.getForKey(indexed.createKey("42", "Hitchhiker"));
+    // then
+    assertThat(missing).isNull();
+    assertThat(smurf).isEqualTo(SmurfResource.class);
+    assertThat(classLoader.loaded).containsExactly("not.a.Resource", SmurfResource.class.getName());
+  }
+
+  @Test
+  void shouldRegisterIndexedAndPlainServiceLines() {
+    // given
+    KubernetesDeserializer.Mapping indexed = new KubernetesDeserializer.Mapping();
+    // when
+    indexed.registerServiceLine(Pod.class.getName() + " # apiVersion=smurfs.openshift.io/v1 kind=Smurf",
+        getClass().getClassLoader());
+    indexed.registerServiceLine(" " + SmurfResource.class.getName() + " ", getClass().getClassLoader());
+    indexed.registerServiceLine("# a comment", getClass().getClassLoader());
+    // then
+    assertThat(indexed.getForKey(indexed.createKey("smurfs.openshift.io/v1", "Smurf"))).isEqualTo(Pod.class);
+    assertThat(indexed.getForKey(indexed.createKey("v1", "Smurf"))).isEqualTo(Pod.class);
+    assertThat(indexed.getForKey(indexed.createKey("42", "Hitchhiker"))).isEqualTo(SmurfResource.class);
+  }
+
+  @Test
+  void shouldBindFieldsBeforeAndAfterTypeFields() throws Exception {
+    // given
+    String json = "{\"metadata\":{\"name\":\"p\",\"labels\":{\"kind\":\"x\"}},\"kind\":\"Pod\","
+        + "\"spec\":{\"nodeName\":\"n\"},\"apiVersion\":\"v1\",\"status\":{\"phase\":\"Running\"}}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource).isInstanceOf(Pod.class);
+    Pod pod = (Pod) resource;
+    assertThat(pod.getMetadata().getName()).isEqualTo("p");
+    assertThat(pod.getMetadata().getLabels()).containsEntry("kind", "x");
+    assertThat(pod.getSpec().getNodeName()).isEqualTo("n");
+    assertThat(pod.getStatus().getPhase()).isEqualTo("Running");
+  }
+
+  @Test
+  void shouldBindUnregisteredKindAsGeneric() throws Exception {
+    // when
+    KubernetesResource generic = new ObjectMapper().readValue(
+        "{\"apiVersion\":\"x/v1\",\"kind\":\"Other\",\"metadata\":{\"name\":\"o\"}}", KubernetesResource.class);
+    // then
+    assertThat(generic).isInstanceOf(GenericKubernetesResource.class);
+    assertThat(((GenericKubernetesResource) generic).getMetadata().getName()).isEqualTo("o");
+  }
+
+  @Test
+  void shouldBindIncompleteTypeFieldsAsRaw() throws Exception {
+    // when
+    KubernetesResource raw = new ObjectMapper().readValue("{\"kind\":\"Pod\",\"a\":[1,{\"b\":null}]}",
+        KubernetesResource.class);
+    // then
+    assertThat(raw).isInstanceOf(RawExtension.class);
+    assertThat(((RawExtension) raw).getValue()).asInstanceOf(InstanceOfAssertFactories.MAP)
+        .containsEntry("kind", "Pod").containsKey("a");
+  }
+
+  @Test
+  void shouldBindWithoutTypeFields() throws Exception {
+    // when
+    KubernetesResource raw = new ObjectMapper().readValue("{\"a\":[1,{\"b\":null}],\"c\":\"d\"}",
+        KubernetesResource.class);
+    // then
+    assertThat(raw).isInstanceOf(RawExtension.class);
+    assertThat(((RawExtension) raw).getValue()).asInstanceOf(InstanceOfAssertFactories.MAP)
+        .containsOnlyKeys("a", "c").containsEntry("c", "d");
+  }
+
+  @Test
+  void shouldLeaveParserAfterObject() throws Exception {
+    // when
+    KubernetesList list = new ObjectMapper().readValue("{\"items\":[{\"apiVersion\":\"v1\",\"kind\":\"Pod\","
+        + "\"metadata\":{\"name\":\"a\"}},{\"kind\":\"ConfigMap\",\"apiVersion\":\"v1\"}],\"kind\":\"List\"}",
+        KubernetesList.class);
+    // then
+    assertThat(list.getItems()).extracting(HasMetadata::getKind).containsExactly("Pod", "ConfigMap");
+    assertThat(list.getKind()).isEqualTo("List");
+  }
+
+  private static final class RecordingClassLoader extends ClassLoader {
+    private final List<String> loaded = new ArrayList<>();
+
+    RecordingClassLoader(ClassLoader parent) {
+      super(parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      loaded.add(name);
+      return super.loadClass(name, resolve);
+    }
+  }
+
   @Group("")
   @Kind("Hitchhiker")
   @Version("42")
@@ -113,6 +113,29 @@ public class GeneratorSettings {
   @Singular
   private Set<String> includeGenerationRegexes;
   private boolean generateJavadoc;
+  /**
+   * Fully qualified name of a Jackson module to generate, which registers streaming deserializers and serializers
+   * generated for each model class instead of Jackson's reflective bean binding.
+   * <p>
+   * The codecs are only generated when set.
+   */
+  private String codecModuleClass;
+  /**
+   * Whether to leave the collection fields and additionalProperties of generated classes null until they're set
+   * instead of allocating empty collections for every instance.
+   * <p>
+   * The getters of unset collections return a view that reads as empty, so that reading a shared instance never
+   * writes to it. The first write through the view allocates the collection and stores it in the field. The
+   * generated builders also initialize their collections lazily.
+   */
+  private boolean lazyCollectionInit;
+  /**
+   * Whether to generate a {@code deepCopy()} method for each class that copies its fields without a serialization
+   * round trip.
+   * <p>
+   * The generated classes implement {@code io.fabric8.kubernetes.model.DeepCopyable}.
+   */
+  private boolean deepCopy;
   @Builder.Default
   private final String genericKubernetesResourceClass = "io.fabric8.kubernetes.api.model.GenericKubernetesResource";
   @Builder.Default
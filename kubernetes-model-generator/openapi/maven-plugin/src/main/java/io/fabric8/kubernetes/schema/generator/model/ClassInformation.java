@@ -115,6 +115,10 @@ public class ClassInformation implements ImportManager {
       addImport(schemaUtils.getSettings().getBuilderPackage() + "." + "Editable");
       implementsExtends.append("Editable<").append(getBuilderName()).append(">, ");
     }
+    if (isEditable() && schemaUtils.getSettings().isDeepCopy()) {
+      addImport("io.fabric8.kubernetes.model.DeepCopyable");
+      implementsExtends.append("DeepCopyable<").append(getClassSimpleName()).append(">, ");
+    }
     // HasMetadata
     if (isHasMetadata()) {
       if (!isInRootPackage()) {
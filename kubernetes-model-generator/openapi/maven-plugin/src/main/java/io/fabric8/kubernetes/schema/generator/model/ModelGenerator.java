@@ -22,6 +22,8 @@ import com.samskivert.mustache.Template;
 import io.fabric8.kubernetes.schema.generator.GeneratorException;
 import io.fabric8.kubernetes.schema.generator.GeneratorSettings;
 import io.fabric8.kubernetes.schema.generator.GeneratorUtils;
+import io.fabric8.kubernetes.schema.generator.ImportOrderComparator;
+import io.fabric8.kubernetes.schema.generator.PropertyOrderComparator;
 import io.fabric8.kubernetes.schema.generator.schema.SchemaUtils;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -32,15 +34,19 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -57,20 +63,31 @@ import static io.fabric8.kubernetes.schema.generator.schema.SchemaUtils.setterNa
 
 class ModelGenerator {
 
+  private static final Set<String> IMMUTABLE_TYPES = new HashSet<>(
+      Arrays.asList("String", "Boolean", "Integer", "Long", "Float", "Double"));
+
   private final GeneratorSettings settings;
   private final SchemaUtils utils;
   private final GeneratorUtils generatorUtils;
   private final Template modelTemplate;
+  private final Template codecTemplate;
+  private final Template codecModuleTemplate;
 
   ModelGenerator(GeneratorSettings settings) {
     this.settings = settings;
     this.utils = new SchemaUtils(settings);
     this.generatorUtils = new GeneratorUtils(settings);
-    this.modelTemplate = Mustache.compiler()
+    this.modelTemplate = compileTemplate("model");
+    this.codecTemplate = compileTemplate("model_codec");
+    this.codecModuleTemplate = compileTemplate("model_codec_module");
+  }
+
+  private Template compileTemplate(String templateName) {
+    return Mustache.compiler()
         .withLoader(name -> new StringReader(generatorUtils.readTemplate(name)))
         .defaultValue("")
         .withEscaper(Escapers.NONE)
-        .compile(generatorUtils.readTemplate("model"));
+        .compile(generatorUtils.readTemplate(templateName));
   }
 
   void generate() {
@@ -78,6 +95,7 @@ class ModelGenerator {
     final Map<String, Schema<?>> schemas = utils.extractComponentSchemas();
     settings.getLogger().info(String.format("Found %s schemas", schemas.size()));
     final AtomicInteger generatedClasses = new AtomicInteger();
+    final List<String> codecClasses = new ArrayList<>();
     schemas.entrySet().stream()
         .filter(GeneratorUtils.filter(settings))
         .filter(entry -> entry.getValue() instanceof ObjectSchema)
@@ -95,8 +113,17 @@ class ModelGenerator {
           final String fileContents = modelTemplate.execute(templateContext.getContext());
           writeFile(templateContext, fileContents);
           generatedClasses.incrementAndGet();
+          if (hasCodec(templateContext)) {
+            processCodecTemplate(templateContext);
+            writeFile(templateContext, "Codec", codecTemplate.execute(templateContext.getContext()));
+            codecClasses.add(templateContext.getClassInformation().getClassName());
+          }
         });
     settings.getLogger().info(String.format("Generated %s model entries", generatedClasses.get()));
+    if (!codecClasses.isEmpty()) {
+      writeCodecModule(codecClasses);
+      settings.getLogger().info(String.format("Generated %s model codecs", codecClasses.size()));
+    }
   }
 
   private void processTemplate(TemplateContext ret) {
@@ -159,6 +186,11 @@ class ModelGenerator {
       ret.addImport("com.fasterxml.jackson.annotation.JsonProperty");
     }
     ret.put("builderPackage", settings.getBuilderPackage());
+    ret.put("lazyCollectionInit", settings.isLazyCollectionInit());
+    if (!ret.getClassInformation().isInterface() && !ret.getClassInformation().isEnum() && settings.isDeepCopy()) {
+      ret.addImport("io.fabric8.kubernetes.model.util.DeepCopy");
+      ret.put("deepCopy", true);
+    }
     if (!ret.getClassInformation().isInterface() && !ret.getClassInformation().isEnum()
         && settings.isAddBuildableReferences()) {
       ret.put("buildable", false);
@@ -176,7 +208,99 @@ class ModelGenerator {
       ret.addImport("java.util.Map");
       ret.addImport("com.fasterxml.jackson.annotation.JsonAnyGetter");
       ret.addImport("com.fasterxml.jackson.annotation.JsonAnySetter");
+      if (settings.isLazyCollectionInit()) {
+        ret.addImport("io.fabric8.kubernetes.model.util.LazyCollections");
+      }
+    }
+  }
+
+  /**
+   * Codecs are only generated for the plain classes that Jackson would otherwise bind as beans.
+   */
+  private boolean hasCodec(TemplateContext templateContext) {
+    final ClassInformation classInformation = templateContext.getClassInformation();
+    final Map<String, Object> context = templateContext.getContext();
+    return settings.getCodecModuleClass() != null
+        && Objects.equals(classInformation.getClassType(), "class")
+        && classInformation.getJsonSubTypes() == null
+        && !context.containsKey("classJsonSerializeUsing")
+        && Objects.equals(context.get("classJsonDeserializeUsing"), "com.fasterxml.jackson.databind.JsonDeserializer.None.class")
+        && fieldsOf(templateContext.getContext()).stream()
+            .noneMatch(f -> f.containsKey("serializeUsing") || f.containsKey("jsonUnwrapped"));
+  }
+
+  private void processCodecTemplate(TemplateContext ret) {
+    final List<Map<String, Object>> fields = fieldsOf(ret.getContext());
+    // same order as the @JsonPropertyOrder of the model
+    final List<Map<String, Object>> codecFields = new ArrayList<>(fields);
+    codecFields.sort(Comparator.comparing(f -> f.get("propertyName").toString(),
+        new PropertyOrderComparator<>(Arrays.asList("apiVersion", "kind", "metadata"))));
+    final List<Map<String, Object>> typeReferences = new ArrayList<>();
+    final Set<String> referencedNames = new HashSet<>();
+    for (Map<String, Object> field : codecFields) {
+      final String type = field.get("type").toString();
+      referencedNames.addAll(Arrays.asList(type.split("[^\\w$.]+")));
+      if (field.containsKey("deserializeUsing")) {
+        field.put("codecRead", String.format("readUsing(p, ctxt, %s)", field.get("deserializeUsing")));
+      } else if (type.contains("<")) {
+        final String constant = "TYPE_" + field.get("name").toString()
+            .replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        final Map<String, Object> typeReference = new HashMap<>();
+        typeReference.put("constant", constant);
+        typeReference.put("type", type);
+        typeReferences.add(typeReference);
+        field.put("codecRead", String.format("read(p, ctxt, %s)", constant));
+      } else {
+        field.put("codecRead", String.format("read(p, ctxt, %s.class)", type));
+      }
+      field.put("codecWrite", field.containsKey("jsonInclude") ? "writeNonEmptyField" : "writeField");
     }
+    final Set<String> imports = new TreeSet<>(new ImportOrderComparator());
+    ret.getImports().stream()
+        .filter(i -> referencedNames.contains(i.substring(i.lastIndexOf('.') + 1)))
+        .forEach(imports::add);
+    imports.addAll(Arrays.asList(
+        "java.io.IOException",
+        "java.util.Map",
+        "javax.annotation.Generated",
+        "com.fasterxml.jackson.core.JsonGenerator",
+        "com.fasterxml.jackson.core.JsonParser",
+        "com.fasterxml.jackson.databind.DeserializationContext",
+        "com.fasterxml.jackson.databind.SerializerProvider",
+        "com.fasterxml.jackson.databind.module.SimpleDeserializers",
+        "com.fasterxml.jackson.databind.module.SimpleSerializers",
+        "io.fabric8.kubernetes.model.jackson.CodecDeserializer",
+        "io.fabric8.kubernetes.model.jackson.CodecSerializer"));
+    if (!typeReferences.isEmpty()) {
+      imports.add("com.fasterxml.jackson.core.type.TypeReference");
+    }
+    ret.put("codecImports", imports);
+    ret.put("codecFields", codecFields);
+    ret.put("codecTypeReferences", typeReferences);
+  }
+
+  private void writeCodecModule(List<String> codecClasses) {
+    final String moduleClass = settings.getCodecModuleClass();
+    final String packageName = moduleClass.substring(0, moduleClass.lastIndexOf('.'));
+    final String className = moduleClass.substring(moduleClass.lastIndexOf('.') + 1);
+    final Map<String, Object> context = new HashMap<>();
+    context.put("package", packageName);
+    context.put("className", className);
+    context.put("codecs", codecClasses.stream().sorted().collect(Collectors.toList()));
+    final Path packageDirectory = settings.getGeneratedSourcesDirectory().toPath()
+        .resolve(packageName.replace('.', File.separatorChar));
+    try {
+      FileUtils.forceMkdir(packageDirectory.toFile());
+    } catch (IOException e) {
+      throw new GeneratorException("Can't generate package directory for " + moduleClass);
+    }
+    generatorUtils.writeFile(packageDirectory.resolve(className.concat(".java")),
+        codecModuleTemplate.execute(context));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> fieldsOf(Map<String, Object> context) {
+    return (List<Map<String, Object>>) context.getOrDefault("fields", Collections.emptyList());
   }
 
   private List<Map<String, Object>> templateFields(TemplateContext templateContext) {
@@ -217,12 +341,22 @@ class ModelGenerator {
       if (isArray(propertySchema)) {
         templateContext.addImport("com.fasterxml.jackson.annotation.JsonInclude");
         templateProp.put("jsonInclude", "NON_EMPTY");
-        templateContext.addImport("java.util.ArrayList");
-        templateProp.put("defaultValue", "new ArrayList<>()");
+        if (settings.isLazyCollectionInit()) {
+          templateContext.addImport("io.fabric8.kubernetes.model.util.LazyCollections");
+          templateProp.put("lazyValue", "LazyCollections.list");
+        } else {
+          templateContext.addImport("java.util.ArrayList");
+          templateProp.put("defaultValue", "new ArrayList<>()");
+        }
       } else if (isMap(propertySchema)) {
         templateContext.addImport("com.fasterxml.jackson.annotation.JsonInclude");
         templateProp.put("jsonInclude", "NON_EMPTY");
-        templateProp.put("defaultValue", "new LinkedHashMap<>()");
+        if (settings.isLazyCollectionInit()) {
+          templateContext.addImport("io.fabric8.kubernetes.model.util.LazyCollections");
+          templateProp.put("lazyValue", "LazyCollections.map");
+        } else {
+          templateProp.put("defaultValue", "new LinkedHashMap<>()");
+        }
       } else if (Objects.equals(property.getKey(), "kind")
           && Objects.equals(type, "String")
           && templateContext.getApiVersion() != null) {
@@ -232,6 +366,9 @@ class ModelGenerator {
           && templateContext.getApiVersion() != null) {
         templateProp.put("defaultValue", String.format("\"%s\"", templateContext.getApiVersion()));
       }
+      if (settings.isDeepCopy()) {
+        templateProp.put("deepCopyValue", deepCopyValue(type, templateProp.get("name").toString()));
+      }
       // TODO: remove after generator migration, match jsonschema2pojo generation for items
       if (templateContext.getClassInformation().getKubernetesListType() != null
           && Objects.equals(property.getKey(), "items")) {
@@ -243,6 +380,16 @@ class ModelGenerator {
     return properties;
   }
 
+  /**
+   * Immutable values are shared with the copy, anything else is copied at runtime.
+   */
+  private static String deepCopyValue(String type, String name) {
+    if (IMMUTABLE_TYPES.contains(type)) {
+      return "this." + name;
+    }
+    return "DeepCopy.copy(this." + name + ")";
+  }
+
   private void mkPackageDirectories(TemplateContext templateContext) {
     try {
       FileUtils.forceMkdir(resolvePackageDirectory(templateContext).toFile());
@@ -288,8 +435,12 @@ class ModelGenerator {
   }
 
   private void writeFile(TemplateContext context, String fileContents) {
+    writeFile(context, "", fileContents);
+  }
+
+  private void writeFile(TemplateContext context, String classNameSuffix, String fileContents) {
     final Path file = resolvePackageDirectory(context)
-        .resolve(context.getClassInformation().getClassSimpleName().concat(".java"));
+        .resolve(context.getClassInformation().getClassSimpleName().concat(classNameSuffix).concat(".java"));
     generatorUtils.writeFile(file, fileContents);
   }
 
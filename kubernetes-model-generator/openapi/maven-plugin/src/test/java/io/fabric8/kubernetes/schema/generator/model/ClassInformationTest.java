@@ -199,4 +199,27 @@ public class ClassInformationTest {
               "com.fasterxml.jackson.annotation.JsonCreator");
     }
   }
+
+  @Nested
+  class DeepCopy {
+
+    @BeforeEach
+    void setUp() {
+      final var schemaUtils = new SchemaUtils(GeneratorSettings.builder().deepCopy(true).build());
+      final Map.Entry<String, Schema<?>> clazz = Map.entry("io.fabric8.kubernetes.Pojo", new ObjectSchema());
+      classInformation = new ClassInformation(schemaUtils, clazz);
+    }
+
+    @Test
+    void getImplementsExtends() {
+      assertThat(classInformation.getImplementsExtends())
+          .isEqualTo("implements Editable<PojoBuilder>, DeepCopyable<Pojo>, KubernetesResource");
+    }
+
+    @Test
+    void getImports() {
+      assertThat(classInformation.getImports())
+          .contains("io.fabric8.kubernetes.model.DeepCopyable");
+    }
+  }
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.schema.generator.model;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.schema.generator.GeneratorSettings;
+import io.fabric8.kubernetes.schema.generator.GeneratorUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+
+class ModelGeneratorTest {
+
+  private static final String MODEL_PACKAGE = "io.fabric8.kubernetes.api.model";
+
+  private static OpenAPI openAPI;
+
+  @TempDir
+  private Path tempDir;
+
+  @BeforeAll
+  static void parseSchema() {
+    openAPI = GeneratorUtils.parse(new File("../schemas/kubernetes-1.32.1.json"));
+  }
+
+  private GeneratorSettings.GeneratorSettingsBuilder settings() {
+    return GeneratorSettings.builder()
+        .logger(Logger.getLogger(ModelGeneratorTest.class.getName()))
+        .openAPI(openAPI)
+        .outputDirectory(tempDir.resolve("module").toFile())
+        .packageName(MODEL_PACKAGE)
+        .packageMapping("io.k8s.api.core.v1", MODEL_PACKAGE)
+        .builderPackage("io.fabric8.kubernetes.api.builder")
+        .includeGenerationRegex("^io\\.k8s\\.api\\.core\\.v1\\.(ConfigMapVolumeSource|KeyToPath)$")
+        .includeGenerationRegex("^io\\.k8s\\.api\\.core\\.v1\\.(CSIVolumeSource|LocalObjectReference)$");
+  }
+
+  private String generated(GeneratorSettings settings, String className) throws IOException {
+    return Files.readString(modelPackage(settings).resolve(className + ".java"));
+  }
+
+  private static Path modelPackage(GeneratorSettings settings) {
+    return settings.getGeneratedSourcesDirectory().toPath().resolve(MODEL_PACKAGE.replace('.', File.separatorChar));
+  }
+
+  @Nested
+  class Default {
+
+    private GeneratorSettings settings;
+
+    @BeforeEach
+    void setUp() {
+      settings = settings().build();
+      new ModelGenerator(settings).generate();
+    }
+
+    @Test
+    void collectionsAreInitializedWithTheFields() throws IOException {
+      assertThat(generated(settings, "ConfigMapVolumeSource"))
+          .contains("private List<KeyToPath> items = new ArrayList<>();")
+          .contains("private Map<String, Object> additionalProperties = new LinkedHashMap<String, Object>();")
+          .contains("lazyCollectionInitEnabled = false")
+          .doesNotContain("Collections");
+      assertThat(generated(settings, "CSIVolumeSource"))
+          .contains("private Map<String, String> volumeAttributes = new LinkedHashMap<>();");
+    }
+
+    @Test
+    void generatedSourcesCompile() throws Exception {
+      compile(settings);
+    }
+  }
+
+  @Nested
+  class LazyCollectionInit {
+
+    private GeneratorSettings settings;
+
+    @BeforeEach
+    void setUp() {
+      settings = settings().lazyCollectionInit(true).build();
+      new ModelGenerator(settings).generate();
+    }
+
+    @Test
+    void collectionsAreNotInitializedWithTheFields() throws IOException {
+      assertThat(generated(settings, "ConfigMapVolumeSource"))
+          .contains("private List<KeyToPath> items;")
+          .contains("private Map<String, Object> additionalProperties;")
+          .contains("import io.fabric8.kubernetes.model.util.LazyCollections;")
+          .contains("lazyCollectionInitEnabled = true");
+      assertThat(generated(settings, "CSIVolumeSource"))
+          .contains("private Map<String, String> volumeAttributes;");
+    }
+
+    @Test
+    void gettersReturnLazyViewsOfUnsetCollections() throws IOException {
+      assertThat(generated(settings, "ConfigMapVolumeSource"))
+          .contains("return items != null ? items : LazyCollections.list(() -> this.items, items -> this.items = items);")
+          .contains("LazyCollections.map(() -> this.additionalProperties, properties -> this.additionalProperties = properties);");
+      assertThat(generated(settings, "CSIVolumeSource"))
+          .contains("return volumeAttributes != null ? volumeAttributes : LazyCollections.map(() -> this.volumeAttributes, "
+              + "volumeAttributes -> this.volumeAttributes = volumeAttributes);");
+    }
+
+    @Test
+    void compiledGettersDontWriteToTheInstance() throws Exception {
+      final Class<?> type = compile(settings).loadClass(MODEL_PACKAGE + ".ConfigMapVolumeSource");
+      final Object instance = type.getConstructor().newInstance();
+      assertThat(type.getMethod("getItems").invoke(instance)).asList().isEmpty();
+      assertThat(type.getMethod("getAdditionalProperties").invoke(instance)).asInstanceOf(MAP).isEmpty();
+      assertThat(field(type, "items").get(instance)).isNull();
+      assertThat(field(type, "additionalProperties").get(instance)).isNull();
+      // setting an additional property allocates the map
+      type.getMethod("setAdditionalProperty", String.class, Object.class).invoke(instance, "key", "value");
+      assertThat(field(type, "additionalProperties").get(instance)).isEqualTo(Map.of("key", "value"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void compiledGettersCanBeWrittenThrough() throws Exception {
+      final ClassLoader classLoader = compile(settings);
+      final Class<?> type = classLoader.loadClass(MODEL_PACKAGE + ".ConfigMapVolumeSource");
+      final Object instance = type.getConstructor().newInstance();
+      final Object item = classLoader.loadClass(MODEL_PACKAGE + ".KeyToPath").getConstructor().newInstance();
+      final Class<?> csiType = classLoader.loadClass(MODEL_PACKAGE + ".CSIVolumeSource");
+      final Object csi = csiType.getConstructor().newInstance();
+
+      ((List<Object>) type.getMethod("getItems").invoke(instance)).add(item);
+      ((Map<String, Object>) type.getMethod("getAdditionalProperties").invoke(instance)).put("key", "value");
+      ((Map<String, String>) csiType.getMethod("getVolumeAttributes").invoke(csi)).put("attribute", "value");
+
+      assertThat(field(type, "items").get(instance)).isEqualTo(List.of(item));
+      assertThat(type.getMethod("getItems").invoke(instance)).isSameAs(field(type, "items").get(instance));
+      assertThat(field(type, "additionalProperties").get(instance)).isEqualTo(Map.of("key", "value"));
+      assertThat(field(csiType, "volumeAttributes").get(csi)).isEqualTo(Map.of("attribute", "value"));
+    }
+  }
+
+  @Nested
+  class Codecs {
+
+    private GeneratorSettings settings;
+
+    @BeforeEach
+    void setUp() {
+      settings = settings().codecModuleClass(MODEL_PACKAGE + ".TestCodecModule").build();
+      new ModelGenerator(settings).generate();
+    }
+
+    @Test
+    void codecsAreGeneratedForEachClass() {
+      assertThat(modelPackage(settings))
+          .isDirectoryContaining("glob:**/ConfigMapVolumeSourceCodec.java")
+          .isDirectoryContaining("glob:**/KeyToPathCodec.java")
+          .isDirectoryContaining("glob:**/CSIVolumeSourceCodec.java")
+          .isDirectoryContaining("glob:**/LocalObjectReferenceCodec.java");
+    }
+
+    @Test
+    void moduleRegistersTheCodecs() throws IOException {
+      assertThat(generated(settings, "TestCodecModule"))
+          .contains("public class TestCodecModule extends CodecModule {")
+          .contains("ConfigMapVolumeSourceCodec.register(deserializers, serializers);")
+          .contains("LocalObjectReferenceCodec.register(deserializers, serializers);");
+    }
+
+    @Test
+    void compiledCodecsMatchTheBeanBinding() throws Exception {
+      final ClassLoader classLoader = compile(settings);
+      final Class<?> type = classLoader.loadClass(MODEL_PACKAGE + ".ConfigMapVolumeSource");
+      final ObjectMapper mapper = new ObjectMapper()
+          .registerModule((Module) classLoader.loadClass(MODEL_PACKAGE + ".TestCodecModule")
+              .getConstructor().newInstance());
+      final String json = "{\"defaultMode\":420,\"items\":[{\"key\":\"k\",\"mode\":256,\"path\":\"p\"}]," +
+          "\"name\":\"config\",\"optional\":true,\"extra\":{\"nested\":[1,2]}}";
+
+      final Object value = mapper.readValue(json, type);
+
+      assertThat(mapper.getSerializerProviderInstance().findValueSerializer(type).getClass().getName())
+          .isEqualTo(MODEL_PACKAGE + ".ConfigMapVolumeSourceCodec$Serializer");
+      assertThat(value)
+          .usingRecursiveComparison().isEqualTo(new ObjectMapper().readValue(json, type));
+      assertThat(value)
+          .hasFieldOrPropertyWithValue("name", "config")
+          .hasFieldOrPropertyWithValue("additionalProperties", Map.of("extra", Map.of("nested", List.of(1, 2))));
+      assertThat(mapper.writeValueAsString(value))
+          .isEqualTo(new ObjectMapper().writeValueAsString(value))
+          .isEqualTo(json);
+    }
+  }
+
+  private static Field field(Class<?> type, String name) throws NoSuchFieldException {
+    final Field field = type.getDeclaredField(name);
+    field.setAccessible(true);
+    return field;
+  }
+
+  /**
+   * Compiles the generated sources, along with stubs for the model-core types they reference, without running the
+   * Lombok and Sundrio annotation processors.
+   *
+   * @return a ClassLoader for the compiled classes
+   */
+  static ClassLoader compile(GeneratorSettings settings) throws IOException {
+    final Path sources = settings.getGeneratedSourcesDirectory().toPath();
+    final Path classes = Files.createDirectories(settings.getOutputDirectory().toPath().resolve("classes"));
+    final List<Path> generated;
+    try (Stream<Path> files = Files.walk(sources)) {
+      generated = files.filter(p -> p.toString().endsWith(".java")).collect(Collectors.toList());
+    }
+    final Path stubs = Files.createDirectories(settings.getOutputDirectory().toPath().resolve("stubs"));
+    final List<Path> compilationUnits = new ArrayList<>(generated);
+    compilationUnits.add(stub(stubs, MODEL_PACKAGE, "KubernetesResource",
+        "public interface KubernetesResource extends java.io.Serializable {}"));
+    compilationUnits.add(stub(stubs, settings.getBuilderPackage(), "Editable",
+        "public interface Editable<T> { T edit(); }"));
+    for (Path source : generated) {
+      final String className = source.getFileName().toString().replace(".java", "");
+      if (Files.readString(source).contains("Editable<" + className + "Builder>")) {
+        compilationUnits.add(stub(stubs, MODEL_PACKAGE, className + "Builder",
+            "public class " + className + "Builder { public " + className + "Builder(" + className + " instance) {} }"));
+      }
+    }
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+        StandardCharsets.UTF_8)) {
+      final boolean success = compiler.getTask(null, fileManager, diagnostics,
+          Arrays.asList("-proc:none", "-classpath", System.getProperty("java.class.path"), "-d", classes.toString()),
+          null, fileManager.getJavaFileObjectsFromFiles(
+              compilationUnits.stream().map(Path::toFile).collect(Collectors.toList()))).call();
+      assertThat(success).withFailMessage(() -> diagnostics.getDiagnostics().toString()).isTrue();
+    }
+    return new URLClassLoader(new URL[] { classes.toUri().toURL() }, ModelGeneratorTest.class.getClassLoader());
+  }
+
+  private static Path stub(Path stubs, String packageName, String className, String body) throws IOException {
+    final Path directory = Files.createDirectories(stubs.resolve(packageName.replace('.', File.separatorChar)));
+    return Files.writeString(directory.resolve(className + ".java"), "package " + packageName + ";\n" + body + "\n");
+  }
+}
@@ -19,6 +19,7 @@ import io.fabric8.kubernetes.api.builder.Visitor;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.api.model.PodSpecBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
@@ -29,7 +30,10 @@ import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
+import java.net.HttpURLConnection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -107,6 +111,44 @@ class PodCrudTest {
     assertEquals("one", pod2.getMetadata().getLabels().get("another"));
   }
 
+  @Test
+  void testDeleteInAnyNamespaceDeletesEachNamespace() {
+    for (int i = 0; i < 5; i++) {
+      client.pods().inNamespace("ns" + i)
+          .resource(new PodBuilder().withNewMetadata().withName("pod" + i).addToLabels("app", "web").endMetadata().build())
+          .create();
+    }
+    client.pods().inNamespace("ns0")
+        .resource(new PodBuilder().withNewMetadata().withName("other").endMetadata().build())
+        .create();
+
+    assertEquals(5, client.pods().inAnyNamespace().withLabel("app", "web").delete().size());
+
+    assertEquals(1, client.pods().inAnyNamespace().list().getItems().size());
+  }
+
+  @Test
+  void testDeleteInAnyNamespaceWithParallelismDeletesNamespacesConcurrently() {
+    List<Long> arrivals = new CopyOnWriteArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      client.pods().inNamespace("ns" + i)
+          .resource(new PodBuilder().withNewMetadata().withName("pod" + i).endMetadata().build())
+          .create();
+      Pod deleted = new PodBuilder().withNewMetadata().withName("pod" + i).withNamespace("ns" + i).endMetadata().build();
+      server.expect().delete().delay(1000).withPath("/api/v1/namespaces/ns" + i + "/pods")
+          .andReply(HttpURLConnection.HTTP_OK, request -> {
+            arrivals.add(System.nanoTime());
+            return new PodListBuilder().withItems(deleted).build();
+          }).once();
+    }
+
+    assertEquals(4, client.pods().inAnyNamespace().withParallelism(4).delete().size());
+
+    // one at a time, each delete would only be sent after the previous response, a second later
+    assertEquals(4, arrivals.size());
+    assertTrue(Collections.max(arrivals) - Collections.min(arrivals) < TimeUnit.MILLISECONDS.toNanos(1000));
+  }
+
   @Test
   void testPodWatchOnName() throws InterruptedException {
     Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").addToLabels("testKey", "testValue").endMetadata().build();
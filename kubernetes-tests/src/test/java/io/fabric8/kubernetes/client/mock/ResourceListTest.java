@@ -17,10 +17,14 @@ package io.fabric8.kubernetes.client.mock;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.api.model.NamespaceListBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
@@ -43,6 +47,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
@@ -201,21 +206,14 @@ class ResourceListTest {
         .anyMatch(c -> "True".equals(c.getStatus()));
 
     // The pods are never ready if you request them directly.
-    ResourceTest.list(server, noReady1, null);
-    ResourceTest.list(server, noReady2, null);
+    listCollection(noReady1, noReady2);
 
+    // both pods are served by a single watch of the collection
     server.expect().get().withPath(
-        "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&fieldSelector=metadata.name%3Dpod1&resourceVersion=1&timeoutSeconds=600&watch=true")
+        "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&resourceVersion=1&timeoutSeconds=600&watch=true")
         .andUpgradeToWebSocket()
         .open()
         .waitFor(500).andEmit(new WatchEvent(ready1, "MODIFIED"))
-        .done()
-        .once();
-
-    server.expect().get().withPath(
-        "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&fieldSelector=metadata.name%3Dpod2&resourceVersion=1&timeoutSeconds=600&watch=true")
-        .andUpgradeToWebSocket()
-        .open()
         .waitFor(500).andEmit(new WatchEvent(ready2, "MODIFIED"))
         .done()
         .once();
@@ -246,6 +244,44 @@ class ResourceListTest {
         .anyMatch(c -> "True".equals(c.getStatus()));
 
     // The pods are never ready if you request them directly.
+    listCollection(noReady1, noReady2);
+
+    // Only the second pod becomes ready.
+    server.expect().get().withPath(
+        "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&resourceVersion=1&timeoutSeconds=600&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(500).andEmit(new WatchEvent(ready2, "MODIFIED"))
+        .done()
+        .once();
+
+    KubernetesList list = new KubernetesListBuilder().withItems(pod1, pod2).build();
+    final ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> ops = client.resourceList(list).inNamespace("ns1");
+    KubernetesClientTimeoutException ex = assertThrows(KubernetesClientTimeoutException.class,
+        () -> ops.waitUntilCondition(isReady, 2, SECONDS));
+    assertThat(ex.getResourcesNotReady())
+        .containsExactly(pod1);
+  }
+
+  @Test
+  void testPartialFailedWaitUntilConditionInDifferentNamespaces() {
+    Pod pod1 = new PodBuilder().withNewMetadata()
+        .withName("pod1")
+        .withResourceVersion("1")
+        .withNamespace("ns1").and().build();
+    Pod noReady1 = ResourceTest.createReadyFrom(pod1, "False", "2");
+
+    Pod pod2 = new PodBuilder().withNewMetadata()
+        .withName("pod2")
+        .withResourceVersion("1")
+        .withNamespace("ns2").and().build();
+    Pod noReady2 = ResourceTest.createReadyFrom(pod2, "False", "3");
+    Pod ready2 = ResourceTest.createReadyFrom(pod2, "True", "4");
+
+    Predicate<HasMetadata> isReady = p -> "Pod".equals(p.getKind()) && ((Pod) p).getStatus().getConditions().stream()
+        .anyMatch(c -> "True".equals(c.getStatus()));
+
+    // Each pod is alone in its namespace, so each is watched by name.
     ResourceTest.list(server, noReady1, null);
     ResourceTest.list(server, noReady2, null);
 
@@ -258,23 +294,23 @@ class ResourceListTest {
         "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&fieldSelector=metadata.name%3Dpod1&resourceVersion=1&timeoutSeconds=600&watch=true")
         .andUpgradeToWebSocket()
         .open()
-        .waitFor(500).andEmit(new WatchEvent(gone, "ERROR"))
+        .waitFor(100).andEmit(new WatchEvent(gone, "ERROR"))
         .done()
         .once();
 
     // This pod succeeds.
     server.expect().get().withPath(
-        "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&fieldSelector=metadata.name%3Dpod2&resourceVersion=1&timeoutSeconds=600&watch=true")
+        "/api/v1/namespaces/ns2/pods?allowWatchBookmarks=true&fieldSelector=metadata.name%3Dpod2&resourceVersion=1&timeoutSeconds=600&watch=true")
         .andUpgradeToWebSocket()
         .open()
-        .waitFor(500).andEmit(new WatchEvent(ready2, "MODIFIED"))
+        .waitFor(100).andEmit(new WatchEvent(ready2, "MODIFIED"))
         .done()
         .once();
 
     KubernetesList list = new KubernetesListBuilder().withItems(pod1, pod2).build();
-    final ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> ops = client.resourceList(list).inNamespace("ns1");
+    final ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> ops = client.resourceList(list);
     KubernetesClientTimeoutException ex = assertThrows(KubernetesClientTimeoutException.class,
-        () -> ops.waitUntilCondition(isReady, 10, SECONDS));
+        () -> ops.waitUntilCondition(isReady, 2, SECONDS));
     assertThat(ex.getResourcesNotReady())
         .containsExactly(pod1);
   }
@@ -297,36 +333,96 @@ class ResourceListTest {
         .anyMatch(c -> "True".equals(c.getStatus()));
 
     // The pods are never ready if you request them directly.
-    ResourceTest.list(server, noReady1, null);
-    ResourceTest.list(server, noReady2, null);
+    listCollection(noReady1, noReady2);
 
     Status gone = new StatusBuilder()
         .withCode(HTTP_GONE)
         .build();
 
-    // Both pods have a non-retryable error.
+    // The shared watch has a non-retryable error.
     server.expect().get().withPath(
-        "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&fieldSelector=metadata.name%3Dpod1&resourceVersion=1&timeoutSeconds=600&watch=true")
+        "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&resourceVersion=1&timeoutSeconds=600&watch=true")
         .andUpgradeToWebSocket()
         .open()
         .waitFor(500).andEmit(new WatchEvent(gone, "ERROR"))
         .done()
         .once();
 
+    KubernetesList list = new KubernetesListBuilder().withItems(pod1, pod2).build();
+    final ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> ops = client.resourceList(list).inNamespace("ns1");
+    KubernetesClientTimeoutException ex = assertThrows(KubernetesClientTimeoutException.class,
+        () -> ops.waitUntilCondition(isReady, 2, SECONDS));
+    assertThat(ex.getResourcesNotReady())
+        .containsExactlyInAnyOrder(pod1, pod2);
+  }
+
+  @Test
+  void testWaitUntilConditionOnClusterScopedItems() throws InterruptedException {
+    Namespace ns1 = new NamespaceBuilder().withNewMetadata()
+        .withName("ns1")
+        .withResourceVersion("1").and().build();
+    Namespace active1 = new NamespaceBuilder(ns1).editMetadata().withResourceVersion("2").endMetadata()
+        .withNewStatus().withPhase("Active").endStatus().build();
+    Namespace ns2 = new NamespaceBuilder().withNewMetadata()
+        .withName("ns2")
+        .withResourceVersion("1").and().build();
+    Namespace active2 = new NamespaceBuilder(ns2).editMetadata().withResourceVersion("3").endMetadata()
+        .withNewStatus().withPhase("Active").endStatus().build();
+
+    Predicate<HasMetadata> isActive = n -> ((Namespace) n).getStatus() != null
+        && "Active".equals(((Namespace) n).getStatus().getPhase());
+
+    server.expect().get().withPath("/api/v1/namespaces")
+        .andReturn(200, new NamespaceListBuilder().withItems(ns1, ns2).withNewMetadata().withResourceVersion("1")
+            .endMetadata().build())
+        .once();
+
+    // both namespaces are served by a single watch of the collection
     server.expect().get().withPath(
-        "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&fieldSelector=metadata.name%3Dpod2&resourceVersion=1&timeoutSeconds=600&watch=true")
+        "/api/v1/namespaces?allowWatchBookmarks=true&resourceVersion=1&timeoutSeconds=600&watch=true")
         .andUpgradeToWebSocket()
         .open()
-        .waitFor(500).andEmit(new WatchEvent(gone, "ERROR"))
+        .waitFor(100).andEmit(new WatchEvent(active1, "MODIFIED"))
+        .waitFor(100).andEmit(new WatchEvent(active2, "MODIFIED"))
         .done()
         .once();
 
-    KubernetesList list = new KubernetesListBuilder().withItems(pod1, pod2).build();
-    final ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> ops = client.resourceList(list).inNamespace("ns1");
-    KubernetesClientTimeoutException ex = assertThrows(KubernetesClientTimeoutException.class,
-        () -> ops.waitUntilCondition(isReady, 10, SECONDS));
-    assertThat(ex.getResourcesNotReady())
-        .containsExactlyInAnyOrder(pod1, pod2);
+    KubernetesList list = new KubernetesListBuilder().withItems(ns1, ns2).build();
+    List<HasMetadata> results = client.resourceList(list).waitUntilCondition(isActive, 10, SECONDS);
+    assertThat(results)
+        .containsExactly(active1, active2);
+  }
+
+  @Test
+  void testWaitUntilConditionOnDifferentKindsWatchesEachByName() throws InterruptedException {
+    Pod pod1 = new PodBuilder().withNewMetadata()
+        .withName("pod1")
+        .withResourceVersion("1")
+        .withNamespace("ns1").and().build();
+    Pod ready1 = ResourceTest.createReadyFrom(pod1, "True", "2");
+    ConfigMap cm1 = new ConfigMapBuilder().withNewMetadata()
+        .withName("cm1")
+        .withResourceVersion("1")
+        .withNamespace("ns1").and().build();
+
+    // a single item of a kind still uses a field selector
+    ResourceTest.list(server, ready1, null);
+    server.expect().get().withPath("/api/v1/namespaces/ns1/configmaps?fieldSelector=metadata.name%3Dcm1")
+        .andReturn(200, new ConfigMapListBuilder().withItems(cm1).withNewMetadata().withResourceVersion("1")
+            .endMetadata().build())
+        .once();
+
+    KubernetesList list = new KubernetesListBuilder().withItems(pod1, cm1).build();
+    List<HasMetadata> results = client.resourceList(list).inNamespace("ns1")
+        .waitUntilCondition(Objects::nonNull, 10, SECONDS);
+    assertThat(results)
+        .containsExactly(ready1, cm1);
+  }
+
+  private void listCollection(Pod... pods) {
+    server.expect().get().withPath("/api/v1/namespaces/ns1/pods")
+        .andReturn(200, new PodListBuilder().withItems(pods).withNewMetadata().withResourceVersion("1").endMetadata().build())
+        .once();
   }
 
   private static ServiceBuilder mockService() {
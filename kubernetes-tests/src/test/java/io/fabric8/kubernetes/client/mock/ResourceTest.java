@@ -45,6 +45,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.net.HttpURLConnection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -760,6 +761,45 @@ class ResourceTest {
     assertNull(p);
   }
 
+  @Test
+  void testInformOnAllMatchOnlyCompletesWhenEveryItemMatches() throws Exception {
+    Pod pod1 = new PodBuilder().withNewMetadata()
+        .withName("pod1")
+        .withNamespace("test")
+        .addToLabels("app", "web")
+        .and()
+        .build();
+    Pod pod2 = new PodBuilder(pod1).editMetadata().withName("pod2").endMetadata().build();
+
+    Pod ready1 = createReadyFrom(pod1, "True", "1");
+    Pod noReady2 = createReadyFrom(pod2, "False", "1");
+    Pod ready2 = createReadyFrom(pod2, "True", "2");
+
+    server.expect()
+        .get()
+        .withPath("/api/v1/namespaces/test/pods?labelSelector=app%3Dweb")
+        .andReturn(200,
+            new PodListBuilder().withItems(ready1, noReady2).withNewMetadata().withResourceVersion("1").endMetadata()
+                .build())
+        .once();
+    server.expect()
+        .get()
+        .withPath(
+            "/api/v1/namespaces/test/pods?allowWatchBookmarks=true&labelSelector=app%3Dweb&resourceVersion=1&timeoutSeconds=600&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(100)
+        .andEmit(new WatchEvent(ready2, "MODIFIED"))
+        .done()
+        .always();
+
+    List<Pod> pods = client.pods().withLabel("app", "web").informOnAllMatch(Readiness::isPodReady).get(10, SECONDS);
+
+    assertThat(pods)
+        .extracting(p -> p.getMetadata().getResourceVersion())
+        .containsExactlyInAnyOrder("1", "2");
+  }
+
   static Pod createReadyFrom(Pod pod, String status, String resourceVersion) {
     return new PodBuilder(pod)
         .editMetadata()
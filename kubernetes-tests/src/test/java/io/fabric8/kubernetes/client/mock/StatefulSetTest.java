@@ -20,6 +20,7 @@ import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.api.model.apps.ControllerRevision;
 import io.fabric8.kubernetes.api.model.apps.ControllerRevisionBuilder;
 import io.fabric8.kubernetes.api.model.apps.ControllerRevisionListBuilder;
@@ -30,6 +31,7 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSetListBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.Deletable;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.TimeoutImageEditReplacePatchable;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
@@ -39,12 +41,16 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.net.HttpURLConnection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -561,6 +567,129 @@ public class StatefulSetTest {
     assertEquals("hello", log);
   }
 
+  @Test
+  @DisplayName("Should follow the logs of all pods of statefulset in one stream")
+  void testWatchAllLogsStatefulSet() {
+    // Given
+    Pod owned = new PodBuilder(createPod()).editMetadata().withUid("pod-1").endMetadata()
+        .withNewStatus().addNewContainerStatus().withName("nginx").withNewState().withNewRunning().endRunning()
+        .endState().endContainerStatus().endStatus()
+        .build();
+    Pod other = new PodBuilder(owned).editMetadata().withName("other").withUid("pod-2").withOwnerReferences()
+        .endMetadata().build();
+
+    server.expect()
+        .get()
+        .withPath("/apis/apps/v1/namespaces/ns1/statefulsets/statefulset1")
+        .andReturn(HttpURLConnection.HTTP_OK, createStatefulSetBuilder().build())
+        .always();
+    server.expect()
+        .get()
+        .withPath("/api/v1/namespaces/ns1/pods?labelSelector=app%3Dnginx&resourceVersion=0")
+        .andReturn(HttpURLConnection.HTTP_OK,
+            new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().withItems(owned, other).build())
+        .once();
+    server.expect()
+        .withPath(
+            "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&labelSelector=app%3Dnginx&resourceVersion=1&timeoutSeconds=600&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done()
+        .once();
+    server.expect()
+        .get()
+        .withPath("/api/v1/namespaces/ns1/pods/ss-hk9nf/log?pretty=false&container=nginx&timestamps=true&follow=true")
+        .andReturn(HttpURLConnection.HTTP_OK, "2024-01-01T00:00:00Z hello\n2024-01-01T00:00:01Z world")
+        .once();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // When
+    try (LogWatch watch = client.apps().statefulSets().inNamespace("ns1").withName("statefulset1").watchAllLogs(out)) {
+      // Then
+      await().atMost(10, TimeUnit.SECONDS).until(() -> out.toString().endsWith("world\n"));
+      assertEquals("[ss-hk9nf/nginx] 2024-01-01T00:00:00Z hello\n[ss-hk9nf/nginx] 2024-01-01T00:00:01Z world\n",
+          out.toString());
+    }
+  }
+
+  @Test
+  @DisplayName("Should resume ended streams and follow restarted containers and new pods of statefulset")
+  void testWatchAllLogsStatefulSetFollowsRestartsAndPodChurn() {
+    // Given
+    Pod owned = new PodBuilder(createPod()).editMetadata().withUid("pod-1").withResourceVersion("1").endMetadata()
+        .withNewStatus().addNewContainerStatus().withName("nginx").withRestartCount(0).withNewState().withNewRunning()
+        .endRunning().endState().endContainerStatus().endStatus()
+        .build();
+    Pod updated = new PodBuilder(owned).editMetadata().withResourceVersion("2").endMetadata().build();
+    Pod restarted = new PodBuilder(owned).editMetadata().withResourceVersion("3").endMetadata()
+        .editStatus().editFirstContainerStatus().withRestartCount(1).endContainerStatus().endStatus().build();
+    Pod added = new PodBuilder(owned).editMetadata().withName("ss-new").withUid("pod-3").withResourceVersion("4")
+        .endMetadata().build();
+    Pod removed = new PodBuilder(owned).editMetadata().withName("ss-old").withUid("pod-2").withResourceVersion("1")
+        .endMetadata().build();
+
+    server.expect()
+        .get()
+        .withPath("/apis/apps/v1/namespaces/ns1/statefulsets/statefulset1")
+        .andReturn(HttpURLConnection.HTTP_OK, createStatefulSetBuilder().build())
+        .always();
+    server.expect()
+        .get()
+        .withPath("/api/v1/namespaces/ns1/pods?labelSelector=app%3Dnginx&resourceVersion=0")
+        .andReturn(HttpURLConnection.HTTP_OK,
+            new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().withItems(owned, removed).build())
+        .once();
+    server.expect()
+        .withPath(
+            "/api/v1/namespaces/ns1/pods?allowWatchBookmarks=true&labelSelector=app%3Dnginx&resourceVersion=1&timeoutSeconds=600&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(500).andEmit(new WatchEvent(updated, "MODIFIED"))
+        .waitFor(700).andEmit(new WatchEvent(restarted, "MODIFIED"))
+        .waitFor(900).andEmit(new WatchEvent(added, "ADDED"))
+        .waitFor(1100).andEmit(new WatchEvent(removed, "DELETED"))
+        .done()
+        .once();
+    // the first stream of the container, then the stream after its restart
+    AtomicInteger streams = new AtomicInteger();
+    server.expect()
+        .get()
+        .withPath("/api/v1/namespaces/ns1/pods/ss-hk9nf/log?pretty=false&container=nginx&timestamps=true&follow=true")
+        .andReply(HttpURLConnection.HTTP_OK, r -> streams.getAndIncrement() == 0 ? "2024-01-01T00:00:00Z hello\n"
+            : "2024-01-01T00:00:02Z restarted\n")
+        .times(2);
+    server.expect()
+        .get()
+        .withPath("/api/v1/namespaces/ns1/pods/ss-hk9nf/log?pretty=false&container=nginx"
+            + "&sinceTime=2024-01-01T00:00:00Z&timestamps=true&follow=true")
+        .andReturn(HttpURLConnection.HTTP_OK, "2024-01-01T00:00:00Z hello\n2024-01-01T00:00:01Z resumed\n")
+        .once();
+    server.expect()
+        .get()
+        .withPath("/api/v1/namespaces/ns1/pods/ss-old/log?pretty=false&container=nginx&timestamps=true&follow=true")
+        .andReturn(HttpURLConnection.HTTP_OK, "2024-01-01T00:00:00Z old\n")
+        .once();
+    server.expect()
+        .get()
+        .withPath("/api/v1/namespaces/ns1/pods/ss-new/log?pretty=false&container=nginx&timestamps=true&follow=true")
+        .andReturn(HttpURLConnection.HTTP_OK, "2024-01-01T00:00:03Z new\n")
+        .once();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // When
+    try (LogWatch watch = client.apps().statefulSets().inNamespace("ns1").withName("statefulset1").watchAllLogs(out)) {
+      // Then
+      // the streams run concurrently, so only the lines of each stream are ordered
+      await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(out.toString().split("\n"))
+          .containsExactlyInAnyOrder(
+          "[ss-hk9nf/nginx] 2024-01-01T00:00:00Z hello",
+          "[ss-old/nginx] 2024-01-01T00:00:00Z old",
+          "[ss-hk9nf/nginx] 2024-01-01T00:00:01Z resumed",
+          "[ss-hk9nf/nginx] 2024-01-01T00:00:02Z restarted",
+          "[ss-new/nginx] 2024-01-01T00:00:03Z new"));
+    }
+  }
+
   private Pod createPod() {
     return new PodBuilder()
         .withNewMetadata()